@@ -0,0 +1,201 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compares JMH results in JSON format with a checked in baseline. Each benchmark with its parameters and thread
+ * count is matched with the respective baseline entry. A benchmark is reported as regression only when its score
+ * confidence interval does not overlap with the baseline confidence interval and the gap between both intervals
+ * exceeds the given threshold in percent of the baseline score. Regressions make the comparison exit with a non zero
+ * status. Benchmarks missing in the baseline are reported but never fail the comparison.
+ *
+ * Usage: java -cp benchmarks.jar com.consol.citrus.benchmark.BaselineComparison baseline.json results.json [threshold]
+ *
+ * New baseline files are created from JMH results with machine specific fields such as the JVM path removed:
+ *
+ * Usage: java -cp benchmarks.jar com.consol.citrus.benchmark.BaselineComparison --update results.json baseline.json
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class BaselineComparison {
+
+    /** Result fields specific to the machine that recorded the results */
+    private static final List<String> MACHINE_SPECIFIC_FIELDS = Collections.singletonList("jvm");
+
+    /** Default regression threshold in percent */
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    /** Baseline scores by benchmark key */
+    private final Map<String, JsonNode> baseline;
+
+    /** Regression threshold in percent */
+    private final double threshold;
+
+    /**
+     * Constructor using baseline results and threshold.
+     * @param baseline
+     * @param threshold
+     */
+    public BaselineComparison(Map<String, JsonNode> baseline, double threshold) {
+        this.baseline = baseline;
+        this.threshold = threshold;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && "--update".equals(args[0])) {
+            writeBaseline(new File(args[1]), new File(args[2]));
+            return;
+        }
+
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <results.json> [threshold]");
+            System.err.println("       BaselineComparison --update <results.json> <baseline.json>");
+            System.exit(2);
+        }
+
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        BaselineComparison comparison = new BaselineComparison(readResults(new File(args[0])), threshold);
+
+        List<String> regressions = comparison.compare(readResults(new File(args[1])));
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println("Found " + regressions.size() + " regression(s) beyond " + threshold + "%:");
+            regressions.forEach(regression -> System.out.println("  - " + regression));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compares given results with baseline and prints a report line for each benchmark.
+     * @param results
+     * @return list of regressions
+     */
+    public List<String> compare(Map<String, JsonNode> results) {
+        List<String> regressions = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> result : results.entrySet()) {
+            JsonNode metric = result.getValue().get("primaryMetric");
+            double score = metric.get("score").asDouble();
+            String unit = metric.get("scoreUnit").asText();
+
+            JsonNode reference = baseline.get(result.getKey());
+            if (reference == null) {
+                System.out.println(String.format("%-100s %14.3f %-8s (no baseline)", result.getKey(), score, unit));
+                continue;
+            }
+
+            JsonNode referenceMetric = reference.get("primaryMetric");
+            double baselineScore = referenceMetric.get("score").asDouble();
+            double change = baselineScore != 0 ? (score - baselineScore) / baselineScore * 100 : 0;
+
+            double[] interval = getConfidence(metric);
+            double[] baselineInterval = getConfidence(referenceMetric);
+            // throughput scores are better when higher, all time based modes are better when lower
+            double gap = isThroughput(result.getValue()) ? baselineInterval[0] - interval[1] : interval[0] - baselineInterval[1];
+            double degradation = baselineScore != 0 ? gap / baselineScore * 100 : 0;
+
+            System.out.println(String.format("%-100s %14.3f %-8s %+8.2f%% +/- %.3f", result.getKey(), score, unit, change, metric.path("scoreError").asDouble(0.0)));
+
+            if (degradation > threshold) {
+                regressions.add(String.format("%s: %.3f [%.3f, %.3f] -> %.3f [%.3f, %.3f] %s (%+.2f%%)", result.getKey(),
+                        baselineScore, baselineInterval[0], baselineInterval[1], score, interval[0], interval[1], unit, change));
+            }
+        }
+
+        return regressions;
+    }
+
+    /**
+     * Gets lower and upper bound of the score confidence interval. Falls back to the score itself when JMH was not
+     * able to calculate a confidence interval, e.g. for single iteration runs.
+     * @param metric
+     * @return
+     */
+    private static double[] getConfidence(JsonNode metric) {
+        double score = metric.get("score").asDouble();
+        JsonNode confidence = metric.get("scoreConfidence");
+        if (confidence == null || confidence.size() != 2 || !Double.isFinite(confidence.get(0).asDouble()) || !Double.isFinite(confidence.get(1).asDouble())) {
+            return new double[] { score, score };
+        }
+
+        return new double[] { confidence.get(0).asDouble(), confidence.get(1).asDouble() };
+    }
+
+    private static boolean isThroughput(JsonNode result) {
+        return "thrpt".equals(result.get("mode").asText());
+    }
+
+    /**
+     * Reads JMH results in JSON format indexed by benchmark key.
+     * @param file
+     * @return
+     * @throws IOException
+     */
+    public static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(getKey(result), result);
+        }
+
+        return results;
+    }
+
+    /**
+     * Writes given JMH results as new baseline file. Machine specific fields are removed from the results.
+     * @param results
+     * @param baselineFile
+     * @throws IOException
+     */
+    public static void writeBaseline(File results, File baselineFile) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode baseline = mapper.readTree(results);
+        for (JsonNode result : baseline) {
+            ((ObjectNode) result).remove(MACHINE_SPECIFIC_FIELDS);
+        }
+
+        mapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile, baseline);
+    }
+
+    /**
+     * Builds benchmark key from benchmark name, mode, parameters and thread count.
+     * @param result
+     * @return
+     */
+    private static String getKey(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+        key.append(" [").append(result.get("mode").asText());
+
+        JsonNode params = result.get("params");
+        if (params != null) {
+            SortedMap<String, String> sorted = new TreeMap<>();
+            params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+            sorted.forEach((name, value) -> key.append(", ").append(name).append('=').append(value));
+        }
+
+        key.append(", threads=").append(result.get("threads").asInt()).append(']');
+        return key.toString();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+
+/**
+ * Shares one Citrus instance with default Spring configuration per benchmark JVM. Benchmarks use the instance to
+ * obtain test contexts and message validators the same way tests do at runtime.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class BenchmarkSupport {
+
+    /** Shared Citrus instance */
+    private static Citrus citrus;
+
+    /**
+     * Prevent instantiation.
+     */
+    private BenchmarkSupport() {
+        super();
+    }
+
+    /**
+     * Gets the shared Citrus instance, creating it on first access.
+     * @return
+     */
+    public static synchronized Citrus getCitrus() {
+        if (citrus == null) {
+            citrus = Citrus.newInstance();
+        }
+
+        return citrus;
+    }
+
+    /**
+     * Creates new test context from shared Citrus instance.
+     * @return
+     */
+    public static TestContext createTestContext() {
+        return getCitrus().createTestContext();
+    }
+
+    /**
+     * Gets bean of given type from the shared Citrus application context.
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public static <T> T getBean(Class<T> type) {
+        return getCitrus().getApplicationContext().getBean(type);
+    }
+
+    /**
+     * Gets bean of given name and type from the shared Citrus application context.
+     * @param name
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public static <T> T getBean(String name, Class<T> type) {
+        return getCitrus().getApplicationContext().getBean(name, type);
+    }
+}
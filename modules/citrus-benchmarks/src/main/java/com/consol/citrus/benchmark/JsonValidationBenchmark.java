@@ -0,0 +1,87 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.json.JsonMessageValidationContext;
+import com.consol.citrus.validation.json.JsonTextMessageValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JSON validation of received order documents against control documents using ignore
+ * placeholders and validation matchers.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = "-Xmx4g")
+public class JsonValidationBenchmark {
+
+    @Param({ "SMALL", "ONE_MB", "FIFTY_MB" })
+    private PayloadSize size;
+
+    private JsonTextMessageValidator validator;
+
+    private Message receivedMessage;
+
+    private Message controlMessage;
+
+    private JsonMessageValidationContext validationContext;
+
+    @Setup
+    public void setup() {
+        validator = BenchmarkSupport.getBean(JsonTextMessageValidator.class);
+        receivedMessage = new DefaultMessage(PayloadFixtures.json(size, PayloadFixtures.Variant.PLAIN));
+        controlMessage = new DefaultMessage(PayloadFixtures.json(size, PayloadFixtures.Variant.CONTROL));
+
+        validationContext = new JsonMessageValidationContext();
+        validationContext.setSchemaValidation(false);
+    }
+
+    @Benchmark
+    public void validateMessage(ThreadContext state) {
+        validator.validateMessage(receivedMessage, controlMessage, state.context, validationContext);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void validateMessageConcurrent(ThreadContext state) {
+        validator.validateMessage(receivedMessage, controlMessage, state.context, validationContext);
+    }
+
+    /**
+     * Test context for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadContext {
+        private TestContext context;
+
+        @Setup
+        public void setup() {
+            context = BenchmarkSupport.createTestContext();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.channel.ChannelEndpoint;
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.messaging.SelectiveConsumer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks selective receive on message selecting queue channels and the send and receive round trip through
+ * channel endpoints. Channels hold a backlog of messages not matching any selector, so selective receive has to
+ * skip those messages on each operation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class MessageChannelBenchmark {
+
+    /** Header used to select messages */
+    private static final String SELECTOR_HEADER = "benchmarkThread";
+
+    /** Receive timeout in milliseconds */
+    private static final long TIMEOUT = 5000L;
+
+    @Param({ "0", "1000" })
+    private int backlog;
+
+    private MessageSelectingQueueChannel channel;
+
+    private ChannelEndpoint endpoint;
+
+    /** Thread id sequence */
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.getCitrus();
+
+        channel = new MessageSelectingQueueChannel();
+        for (int i = 0; i < backlog; i++) {
+            channel.send(MessageBuilder.withPayload("<backlog/>").setHeader(SELECTOR_HEADER, "none").build());
+        }
+
+        endpoint = new ChannelEndpoint();
+        endpoint.getEndpointConfiguration().setChannel(channel);
+    }
+
+    @Benchmark
+    public Message<?> selectiveReceive(ThreadState state) {
+        channel.send(state.channelMessage);
+        return channel.receive(state.selector, TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Message<?> selectiveReceiveConcurrent(ThreadState state) {
+        channel.send(state.channelMessage);
+        return channel.receive(state.selector, TIMEOUT);
+    }
+
+    @Benchmark
+    public com.consol.citrus.message.Message endpointRoundTrip(ThreadState state) {
+        state.producer.send(state.message, state.context);
+        return state.consumer.receive(state.selectorExpression, state.context, TIMEOUT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public com.consol.citrus.message.Message endpointRoundTripConcurrent(ThreadState state) {
+        state.producer.send(state.message, state.context);
+        return state.consumer.receive(state.selectorExpression, state.context, TIMEOUT);
+    }
+
+    /**
+     * Producer, consumer and messages selected by a thread specific header value.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private TestContext context;
+        private Producer producer;
+        private SelectiveConsumer consumer;
+        private com.consol.citrus.message.Message message;
+        private Message<?> channelMessage;
+        private HeaderMatchingMessageSelector selector;
+        private String selectorExpression;
+
+        @Setup
+        public void setup(MessageChannelBenchmark benchmark) {
+            String threadId = "thread-" + benchmark.threads.incrementAndGet();
+
+            context = BenchmarkSupport.createTestContext();
+            producer = benchmark.endpoint.createProducer();
+            consumer = benchmark.endpoint.createConsumer();
+
+            message = new DefaultMessage("<order><id>4711</id></order>").setHeader(SELECTOR_HEADER, threadId);
+            channelMessage = MessageBuilder.withPayload("<order><id>4711</id></order>").setHeader(SELECTOR_HEADER, threadId).build();
+            selector = new HeaderMatchingMessageSelector(Collections.singletonMap(SELECTOR_HEADER, threadId));
+            selectorExpression = SELECTOR_HEADER + " = '" + threadId + "'";
+        }
+    }
+}
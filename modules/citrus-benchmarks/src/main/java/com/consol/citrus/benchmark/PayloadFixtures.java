@@ -0,0 +1,187 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Generates deterministic order document payloads in XML and JSON of given approximate size. Payloads are
+ * generated once per JVM and cached, so large fixtures do not need to be checked in.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class PayloadFixtures {
+
+    /** Order document namespace */
+    public static final String ORDER_NAMESPACE = "http://citrusframework.org/benchmark/order";
+
+    /** Generated payloads */
+    private static final Map<String, String> payloads = new ConcurrentHashMap<>();
+
+    /**
+     * Payload variants.
+     */
+    public enum Variant {
+        /** Plain message content as received from the system under test */
+        PLAIN,
+
+        /** Message template using test variables and functions */
+        TEMPLATE,
+
+        /** Control message using validation matchers and ignore placeholders */
+        CONTROL
+    }
+
+    /**
+     * Prevent instantiation.
+     */
+    private PayloadFixtures() {
+        super();
+    }
+
+    /**
+     * Gets order XML document of given size.
+     * @param size
+     * @param variant
+     * @return
+     */
+    public static String xml(PayloadSize size, Variant variant) {
+        return payloads.computeIfAbsent("xml:" + size + ":" + variant, key -> createXml(size.getBytes(), variant));
+    }
+
+    /**
+     * Gets order JSON document of given size.
+     * @param size
+     * @param variant
+     * @return
+     */
+    public static String json(PayloadSize size, Variant variant) {
+        return payloads.computeIfAbsent("json:" + size + ":" + variant, key -> createJson(size.getBytes(), variant));
+    }
+
+    private static String createXml(int bytes, Variant variant) {
+        int items = countItems(bytes, (builder, count) -> appendXmlItem(builder, count, Variant.PLAIN));
+
+        StringBuilder xml = new StringBuilder(bytes + 1024);
+        xml.append("<order xmlns=\"").append(ORDER_NAMESPACE).append("\">");
+        xml.append("<header>");
+        xml.append("<id>").append(variant == Variant.TEMPLATE ? "${orderId}" : "4711").append("</id>");
+        xml.append("<customer>").append(variant == Variant.TEMPLATE ? "${customer}" : "Citrus").append("</customer>");
+        xml.append("<date>").append(date(variant)).append("</date>");
+        xml.append("</header>");
+        xml.append("<items>");
+
+        for (int count = 1; count <= items; count++) {
+            appendXmlItem(xml, count, variant);
+        }
+
+        xml.append("</items>");
+        xml.append("<summary><count>").append(items).append("</count></summary>");
+        xml.append("</order>");
+
+        return xml.toString();
+    }
+
+    private static void appendXmlItem(StringBuilder xml, int count, Variant variant) {
+        xml.append("<item id=\"").append(count).append("\">");
+        xml.append("<sku>").append(variant == Variant.TEMPLATE ? "${skuPrefix}" : "SKU").append('-').append(count).append("</sku>");
+        xml.append("<name>Product ").append(count).append("</name>");
+        xml.append("<quantity>").append(quantity(count, variant)).append("</quantity>");
+        xml.append("<price currency=\"EUR\">").append(price(count)).append("</price>");
+        xml.append("<description>").append(description(count)).append("</description>");
+        xml.append("</item>");
+    }
+
+    private static String createJson(int bytes, Variant variant) {
+        int items = countItems(bytes, (builder, count) -> appendJsonItem(builder, count, Variant.PLAIN));
+
+        StringBuilder json = new StringBuilder(bytes + 1024);
+        json.append("{\"header\":{");
+        json.append("\"id\":\"").append(variant == Variant.TEMPLATE ? "${orderId}" : "4711").append("\",");
+        json.append("\"customer\":\"").append(variant == Variant.TEMPLATE ? "${customer}" : "Citrus").append("\",");
+        json.append("\"date\":\"").append(date(variant)).append("\"");
+        json.append("},\"items\":[");
+
+        for (int count = 1; count <= items; count++) {
+            if (count > 1) {
+                json.append(',');
+            }
+
+            appendJsonItem(json, count, variant);
+        }
+
+        json.append("],\"summary\":{\"count\":").append(items).append("}}");
+
+        return json.toString();
+    }
+
+    private static void appendJsonItem(StringBuilder json, int count, Variant variant) {
+        json.append("{\"id\":").append(count).append(',');
+        json.append("\"sku\":\"").append(variant == Variant.TEMPLATE ? "${skuPrefix}" : "SKU").append('-').append(count).append("\",");
+        json.append("\"name\":\"Product ").append(count).append("\",");
+        json.append("\"quantity\":\"").append(quantity(count, variant)).append("\",");
+        json.append("\"price\":{\"currency\":\"EUR\",\"amount\":").append(price(count)).append("},");
+        json.append("\"description\":\"").append(description(count)).append("\"}");
+    }
+
+    /**
+     * Counts the items needed to reach given payload size in plain variant. All variants of a size use the same
+     * item count, so control messages match the received messages.
+     * @param bytes
+     * @param itemWriter
+     * @return
+     */
+    private static int countItems(int bytes, ObjIntConsumer<StringBuilder> itemWriter) {
+        StringBuilder item = new StringBuilder();
+        int length = 0;
+        int count = 0;
+        while (length < bytes) {
+            count++;
+            item.setLength(0);
+            itemWriter.accept(item, count);
+            length += item.length();
+        }
+
+        return count;
+    }
+
+    private static String date(Variant variant) {
+        switch (variant) {
+            case TEMPLATE:
+                return "citrus:currentDate('yyyy-MM-dd')";
+            case CONTROL:
+                return "@ignore@";
+            default:
+                return "2018-01-01";
+        }
+    }
+
+    private static String quantity(int count, Variant variant) {
+        return variant == Variant.CONTROL ? "@isNumber()@" : String.valueOf(count % 10 + 1);
+    }
+
+    private static String price(int count) {
+        return (count % 100) + "." + (count % 90 + 10);
+    }
+
+    private static String description(int count) {
+        return "Item " + count + " of the benchmark order, shipped in standard packaging";
+    }
+}
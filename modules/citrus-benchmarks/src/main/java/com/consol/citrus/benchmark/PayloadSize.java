@@ -0,0 +1,44 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+/**
+ * Approximate payload sizes used as benchmark parameter.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public enum PayloadSize {
+    SMALL(1024),
+    ONE_MB(1024 * 1024),
+    FIFTY_MB(50 * 1024 * 1024);
+
+    /** Approximate payload size in bytes */
+    private final int bytes;
+
+    PayloadSize(int bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Gets the approximate payload size in bytes.
+     * @return
+     */
+    public int getBytes() {
+        return bytes;
+    }
+}
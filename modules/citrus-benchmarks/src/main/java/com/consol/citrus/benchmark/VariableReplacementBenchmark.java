@@ -0,0 +1,74 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.context.TestContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dynamic content replacement on message templates using test variables and functions.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = "-Xmx4g")
+public class VariableReplacementBenchmark {
+
+    @Param({ "SMALL", "ONE_MB", "FIFTY_MB" })
+    private PayloadSize size;
+
+    private String template;
+
+    @Setup
+    public void setup() {
+        template = PayloadFixtures.xml(size, PayloadFixtures.Variant.TEMPLATE);
+    }
+
+    @Benchmark
+    public String replaceDynamicContent(ThreadContext state) {
+        return state.context.replaceDynamicContentInString(template);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String replaceDynamicContentConcurrent(ThreadContext state) {
+        return state.context.replaceDynamicContentInString(template);
+    }
+
+    /**
+     * Test context holding template variables for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadContext {
+        private TestContext context;
+
+        @Setup
+        public void setup() {
+            context = BenchmarkSupport.createTestContext();
+            context.setVariable("orderId", "4711");
+            context.setVariable("customer", "Citrus");
+            context.setVariable("skuPrefix", "SKU");
+        }
+    }
+}
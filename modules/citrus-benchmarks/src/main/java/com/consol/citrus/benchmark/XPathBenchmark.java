@@ -0,0 +1,104 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.xpath.XPathExpressionResult;
+import com.consol.citrus.xml.xpath.XPathUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.xml.SimpleNamespaceContext;
+import org.w3c.dom.Document;
+
+import javax.xml.namespace.NamespaceContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks XPath expression evaluation on order documents of different size. Concurrent variants use a
+ * document per thread as DOM implementations are not safe for concurrent reads.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = "-Xmx4g")
+public class XPathBenchmark {
+
+    /** Expression selecting a single element close to the document root */
+    private static final String HEADER_EXPRESSION = "/ord:order/ord:header/ord:customer";
+
+    /** Expression visiting all order items */
+    private static final String COUNT_EXPRESSION = "count(//ord:item)";
+
+    @Param({ "SMALL", "ONE_MB", "FIFTY_MB" })
+    private PayloadSize size;
+
+    private Document document;
+
+    private NamespaceContext namespaceContext;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.getCitrus();
+        document = XMLUtils.parseMessagePayload(PayloadFixtures.xml(size, PayloadFixtures.Variant.PLAIN));
+        namespaceContext = createNamespaceContext();
+    }
+
+    @Benchmark
+    public Object evaluateNode() {
+        return XPathUtils.evaluate(document, HEADER_EXPRESSION, namespaceContext, XPathExpressionResult.NODE);
+    }
+
+    @Benchmark
+    public Object evaluateCount() {
+        return XPathUtils.evaluate(document, COUNT_EXPRESSION, namespaceContext, XPathExpressionResult.NUMBER);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object evaluateNodeConcurrent(ThreadDocument state) {
+        return XPathUtils.evaluate(state.document, HEADER_EXPRESSION, namespaceContext, XPathExpressionResult.NODE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object evaluateCountConcurrent(ThreadDocument state) {
+        return XPathUtils.evaluate(state.document, COUNT_EXPRESSION, namespaceContext, XPathExpressionResult.NUMBER);
+    }
+
+    private static NamespaceContext createNamespaceContext() {
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ord", PayloadFixtures.ORDER_NAMESPACE);
+        return namespaceContext;
+    }
+
+    /**
+     * Document parsed for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadDocument {
+        private Document document;
+
+        @Setup
+        public void setup(XPathBenchmark benchmark) {
+            document = XMLUtils.parseMessagePayload(PayloadFixtures.xml(benchmark.size, PayloadFixtures.Variant.PLAIN));
+        }
+    }
+}
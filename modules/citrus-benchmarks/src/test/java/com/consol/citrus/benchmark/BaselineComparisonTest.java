@@ -0,0 +1,111 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class BaselineComparisonTest {
+
+    private static final String KEY = "com.consol.citrus.benchmark.XPathBenchmark.evaluate [thrpt, size=SMALL, threads=1]";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testOverlappingIntervals() {
+        BaselineComparison comparison = new BaselineComparison(results(result("thrpt", 100.0, 80.0, 120.0)), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 70.0, 50.0, 90.0))).isEmpty());
+    }
+
+    @Test
+    public void testThroughputRegression() {
+        BaselineComparison comparison = new BaselineComparison(results(result("thrpt", 100.0, 95.0, 105.0)), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 110.0, 100.0, 120.0))).isEmpty());
+        Assert.assertEquals(comparison.compare(results(result("thrpt", 70.0, 65.0, 75.0))).size(), 1L);
+    }
+
+    @Test
+    public void testAverageTimeRegression() {
+        BaselineComparison comparison = new BaselineComparison(results(result("avgt", 100.0, 95.0, 105.0)), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("avgt", 70.0, 65.0, 75.0))).isEmpty());
+        Assert.assertEquals(comparison.compare(results(result("avgt", 130.0, 125.0, 135.0))).size(), 1L);
+    }
+
+    @Test
+    public void testGapBelowThreshold() {
+        BaselineComparison comparison = new BaselineComparison(results(result("thrpt", 100.0, 95.0, 105.0)), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 80.0, 75.0, 85.0))).isEmpty());
+        Assert.assertEquals(comparison.compare(results(result("thrpt", 80.0, 75.0, 84.0))).size(), 1L);
+    }
+
+    @Test
+    public void testMissingConfidence() {
+        BaselineComparison comparison = new BaselineComparison(results(result("thrpt", 100.0)), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 95.0))).isEmpty());
+        Assert.assertEquals(comparison.compare(results(result("thrpt", 85.0))).size(), 1L);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 85.0, 80.0, 100.0))).isEmpty());
+    }
+
+    @Test
+    public void testMissingBaseline() {
+        BaselineComparison comparison = new BaselineComparison(Collections.emptyMap(), 10.0);
+        Assert.assertTrue(comparison.compare(results(result("thrpt", 1.0, 0.5, 1.5))).isEmpty());
+    }
+
+    @Test
+    public void testReadResults() throws IOException {
+        File file = File.createTempFile("results", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), ("[ { \"benchmark\" : \"com.consol.citrus.benchmark.XPathBenchmark.evaluate\", \"mode\" : \"thrpt\", " +
+                "\"threads\" : 4, \"params\" : { \"size\" : \"SMALL\", \"namespaces\" : \"true\" } } ]").getBytes(StandardCharsets.UTF_8));
+
+        Map<String, JsonNode> results = BaselineComparison.readResults(file);
+        Assert.assertEquals(results.keySet(), Collections.singleton(
+                "com.consol.citrus.benchmark.XPathBenchmark.evaluate [thrpt, namespaces=true, size=SMALL, threads=4]"));
+    }
+
+    private Map<String, JsonNode> results(JsonNode result) {
+        return Collections.singletonMap(KEY, result);
+    }
+
+    private JsonNode result(String mode, double score, double... confidence) {
+        ObjectNode result = mapper.createObjectNode();
+        result.put("mode", mode);
+
+        ObjectNode metric = result.putObject("primaryMetric");
+        metric.put("score", score);
+        metric.put("scoreUnit", "ops/s");
+        if (confidence.length > 0) {
+            metric.putArray("scoreConfidence").add(confidence[0]).add(confidence[1]);
+        }
+
+        return result;
+    }
+}
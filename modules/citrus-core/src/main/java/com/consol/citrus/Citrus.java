@@ -97,11 +97,11 @@ public final class Citrus {
          */
         public static Citrus newInstance() {
             if (strategy.equals(InstanceStrategy.NEW)) {
-                Citrus instance = newInstance(new AnnotationConfigApplicationContext(CitrusSpringConfig.class));
+                Citrus instance = newInstance(loadApplicationContext(CitrusSpringConfig.class));
                 instanceProcessors.forEach(processor -> processor.process(instance));
                 return instance;
             } else if (citrus == null) {
-                citrus = newInstance(new AnnotationConfigApplicationContext(CitrusSpringConfig.class));
+                citrus = newInstance(loadApplicationContext(CitrusSpringConfig.class));
                 instanceProcessors.forEach(processor -> processor.process(citrus));
             }
 
@@ -115,11 +115,11 @@ public final class Citrus {
          */
         public static Citrus newInstance(Class<? extends CitrusSpringConfig> configClass) {
             if (strategy.equals(InstanceStrategy.NEW)) {
-                Citrus instance = newInstance(new AnnotationConfigApplicationContext(configClass));
+                Citrus instance = newInstance(loadApplicationContext(configClass));
                 instanceProcessors.forEach(processor -> processor.process(instance));
                 return instance;
             } else if (citrus == null) {
-                citrus = newInstance(new AnnotationConfigApplicationContext(configClass));
+                citrus = newInstance(loadApplicationContext(configClass));
                 instanceProcessors.forEach(processor -> processor.process(citrus));
             }
 
@@ -133,17 +133,33 @@ public final class Citrus {
          */
         public static Citrus newInstance(ApplicationContext applicationContext) {
             if (strategy.equals(InstanceStrategy.NEW)) {
+                long start = System.currentTimeMillis();
                 Citrus instance = new Citrus(applicationContext);
                 instanceProcessors.forEach(processor -> processor.process(instance));
+                log.debug(String.format("Citrus instance created in %s ms", System.currentTimeMillis() - start));
                 return instance;
             } else if (citrus == null) {
+                long start = System.currentTimeMillis();
                 citrus = new Citrus(applicationContext);
                 instanceProcessors.forEach(processor -> processor.process(citrus));
+                log.debug(String.format("Citrus instance created in %s ms", System.currentTimeMillis() - start));
             }
 
             return citrus;
         }
 
+        /**
+         * Loads Spring application context from given Java configuration class and logs the bootstrap time.
+         * @param configClass
+         * @return
+         */
+        private static ApplicationContext loadApplicationContext(Class<? extends CitrusSpringConfig> configClass) {
+            long start = System.currentTimeMillis();
+            ApplicationContext applicationContext = new AnnotationConfigApplicationContext(configClass);
+            log.info(String.format("Loaded Citrus application context in %s ms", System.currentTimeMillis() - start));
+            return applicationContext;
+        }
+
         /**
          * Gets the singleton instance of Citrus.
          * @return
@@ -264,6 +280,30 @@ public final class Citrus {
     public static final String DEFAULT_MESSAGE_TYPE = System.getProperty(DEFAULT_MESSAGE_TYPE_PROPERTY,  System.getenv(DEFAULT_MESSAGE_TYPE_ENV) != null ?
             System.getenv(DEFAULT_MESSAGE_TYPE_ENV) : MessageType.XML.toString());
 
+    /** Enables/disables XSD schema validation when protocol model objects are marshalled to XML and back */
+    public static final String MARSHALLER_SCHEMA_VALIDATION_PROPERTY = "citrus.marshaller.schema.validation";
+    public static final String MARSHALLER_SCHEMA_VALIDATION_ENV = "CITRUS_MARSHALLER_SCHEMA_VALIDATION";
+    public static final boolean MARSHALLER_SCHEMA_VALIDATION = Boolean.valueOf(System.getProperty(MARSHALLER_SCHEMA_VALIDATION_PROPERTY, System.getenv(MARSHALLER_SCHEMA_VALIDATION_ENV) != null ?
+            System.getenv(MARSHALLER_SCHEMA_VALIDATION_ENV) : Boolean.TRUE.toString()));
+
+    /** Directory holding persisted test class index per test jar, empty value disables the index */
+    public static final String TEST_SCAN_INDEX_DIRECTORY_PROPERTY = "citrus.test.scan.index.directory";
+    public static final String TEST_SCAN_INDEX_DIRECTORY_ENV = "CITRUS_TEST_SCAN_INDEX_DIRECTORY";
+    public static final String TEST_SCAN_INDEX_DIRECTORY = System.getProperty(TEST_SCAN_INDEX_DIRECTORY_PROPERTY, System.getenv(TEST_SCAN_INDEX_DIRECTORY_ENV) != null ?
+            System.getenv(TEST_SCAN_INDEX_DIRECTORY_ENV) : System.getProperty("java.io.tmpdir") + File.separator + "citrus-test-index");
+
+    /** Max number of compiled Groovy scripts kept in script cache, zero disables the cache */
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_ENV = "CITRUS_GROOVY_SCRIPT_CACHE_SIZE";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE = System.getProperty(GROOVY_SCRIPT_CACHE_SIZE_PROPERTY, System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) != null ?
+            System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) : "256");
+
+    /** Min interval in milliseconds between modification checks on loaded property files, zero disables hot reload */
+    public static final String PROPERTY_FILE_RELOAD_INTERVAL_PROPERTY = "citrus.property.file.reload.interval";
+    public static final String PROPERTY_FILE_RELOAD_INTERVAL_ENV = "CITRUS_PROPERTY_FILE_RELOAD_INTERVAL";
+    public static final String PROPERTY_FILE_RELOAD_INTERVAL = System.getProperty(PROPERTY_FILE_RELOAD_INTERVAL_PROPERTY, System.getenv(PROPERTY_FILE_RELOAD_INTERVAL_ENV) != null ?
+            System.getenv(PROPERTY_FILE_RELOAD_INTERVAL_ENV) : "0");
+
     /** Test context factory **/
     private TestContextFactory testContextFactory;
     private TestSuiteListeners testSuiteListener;
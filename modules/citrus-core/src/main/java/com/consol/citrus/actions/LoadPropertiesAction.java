@@ -17,22 +17,21 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.variable.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.support.PropertiesLoaderUtils;
 
-import java.io.IOException;
-import java.util.Iterator;
-import java.util.Map.Entry;
-import java.util.Properties;
+import java.util.Map;
 
 /**
  * Action reads property files and creates test variables for every property entry. File
  * resource path can define a {@link org.springframework.core.io.ClassPathResource} or
  * a {@link org.springframework.core.io.FileSystemResource}.
+ *
+ * Property files are indexed once in a shared {@link PropertyStore} and reloaded when modified. Property values
+ * are resolved lazily on first access through the test context.
  * 
  * @author Christoph Deppisch
  */
@@ -59,26 +58,23 @@ public class LoadPropertiesAction extends AbstractTestAction {
             log.debug("Reading property file " + resource.getFilename());
         }
 
-        Properties props;
-        try {
-            props = PropertiesLoaderUtils.loadProperties(resource);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException(e);
-        }
+        PropertyStore store = PropertyStore.forResource(resource, PropertyStore.Format.PROPERTIES);
+        store.reloadIfModified();
 
-        for (Iterator<Entry<Object, Object>> iter = props.entrySet().iterator(); iter.hasNext();) {
-            String key = iter.next().getKey().toString();
+        PropertyStoreVariables properties = new PropertyStoreVariables(store, context::replaceDynamicContentInString);
+        properties.verifyReferences(context.getVariables()::containsKey);
 
-            if (log.isDebugEnabled()) {
-                log.debug("Loading property: " + key + "=" + props.getProperty(key) + " into variables");
-            }
+        Map<String, Object> variables = context.getVariables();
+        if (variables instanceof LayeredVariables) {
+            ((LayeredVariables) variables).addLayer(properties);
+        } else {
+            for (String key : store.keySet()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Loading property: " + key + "=" + store.get(key) + " into variables");
+                }
 
-            if (log.isDebugEnabled() && context.getVariables().containsKey(key)) {
-                log.debug("Overwriting property " + key + " old value:" + context.getVariable(key) 
-                        + " new value:" + props.getProperty(key));
+                context.setVariable(key, properties.get(key));
             }
-
-            context.setVariable(key, context.replaceDynamicContentInString(props.getProperty(key)));
         }
 
         log.info("Loaded property file " + resource.getFilename());
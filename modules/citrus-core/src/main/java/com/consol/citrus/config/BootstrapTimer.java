@@ -0,0 +1,114 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessorAdapter;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bean post processor measuring the time spent on each bean during application context bootstrap. Bean times are
+ * measured from instantiation to end of initialization and include the time spent on dependencies created on the way.
+ * Once the root application context is refreshed a bootstrap summary with the slowest beans is logged. Refresh events
+ * of child contexts are ignored.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class BootstrapTimer extends InstantiationAwareBeanPostProcessorAdapter implements ApplicationListener<ContextRefreshedEvent> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BootstrapTimer.class);
+
+    /** Number of slowest beans listed in bootstrap summary */
+    private static final int SUMMARY_SIZE = 10;
+
+    /** Start time in nanoseconds per bean that is currently created */
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    /** Creation time in milliseconds per bean */
+    private final Map<String, Long> beanTimes = new ConcurrentHashMap<>();
+
+    /** Time in milliseconds from application context start to refresh */
+    private long contextRefreshTime = -1L;
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+        startTimes.putIfAbsent(beanName, System.nanoTime());
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Long start = startTimes.remove(beanName);
+        if (start != null) {
+            beanTimes.put(beanName, (System.nanoTime() - start) / 1000000L);
+        }
+
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext().getParent() != null) {
+            return;
+        }
+
+        contextRefreshTime = System.currentTimeMillis() - event.getApplicationContext().getStartupDate();
+
+        log.info(String.format("Citrus application context refreshed in %s ms with %s beans", contextRefreshTime, beanTimes.size()));
+
+        if (log.isDebugEnabled()) {
+            for (Map.Entry<String, Long> entry : getSlowestBeans(SUMMARY_SIZE)) {
+                log.debug(String.format("Bean '%s' created in %s ms", entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Gets beans ordered by creation time starting with the slowest bean.
+     * @param limit
+     * @return
+     */
+    public List<Map.Entry<String, Long>> getSlowestBeans(int limit) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(beanTimes.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    /**
+     * Gets the creation times in milliseconds per bean name.
+     * @return
+     */
+    public Map<String, Long> getBeanTimes() {
+        return Collections.unmodifiableMap(beanTimes);
+    }
+
+    /**
+     * Gets the time in milliseconds from application context start to refresh. Returns -1 when context has not been refreshed yet.
+     * @return
+     */
+    public long getContextRefreshTime() {
+        return contextRefreshTime;
+    }
+}
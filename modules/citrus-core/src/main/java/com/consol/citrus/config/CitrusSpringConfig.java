@@ -40,6 +40,11 @@ import org.springframework.context.annotation.*;
 @ImportResource(locations = "${systemProperties['citrus.spring.application.context']?:classpath*:citrus-context.xml}", reader = CitrusBeanDefinitionReader.class)
 public class CitrusSpringConfig {
 
+    @Bean
+    public static BootstrapTimer bootstrapTimer() {
+        return new BootstrapTimer();
+    }
+
     @Bean
     public TestContextFactory testContextFactory() {
         return new TestContextFactory();
@@ -70,6 +75,11 @@ public class CitrusSpringConfig {
         return new HtmlReporter();
     }
 
+    @Bean
+    public ActionMetricsReporter actionMetricsReporter() {
+        return new ActionMetricsReporter();
+    }
+
     @Bean
     public TestListeners testListeners() {
         return new TestListeners();
@@ -23,6 +23,7 @@ import com.consol.citrus.util.BooleanExpressionParser;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.util.PropertyPlaceholderHelper;
 
+import java.util.Objects;
 import java.util.Properties;
 
 /**
@@ -43,6 +44,11 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
 
     /** Cache start index for further container executions - e.g. in loop */
     protected int start = 1;
+
+    /** Condition compiled on first evaluation together with condition and index name it was compiled from */
+    private IteratingConditionTree compiledCondition;
+    private String compiledConditionSource;
+    private String compiledIndexName;
 	
     @Override
     public final void doExecute(TestContext context) {
@@ -78,6 +84,19 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
             return conditionExpression.evaluate(index, context);
         }
 
+        if (!Objects.equals(condition, compiledConditionSource) || !Objects.equals(indexName, compiledIndexName)) {
+            compiledCondition = IteratingConditionTree.compile(condition, indexName);
+            compiledConditionSource = condition;
+            compiledIndexName = indexName;
+        }
+
+        if (compiledCondition != null) {
+            Boolean result = compiledCondition.evaluate(index, context);
+            if (result != null) {
+                return result;
+            }
+        }
+
         // replace dynamic content with each iteration
         String conditionString = condition;
         if (conditionString.indexOf(Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX) != -1) {
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+
+import java.util.*;
+
+/**
+ * Iterating condition compiled once into an expression tree. The tree is built with the same operator stack
+ * semantics as {@link com.consol.citrus.util.BooleanExpressionParser} so compiled and string based evaluation give
+ * identical results. Index and test variable references are bound at evaluation time and compared as primitive values.
+ *
+ * Conditions using functions, validation matchers or other dynamic content are not compiled. Test variables that do
+ * not resolve to a plain integer or boolean value cannot be bound and evaluation returns null, so callers fall back
+ * to string based evaluation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+final class IteratingConditionTree {
+
+    /** Known binary operators */
+    private static final List<String> OPERATORS = Arrays.asList("=", "and", "or", "lt", "lt=", "gt", "gt=");
+
+    /** Operators and boolean literals */
+    private static final List<String> KEYWORDS = Arrays.asList("and", "or", "lt", "lt=", "gt", "gt=", "true", "false");
+
+    /** Root node of expression tree */
+    private final Node root;
+
+    /**
+     * Constructor using root node.
+     * @param root
+     */
+    private IteratingConditionTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles condition expression. Returns null in case condition is not supported by compiled evaluation.
+     * @param condition
+     * @param indexName
+     * @return
+     */
+    static IteratingConditionTree compile(String condition, String indexName) {
+        if (condition == null || indexName == null || !indexName.matches("[a-zA-Z_]+")) {
+            return null;
+        }
+
+        // string based evaluation replaces index name in operators and boolean literals, too
+        for (String keyword : KEYWORDS) {
+            if (keyword.contains(indexName)) {
+                return null;
+            }
+        }
+
+        String indexPlaceholder = Citrus.VARIABLE_PREFIX + indexName + Citrus.VARIABLE_SUFFIX;
+
+        Deque<String> operators = new ArrayDeque<>();
+        Deque<Node> values = new ArrayDeque<>();
+
+        try {
+            for (int i = 0; i < condition.length(); i++) {
+                char actChar = condition.charAt(i);
+
+                if (actChar == '(') {
+                    operators.push("(");
+                } else if (actChar == ' ') {
+                    continue;
+                } else if (actChar == ')') {
+                    String operator = operators.pop();
+                    while (!operator.equals("(")) {
+                        values.push(operation(operator, values));
+                        operator = operators.pop();
+                    }
+                } else if (condition.startsWith(Citrus.VARIABLE_PREFIX, i)) {
+                    int end = condition.indexOf(Citrus.VARIABLE_SUFFIX, i);
+                    if (end < 0 || !isTokenBoundary(condition, i - 1) || !isTokenBoundary(condition, end + 1)) {
+                        return null;
+                    }
+
+                    String variableName = condition.substring(i + Citrus.VARIABLE_PREFIX.length(), end);
+                    if (condition.startsWith(indexPlaceholder, i)) {
+                        values.push(new IndexNode());
+                    } else if (variableName.matches("[\\w\\-.]+")) {
+                        values.push(new VariableNode(variableName, indexName, end + 1 < condition.length() && condition.charAt(end + 1) == ')'));
+                    } else {
+                        return null;
+                    }
+
+                    i = end + Citrus.VARIABLE_SUFFIX.length() - 1;
+                } else if (!Character.isDigit(actChar)) {
+                    int m = i;
+                    while (m < condition.length() && !Character.isDigit(condition.charAt(m)) && condition.charAt(m) != ' ' && condition.charAt(m) != '(') {
+                        m++;
+                    }
+
+                    String word = condition.substring(i, m);
+                    i = m - 1;
+
+                    if (word.equals(indexName)) {
+                        values.push(new IndexNode());
+                    } else if (word.contains(indexName)) {
+                        // string based evaluation replaces index name in all words
+                        return null;
+                    } else if (word.equals("true") || word.equals("false")) {
+                        values.push(new NumberNode(word.equals("true") ? "1" : "0"));
+                    } else if (OPERATORS.contains(word)) {
+                        operators.push(word);
+                    } else {
+                        return null;
+                    }
+                } else {
+                    int m = i;
+                    while (m < condition.length() && Character.isDigit(condition.charAt(m))) {
+                        m++;
+                    }
+
+                    values.push(new NumberNode(condition.substring(i, m)));
+                    i = m - 1;
+                }
+            }
+
+            while (!operators.isEmpty()) {
+                values.push(operation(operators.pop(), values));
+            }
+
+            return new IteratingConditionTree(values.pop());
+        } catch (NoSuchElementException | NumberFormatException e) {
+            // incomplete expression or invalid number - leave error handling to string based evaluation
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates condition with given index and test context. Returns null in case index or variables can not be bound to
+     * primitive values.
+     * @param index
+     * @param context
+     * @return
+     */
+    Boolean evaluate(int index, TestContext context) {
+        if (index < 0) {
+            return null;
+        }
+
+        try {
+            return root.result(index, context);
+        } catch (UnboundValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks that character at given position is not part of a surrounding word or number.
+     * @param condition
+     * @param position
+     * @return
+     */
+    private static boolean isTokenBoundary(String condition, int position) {
+        if (position < 0 || position >= condition.length()) {
+            return true;
+        }
+
+        char c = condition.charAt(position);
+        return c == ' ' || c == '(' || c == ')';
+    }
+
+    /**
+     * Builds operation node from operator and the two topmost value nodes.
+     * @param operator
+     * @param values
+     * @return
+     */
+    private static Node operation(String operator, Deque<Node> values) {
+        if (!OPERATORS.contains(operator)) {
+            throw new NoSuchElementException();
+        }
+
+        Node right = values.pop();
+        Node left = values.pop();
+        return new OperationNode(operator, left, right);
+    }
+
+    /**
+     * Expression tree node.
+     */
+    private interface Node {
+        /** Integer value of node used in comparisons */
+        int intValue(int index, TestContext context);
+
+        /** Boolean value of node used in logical operations */
+        boolean booleanValue(int index, TestContext context);
+
+        /** Final result when node is expression root */
+        boolean result(int index, TestContext context);
+    }
+
+    /**
+     * Number literal. Boolean literals are represented as number 1 and 0.
+     */
+    private static final class NumberNode implements Node {
+        private final String text;
+        private final int value;
+
+        NumberNode(String text) {
+            this.text = text;
+            this.value = Integer.parseInt(text);
+        }
+
+        @Override
+        public int intValue(int index, TestContext context) {
+            return value;
+        }
+
+        @Override
+        public boolean booleanValue(int index, TestContext context) {
+            return false;
+        }
+
+        @Override
+        public boolean result(int index, TestContext context) {
+            return text.equals("1");
+        }
+    }
+
+    /**
+     * Reference to iteration index.
+     */
+    private static final class IndexNode implements Node {
+        @Override
+        public int intValue(int index, TestContext context) {
+            return index;
+        }
+
+        @Override
+        public boolean booleanValue(int index, TestContext context) {
+            return false;
+        }
+
+        @Override
+        public boolean result(int index, TestContext context) {
+            return index == 1;
+        }
+    }
+
+    /**
+     * Reference to test variable resolved at evaluation time.
+     */
+    private static final class VariableNode implements Node {
+        private final String name;
+        private final String indexName;
+        private final boolean followedByParenthesis;
+
+        VariableNode(String name, String indexName, boolean followedByParenthesis) {
+            this.name = name;
+            this.indexName = indexName;
+            this.followedByParenthesis = followedByParenthesis;
+        }
+
+        /**
+         * Resolves variable to number node.
+         * @param context
+         * @return
+         */
+        private NumberNode resolve(TestContext context) {
+            Object value = context.getVariables().get(name);
+            if (value == null) {
+                throw new UnboundValueException();
+            }
+
+            String text = value.toString();
+            if (!text.isEmpty() && text.length() < 10 && text.chars().allMatch(Character::isDigit)) {
+                return new NumberNode(text);
+            } else if ((text.equals("true") || text.equals("false")) && !followedByParenthesis && !text.contains(indexName)) {
+                return new NumberNode(text.equals("true") ? "1" : "0");
+            }
+
+            throw new UnboundValueException();
+        }
+
+        @Override
+        public int intValue(int index, TestContext context) {
+            return resolve(context).intValue(index, context);
+        }
+
+        @Override
+        public boolean booleanValue(int index, TestContext context) {
+            return resolve(context).booleanValue(index, context);
+        }
+
+        @Override
+        public boolean result(int index, TestContext context) {
+            return resolve(context).result(index, context);
+        }
+    }
+
+    /**
+     * Binary operation.
+     */
+    private static final class OperationNode implements Node {
+        private final String operator;
+        private final Node left;
+        private final Node right;
+
+        OperationNode(String operator, Node left, Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public int intValue(int index, TestContext context) {
+            // boolean operation results are no valid numbers
+            throw new NumberFormatException("For input string: \"" + booleanValue(index, context) + "\"");
+        }
+
+        @Override
+        public boolean booleanValue(int index, TestContext context) {
+            switch (operator) {
+                case "lt":
+                    return left.intValue(index, context) < right.intValue(index, context);
+                case "lt=":
+                    return left.intValue(index, context) <= right.intValue(index, context);
+                case "gt":
+                    return left.intValue(index, context) > right.intValue(index, context);
+                case "gt=":
+                    return left.intValue(index, context) >= right.intValue(index, context);
+                case "=":
+                    return left.intValue(index, context) == right.intValue(index, context);
+                case "and":
+                    // both operands are evaluated just like in string based evaluation
+                    return left.booleanValue(index, context) & right.booleanValue(index, context);
+                default:
+                    return left.booleanValue(index, context) | right.booleanValue(index, context);
+            }
+        }
+
+        @Override
+        public boolean result(int index, TestContext context) {
+            return booleanValue(index, context);
+        }
+    }
+
+    /**
+     * Signals that test variable value can not be bound to primitive value.
+     */
+    private static final class UnboundValueException extends RuntimeException {
+        UnboundValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
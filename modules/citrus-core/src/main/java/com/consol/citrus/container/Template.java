@@ -77,7 +77,7 @@ public class Template extends AbstractTestAction {
             innerContext.setFunctionRegistry(context.getFunctionRegistry());
 
             GlobalVariables globalVariables = new GlobalVariables();
-            globalVariables.getVariables().putAll(context.getGlobalVariables());
+            globalVariables.setVariables(context.getGlobalVariables());
             innerContext.setGlobalVariables(globalVariables);
             innerContext.getVariables().putAll(context.getVariables());
 
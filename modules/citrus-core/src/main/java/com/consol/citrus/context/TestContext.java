@@ -31,8 +31,7 @@ import com.consol.citrus.util.TypeConversionUtils;
 import com.consol.citrus.validation.MessageValidatorRegistry;
 import com.consol.citrus.validation.interceptor.GlobalMessageConstructionInterceptors;
 import com.consol.citrus.validation.matcher.ValidationMatcherRegistry;
-import com.consol.citrus.variable.GlobalVariables;
-import com.consol.citrus.variable.VariableUtils;
+import com.consol.citrus.variable.*;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,7 +104,7 @@ public class TestContext {
      * Default constructor
      */
     public TestContext() {
-        variables = new ConcurrentHashMap<>();
+        variables = new LayeredVariables();
     }
     
     /**
@@ -142,48 +141,44 @@ public class TestContext {
      * @return value of the variable as object
      */
     public Object getVariableObject(final String variableExpression) {
-        String variableName = VariableUtils.cutOffVariablesPrefix(variableExpression);
-
-        if (variableName.startsWith(Citrus.VARIABLE_ESCAPE) && variableName.endsWith(Citrus.VARIABLE_ESCAPE)) {
-            return Citrus.VARIABLE_PREFIX + VariableUtils.cutOffVariablesEscaping(variableName) + Citrus.VARIABLE_SUFFIX;
-        } else if (variables.containsKey(variableName)) {
-            return variables.get(variableName);
-        } else if (variableName.contains(".")) {
-            String objectName = variableName.substring(0, variableName.indexOf("."));
-            if (variables.containsKey(objectName)) {
-                return getVariable(variables.get(objectName), variableName.substring(variableName.indexOf(".") + 1));
+        VariableReference reference = VariableReference.parse(variableExpression);
+
+        if (reference.isEscaped()) {
+            return reference.getEscapedValue();
+        }
+
+        Object value = variables.get(reference.getName());
+        if (value != null || variables.containsKey(reference.getName())) {
+            return value;
+        }
+
+        if (reference.isPath()) {
+            Object instance = variables.get(reference.getObjectName());
+            if (instance != null || variables.containsKey(reference.getObjectName())) {
+                return getVariable(instance, reference);
             }
         }
 
-        throw new CitrusRuntimeException("Unknown variable '" + variableName + "'");
+        throw new CitrusRuntimeException("Unknown variable '" + reference.getName() + "'");
     }
 
     /**
      * Gets variable from path expression. Variable paths are translated to reflection fields on object instances.
      * Path separators are '.'. Each separator is handled as object hierarchy.
      * @param instance
-     * @param pathExpression
-     */
-    private Object getVariable(Object instance, String pathExpression) {
-        String leftOver = null;
-        String fieldName;
-        if (pathExpression.contains(".")) {
-            fieldName = pathExpression.substring(0, pathExpression.indexOf("."));
-            leftOver = pathExpression.substring(pathExpression.indexOf(".") + 1);
-        } else {
-            fieldName = pathExpression;
-        }
-
-        Field field = ReflectionUtils.findField(instance.getClass(), fieldName);
-        if (field == null) {
-            throw new CitrusRuntimeException(String.format("Failed to get variable - unknown field '%s' on type %s", fieldName, instance.getClass().getName()));
-        }
-
-        ReflectionUtils.makeAccessible(field);
-        Object fieldValue = ReflectionUtils.getField(field, instance);
+     * @param reference
+     */
+    private Object getVariable(Object instance, VariableReference reference) {
+        Object fieldValue = instance;
+        for (int i = 0; i < reference.getFieldCount(); i++) {
+            String fieldName = reference.getField(i);
+            Field field = ReflectionUtils.findField(fieldValue.getClass(), fieldName);
+            if (field == null) {
+                throw new CitrusRuntimeException(String.format("Failed to get variable - unknown field '%s' on type %s", fieldName, fieldValue.getClass().getName()));
+            }
 
-        if (StringUtils.hasText(leftOver)) {
-            return getVariable(fieldValue, leftOver);
+            ReflectionUtils.makeAccessible(field);
+            fieldValue = ReflectionUtils.getField(field, fieldValue);
         }
 
         return fieldValue;
@@ -308,8 +303,12 @@ public class TestContext {
      * Clears variables in this test context. Initially adds all global variables.
      */
     public void clear() {
-        variables.clear();
-        variables.putAll(globalVariables.getVariables());
+        if (variables instanceof LayeredVariables) {
+            ((LayeredVariables) variables).reset();
+        } else {
+            variables.clear();
+            variables.putAll(globalVariables.getVariables());
+        }
     }
     
     /**
@@ -412,16 +411,20 @@ public class TestContext {
      */
 	public void setGlobalVariables(GlobalVariables globalVariables) {
 		this.globalVariables = globalVariables;
-		
-		variables.putAll(globalVariables.getVariables());
+
+		if (variables instanceof LayeredVariables) {
+			((LayeredVariables) variables).setGlobals(globalVariables.getSnapshot());
+		} else {
+			variables.putAll(globalVariables.getSnapshot());
+		}
 	}
 
     /**
-     * Set global variables.
+     * Gets unmodifiable snapshot of global variables.
      * @return the globalVariables
      */
     public Map<String, Object> getGlobalVariables() {
-        return globalVariables.getVariables();
+        return globalVariables.getSnapshot();
     }
 
     /**
@@ -23,8 +23,12 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 
@@ -33,6 +37,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default endpoint factory implementation uses registered endpoint components in Spring application context to create endpoint
@@ -42,6 +47,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * Default endpoint components are listed in property file reference where key is the component name and value is the fully qualified class name
  * of the implementing endpoint component class.
  *
+ * Endpoint components are looked up once per application context and resolved endpoints are cached by their endpoint uri, so
+ * repeated endpoint resolution does neither scan the application context nor parse the endpoint uri again.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
@@ -50,26 +58,37 @@ public class DefaultEndpointFactory implements EndpointFactory {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(DefaultEndpointFactory.class);
 
-    /** Default Citrus endpoint components from classpath resource properties */
-    private Properties endpointComponentProperties;
+    /** Default Citrus endpoint components from classpath resource properties, loaded on first use */
+    private volatile Properties endpointComponentProperties;
 
-    /** Default Citrus endpoint annotation parsers from classpath resource properties */
-    private Properties endpointParserProperties;
+    /** Default Citrus endpoint annotation parsers from classpath resource properties, loaded on first use */
+    private volatile Properties endpointParserProperties;
 
     /** Endpoint cache for endpoint reuse */
     private Map<String, Endpoint> endpointCache = new ConcurrentHashMap<>();
 
+    /** Resolved endpoints by endpoint uri per application context, removed when application context is closed */
+    private Map<ApplicationContext, Map<String, Endpoint>> endpointUriCache = new ConcurrentHashMap<>();
+
+    /** Endpoint components registered in application context, removed when application context is closed */
+    private Map<ApplicationContext, Map<String, EndpointComponent>> componentRegistry = new ConcurrentHashMap<>();
+
+    /** Endpoint annotation parsers registered in application context, removed when application context is closed */
+    private Map<ApplicationContext, Map<String, AnnotationConfigParser>> parserRegistry = new ConcurrentHashMap<>();
+
+    /** Application contexts with registered context closed listener */
+    private Set<ApplicationContext> closeListenerRegistry = ConcurrentHashMap.newKeySet();
+
+    /** Default Citrus endpoint component instances */
+    private Map<String, EndpointComponent> defaultComponents = new ConcurrentHashMap<>();
+
+    /** Endpoint cache statistics */
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     @Autowired
     private ReferenceResolver referenceResolver;
 
-    /**
-     * Default constructor.
-     */
-    public DefaultEndpointFactory() {
-        loadEndpointComponentProperties();
-        loadEndpointParserProperties();
-    }
-
     @Override
     public Endpoint create(String endpointName, Annotation endpointConfig, TestContext context) {
         String qualifier = endpointConfig.annotationType().getAnnotation(CitrusEndpointConfig.class).qualifier();
@@ -96,6 +115,16 @@ public class DefaultEndpointFactory implements EndpointFactory {
             return context.getApplicationContext().getBean(endpointUri, Endpoint.class);
         }
 
+        Map<String, Endpoint> resolvedEndpoints = getResolvedEndpoints(context.getApplicationContext());
+        Endpoint cached = resolvedEndpoints.get(endpointUri);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Found cached endpoint for uri '%s'", endpointUri));
+            }
+            return cached;
+        }
+
         StringTokenizer tok = new StringTokenizer(endpointUri, ":");
         if (tok.countTokens() < 2) {
             throw new CitrusRuntimeException(String.format("Invalid endpoint uri '%s'", endpointUri));
@@ -106,7 +135,7 @@ public class DefaultEndpointFactory implements EndpointFactory {
 
         if (component == null) {
             // try to get component from default Citrus modules
-            component = resolveDefaultComponent(componentName);
+            component = defaultComponents.computeIfAbsent(componentName, this::resolveDefaultComponent);
         }
 
         if (component == null) {
@@ -121,26 +150,67 @@ public class DefaultEndpointFactory implements EndpointFactory {
             cachedEndpointName = endpointUri;
         }
 
-        synchronized (endpointCache) {
-            if (endpointCache.containsKey(cachedEndpointName)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Found cached endpoint for uri '%s'", cachedEndpointName));
-                }
-                return endpointCache.get(cachedEndpointName);
+        Endpoint endpoint = endpointCache.get(cachedEndpointName);
+        if (endpoint != null) {
+            cacheHits.incrementAndGet();
+        } else {
+            // create endpoint outside of cache mapping as endpoint creation may resolve further endpoints
+            cacheMisses.incrementAndGet();
+            Endpoint created = component.createEndpoint(endpointUri, context);
+            endpoint = endpointCache.putIfAbsent(cachedEndpointName, created);
+            if (endpoint == null) {
+                endpoint = created;
             } else {
-                Endpoint endpoint = component.createEndpoint(endpointUri, context);
-                endpointCache.put(cachedEndpointName, endpoint);
-                return endpoint;
+                // concurrent creation won the race so destroy the endpoint that is not used
+                destroyEndpoint(created);
+            }
+        }
+
+        resolvedEndpoints.putIfAbsent(endpointUri, endpoint);
+        return endpoint;
+    }
+
+    private Map<String, Endpoint> getResolvedEndpoints(ApplicationContext applicationContext) {
+        Map<String, Endpoint> resolvedEndpoints = endpointUriCache.get(applicationContext);
+        if (resolvedEndpoints == null) {
+            registerContextClosedListener(applicationContext);
+            resolvedEndpoints = new ConcurrentHashMap<>();
+            Map<String, Endpoint> existing = endpointUriCache.putIfAbsent(applicationContext, resolvedEndpoints);
+            if (existing != null) {
+                resolvedEndpoints = existing;
+            }
+        }
+
+        return resolvedEndpoints;
+    }
+
+    /**
+     * Destroys endpoint that was created but is not cached because another thread has created the same endpoint concurrently.
+     * @param endpoint
+     */
+    private void destroyEndpoint(Endpoint endpoint) {
+        if (endpoint instanceof DisposableBean) {
+            try {
+                ((DisposableBean) endpoint).destroy();
+            } catch (Exception e) {
+                log.warn(String.format("Failed to destroy unused endpoint '%s'", endpoint.getName()), e);
             }
         }
     }
 
     private Map<String, EndpointComponent> getEndpointComponents(ApplicationContext applicationContext) {
-        return applicationContext.getBeansOfType(EndpointComponent.class);
+        Map<String, EndpointComponent> components = componentRegistry.get(applicationContext);
+        if (components == null) {
+            registerContextClosedListener(applicationContext);
+            components = new HashMap<>(applicationContext.getBeansOfType(EndpointComponent.class));
+            componentRegistry.putIfAbsent(applicationContext, components);
+        }
+
+        return components;
     }
 
     private EndpointComponent resolveDefaultComponent(String componentName) {
-        String endpointComponentClassName = endpointComponentProperties.getProperty(componentName);
+        String endpointComponentClassName = getEndpointComponentProperties().getProperty(componentName);
 
         try {
             if (endpointComponentClassName != null) {
@@ -161,11 +231,29 @@ public class DefaultEndpointFactory implements EndpointFactory {
     }
 
     private Map<String, AnnotationConfigParser> getAnnotationParser(ApplicationContext applicationContext) {
-        return applicationContext.getBeansOfType(AnnotationConfigParser.class);
+        Map<String, AnnotationConfigParser> parsers = parserRegistry.get(applicationContext);
+        if (parsers == null) {
+            registerContextClosedListener(applicationContext);
+            parsers = new HashMap<>(applicationContext.getBeansOfType(AnnotationConfigParser.class));
+            parserRegistry.putIfAbsent(applicationContext, parsers);
+        }
+
+        return parsers;
+    }
+
+    /**
+     * Registers listener on given application context that removes the context from component and parser registry
+     * as soon as the context is closed. Listener is registered only once per application context.
+     * @param applicationContext
+     */
+    private void registerContextClosedListener(ApplicationContext applicationContext) {
+        if (applicationContext instanceof ConfigurableApplicationContext && closeListenerRegistry.add(applicationContext)) {
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener(new ContextClosedListener(applicationContext));
+        }
     }
 
     private AnnotationConfigParser resolveDefaultAnnotationParser(String qualifier) {
-        String annotationParserClassName = endpointParserProperties.getProperty(qualifier);
+        String annotationParserClassName = getEndpointParserProperties().getProperty(qualifier);
 
         try {
             if (annotationParserClassName != null) {
@@ -187,24 +275,93 @@ public class DefaultEndpointFactory implements EndpointFactory {
     }
 
     /**
-     * Loads property file from classpath holding default endpoint component definitions in Citrus.
+     * Gets the number of endpoint resolutions served from endpoint cache.
+     * @return
      */
-    private void loadEndpointComponentProperties() {
-        try {
-            endpointComponentProperties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("com/consol/citrus/endpoint/endpoint.components"));
-        } catch (IOException e) {
-            log.warn("Unable to laod default endpoint components from resource '%s'", e);
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Gets the number of endpoints created because no cached endpoint was available.
+     * @return
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * Gets the number of cached endpoints.
+     * @return
+     */
+    public int getCacheSize() {
+        return endpointCache.size();
+    }
+
+    /**
+     * Gets property file from classpath holding default endpoint component definitions in Citrus. Property file is loaded
+     * on first access.
+     */
+    private Properties getEndpointComponentProperties() {
+        if (endpointComponentProperties == null) {
+            synchronized (this) {
+                if (endpointComponentProperties == null) {
+                    endpointComponentProperties = loadProperties("com/consol/citrus/endpoint/endpoint.components");
+                }
+            }
         }
+
+        return endpointComponentProperties;
+    }
+
+    /**
+     * Gets property file from classpath holding default endpoint annotation parser definitions in Citrus. Property file is loaded
+     * on first access.
+     */
+    private Properties getEndpointParserProperties() {
+        if (endpointParserProperties == null) {
+            synchronized (this) {
+                if (endpointParserProperties == null) {
+                    endpointParserProperties = loadProperties("com/consol/citrus/endpoint/endpoint.parser");
+                }
+            }
+        }
+
+        return endpointParserProperties;
     }
 
     /**
-     * Loads property file from classpath holding default endpoint annotation parser definitions in Citrus.
+     * Loads properties from classpath resource. Returns empty properties when resource is not available.
+     * @param resourcePath
+     * @return
      */
-    private void loadEndpointParserProperties() {
+    private Properties loadProperties(String resourcePath) {
         try {
-            endpointParserProperties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("com/consol/citrus/endpoint/endpoint.parser"));
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource(resourcePath));
         } catch (IOException e) {
-            log.warn("Unable to laod default endpoint annotation parsers from resource '%s'", e);
+            log.warn(String.format("Unable to load default endpoint definitions from resource '%s'", resourcePath), e);
+            return new Properties();
+        }
+    }
+
+    /**
+     * Removes closed application context from component and parser registry and from resolved endpoints.
+     */
+    private class ContextClosedListener implements ApplicationListener<ContextClosedEvent> {
+        private final ApplicationContext applicationContext;
+
+        ContextClosedListener(ApplicationContext applicationContext) {
+            this.applicationContext = applicationContext;
+        }
+
+        @Override
+        public void onApplicationEvent(ContextClosedEvent event) {
+            if (event.getApplicationContext() == applicationContext) {
+                componentRegistry.remove(applicationContext);
+                parserRegistry.remove(applicationContext);
+                endpointUriCache.remove(applicationContext);
+                closeListenerRegistry.remove(applicationContext);
+            }
         }
     }
 }
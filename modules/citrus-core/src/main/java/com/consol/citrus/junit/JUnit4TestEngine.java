@@ -19,18 +19,22 @@ package com.consol.citrus.junit;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.junit.Test;
+import org.junit.runner.Description;
 import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.net.*;
+import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
 
 /**
  * @author Christoph Deppisch
@@ -53,55 +57,97 @@ public class JUnit4TestEngine extends AbstractTestEngine {
 
     @Override
     public void run() {
-        if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
-            run(getConfiguration().getTestClasses());
-        } else {
-            List<String> packagesToRun = getConfiguration().getPackages();
-            if (CollectionUtils.isEmpty(packagesToRun) && CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
-                packagesToRun = Collections.singletonList("");
+        if (CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
+            if (CollectionUtils.isEmpty(getConfiguration().getPackages())) {
                 log.info("Running all tests in project");
+            } else {
+                getConfiguration().getPackages()
+                        .stream()
+                        .filter(StringUtils::hasText)
+                        .forEach(packageName -> log.info(String.format("Running tests in package %s", packageName)));
             }
+        }
 
-            List<TestClass> classesToRun = new ArrayList<>();
-            for (String packageName : packagesToRun) {
-                if (StringUtils.hasText(packageName)) {
-                    log.info(String.format("Running tests in package %s", packageName));
-                }
+        List<TestClass> classesToRun = findTestClasses(Test.class);
+        log.info(String.format("Found %s test classes to execute", classesToRun.size()));
+        run(classesToRun);
+    }
+
+    /**
+     * Run given set of test classes with JUnit4.
+     * @param classesToRun
+     */
+    private void run(List<TestClass> classesToRun) {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+
+        if (getConfiguration().getThreadCount() > 1) {
+            runParallel(classesToRun, durations);
+        } else {
+            run(classesToRun, listeners, durations);
+        }
+
+        storeTestDurations(durations);
+    }
+
+    /**
+     * Distributes tests to shards and runs each shard with a separate JUnit core instance in parallel. Run listeners
+     * are shared by all shards so listener notifications are synchronized.
+     * @param classesToRun
+     * @param durations
+     */
+    private void runParallel(List<TestClass> classesToRun, Map<String, Long> durations) {
+        log.info(String.format("Running %s test classes with %s threads using %s sharding", classesToRun.size(),
+                getConfiguration().getThreadCount(), getConfiguration().getShardingStrategy().name().toLowerCase()));
+
+        List<RunListener> synchronizedListeners = listeners.stream()
+                .map(SynchronizedRunListener::new)
+                .collect(Collectors.toList());
 
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun.addAll(new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName));
-                } else {
-                    classesToRun.addAll(new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName));
+        ExecutorService executor = Executors.newFixedThreadPool(getConfiguration().getThreadCount());
+        try {
+            List<Future<?>> shards = new ArrayList<>();
+            for (List<TestClass> shard : shard(classesToRun)) {
+                if (!shard.isEmpty()) {
+                    shards.add(executor.submit(() -> run(shard, synchronizedListeners, durations)));
                 }
             }
 
-            log.info(String.format("Found %s test classes to execute", classesToRun.size()));
-            run(classesToRun);
+            for (Future<?> shard : shards) {
+                shard.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for parallel test execution", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to run tests in parallel", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
     }
 
     /**
-     * Run given set of test classes with JUnit4.
+     * Run given set of test classes with new JUnit4 core instance.
      * @param classesToRun
+     * @param runListeners
+     * @param durations
      */
-    private void run(List<TestClass> classesToRun) {
+    private void run(List<TestClass> classesToRun, List<RunListener> runListeners, Map<String, Long> durations) {
         JUnitCore junit = new JUnitCore();
 
-        for (RunListener listener : listeners) {
+        for (RunListener listener : runListeners) {
             junit.addListener(listener);
         }
 
+        if (getConfiguration().getTestDurations() != null) {
+            junit.addListener(new TestDurationListener(durations));
+        }
+
         junit.run(classesToRun
                 .stream()
                 .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                 .map(testClass -> {
                     try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(testClass.getName());
-                        }
+                        Class<?> clazz = loadClass(testClass);
                         log.debug("Found test candidate: " + testClass.getName());
                         return clazz;
                     } catch (ClassNotFoundException | MalformedURLException e) {
@@ -121,4 +167,90 @@ public class JUnit4TestEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Run listener delegating all notifications to given listener while holding the listener lock. Used when several
+     * JUnit core instances notify the same listener concurrently.
+     */
+    private static class SynchronizedRunListener extends RunListener {
+        private final RunListener delegate;
+
+        SynchronizedRunListener(RunListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void testRunStarted(Description description) throws Exception {
+            synchronized (delegate) {
+                delegate.testRunStarted(description);
+            }
+        }
+
+        @Override
+        public void testRunFinished(Result result) throws Exception {
+            synchronized (delegate) {
+                delegate.testRunFinished(result);
+            }
+        }
+
+        @Override
+        public void testStarted(Description description) throws Exception {
+            synchronized (delegate) {
+                delegate.testStarted(description);
+            }
+        }
+
+        @Override
+        public void testFinished(Description description) throws Exception {
+            synchronized (delegate) {
+                delegate.testFinished(description);
+            }
+        }
+
+        @Override
+        public void testFailure(Failure failure) throws Exception {
+            synchronized (delegate) {
+                delegate.testFailure(failure);
+            }
+        }
+
+        @Override
+        public void testAssumptionFailure(Failure failure) {
+            synchronized (delegate) {
+                delegate.testAssumptionFailure(failure);
+            }
+        }
+
+        @Override
+        public void testIgnored(Description description) throws Exception {
+            synchronized (delegate) {
+                delegate.testIgnored(description);
+            }
+        }
+    }
+
+    /**
+     * Sums up test method execution times per test class.
+     */
+    private static class TestDurationListener extends RunListener {
+        private final Map<String, Long> durations;
+        private final Map<Description, Long> started = new ConcurrentHashMap<>();
+
+        TestDurationListener(Map<String, Long> durations) {
+            this.durations = durations;
+        }
+
+        @Override
+        public void testStarted(Description description) {
+            started.put(description, System.currentTimeMillis());
+        }
+
+        @Override
+        public void testFinished(Description description) {
+            Long start = started.remove(description);
+            if (start != null && description.getClassName() != null) {
+                durations.merge(description.getClassName(), System.currentTimeMillis() - start, Long::sum);
+            }
+        }
+    }
 }
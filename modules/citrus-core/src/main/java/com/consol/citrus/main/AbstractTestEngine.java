@@ -16,12 +16,28 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.main.scan.ClassPathTestScanner;
+import com.consol.citrus.main.scan.JarFileTestScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.CollectionUtils;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.net.*;
+import java.util.*;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
  */
 public abstract class AbstractTestEngine implements TestEngine {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(AbstractTestEngine.class);
+
     private final TestRunConfiguration configuration;
 
     public AbstractTestEngine(TestRunConfiguration configuration) {
@@ -36,4 +52,107 @@ public abstract class AbstractTestEngine implements TestEngine {
     public TestRunConfiguration getConfiguration() {
         return configuration;
     }
+
+    /**
+     * Gets all tests to run either from explicit test classes or by scanning the configured test packages.
+     * @param testAnnotation
+     * @return
+     */
+    protected List<TestClass> findTestClasses(Class<? extends Annotation> testAnnotation) {
+        if (!CollectionUtils.isEmpty(configuration.getTestClasses())) {
+            return configuration.getTestClasses();
+        }
+
+        List<String> packagesToRun = configuration.getPackages();
+        if (CollectionUtils.isEmpty(packagesToRun)) {
+            packagesToRun = Collections.singletonList("");
+        }
+
+        List<TestClass> classesToRun = new ArrayList<>();
+        for (String packageName : packagesToRun) {
+            if (configuration.getTestJar() != null) {
+                classesToRun.addAll(new JarFileTestScanner(configuration.getTestJar(), configuration.getIncludes()).findTestsInPackage(packageName));
+            } else {
+                classesToRun.addAll(new ClassPathTestScanner(testAnnotation, configuration.getIncludes()).findTestsInPackage(packageName));
+            }
+        }
+
+        return classesToRun;
+    }
+
+    /**
+     * Loads test class from configured test jar or from current class loader.
+     * @param testClass
+     * @return
+     * @throws ClassNotFoundException
+     * @throws MalformedURLException
+     */
+    protected Class<?> loadClass(TestClass testClass) throws ClassNotFoundException, MalformedURLException {
+        if (configuration.getTestJar() != null) {
+            return Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{ configuration.getTestJar().toURI().toURL() }, getClass().getClassLoader()));
+        } else {
+            return Class.forName(testClass.getName());
+        }
+    }
+
+    /**
+     * Distributes tests to shards according to configured thread count and sharding strategy.
+     * @param tests
+     * @return
+     */
+    protected List<List<TestClass>> shard(List<TestClass> tests) {
+        List<List<TestClass>> shards = configuration.getShardingStrategy().shard(tests, configuration.getThreadCount(), loadTestDurations());
+
+        for (int i = 0; i < shards.size(); i++) {
+            log.info(String.format("Test shard %s: %s test classes", i + 1, shards.get(i).size()));
+        }
+
+        return shards;
+    }
+
+    /**
+     * Reads historical test durations in milliseconds per test class name from configured test durations file.
+     * @return
+     */
+    protected Map<String, Long> loadTestDurations() {
+        Map<String, Long> durations = new HashMap<>();
+
+        File durationsFile = configuration.getTestDurations();
+        if (durationsFile != null && durationsFile.exists()) {
+            Properties properties = new Properties();
+            try (InputStream in = new FileInputStream(durationsFile)) {
+                properties.load(in);
+            } catch (IOException e) {
+                log.warn("Failed to read test durations from file: " + durationsFile, e);
+            }
+
+            for (String testClass : properties.stringPropertyNames()) {
+                durations.put(testClass, Long.valueOf(properties.getProperty(testClass)));
+            }
+        }
+
+        return durations;
+    }
+
+    /**
+     * Saves test durations in milliseconds per test class name to configured test durations file. Durations of tests
+     * not part of this run are kept.
+     * @param durations
+     */
+    protected void storeTestDurations(Map<String, Long> durations) {
+        File durationsFile = configuration.getTestDurations();
+        if (durationsFile == null || durations.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        loadTestDurations().forEach((testClass, duration) -> properties.setProperty(testClass, String.valueOf(duration)));
+        durations.forEach((testClass, duration) -> properties.setProperty(testClass, String.valueOf(duration)));
+
+        try (OutputStream out = new FileOutputStream(durationsFile)) {
+            properties.store(out, "Citrus test durations in milliseconds");
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write test durations to file: " + durationsFile, e);
+        }
+    }
 }
@@ -146,6 +146,39 @@ public class CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusAppConfiguration>("n", "threads", "Number of threads executing tests in parallel") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setThreadCount(Integer.valueOf(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -n/--threads option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("sh", "sharding", "Strategy distributing tests to parallel threads (class, package, duration)") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setShardingStrategy(ShardingStrategy.valueOf(value.toUpperCase()));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -sh/--sharding option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("hi", "history", "Test duration history file used for duration based sharding") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setTestDurations(new File(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -hi/--history option");
+                }
+            }
+        });
     }
 
     /**
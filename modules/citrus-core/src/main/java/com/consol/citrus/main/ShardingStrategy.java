@@ -0,0 +1,125 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import com.consol.citrus.TestClass;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Strategy distributing tests to a number of shards that get executed in parallel. Tests are either distributed
+ * class by class, package by package or based on historical test durations so each shard is given roughly the same
+ * amount of work.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public enum ShardingStrategy {
+
+    /** Distribute test classes round robin */
+    CLASS {
+        @Override
+        public List<List<TestClass>> shard(List<TestClass> tests, int shards, Map<String, Long> durations) {
+            List<List<TestClass>> result = createShards(shards);
+            for (int i = 0; i < tests.size(); i++) {
+                result.get(i % shards).add(tests.get(i));
+            }
+
+            return result;
+        }
+    },
+
+    /** Keep tests of same package together, packages are assigned to least loaded shard */
+    PACKAGE {
+        @Override
+        public List<List<TestClass>> shard(List<TestClass> tests, int shards, Map<String, Long> durations) {
+            Map<String, List<TestClass>> packages = tests.stream()
+                    .collect(Collectors.groupingBy(ShardingStrategy::getPackageName, LinkedHashMap::new, Collectors.toList()));
+
+            List<List<TestClass>> result = createShards(shards);
+            packages.values().stream()
+                    .sorted(Comparator.comparingInt(List<TestClass>::size).reversed())
+                    .forEach(group -> result.stream()
+                            .min(Comparator.comparingInt(List::size))
+                            .ifPresent(shard -> shard.addAll(group)));
+
+            return result;
+        }
+    },
+
+    /** Assign longest running tests first to the shard with lowest total duration */
+    DURATION {
+        @Override
+        public List<List<TestClass>> shard(List<TestClass> tests, int shards, Map<String, Long> durations) {
+            long defaultDuration = Math.max(1L, (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(1D));
+
+            List<List<TestClass>> result = createShards(shards);
+            long[] load = new long[shards];
+
+            tests.stream()
+                    .sorted(Comparator.comparingLong((TestClass test) -> durations.getOrDefault(test.getName(), defaultDuration)).reversed())
+                    .forEach(test -> {
+                        int target = 0;
+                        for (int i = 1; i < shards; i++) {
+                            if (load[i] < load[target]) {
+                                target = i;
+                            }
+                        }
+
+                        result.get(target).add(test);
+                        load[target] += durations.getOrDefault(test.getName(), defaultDuration);
+                    });
+
+            return result;
+        }
+    };
+
+    /**
+     * Distributes given tests to number of shards. Historical test durations are given as milliseconds per test class name.
+     * Empty shards are possible when there are less tests than shards.
+     * @param tests
+     * @param shards
+     * @param durations
+     * @return
+     */
+    public abstract List<List<TestClass>> shard(List<TestClass> tests, int shards, Map<String, Long> durations);
+
+    /**
+     * Creates given number of empty shards.
+     * @param shards
+     * @return
+     */
+    private static List<List<TestClass>> createShards(int shards) {
+        List<List<TestClass>> result = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            result.add(new ArrayList<>());
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets package name of test class.
+     * @param test
+     * @return
+     */
+    private static String getPackageName(TestClass test) {
+        int lastDot = test.getName().lastIndexOf('.');
+        return lastDot > 0 ? test.getName().substring(0, lastDot) : "";
+    }
+}
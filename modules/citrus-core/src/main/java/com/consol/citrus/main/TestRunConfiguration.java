@@ -40,6 +40,15 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Number of threads executing tests in parallel */
+    private int threadCount = 1;
+
+    /** Strategy distributing tests to parallel threads */
+    private ShardingStrategy shardingStrategy = ShardingStrategy.CLASS;
+
+    /** Optional properties file holding historical test durations per test class */
+    private File testDurations;
+
     /**
      * Gets the testClasses.
      *
@@ -111,4 +120,58 @@ public class TestRunConfiguration {
     public void setTestJar(File testJar) {
         this.testJar = testJar;
     }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Gets the shardingStrategy.
+     *
+     * @return
+     */
+    public ShardingStrategy getShardingStrategy() {
+        return shardingStrategy;
+    }
+
+    /**
+     * Sets the shardingStrategy.
+     *
+     * @param shardingStrategy
+     */
+    public void setShardingStrategy(ShardingStrategy shardingStrategy) {
+        this.shardingStrategy = shardingStrategy;
+    }
+
+    /**
+     * Gets the testDurations.
+     *
+     * @return
+     */
+    public File getTestDurations() {
+        return testDurations;
+    }
+
+    /**
+     * Sets the testDurations.
+     *
+     * @param testDurations
+     */
+    public void setTestDurations(File testDurations) {
+        this.testDurations = testDurations;
+    }
 }
@@ -17,7 +17,6 @@
 package com.consol.citrus.main.scan;
 
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * @author Christoph Deppisch
@@ -28,19 +27,30 @@ public abstract class AbstractTestScanner implements TestScanner {
     /** Test name patterns to include */
     private final String[] includes;
 
+    /** Include patterns compiled once per scanner */
+    private final Pattern[] includePatterns;
+
     public AbstractTestScanner(String... includes) {
         if (includes.length > 0) {
             this.includes = includes;
         } else {
             this.includes = new String[] { "^.*IT$", "^.*ITCase$", "^IT.*$" };
         }
+
+        this.includePatterns = new Pattern[this.includes.length];
+        for (int i = 0; i < this.includes.length; i++) {
+            includePatterns[i] = Pattern.compile(this.includes[i]);
+        }
     }
 
     protected boolean isIncluded(String className) {
-        return Stream.of(getIncludes())
-                .parallel()
-                .map(Pattern::compile)
-                .anyMatch(pattern -> pattern.matcher(className).matches());
+        for (Pattern pattern : includePatterns) {
+            if (pattern.matcher(className).matches()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
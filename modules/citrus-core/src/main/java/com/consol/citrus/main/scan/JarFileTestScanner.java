@@ -16,20 +16,27 @@
 
 package com.consol.citrus.main.scan;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 /**
+ * Scans test jar file for test classes. Class names found in a jar are persisted to an index file keyed by the jar
+ * path, size and last modified time stamp. Subsequent scans of the same jar read the index instead of walking all
+ * jar entries again. Outdated index files of the same jar path are removed when a new index is written.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -41,6 +48,9 @@ public class JarFileTestScanner extends AbstractTestScanner {
     /** Jar file resource to search in */
     private final File artifact;
 
+    /** Directory holding persisted class name index files */
+    private String indexDirectory = Citrus.TEST_SCAN_INDEX_DIRECTORY;
+
     public JarFileTestScanner(File artifact, String... includes) {
         super(includes);
         this.artifact = artifact;
@@ -50,20 +60,115 @@ public class JarFileTestScanner extends AbstractTestScanner {
     public List<TestClass> findTestsInPackage(String packageToScan) {
         List<TestClass> testClasses = new ArrayList<>();
         if (artifact != null && artifact.isFile()) {
-            try (JarFile jar = new JarFile(artifact)) {
-                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
-                    JarEntry entry = entries.nextElement();
-                    String className = StringUtils.removeEnd(entry.getName(), ".class" ).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
-                        log.info("Found test class candidate in test jar file: " +  entry.getName());
-                        testClasses.add(new TestClass(className));
-                    }
+            String packagePrefix = StringUtils.isNotEmpty(packageToScan) ? packageToScan + "." : "";
+            for (String className : getClassNames()) {
+                if (className.startsWith(packagePrefix) && isIncluded(className)) {
+                    log.info("Found test class candidate in test jar file: " +  className);
+                    testClasses.add(new TestClass(className));
                 }
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to access jar file artifact", e);
             }
         }
 
         return testClasses;
     }
+
+    /**
+     * Gets all class names in jar file either from persisted index or by scanning the jar entries.
+     * @return
+     */
+    private List<String> getClassNames() {
+        if (StringUtils.isEmpty(indexDirectory)) {
+            return scanClassNames();
+        }
+
+        String indexPrefix = getIndexPrefix();
+        Path indexFile = Paths.get(indexDirectory, indexPrefix + getIndexKey() + ".idx");
+
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                log.debug("Reading test class index: " + indexFile);
+                return Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                log.warn("Failed to read test class index - scanning jar file instead", e);
+            }
+        }
+
+        List<String> classNames = scanClassNames();
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path tempFile = Files.createTempFile(indexFile.getParent(), "citrus", ".tmp");
+            Files.write(tempFile, classNames, StandardCharsets.UTF_8);
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write test class index: " + indexFile, e);
+            return classNames;
+        }
+
+        pruneIndexFiles(indexFile, indexPrefix);
+        return classNames;
+    }
+
+    /**
+     * Removes index files of previous versions of the jar file.
+     * @param indexFile the current index file to keep
+     * @param indexPrefix file name prefix of all index files of the jar path
+     */
+    private void pruneIndexFiles(Path indexFile, String indexPrefix) {
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(indexFile.getParent(), indexPrefix + "*.idx")) {
+            for (Path outdated : indexFiles) {
+                if (!outdated.equals(indexFile)) {
+                    log.debug("Removing outdated test class index: " + outdated);
+                    Files.deleteIfExists(outdated);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to remove outdated test class index files", e);
+        }
+    }
+
+    /**
+     * Gets index file name prefix built from jar file absolute path. All index files of the same jar path share this prefix.
+     * @return
+     */
+    private String getIndexPrefix() {
+        return DigestUtils.md5DigestAsHex(artifact.getAbsolutePath().getBytes(StandardCharsets.UTF_8)) + "-";
+    }
+
+    /**
+     * Gets index key for jar file built from size and last modified time stamp. Changing the jar file
+     * results in a new index key without reading the jar content.
+     * @return
+     */
+    private String getIndexKey() {
+        String fingerprint = artifact.length() + ":" + artifact.lastModified();
+        return DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Walks all jar entries and collects class names.
+     * @return
+     */
+    private List<String> scanClassNames() {
+        List<String> classNames = new ArrayList<>();
+        try (JarFile jar = new JarFile(artifact)) {
+            for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+                    classNames.add(StringUtils.removeEnd(entry.getName(), ".class").replace("/", "."));
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to access jar file artifact", e);
+        }
+
+        return classNames;
+    }
+
+    /**
+     * Sets the index directory. Empty value disables the persisted class name index.
+     * @param indexDirectory
+     */
+    public void setIndexDirectory(String indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2006-2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+/**
+ * Utility methods sniffing the format of String message payloads. Methods only inspect the leading non whitespace
+ * characters of the payload so large payloads are never copied or trimmed.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class MessagePayloadUtils {
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private MessagePayloadUtils() {
+    }
+
+    /**
+     * Gets first character of payload that would remain after trimming the payload. Returns null character
+     * in case payload is null or only consists of whitespace characters.
+     *
+     * @param payload
+     * @return
+     */
+    public static char firstNonWhitespaceCharacter(String payload) {
+        if (payload == null) {
+            return Character.MIN_VALUE;
+        }
+
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c > ' ') {
+                return c;
+            }
+        }
+
+        return Character.MIN_VALUE;
+    }
+
+    /**
+     * Checks if trimmed payload starts with XML markup.
+     *
+     * @param payload
+     * @return
+     */
+    public static boolean isXml(String payload) {
+        return firstNonWhitespaceCharacter(payload) == '<';
+    }
+
+    /**
+     * Checks if trimmed payload starts with Json object or array.
+     *
+     * @param payload
+     * @return
+     */
+    public static boolean isJson(String payload) {
+        char c = firstNonWhitespaceCharacter(payload);
+        return c == '{' || c == '[';
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reporter records test action execution times into latency histograms per action type, per message endpoint and
+ * per test. Receive actions are additionally split into time spent waiting for the message and time spent on message
+ * validation as soon as the endpoint consumer publishes the inbound message to the message listeners. Send actions record
+ * the time from publishing the outbound message to the message listeners until the action has finished. These phase
+ * histograms are kept per message endpoint.
+ *
+ * Time spent in the reporter's own listener callbacks is recorded as listener overhead per test action.
+ *
+ * Metrics are exported as JSON report file and are also available to the HTML and summary reports.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ActionMetricsReporter extends AbstractOutputFileReporter implements TestActionListener, MessageListener {
+
+    /** Metric name prefixes */
+    public static final String ACTION_METRIC_PREFIX = "action:";
+    public static final String ENDPOINT_METRIC_PREFIX = "endpoint:";
+    public static final String TEST_METRIC_PREFIX = "test:";
+    public static final String RECEIVE_WAIT_METRIC_PREFIX = "phase:receive-wait:";
+    public static final String VALIDATION_METRIC_PREFIX = "phase:validation:";
+    public static final String SEND_METRIC_PREFIX = "phase:send:";
+    public static final String LISTENER_OVERHEAD_METRIC = "overhead:listener";
+
+    /** Enables/disables report generation */
+    @Value("${citrus.metrics.report.enabled:true}")
+    private String enabled = "true";
+
+    /** Resulting metrics report file name */
+    @Value("${citrus.metrics.report.file:citrus-metrics.json}")
+    private String reportFileName = "citrus-metrics.json";
+
+    /** Latency histograms by metric name */
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /** Start times of running test actions per thread, nested actions are stacked */
+    private final ThreadLocal<Deque<ActionTimer>> runningActions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /** Start times of running tests per thread */
+    private final ThreadLocal<Long> testStart = new ThreadLocal<>();
+
+    @Override
+    public void onTestStart(TestCase test) {
+        runningActions.get().clear();
+        testStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        Long start = testStart.get();
+        if (start != null) {
+            getHistogram(TEST_METRIC_PREFIX + test.getName()).record(System.nanoTime() - start);
+            testStart.remove();
+        }
+    }
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+        long start = System.nanoTime();
+        ActionTimer timer = new ActionTimer(testAction, start);
+        runningActions.get().push(timer);
+        timer.overhead += System.nanoTime() - start;
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+        long end = System.nanoTime();
+
+        // drop timers of nested actions that failed without finish event
+        Deque<ActionTimer> actions = runningActions.get();
+        ActionTimer timer;
+        do {
+            timer = actions.poll();
+        } while (timer != null && timer.action != testAction);
+
+        if (timer == null) {
+            return;
+        }
+
+        long duration = end - timer.start - timer.overhead;
+        getHistogram(ACTION_METRIC_PREFIX + testAction.getName()).record(duration);
+
+        String endpointName = getEndpointName(testAction);
+        if (StringUtils.hasText(endpointName)) {
+            getHistogram(ENDPOINT_METRIC_PREFIX + endpointName).record(duration);
+
+            if (testAction instanceof ReceiveMessageAction && timer.received > 0) {
+                getHistogram(RECEIVE_WAIT_METRIC_PREFIX + endpointName).record(timer.received - timer.start);
+                getHistogram(VALIDATION_METRIC_PREFIX + endpointName).record(end - timer.received);
+            } else if (testAction instanceof SendMessageAction && timer.sent > 0) {
+                getHistogram(SEND_METRIC_PREFIX + endpointName).record(end - timer.sent);
+            }
+        }
+
+        getHistogram(LISTENER_OVERHEAD_METRIC).record(timer.overhead + System.nanoTime() - end);
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+        long now = System.nanoTime();
+        ActionTimer timer = runningActions.get().peek();
+        if (timer != null) {
+            if (timer.received == 0) {
+                timer.received = now;
+            }
+            timer.overhead += System.nanoTime() - now;
+        }
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+        long now = System.nanoTime();
+        ActionTimer timer = runningActions.get().peek();
+        if (timer != null) {
+            if (timer.sent == 0) {
+                timer.sent = now;
+            }
+            timer.overhead += System.nanoTime() - now;
+        }
+    }
+
+    /**
+     * Gets name of message endpoint used by send and receive actions.
+     * @param testAction
+     * @return
+     */
+    private String getEndpointName(TestAction testAction) {
+        if (testAction instanceof SendMessageAction) {
+            SendMessageAction action = (SendMessageAction) testAction;
+            return action.getEndpoint() != null ? action.getEndpoint().getName() : action.getEndpointUri();
+        } else if (testAction instanceof ReceiveMessageAction) {
+            ReceiveMessageAction action = (ReceiveMessageAction) testAction;
+            return action.getEndpoint() != null ? action.getEndpoint().getName() : action.getEndpointUri();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets histogram for given metric name. Creates new histogram if not present yet.
+     * @param metric
+     * @return
+     */
+    public LatencyHistogram getHistogram(String metric) {
+        return histograms.computeIfAbsent(metric, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Gets all histograms sorted by metric name.
+     * @return
+     */
+    public SortedMap<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    @Override
+    public void clearTestResults() {
+        super.clearTestResults();
+        histograms.clear();
+    }
+
+    @Override
+    protected String getReportContent() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", histogram.getCount());
+            values.put("totalMs", toMillis(histogram.getTotal()));
+            values.put("meanMs", toMillis(histogram.getMean()));
+            values.put("minMs", toMillis(histogram.getMin()));
+            values.put("p50Ms", toMillis(histogram.getValueAtPercentile(50.0)));
+            values.put("p90Ms", toMillis(histogram.getValueAtPercentile(90.0)));
+            values.put("p99Ms", toMillis(histogram.getValueAtPercentile(99.0)));
+            values.put("maxMs", toMillis(histogram.getMax()));
+            metrics.put(entry.getKey(), values);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tests", getTestResults().getSize());
+        report.put("metrics", metrics);
+
+        try {
+            return new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new CitrusRuntimeException("Failed to generate metrics report", e);
+        }
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds with microsecond precision.
+     * @param nanos
+     * @return
+     */
+    public static double toMillis(double nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    /**
+     * Sets the enabled property.
+     *
+     * @param enabled
+     */
+    public void setEnabled(String enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return StringUtils.hasText(enabled) && !enabled.equalsIgnoreCase(Boolean.TRUE.toString());
+    }
+
+    /**
+     * Sets the reportFileName.
+     *
+     * @param reportFileName
+     */
+    public void setReportFileName(String reportFileName) {
+        this.reportFileName = reportFileName;
+    }
+
+    /**
+     * Gets the reportFileName.
+     *
+     * @return
+     */
+    @Override
+    public String getReportFileName() {
+        return reportFileName;
+    }
+
+    /**
+     * Start time, inbound and outbound message time and listener overhead of running test action.
+     */
+    private static class ActionTimer {
+        private final TestAction action;
+        private final long start;
+        private long received;
+        private long sent;
+        private long overhead;
+
+        ActionTimer(TestAction action, long start) {
+            this.action = action;
+            this.start = start;
+        }
+    }
+}
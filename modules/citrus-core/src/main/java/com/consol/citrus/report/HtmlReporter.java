@@ -24,6 +24,7 @@ import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.codec.binary.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.StringUtils;
@@ -71,6 +72,10 @@ public class HtmlReporter extends AbstractOutputFileReporter {
     /** Enables/disables report generation */
     @Value("${citrus.html.report.enabled:true}")
     private String enabled = "true";
+
+    /** Optional test action metrics to include in report */
+    @Autowired(required = false)
+    private ActionMetricsReporter metricsReporter;
     
     @Override
     public String getReportContent() {
@@ -113,12 +118,36 @@ public class HtmlReporter extends AbstractOutputFileReporter {
             reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
             reportProps.put("test.results", reportDetails.toString());
             reportProps.put("logo.data", getLogoImageData());
+            reportProps.put("action.metrics", getActionMetricsHtml());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate HTML test report", e);
         }
     }
 
+    /**
+     * Constructs HTML table rows for test action metrics.
+     * @return
+     */
+    private String getActionMetricsHtml() {
+        if (metricsReporter == null) {
+            return "";
+        }
+
+        StringBuilder metrics = new StringBuilder();
+        metricsReporter.getHistograms().forEach((name, histogram) -> metrics.append("<tr><th>")
+                .append(name.replaceAll("&", "&amp;").replaceAll(">", "&gt;").replaceAll("<", "&lt;"))
+                .append("</th><td>").append(histogram.getCount())
+                .append("</td><td>").append(ActionMetricsReporter.toMillis(histogram.getMean()))
+                .append("</td><td>").append(ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(50.0)))
+                .append("</td><td>").append(ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(90.0)))
+                .append("</td><td>").append(ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(99.0)))
+                .append("</td><td>").append(ActionMetricsReporter.toMillis(histogram.getMax()))
+                .append("</td></tr>"));
+
+        return metrics.toString();
+    }
+
     /**
      * Reads citrus logo png image and converts to base64 encoded string for inline HTML image display.
      * @return
@@ -309,6 +338,15 @@ public class HtmlReporter extends AbstractOutputFileReporter {
         return reportFileName;
     }
 
+    /**
+     * Sets the test action metrics reporter.
+     *
+     * @param metricsReporter
+     */
+    public void setMetricsReporter(ActionMetricsReporter metricsReporter) {
+        this.metricsReporter = metricsReporter;
+    }
+
     /**
      * Sets the dateFormat property.
      *
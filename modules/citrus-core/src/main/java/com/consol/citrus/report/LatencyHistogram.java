@@ -0,0 +1,195 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Lock free latency histogram recording nanosecond values into log-linear buckets. Each power of two range is split
+ * into equally sized sub buckets so recorded values keep a relative precision of about three percent. Buckets are
+ * allocated lazily per power of two range on first record, so histograms holding only a few values stay small.
+ * Recording is safe to use from multiple threads concurrently.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class LatencyHistogram {
+
+    /** Number of sub buckets per power of two range */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Values below this threshold are recorded with exact precision */
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+
+    /** Total number of buckets covering all positive long values */
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKET_COUNT;
+
+    /** Number of bucket chunks, each chunk holds the buckets of one power of two range */
+    private static final int CHUNK_COUNT = BUCKET_COUNT / SUB_BUCKET_COUNT;
+
+    /** Recorded value counts per bucket, chunks are allocated on first record */
+    private final AtomicReferenceArray<AtomicLongArray> counts = new AtomicReferenceArray<>(CHUNK_COUNT);
+
+    /** Summary values */
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong(0L);
+
+    /**
+     * Records single value in nanoseconds. Negative values are recorded as zero.
+     * @param value
+     */
+    public void record(long value) {
+        long nanos = Math.max(0L, value);
+
+        int index = bucketIndex(nanos);
+        getChunk(index >>> SUB_BUCKET_BITS).incrementAndGet(index & (SUB_BUCKET_COUNT - 1));
+        totalCount.increment();
+        totalValue.add(nanos);
+
+        long current;
+        while (nanos < (current = minValue.get()) && !minValue.compareAndSet(current, nanos)) {
+            // retry
+        }
+
+        while (nanos > (current = maxValue.get()) && !maxValue.compareAndSet(current, nanos)) {
+            // retry
+        }
+    }
+
+    /**
+     * Gets the value at given percentile. Returned value is the highest value equivalent to the bucket holding the
+     * percentile so the value is never lower than the actual recorded value.
+     * @param percentile percentile between 0 and 100
+     * @return
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0L;
+        }
+
+        long threshold = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long cumulative = 0L;
+        for (int chunkIndex = 0; chunkIndex < CHUNK_COUNT; chunkIndex++) {
+            AtomicLongArray chunk = counts.get(chunkIndex);
+            if (chunk == null) {
+                continue;
+            }
+
+            for (int i = 0; i < SUB_BUCKET_COUNT; i++) {
+                cumulative += chunk.get(i);
+                if (cumulative >= threshold) {
+                    return Math.min(highestEquivalentValue((chunkIndex << SUB_BUCKET_BITS) + i), getMax());
+                }
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     * @return
+     */
+    public long getTotal() {
+        return totalValue.sum();
+    }
+
+    /**
+     * Gets the arithmetic mean of all recorded values.
+     * @return
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) getTotal() / count;
+    }
+
+    /**
+     * Gets the lowest recorded value.
+     * @return
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0L : minValue.get();
+    }
+
+    /**
+     * Gets the highest recorded value.
+     * @return
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Gets bucket chunk for given chunk index. Creates new chunk if not present yet.
+     * @param chunkIndex
+     * @return
+     */
+    private AtomicLongArray getChunk(int chunkIndex) {
+        AtomicLongArray chunk = counts.get(chunkIndex);
+        if (chunk == null) {
+            counts.compareAndSet(chunkIndex, null, new AtomicLongArray(SUB_BUCKET_COUNT));
+            chunk = counts.get(chunkIndex);
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Calculates bucket index for given value.
+     * @param value
+     * @return
+     */
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        int subIndex = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (msb - (SUB_BUCKET_BITS + 1)) * SUB_BUCKET_COUNT + subIndex;
+    }
+
+    /**
+     * Gets the highest value that is recorded into given bucket.
+     * @param index
+     * @return
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+
+        int msb = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        int subIndex = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        int shift = msb - SUB_BUCKET_BITS;
+        long lowest = ((long) (subIndex + SUB_BUCKET_COUNT)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
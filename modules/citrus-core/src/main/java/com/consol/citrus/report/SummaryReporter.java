@@ -19,6 +19,7 @@ package com.consol.citrus.report;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.util.PropertyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.StringUtils;
 
@@ -45,6 +46,10 @@ public class SummaryReporter extends AbstractOutputFileReporter {
     @Value("${citrus.summary.report.template:classpath:com/consol/citrus/report/summary-report.xml}")
     private String reportTemplate = "classpath:com/consol/citrus/report/summary-report.xml";
 
+    /** Optional test action metrics to include in report */
+    @Autowired(required = false)
+    private ActionMetricsReporter metricsReporter;
+
     @Override
     protected String getReportContent() {
         try {
@@ -56,12 +61,48 @@ public class SummaryReporter extends AbstractOutputFileReporter {
             reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
             reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
             reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
+            reportProps.put("action.metrics", getActionMetricsXml());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate summary test report", e);
         }
     }
 
+    /**
+     * Constructs XML elements for test action metrics.
+     * @return
+     */
+    private String getActionMetricsXml() {
+        if (metricsReporter == null) {
+            return "";
+        }
+
+        StringBuilder metrics = new StringBuilder();
+        metricsReporter.getHistograms().forEach((name, histogram) -> metrics.append(String.format("%n        <metric name=\"%s\" count=\"%s\" mean=\"%s\" p50=\"%s\" p90=\"%s\" p99=\"%s\" max=\"%s\"/>",
+                name.replaceAll("&", "&amp;").replaceAll("\"", "&quot;").replaceAll("<", "&lt;").replaceAll(">", "&gt;"),
+                histogram.getCount(),
+                ActionMetricsReporter.toMillis(histogram.getMean()),
+                ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(50.0)),
+                ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(90.0)),
+                ActionMetricsReporter.toMillis(histogram.getValueAtPercentile(99.0)),
+                ActionMetricsReporter.toMillis(histogram.getMax()))));
+
+        if (metrics.length() > 0) {
+            metrics.append(String.format("%n    "));
+        }
+
+        return metrics.toString();
+    }
+
+    /**
+     * Sets the test action metrics reporter.
+     *
+     * @param metricsReporter
+     */
+    public void setMetricsReporter(ActionMetricsReporter metricsReporter) {
+        this.metricsReporter = metricsReporter;
+    }
+
     /**
      * Sets the enabled property.
      *
@@ -16,7 +16,6 @@
 
 package com.consol.citrus.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 
 import org.slf4j.Logger;
@@ -29,9 +28,6 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-
 /**
  * Action executes groovy scripts either specified inline or from external file resource.
  * 
@@ -73,12 +69,7 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
+            ClassLoader parent = getClass().getClassLoader();
 
             assertScriptProvided();
 
@@ -86,7 +77,7 @@ public class GroovyAction extends AbstractTestAction {
             String code = context.replaceDynamicContentInString(rawCode.trim());
 
             // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
+            Class<?> groovyClass = GroovyScriptCache.getDefault().parseClass(code, parent);
             // Instantiate an object from groovy code
             GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
 
@@ -104,7 +95,7 @@ public class GroovyAction extends AbstractTestAction {
                             .build();
                 }
 
-                groovyClass = loader.parseClass(code);
+                groovyClass = GroovyScriptCache.getDefault().parseClass(code, parent);
                 groovyObject = (GroovyObject) groovyClass.newInstance();
             }
 
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of compiled Groovy script classes. Scripts are identified by the hash of their complete source code, so scripts
+ * built from a template are cached per template and script code combination. Each script gets compiled with its own
+ * Groovy class loader. The cache is bounded per parent class loader and evicts least recently used scripts, so evicted
+ * script classes and their class loader can be unloaded by the garbage collector.
+ *
+ * Parent class loaders are weakly referenced. Cached script classes still reference their parent class loader through
+ * their Groovy class loader, so a parent class loader is released once its scripts have been evicted or the cache has
+ * been cleared.
+ *
+ * Concurrent lookups of the same script share a single compilation. Cached script classes are shared, script instances
+ * are not. Callers create a new script instance for each execution.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class GroovyScriptCache {
+
+    /** Default cache instance shared by Groovy actions, script validators and message builders */
+    private static final GroovyScriptCache DEFAULT_CACHE = new GroovyScriptCache(Integer.parseInt(Citrus.GROOVY_SCRIPT_CACHE_SIZE));
+
+    /** Max number of cached script classes per parent class loader */
+    private final int maxSize;
+
+    /** Compiled script classes by script hash in least recently used order per parent class loader */
+    private final Map<ClassLoader, Map<String, Future<Class<?>>>> scripts = new WeakHashMap<>();
+
+    /** Cache statistics */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor using max cache size. Cache size of zero disables caching so each script is compiled on every call.
+     * @param maxSize
+     */
+    public GroovyScriptCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the default script cache.
+     * @return
+     */
+    public static GroovyScriptCache getDefault() {
+        return DEFAULT_CACHE;
+    }
+
+    /**
+     * Gets compiled class for given script code. Script is compiled with a new Groovy class loader using given parent class loader
+     * if not already cached.
+     * @param code
+     * @param parent
+     * @return
+     */
+    public Class<?> parseClass(String code, ClassLoader parent) {
+        if (maxSize <= 0) {
+            return compile(code, parent);
+        }
+
+        String hash = DigestUtils.md5DigestAsHex(code.getBytes(StandardCharsets.UTF_8));
+
+        Future<Class<?>> script;
+        FutureTask<Class<?>> compilation = null;
+        synchronized (scripts) {
+            Map<String, Future<Class<?>>> loaderScripts = scripts.computeIfAbsent(parent, loader -> createScriptMap());
+            script = loaderScripts.get(hash);
+            if (script == null) {
+                compilation = new FutureTask<>(() -> compile(code, parent));
+                loaderScripts.put(hash, compilation);
+                script = compilation;
+            } else {
+                hits.incrementAndGet();
+            }
+        }
+
+        if (compilation != null) {
+            compilation.run();
+        }
+
+        try {
+            return script.get();
+        } catch (ExecutionException e) {
+            synchronized (scripts) {
+                Map<String, Future<Class<?>>> loaderScripts = scripts.get(parent);
+                if (loaderScripts != null) {
+                    loaderScripts.remove(hash, script);
+                }
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to compile groovy script", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for groovy script compilation", e);
+        }
+    }
+
+    /**
+     * Compiles script code with new Groovy class loader using given parent class loader.
+     * @param code
+     * @param parent
+     * @return
+     */
+    private Class<?> compile(String code, ClassLoader parent) {
+        GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
+            public GroovyClassLoader run() {
+                return new GroovyClassLoader(parent);
+            }
+        });
+
+        Class<?> groovyClass = loader.parseClass(code);
+        compilations.incrementAndGet();
+
+        if (groovyClass == null) {
+            throw new CitrusRuntimeException("Failed to compile groovy script");
+        }
+
+        return groovyClass;
+    }
+
+    /**
+     * Creates bounded script map evicting least recently used scripts.
+     * @return
+     */
+    private Map<String, Future<Class<?>>> createScriptMap() {
+        return new LinkedHashMap<String, Future<Class<?>>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Future<Class<?>>> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Removes all cached script classes.
+     */
+    public void clear() {
+        synchronized (scripts) {
+            scripts.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public int getSize() {
+        synchronized (scripts) {
+            int size = 0;
+            for (Map<String, Future<Class<?>>> loaderScripts : scripts.values()) {
+                size += loaderScripts.size();
+            }
+
+            return size;
+        }
+    }
+
+    /**
+     * Gets the number of script lookups served from cache.
+     * @return
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of script compilations.
+     * @return
+     */
+    public long getCompilations() {
+        return compilations.get();
+    }
+
+    /**
+     * Gets the number of script classes evicted from cache.
+     * @return
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+}
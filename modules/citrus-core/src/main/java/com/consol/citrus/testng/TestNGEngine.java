@@ -19,19 +19,17 @@ package com.consol.citrus.testng;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
 import com.consol.citrus.main.TestRunConfiguration;
-import com.consol.citrus.main.scan.ClassPathTestScanner;
-import com.consol.citrus.main.scan.JarFileTestScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
-import org.testng.ITestNGListener;
-import org.testng.TestNG;
+import org.testng.*;
 import org.testng.annotations.Test;
 import org.testng.xml.*;
 
-import java.net.*;
+import java.net.MalformedURLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -59,81 +57,115 @@ public class TestNGEngine extends AbstractTestEngine {
             testng.addListener(listener);
         }
 
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (getConfiguration().getTestDurations() != null) {
+            testng.addListener(new TestDurationListener(durations));
+        }
+
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
 
-        if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
-            for (TestClass testClass : getConfiguration().getTestClasses()) {
-                log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
-
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
-
-                try {
-                    Class<?> clazz;
-                    if (getConfiguration().getTestJar() != null) {
-                        clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                    } else {
-                        clazz = Class.forName(testClass.getName());
-                    }
-
-                    XmlClass xmlClass = new XmlClass(clazz);
-                    if (StringUtils.hasText(testClass.getMethod())) {
-                        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
-                    }
-
-                    test.getClasses().add(xmlClass);
-                } catch (ClassNotFoundException | MalformedURLException e) {
-                    log.warn("Unable to read test class: " + testClass.getName());
-                }
-            }
+        if (getConfiguration().getThreadCount() > 1) {
+            addParallelTests(suite);
         } else {
-            List<String> packagesToRun = getConfiguration().getPackages();
-            if (CollectionUtils.isEmpty(packagesToRun)) {
-                packagesToRun = Collections.singletonList("");
+            addTests(suite);
+        }
+
+        testng.run();
+
+        storeTestDurations(durations);
+    }
+
+    /**
+     * Adds tests executed sequentially. Explicitly selected test classes each get a separate TestNG test, scanned
+     * test classes are combined in a single TestNG test.
+     * @param suite
+     */
+    private void addTests(XmlSuite suite) {
+        boolean explicitTestClasses = !CollectionUtils.isEmpty(getConfiguration().getTestClasses());
+        if (!explicitTestClasses) {
+            if (CollectionUtils.isEmpty(getConfiguration().getPackages())) {
                 log.info("Running all tests in project");
+            } else {
+                getConfiguration().getPackages()
+                        .stream()
+                        .filter(StringUtils::hasText)
+                        .forEach(packageName -> log.info(String.format("Running tests in package %s", packageName)));
             }
+        }
 
-            for (String packageName : packagesToRun) {
-                if (StringUtils.hasText(packageName)) {
-                    log.info(String.format("Running tests in package %s", packageName));
-                }
-
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
-
-                List<TestClass> classesToRun;
-                if (getConfiguration().getTestJar() != null) {
-                    classesToRun = new JarFileTestScanner(getConfiguration().getTestJar(), getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                } else {
-                    classesToRun = new ClassPathTestScanner(Test.class, getConfiguration().getIncludes()).findTestsInPackage(packageName);
-                }
-
-                classesToRun.stream()
-                        .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
-                        .map(testClass -> {
-                            try {
-                                Class<?> clazz;
-                                if (getConfiguration().getTestJar() != null) {
-                                    clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                                } else {
-                                    clazz = Class.forName(testClass.getName());
-                                }
-                                return clazz;
-                            } catch (ClassNotFoundException | MalformedURLException e) {
-                                log.warn("Unable to read test class: " + testClass.getName());
-                                return Void.class;
-                            }
-                        })
-                        .filter(clazz -> !clazz.equals(Void.class))
-                        .map(XmlClass::new)
-                        .forEach(test.getClasses()::add);
-
-                log.info(String.format("Found %s test classes to execute", test.getClasses().size()));
+        List<TestClass> classesToRun = findTestClasses(Test.class);
+        log.info(String.format("Found %s test classes to execute", classesToRun.size()));
+
+        XmlTest test = explicitTestClasses ? null : createXmlTest(suite);
+        for (TestClass testClass : classesToRun) {
+            log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
+
+            if (explicitTestClasses) {
+                test = createXmlTest(suite);
             }
+
+            Optional.ofNullable(createXmlClass(testClass)).ifPresent(test.getClasses()::add);
+        }
+    }
+
+    /**
+     * Distributes tests to shards where each shard is a separate TestNG test. Shards are executed in parallel
+     * according to configured thread count.
+     * @param suite
+     */
+    private void addParallelTests(XmlSuite suite) {
+        suite.setParallel(XmlSuite.ParallelMode.TESTS);
+        suite.setThreadCount(getConfiguration().getThreadCount());
+
+        List<TestClass> classesToRun = findTestClasses(Test.class);
+        log.info(String.format("Running %s test classes with %s threads using %s sharding", classesToRun.size(),
+                getConfiguration().getThreadCount(), getConfiguration().getShardingStrategy().name().toLowerCase()));
+
+        List<List<TestClass>> shards = shard(classesToRun);
+        for (int i = 0; i < shards.size(); i++) {
+            if (shards.get(i).isEmpty()) {
+                continue;
+            }
+
+            XmlTest test = createXmlTest(suite);
+            test.setName("shard-" + (i + 1));
+
+            for (TestClass testClass : shards.get(i)) {
+                Optional.ofNullable(createXmlClass(testClass)).ifPresent(test.getClasses()::add);
+            }
+        }
+    }
+
+    /**
+     * Creates new TestNG test in given suite.
+     * @param suite
+     * @return
+     */
+    private XmlTest createXmlTest(XmlSuite suite) {
+        XmlTest test = new XmlTest(suite);
+        test.setClasses(new ArrayList<>());
+        return test;
+    }
+
+    /**
+     * Creates TestNG class definition for given test class including the optional test method. Returns null when
+     * test class can not be loaded.
+     * @param testClass
+     * @return
+     */
+    private XmlClass createXmlClass(TestClass testClass) {
+        try {
+            XmlClass xmlClass = new XmlClass(loadClass(testClass));
+            if (StringUtils.hasText(testClass.getMethod())) {
+                xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
+            }
+
+            return xmlClass;
+        } catch (ClassNotFoundException | MalformedURLException e) {
+            log.warn("Unable to read test class: " + testClass.getName());
+            return null;
         }
-        
-        testng.run();
     }
 
     /**
@@ -144,4 +176,51 @@ public class TestNGEngine extends AbstractTestEngine {
         this.listeners.add(listener);
         return this;
     }
+
+    /**
+     * Sums up test method execution times per test class.
+     */
+    private static class TestDurationListener implements ITestListener {
+        private final Map<String, Long> durations;
+
+        TestDurationListener(Map<String, Long> durations) {
+            this.durations = durations;
+        }
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            record(result);
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            record(result);
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            record(result);
+        }
+
+        @Override
+        public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+            record(result);
+        }
+
+        @Override
+        public void onTestStart(ITestResult result) {
+        }
+
+        @Override
+        public void onStart(ITestContext context) {
+        }
+
+        @Override
+        public void onFinish(ITestContext context) {
+        }
+
+        private void record(ITestResult result) {
+            durations.merge(result.getTestClass().getName(), Math.max(0L, result.getEndMillis() - result.getStartMillis()), Long::sum);
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.springframework.util.StreamUtils;
+
+import java.io.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.*;
+
+/**
+ * Gzip compression utilities. Compressing streams share a pool of native deflater instances, so the costly native
+ * zlib initialization is not repeated on each message. Decompression is based on Java gzip input streams supporting
+ * concatenated multi member gzip data.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public abstract class GzipUtils {
+
+    /** Max number of idle deflater instances kept in pool */
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /** Idle deflater instances */
+    private static final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /** Default gzip header without modification time and file name */
+    private static final byte[] HEADER = new byte[] { (byte) GZIPInputStream.GZIP_MAGIC, (byte) (GZIPInputStream.GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    /** Stream buffer size */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Prevent instantiation.
+     */
+    private GzipUtils() {
+        super();
+    }
+
+    /**
+     * Compresses given data with gzip encoding.
+     * @param data
+     * @return
+     * @throws IOException
+     */
+    public static byte[] compress(byte[] data) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, data.length / 2));
+        try (OutputStream gzipStream = getCompressingStream(compressed)) {
+            gzipStream.write(data);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Compresses data read from given input stream with gzip encoding. Input stream is closed afterwards.
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static byte[] compress(InputStream in) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (InputStream source = in;
+             OutputStream gzipStream = getCompressingStream(compressed)) {
+            StreamUtils.copy(source, gzipStream);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Creates gzip compressing output stream writing to given target stream. Stream has to be closed in order to
+     * finish compression and to give back the pooled deflater.
+     * @param out
+     * @return
+     * @throws IOException
+     */
+    public static OutputStream getCompressingStream(OutputStream out) throws IOException {
+        return new PooledGzipOutputStream(out);
+    }
+
+    /**
+     * Creates gzip decompressing input stream reading from given source stream.
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static InputStream getDecompressingStream(InputStream in) throws IOException {
+        return new GZIPInputStream(in, BUFFER_SIZE);
+    }
+
+    /**
+     * Takes deflater from pool or creates new instance when pool is empty.
+     * @return
+     */
+    private static Deflater acquireDeflater() {
+        Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    /**
+     * Gives back deflater to pool. Deflater is released when pool is full.
+     * @param deflater
+     */
+    private static void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes integer value in little endian byte order.
+     * @param out
+     * @param value
+     * @throws IOException
+     */
+    private static void writeInt(OutputStream out, long value) throws IOException {
+        out.write((int) (value & 0xff));
+        out.write((int) ((value >> 8) & 0xff));
+        out.write((int) ((value >> 16) & 0xff));
+        out.write((int) ((value >> 24) & 0xff));
+    }
+
+    /**
+     * Gzip output stream using pooled deflater. Writes the same fixed header and trailer as Java gzip output stream.
+     */
+    private static class PooledGzipOutputStream extends DeflaterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private boolean finished = false;
+        private boolean closed = false;
+
+        PooledGzipOutputStream(OutputStream out) throws IOException {
+            super(out, acquireDeflater(), BUFFER_SIZE);
+
+            try {
+                out.write(HEADER);
+            } catch (IOException e) {
+                releaseDeflater(def);
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!finished) {
+                super.finish();
+                writeInt(out, crc.getValue());
+                writeInt(out, def.getBytesRead());
+                finished = true;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                try {
+                    finish();
+                } finally {
+                    try {
+                        out.close();
+                    } finally {
+                        releaseDeflater(def);
+                    }
+                }
+            }
+        }
+    }
+}
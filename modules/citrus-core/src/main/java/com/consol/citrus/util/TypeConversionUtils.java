@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.SimpleTypeConverter;
 import org.springframework.core.io.InputStreamSource;
+import org.springframework.util.FileCopyUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.xml.transform.StringSource;
 import org.w3c.dom.Node;
@@ -69,7 +70,7 @@ public abstract class TypeConversionUtils {
                 return (T) new StringSource(String.valueOf(target));
             } else if (target.getClass().isAssignableFrom(Node.class)) {
                 return (T) new DOMSource((Node) target);
-            } else if (target.getClass().isAssignableFrom(InputStreamSource.class)) {
+            } else if (target instanceof InputStreamSource) {
                 try {
                     return (T) new StreamSource(((InputStreamSource)target).getInputStream());
                 } catch (IOException e) {
@@ -113,6 +114,20 @@ public abstract class TypeConversionUtils {
             }
         }
 
+        if (target instanceof InputStreamSource) {
+            try {
+                if (InputStream.class.isAssignableFrom(type)) {
+                    return (T) ((InputStreamSource) target).getInputStream();
+                } else if (byte[].class.isAssignableFrom(type)) {
+                    return (T) FileCopyUtils.copyToByteArray(((InputStreamSource) target).getInputStream());
+                } else if (String.class.equals(type)) {
+                    return (T) FileUtils.readToString(((InputStreamSource) target).getInputStream());
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read content from stream source", e);
+            }
+        }
+
         if (InputStream.class.isAssignableFrom(type)) {
             if (target instanceof byte[]) {
                 return (T) new ByteArrayInputStream((byte[]) target);
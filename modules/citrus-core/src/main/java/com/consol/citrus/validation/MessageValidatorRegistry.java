@@ -18,6 +18,7 @@ package com.consol.citrus.validation;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadUtils;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.slf4j.Logger;
@@ -25,8 +26,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple registry holding all available message validator implementations. Test context can ask this registry for
@@ -47,36 +48,29 @@ public class MessageValidatorRegistry implements InitializingBean {
     /** List of registered message validator implementations */
     private List<MessageValidator<? extends ValidationContext>> messageValidators = new ArrayList<MessageValidator<? extends ValidationContext>>();
 
+    /** Cached validator selections per message type and payload classification */
+    private final Map<SelectionKey, List<MessageValidator<? extends ValidationContext>>> selectionCache = new ConcurrentHashMap<>();
+
+    /** Snapshot of message validators the selection cache has been built with */
+    private List<MessageValidator<? extends ValidationContext>> cachedMessageValidators = Collections.emptyList();
+
     /**
-     * Finds matching message validators for this message type.
+     * Finds matching message validators for this message type. Message payload is classified once and validator selection
+     * is cached for message type, payload class and payload format. Message validators are therefore expected to base their
+     * support decision on these characteristics only.
      * 
      * @param messageType the message type
      * @param message the message object
      * @return the list of matching message validators.
      */
     public List<MessageValidator<? extends ValidationContext>> findMessageValidators(String messageType, Message message) {
-        List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
+        PayloadFormat payloadFormat = PayloadFormat.classify(message.getPayload());
+        SelectionKey key = new SelectionKey(messageType, message.getPayload() != null ? message.getPayload().getClass() : null, payloadFormat);
 
-        for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
-            if (validator.supportsMessageType(messageType, message)) {
-                matchingValidators.add(validator);
-            }
-        }
-
-        if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
-            // try to find fallback message validator for given message payload
-            if (message.getPayload() instanceof String &&
-                    StringUtils.hasText(message.getPayload(String.class))) {
-                String payload = message.getPayload(String.class).trim();
-
-                if (payload.startsWith("<") && !messageType.equals(MessageType.XML.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.XML.name(), message);
-                } else if ((payload.trim().startsWith("{") || payload.trim().startsWith("[")) && !messageType.equals(MessageType.JSON.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.JSON.name(), message);
-                } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
-                    matchingValidators = findFallbackMessageValidators(MessageType.PLAINTEXT.name(), message);
-                }
-            }
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = getSelectionCache().get(key);
+        if (matchingValidators == null) {
+            matchingValidators = selectMessageValidators(messageType, message, payloadFormat);
+            selectionCache.put(key, matchingValidators);
         }
 
         if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
@@ -88,10 +82,45 @@ public class MessageValidatorRegistry implements InitializingBean {
             log.debug(String.format("Found %s message validators for message type: %s", matchingValidators.size(), messageType));
         }
         
+        return new ArrayList<>(matchingValidators);
+    }
+
+    /**
+     * Selects matching message validators for message type. In case no proper validator is found fallback validators are
+     * selected according to the classified payload format.
+     * @param messageType
+     * @param message
+     * @param payloadFormat
+     * @return
+     */
+    private List<MessageValidator<? extends ValidationContext>> selectMessageValidators(String messageType, Message message, PayloadFormat payloadFormat) {
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = findSupportingMessageValidators(messageType, message);
+
+        if (matchingValidators.isEmpty() || matchingValidators.stream().allMatch(validator -> DefaultMessageHeaderValidator.class.isAssignableFrom(validator.getClass()))) {
+            // try to find fallback message validator for given message payload
+            if (payloadFormat == PayloadFormat.NONE || payloadFormat == PayloadFormat.EMPTY) {
+                return matchingValidators;
+            }
+
+            if (payloadFormat == PayloadFormat.XML && !messageType.equals(MessageType.XML.name())) {
+                matchingValidators = findSupportingMessageValidators(MessageType.XML.name(), message);
+            } else if (payloadFormat == PayloadFormat.JSON && !messageType.equals(MessageType.JSON.name())) {
+                matchingValidators = findSupportingMessageValidators(MessageType.JSON.name(), message);
+            } else if (!messageType.equals(MessageType.PLAINTEXT.name())) {
+                matchingValidators = findSupportingMessageValidators(MessageType.PLAINTEXT.name(), message);
+            }
+        }
+
         return matchingValidators;
     }
 
-    private List<MessageValidator<? extends ValidationContext>> findFallbackMessageValidators(String messageType, Message message) {
+    /**
+     * Finds all message validators supporting given message type.
+     * @param messageType
+     * @param message
+     * @return
+     */
+    private List<MessageValidator<? extends ValidationContext>> findSupportingMessageValidators(String messageType, Message message) {
         List<MessageValidator<? extends ValidationContext>> matchingValidators = new ArrayList<>();
 
         for (MessageValidator<? extends ValidationContext> validator : messageValidators) {
@@ -103,6 +132,21 @@ public class MessageValidatorRegistry implements InitializingBean {
         return matchingValidators;
     }
 
+    /**
+     * Gets selection cache. Cache is reset in case list of message validators has changed since last selection.
+     * @return
+     */
+    private Map<SelectionKey, List<MessageValidator<? extends ValidationContext>>> getSelectionCache() {
+        synchronized (selectionCache) {
+            if (!cachedMessageValidators.equals(messageValidators)) {
+                selectionCache.clear();
+                cachedMessageValidators = new ArrayList<>(messageValidators);
+            }
+        }
+
+        return selectionCache;
+    }
+
     /**
      * Check if we have at least one message validator available.
      */
@@ -130,6 +174,71 @@ public class MessageValidatorRegistry implements InitializingBean {
         return messageValidators;
     }
 
+    /**
+     * Payload format classified by sniffing the leading non whitespace characters of String payloads.
+     */
+    private enum PayloadFormat {
+        NONE, EMPTY, XML, JSON, PLAINTEXT;
+
+        /**
+         * Classifies given message payload.
+         * @param payload
+         * @return
+         */
+        static PayloadFormat classify(Object payload) {
+            if (!(payload instanceof String)) {
+                return NONE;
+            }
+
+            String text = (String) payload;
+            if (!StringUtils.hasText(text)) {
+                return EMPTY;
+            } else if (MessagePayloadUtils.isXml(text)) {
+                return XML;
+            } else if (MessagePayloadUtils.isJson(text)) {
+                return JSON;
+            } else {
+                return PLAINTEXT;
+            }
+        }
+    }
+
+    /**
+     * Cache key for message validator selection.
+     */
+    private static final class SelectionKey {
+        private final String messageType;
+        private final Class<?> payloadClass;
+        private final PayloadFormat payloadFormat;
+
+        SelectionKey(String messageType, Class<?> payloadClass, PayloadFormat payloadFormat) {
+            this.messageType = messageType;
+            this.payloadClass = payloadClass;
+            this.payloadFormat = payloadFormat;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+
+            SelectionKey that = (SelectionKey) o;
+            return Objects.equals(messageType, that.messageType) &&
+                    Objects.equals(payloadClass, that.payloadClass) &&
+                    payloadFormat == that.payloadFormat;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(messageType, payloadClass, payloadFormat);
+        }
+    }
+
     /**
      * Gets the default message header validator.
      * @return
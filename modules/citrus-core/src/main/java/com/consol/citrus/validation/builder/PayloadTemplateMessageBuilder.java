@@ -21,13 +21,11 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.util.GzipUtils;
 import org.springframework.util.FileCopyUtils;
-import org.springframework.util.StreamUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author Christoph Deppisch
@@ -52,13 +50,7 @@ public class PayloadTemplateMessageBuilder extends AbstractMessageContentBuilder
                 if (messageType.equalsIgnoreCase(MessageType.BINARY.name())) {
                     return FileCopyUtils.copyToByteArray(FileUtils.getFileResource(payloadResourcePath, context).getInputStream());
                 } else if (messageType.equalsIgnoreCase(MessageType.GZIP.name())) {
-                    try (ByteArrayOutputStream zipped = new ByteArrayOutputStream();
-                         GZIPOutputStream gzipOutputStream = new GZIPOutputStream(zipped)) {
-                        StreamUtils.copy(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(payloadResourcePath, context).getInputStream()), gzipOutputStream);
-
-                        gzipOutputStream.close();
-                        return zipped.toByteArray();
-                    }
+                    return GzipUtils.compress(FileUtils.getFileResource(payloadResourcePath, context).getInputStream());
                 } else {
                     return context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(payloadResourcePath, context), Charset.forName(context.resolveDynamicValue(payloadResourceCharset))));
                 }
@@ -66,13 +58,7 @@ public class PayloadTemplateMessageBuilder extends AbstractMessageContentBuilder
                 if (messageType.equalsIgnoreCase(MessageType.BINARY.name())) {
                     return context.replaceDynamicContentInString(payloadData).getBytes();
                 } else if (messageType.equalsIgnoreCase(MessageType.GZIP.name())) {
-                    try (ByteArrayOutputStream zipped = new ByteArrayOutputStream();
-                         GZIPOutputStream gzipOutputStream = new GZIPOutputStream(zipped)) {
-                        StreamUtils.copy(context.replaceDynamicContentInString(payloadData).getBytes(), gzipOutputStream);
-
-                        gzipOutputStream.close();
-                        return zipped.toByteArray();
-                    }
+                    return GzipUtils.compress(context.replaceDynamicContentInString(payloadData).getBytes());
                 } else {
                     return context.replaceDynamicContentInString(payloadData);
                 }
@@ -87,21 +87,8 @@ public class JsonPathMessageConstructionInterceptor extends AbstractMessageConst
                 jsonPathExpression = entry.getKey();
                 String valueExpression = context.replaceDynamicContentInString(entry.getValue());
 
-                Object value;
-                if (valueExpression.equals("true")) {
-                    value = true;
-                } else if (valueExpression.equals("false")) {
-                    value = false;
-                } else {
-                    try {
-                        value = NumberUtils.parseNumber(valueExpression, Integer.class);
-                    } catch (IllegalArgumentException e) {
-                        value = valueExpression;
-                    }
-                }
-
                 try {
-                    documentContext.set(jsonPathExpression, value);
+                    documentContext.set(jsonPathExpression, getJsonValue(valueExpression));
                 } catch (PathNotFoundException e) {
                     if (!ignoreNotFound) {
                         throw new UnknownElementException(String.format("Could not find element for expression: %s", jsonPathExpression), e);
@@ -121,6 +108,25 @@ public class JsonPathMessageConstructionInterceptor extends AbstractMessageConst
         return message;
     }
 
+    /**
+     * Converts value expression to Json boolean, number or String value.
+     * @param valueExpression
+     * @return
+     */
+    public static Object getJsonValue(String valueExpression) {
+        if (valueExpression.equals("true")) {
+            return true;
+        } else if (valueExpression.equals("false")) {
+            return false;
+        } else {
+            try {
+                return NumberUtils.parseNumber(valueExpression, Integer.class);
+            } catch (IllegalArgumentException e) {
+                return valueExpression;
+            }
+        }
+    }
+
     @Override
     public boolean supportsMessageType(String messageType) {
         return MessageType.JSON.toString().equalsIgnoreCase(messageType);
@@ -22,6 +22,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadUtils;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
@@ -308,9 +309,8 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             return false;
         }
 
-        if (StringUtils.hasText(message.getPayload(String.class)) &&
-                !message.getPayload(String.class).trim().startsWith("{") &&
-                !message.getPayload(String.class).trim().startsWith("[")) {
+        String payload = message.getPayload(String.class);
+        if (StringUtils.hasText(payload) && !MessagePayloadUtils.isJson(payload)) {
             return false;
         }
 
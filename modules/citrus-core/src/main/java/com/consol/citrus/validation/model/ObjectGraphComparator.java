@@ -0,0 +1,355 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.model;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Compares expected and actual object graphs field by field and collects all differences. Simple values are compared
+ * with equals, String values of the expected graph support test variables and validation matcher expressions. Paths
+ * use dot notation for fields and map keys and brackets for list and array indices (e.g. order.items[0].name).
+ * Ignore paths may use '*' as wildcard for a single path segment and '[*]' for any index.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ObjectGraphComparator {
+
+    /** Paths excluded from comparison */
+    private final List<Pattern> ignorePatterns = new ArrayList<>();
+
+    /** Explicit control values and matchers per path */
+    private final Map<String, Object> controlValues;
+
+    /**
+     * Constructor using ignore paths and explicit control values.
+     * @param ignorePaths
+     * @param controlValues
+     */
+    public ObjectGraphComparator(Collection<String> ignorePaths, Map<String, Object> controlValues) {
+        for (String ignorePath : ignorePaths) {
+            ignorePatterns.add(Pattern.compile(Pattern.quote(ignorePath)
+                    .replace("[*]", "\\E\\[\\d+\\]\\Q")
+                    .replace("*", "\\E[^.\\[]+\\Q")));
+        }
+
+        this.controlValues = controlValues;
+    }
+
+    /**
+     * Validates actual object graph against expected object graph. Raises validation exception listing all differences.
+     * @param expected
+     * @param actual
+     * @param context
+     */
+    public void validate(Object expected, Object actual, TestContext context) {
+        List<String> differences = compare(expected, actual, context);
+
+        if (!differences.isEmpty()) {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Object graph validation failed with %s difference(s):", differences.size()));
+            for (String difference : differences) {
+                report.append(System.lineSeparator()).append("  - ").append(difference);
+            }
+
+            throw new ValidationException(report.toString());
+        }
+    }
+
+    /**
+     * Compares actual object graph with expected object graph and gets list of differences.
+     * @param expected
+     * @param actual
+     * @param context
+     * @return
+     */
+    public List<String> compare(Object expected, Object actual, TestContext context) {
+        List<String> differences = new ArrayList<>();
+
+        for (Map.Entry<String, Object> controlValue : controlValues.entrySet()) {
+            if (!ignored(controlValue.getKey())) {
+                Object expectedValue = controlValue.getValue();
+                if (expectedValue instanceof String && !ValidationMatcherUtils.isValidationMatcherExpression((String) expectedValue)) {
+                    expectedValue = context.replaceDynamicContentInString((String) expectedValue);
+                }
+
+                try {
+                    ValidationUtils.validateValues(resolve(actual, controlValue.getKey()), expectedValue, controlValue.getKey(), context);
+                } catch (ValidationException e) {
+                    differences.add(getErrorMessage(e));
+                }
+            }
+        }
+
+        compare(expected, actual, "", context, differences, new IdentityHashMap<>());
+        return differences;
+    }
+
+    /**
+     * Recursively compares objects and adds differences.
+     * @param expected
+     * @param actual
+     * @param path
+     * @param context
+     * @param differences
+     * @param visited
+     */
+    private void compare(Object expected, Object actual, String path, TestContext context, List<String> differences, Map<Object, Object> visited) {
+        if (ignored(path) || controlValues.containsKey(path)) {
+            return;
+        }
+
+        if (expected instanceof String && ValidationMatcherUtils.isValidationMatcherExpression((String) expected)) {
+            try {
+                ValidationMatcherUtils.resolveValidationMatcher(displayPath(path), actual != null ? actual.toString() : null, (String) expected, context);
+            } catch (ValidationException e) {
+                differences.add(getErrorMessage(e));
+            }
+            return;
+        }
+
+        if (expected == null || actual == null) {
+            if (expected != actual) {
+                differences.add(mismatch(path, expected, actual));
+            }
+            return;
+        }
+
+        if (expected instanceof String) {
+            String expectedValue = context.replaceDynamicContentInString((String) expected);
+            if (!expectedValue.equals(actual.toString())) {
+                differences.add(mismatch(path, expectedValue, actual));
+            }
+            return;
+        }
+
+        if (isSimpleValue(expected.getClass())) {
+            if (!simpleValueEquals(expected, actual)) {
+                differences.add(mismatch(path, expected, actual));
+            }
+            return;
+        }
+
+        if (visited.get(expected) == actual) {
+            return;
+        }
+        visited.put(expected, actual);
+
+        if (expected.getClass().isArray() && actual.getClass().isArray()) {
+            compareLists(arrayToList(expected), arrayToList(actual), path, context, differences, visited);
+        } else if (expected instanceof List && actual instanceof List) {
+            compareLists((List<?>) expected, (List<?>) actual, path, context, differences, visited);
+        } else if (expected instanceof Collection && actual instanceof Collection) {
+            compareCollections((Collection<?>) expected, (Collection<?>) actual, path, context, differences);
+        } else if (expected instanceof Map && actual instanceof Map) {
+            compareMaps((Map<?, ?>) expected, (Map<?, ?>) actual, path, context, differences, visited);
+        } else if (!expected.getClass().isAssignableFrom(actual.getClass())) {
+            differences.add(String.format("Type mismatch for element '%s', expected '%s' but was '%s'",
+                    displayPath(path), expected.getClass().getName(), actual.getClass().getName()));
+        } else {
+            ReflectionUtils.doWithFields(expected.getClass(), field -> {
+                ReflectionUtils.makeAccessible(field);
+                compare(field.get(expected), field.get(actual), childPath(path, field.getName()), context, differences, visited);
+            }, this::isComparedField);
+        }
+    }
+
+    /**
+     * Compares list elements by index.
+     */
+    private void compareLists(List<?> expected, List<?> actual, String path, TestContext context, List<String> differences, Map<Object, Object> visited) {
+        if (expected.size() != actual.size()) {
+            differences.add(String.format("Number of elements not equal for element '%s', expected '%s' but was '%s'",
+                    displayPath(path), expected.size(), actual.size()));
+        }
+
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            compare(expected.get(i), actual.get(i), path + "[" + i + "]", context, differences, visited);
+        }
+    }
+
+    /**
+     * Compares unordered collections. Each expected element must match some actual element.
+     */
+    private void compareCollections(Collection<?> expected, Collection<?> actual, String path, TestContext context, List<String> differences) {
+        if (expected.size() != actual.size()) {
+            differences.add(String.format("Number of elements not equal for element '%s', expected '%s' but was '%s'",
+                    displayPath(path), expected.size(), actual.size()));
+        }
+
+        List<Object> candidates = new ArrayList<>(actual);
+        for (Object expectedItem : expected) {
+            Optional<Object> match = candidates.stream()
+                    .filter(candidate -> {
+                        List<String> itemDifferences = new ArrayList<>();
+                        compare(expectedItem, candidate, path, context, itemDifferences, new IdentityHashMap<>());
+                        return itemDifferences.isEmpty();
+                    })
+                    .findFirst();
+
+            if (match.isPresent()) {
+                candidates.remove(match.get());
+            } else {
+                differences.add(String.format("Missing element in collection '%s', expected '%s'", displayPath(path), expectedItem));
+            }
+        }
+    }
+
+    /**
+     * Compares map entries by key.
+     */
+    private void compareMaps(Map<?, ?> expected, Map<?, ?> actual, String path, TestContext context, List<String> differences, Map<Object, Object> visited) {
+        for (Map.Entry<?, ?> entry : expected.entrySet()) {
+            String entryPath = childPath(path, String.valueOf(entry.getKey()));
+            if (!actual.containsKey(entry.getKey())) {
+                if (!ignored(entryPath)) {
+                    differences.add(String.format("Missing element '%s', expected '%s'", displayPath(entryPath), entry.getValue()));
+                }
+            } else {
+                compare(entry.getValue(), actual.get(entry.getKey()), entryPath, context, differences, visited);
+            }
+        }
+
+        for (Map.Entry<?, ?> entry : actual.entrySet()) {
+            String entryPath = childPath(path, String.valueOf(entry.getKey()));
+            if (!expected.containsKey(entry.getKey()) && !ignored(entryPath)) {
+                differences.add(String.format("Unexpected element '%s' with value '%s'", displayPath(entryPath), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Resolves value in actual object graph for given path. Returns null if path does not exist.
+     * @param root
+     * @param path
+     * @return
+     */
+    private Object resolve(Object root, String path) {
+        Object current = root;
+        for (String segment : path.replace("[", ".[").split("\\.")) {
+            if (current == null) {
+                return null;
+            }
+
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            if (segment.startsWith("[") && segment.endsWith("]")) {
+                int index = Integer.parseInt(segment.substring(1, segment.length() - 1));
+                List<?> list = current.getClass().isArray() ? arrayToList(current) : current instanceof List ? (List<?>) current : Collections.emptyList();
+                current = index < list.size() ? list.get(index) : null;
+            } else if (current instanceof Map) {
+                current = ((Map<?, ?>) current).get(segment);
+            } else {
+                Field field = ReflectionUtils.findField(current.getClass(), segment);
+                if (field == null) {
+                    return null;
+                }
+
+                ReflectionUtils.makeAccessible(field);
+                current = ReflectionUtils.getField(field, current);
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Checks if path is ignored.
+     * @param path
+     * @return
+     */
+    private boolean ignored(String path) {
+        for (Pattern ignorePattern : ignorePatterns) {
+            if (ignorePattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Only compare instance fields that are part of the object state.
+     * @param field
+     * @return
+     */
+    private boolean isComparedField(Field field) {
+        return !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic();
+    }
+
+    /**
+     * Checks if type is compared as simple value with equals.
+     * @param type
+     * @return
+     */
+    private boolean isSimpleValue(Class<?> type) {
+        return BeanUtils.isSimpleValueType(type) || type.getName().startsWith("java.time.") ||
+                UUID.class.equals(type) || javax.xml.datatype.XMLGregorianCalendar.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Compares simple values. Big decimal values are compared regardless of scale.
+     * @param expected
+     * @param actual
+     * @return
+     */
+    private boolean simpleValueEquals(Object expected, Object actual) {
+        if (expected instanceof BigDecimal && actual instanceof BigDecimal) {
+            return ((BigDecimal) expected).compareTo((BigDecimal) actual) == 0;
+        }
+
+        return expected.equals(actual);
+    }
+
+    private static List<Object> arrayToList(Object array) {
+        List<Object> list = new ArrayList<>(Array.getLength(array));
+        for (int i = 0; i < Array.getLength(array); i++) {
+            list.add(Array.get(array, i));
+        }
+        return list;
+    }
+
+    private static String childPath(String path, String name) {
+        return path.isEmpty() ? name : path + "." + name;
+    }
+
+    private static String displayPath(String path) {
+        return path.isEmpty() ? "<root>" : path;
+    }
+
+    private static String mismatch(String path, Object expected, Object actual) {
+        return ValidationUtils.buildValueMismatchErrorMessage("Values not equal for element '" + displayPath(path) + "'", expected, actual);
+    }
+
+    private static String getErrorMessage(ValidationException e) {
+        return e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.model;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.AbstractMessageValidator;
+import org.springframework.util.Assert;
+import org.springframework.xml.transform.StringSource;
+
+import javax.xml.transform.Source;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Message validator compares object graphs instead of serialized message content. Received message payload is
+ * unmarshalled once into the type of the expected model object and both object graphs are compared field by field.
+ * All differences are collected in a single validation report.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ObjectGraphMessageValidator extends AbstractMessageValidator<ObjectGraphValidationContext> {
+
+    @Override
+    public void validateMessage(Message receivedMessage, Message controlMessage, TestContext context, ObjectGraphValidationContext validationContext) {
+        Assert.notNull(validationContext.getControlModel(), "Missing control model object for object graph validation");
+
+        log.debug("Start object graph validation ...");
+
+        Object receivedModel = readModel(receivedMessage, validationContext);
+        new ObjectGraphComparator(validationContext.getIgnoreExpressions(), validationContext.getControlValues())
+                .validate(validationContext.getControlModel(), receivedModel, context);
+
+        log.info("Object graph validation successful: All values OK");
+    }
+
+    /**
+     * Reads received message payload as model object. Payloads that already are of the expected model type are
+     * used as is.
+     * @param message
+     * @param validationContext
+     * @return
+     */
+    private Object readModel(Message message, ObjectGraphValidationContext validationContext) {
+        Class<?> modelType = validationContext.getControlModel().getClass();
+        if (modelType.isInstance(message.getPayload())) {
+            return message.getPayload();
+        }
+
+        try {
+            if (validationContext.getObjectMapper() != null) {
+                return validationContext.getObjectMapper().readValue(message.getPayload(String.class), getReadType(modelType));
+            } else if (validationContext.getUnmarshaller() != null) {
+                Source source = message.getPayload() instanceof Source ? (Source) message.getPayload() : new StringSource(message.getPayload(String.class));
+                return validationContext.getUnmarshaller().unmarshal(source);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to unmarshal message payload", e);
+        }
+
+        throw new CitrusRuntimeException("Object graph validation requires object mapper or unmarshaller to read received message payload");
+    }
+
+    /**
+     * Gets type to read Json payload with. Map and collection models are read with their generic interface type as
+     * model implementation types such as unmodifiable or singleton collections can not be instantiated.
+     * @param modelType
+     * @return
+     */
+    private Class<?> getReadType(Class<?> modelType) {
+        if (Map.class.isAssignableFrom(modelType)) {
+            return Map.class;
+        } else if (List.class.isAssignableFrom(modelType)) {
+            return List.class;
+        } else if (Set.class.isAssignableFrom(modelType)) {
+            return Set.class;
+        }
+
+        return modelType;
+    }
+
+    @Override
+    protected Class<ObjectGraphValidationContext> getRequiredValidationContextType() {
+        return ObjectGraphValidationContext.class;
+    }
+
+    @Override
+    public boolean supportsMessageType(String messageType, Message message) {
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.model;
+
+import com.consol.citrus.validation.context.DefaultValidationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.oxm.Unmarshaller;
+
+import java.util.*;
+
+/**
+ * Validation context holding the expected model object for object graph validation. Received message payload is
+ * unmarshalled once into the model type, either with Json object mapper or with Xml unmarshaller, and compared to
+ * the expected model object field by field.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ObjectGraphValidationContext extends DefaultValidationContext {
+
+    /** Expected model object */
+    private Object controlModel;
+
+    /** Json object mapper used to read received payload */
+    private ObjectMapper objectMapper;
+
+    /** Xml unmarshaller used to read received payload */
+    private Unmarshaller unmarshaller;
+
+    /** Model paths ignored in validation */
+    private Set<String> ignoreExpressions = new LinkedHashSet<>();
+
+    /** Explicit control values and validation matchers per model path */
+    private Map<String, Object> controlValues = new LinkedHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public ObjectGraphValidationContext() {
+        super();
+    }
+
+    /**
+     * Constructor using expected model and Json object mapper.
+     * @param controlModel
+     * @param objectMapper
+     */
+    public ObjectGraphValidationContext(Object controlModel, ObjectMapper objectMapper) {
+        this.controlModel = controlModel;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Constructor using expected model and Xml unmarshaller.
+     * @param controlModel
+     * @param unmarshaller
+     */
+    public ObjectGraphValidationContext(Object controlModel, Unmarshaller unmarshaller) {
+        this.controlModel = controlModel;
+        this.unmarshaller = unmarshaller;
+    }
+
+    /**
+     * Gets the controlModel.
+     *
+     * @return
+     */
+    public Object getControlModel() {
+        return controlModel;
+    }
+
+    /**
+     * Sets the controlModel.
+     *
+     * @param controlModel
+     */
+    public void setControlModel(Object controlModel) {
+        this.controlModel = controlModel;
+    }
+
+    /**
+     * Gets the objectMapper.
+     *
+     * @return
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Sets the objectMapper.
+     *
+     * @param objectMapper
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Gets the unmarshaller.
+     *
+     * @return
+     */
+    public Unmarshaller getUnmarshaller() {
+        return unmarshaller;
+    }
+
+    /**
+     * Sets the unmarshaller.
+     *
+     * @param unmarshaller
+     */
+    public void setUnmarshaller(Unmarshaller unmarshaller) {
+        this.unmarshaller = unmarshaller;
+    }
+
+    /**
+     * Gets the ignoreExpressions.
+     *
+     * @return
+     */
+    public Set<String> getIgnoreExpressions() {
+        return ignoreExpressions;
+    }
+
+    /**
+     * Sets the ignoreExpressions.
+     *
+     * @param ignoreExpressions
+     */
+    public void setIgnoreExpressions(Set<String> ignoreExpressions) {
+        this.ignoreExpressions = ignoreExpressions;
+    }
+
+    /**
+     * Gets the controlValues.
+     *
+     * @return
+     */
+    public Map<String, Object> getControlValues() {
+        return controlValues;
+    }
+
+    /**
+     * Sets the controlValues.
+     *
+     * @param controlValues
+     */
+    public void setControlValues(Map<String, Object> controlValues) {
+        this.controlValues = controlValues;
+    }
+}
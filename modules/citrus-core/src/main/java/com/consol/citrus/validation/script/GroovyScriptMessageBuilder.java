@@ -19,9 +19,9 @@ package com.consol.citrus.validation.script;
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.builder.AbstractMessageContentBuilder;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.springframework.core.io.ClassPathResource;
@@ -78,11 +78,9 @@ public class GroovyScriptMessageBuilder extends AbstractMessageContentBuilder {
     private String buildMarkupBuilderScript(String scriptData) {
         try {
             ClassLoader parent = GroovyScriptMessageBuilder.class.getClassLoader(); 
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-            
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+            Class<?> groovyClass = GroovyScriptCache.getDefault().parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
                                                             .withCode(scriptData)
-                                                            .build());
+                                                            .build(), parent);
             
             if (groovyClass == null) {
                 throw new CitrusRuntimeException("Could not load groovy script!");    
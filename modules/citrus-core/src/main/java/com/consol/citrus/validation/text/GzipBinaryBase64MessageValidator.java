@@ -21,11 +21,12 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.util.GzipUtils;
 import com.consol.citrus.validation.context.ValidationContext;
 import org.springframework.util.StreamUtils;
 
-import java.io.*;
-import java.util.zip.GZIPInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Message validator automatically converts received binary data message payload to base64 String. Assumes control
@@ -39,13 +40,8 @@ public class GzipBinaryBase64MessageValidator extends BinaryBase64MessageValidat
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, ValidationContext validationContext) throws ValidationException {
         if (receivedMessage.getPayload() instanceof byte[]) {
-            try (GZIPInputStream gzipInputStream = new GZIPInputStream(receivedMessage.getPayload(InputStream.class));
-                 ByteArrayOutputStream unzipped = new ByteArrayOutputStream()) {
-                StreamUtils.copy(gzipInputStream, unzipped);
-                receivedMessage.setPayload(unzipped.toByteArray());
-
-                unzipped.close();
-                gzipInputStream.close();
+            try (InputStream gzipInputStream = GzipUtils.getDecompressingStream(receivedMessage.getPayload(InputStream.class))) {
+                receivedMessage.setPayload(StreamUtils.copyToByteArray(gzipInputStream));
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to validate gzipped message", e);
             }
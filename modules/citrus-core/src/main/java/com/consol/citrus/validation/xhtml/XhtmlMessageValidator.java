@@ -21,7 +21,6 @@ import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.validation.xml.DomXmlMessageValidator;
 import com.consol.citrus.validation.xml.XmlMessageValidationContext;
-import org.springframework.beans.factory.InitializingBean;
 
 /**
  * XHTML message validator using W3C jtidy to automatically convert HTML content to XHTML fixing most common
@@ -29,7 +28,7 @@ import org.springframework.beans.factory.InitializingBean;
  * 
  * @author Christoph Deppisch
  */
-public class XhtmlMessageValidator extends DomXmlMessageValidator implements InitializingBean {
+public class XhtmlMessageValidator extends DomXmlMessageValidator {
 
     /** Message converter for XHTML content */
     private XhtmlMessageConverter messageConverter = new XhtmlMessageConverter();
@@ -50,11 +49,6 @@ public class XhtmlMessageValidator extends DomXmlMessageValidator implements Ini
                 && messageType.equalsIgnoreCase(MessageType.XHTML.name());
     }
 
-    @Override
-    public void afterPropertiesSet() throws Exception {
-        messageConverter.initialize();
-    }
-
     /**
      * Sets the messageConverter property.
      *
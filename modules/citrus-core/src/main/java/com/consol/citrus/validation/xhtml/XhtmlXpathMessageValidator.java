@@ -20,13 +20,12 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.validation.xml.*;
-import org.springframework.beans.factory.InitializingBean;
 
 /**
  * @author Christoph Deppisch
  * @since 2.6
  */
-public class XhtmlXpathMessageValidator extends XpathMessageValidator implements InitializingBean {
+public class XhtmlXpathMessageValidator extends XpathMessageValidator {
 
     /** Message converter for XHTML content */
     private XhtmlMessageConverter messageConverter = new XhtmlMessageConverter();
@@ -46,11 +45,6 @@ public class XhtmlXpathMessageValidator extends XpathMessageValidator implements
         return messageType.equalsIgnoreCase(MessageType.XHTML.name());
     }
 
-    @Override
-    public void afterPropertiesSet() throws Exception {
-        messageConverter.initialize();
-    }
-
     /**
      * Sets the messageConverter property.
      *
@@ -281,32 +281,34 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         log.info("XML namespace validation successful: All values OK");
     }
 
-    private void doElementNameValidation(Node received, Node source) {
+    private boolean doElementNameValidation(Node received, Node source, XmlTreeDiff diff) {
         //validate element name
         if (log.isDebugEnabled()) {
             log.debug("Validating element: " + received.getLocalName() + " (" + received.getNamespaceURI() + ")");
         }
 
-        Assert.isTrue(received.getLocalName().equals(source.getLocalName()),
+        return diff.check(received.getLocalName().equals(source.getLocalName()),
                 ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
     }
 
-    private void doElementNamespaceValidation(Node received, Node source) {
+    private void doElementNamespaceValidation(Node received, Node source, XmlTreeDiff diff) {
         //validate element namespace
         if (log.isDebugEnabled()) {
             log.debug("Validating namespace for element: " + received.getLocalName());
         }
 
         if (received.getNamespaceURI() != null) {
-            Assert.isTrue(source.getNamespaceURI() != null,
+            if (!diff.check(source.getNamespaceURI() != null,
                     ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
-                        received.getLocalName() + "'", null, received.getNamespaceURI()));
+                        received.getLocalName() + "'", null, received.getNamespaceURI()))) {
+                return;
+            }
 
-            Assert.isTrue(received.getNamespaceURI().equals(source.getNamespaceURI()),
+            diff.check(received.getNamespaceURI().equals(source.getNamespaceURI()),
                     ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
                     received.getLocalName() + "'", source.getNamespaceURI(), received.getNamespaceURI()));
         } else {
-            Assert.isTrue(source.getNamespaceURI() == null,
+            diff.check(source.getNamespaceURI() == null,
                     ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
                     received.getLocalName() + "'", source.getNamespaceURI(), null));
         }
@@ -355,8 +357,10 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control message:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, namespaceContextBuilder.buildContext(
+        XmlTreeDiff diff = new XmlTreeDiff(received, validationContext, namespaceContextBuilder.buildContext(
                 receivedMessage, validationContext.getNamespaces()), context);
+        validateXmlTree(received, source, diff);
+        diff.verify();
     }
     
     /**
@@ -381,9 +385,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control header data:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, 
+        XmlTreeDiff diff = new XmlTreeDiff(received, validationContext,
                 namespaceContextBuilder.buildContext(new DefaultMessage(receivedHeaderData), validationContext.getNamespaces()),
                 context);
+        validateXmlTree(received, source, diff);
+        diff.verify();
     }
 
     /**
@@ -391,26 +397,23 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      *
      * @param received
      * @param source
-     * @param validationContext
+     * @param diff
      */
-    private void validateXmlTree(Node received, Node source, 
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+    private void validateXmlTree(Node received, Node source, XmlTreeDiff diff) {
         switch(received.getNodeType()) {
             case Node.DOCUMENT_TYPE_NODE:
-                doDocumentTypeDefinition(received, source, validationContext, namespaceContext, context);
+                doDocumentTypeDefinition(received, source, diff);
                 break;
             case Node.DOCUMENT_NODE:
-                validateXmlTree(received.getFirstChild(), source.getFirstChild(),
-                        validationContext, namespaceContext, context);
+                validateXmlTree(received.getFirstChild(), source.getFirstChild(), diff);
                 break;
             case Node.ELEMENT_NODE:
-                doElement(received, source, validationContext, namespaceContext, context);
+                doElement(received, source, diff);
                 break;
             case Node.ATTRIBUTE_NODE:
                 throw new IllegalStateException();
             case Node.COMMENT_NODE:
-                validateXmlTree(received.getNextSibling(), source,
-                        validationContext, namespaceContext, context);
+                validateXmlTree(received.getNextSibling(), source, diff);
                 break;
             case Node.PROCESSING_INSTRUCTION_NODE:
                 doPI(received);
@@ -422,14 +425,13 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * Handle document type definition with validation of publicId and systemId.
      * @param received
      * @param source
-     * @param validationContext
-     * @param namespaceContext
+     * @param diff
      */
-    private void doDocumentTypeDefinition(Node received, Node source,
-            XmlMessageValidationContext validationContext,
-            NamespaceContext namespaceContext, TestContext context) {
+    private void doDocumentTypeDefinition(Node received, Node source, XmlTreeDiff diff) {
 
-        Assert.isTrue(source instanceof DocumentType, "Missing document type definition in expected xml fragment");
+        if (!diff.check(source instanceof DocumentType, "Missing document type definition in expected xml fragment")) {
+            return;
+        }
 
         DocumentType receivedDTD = (DocumentType) received;
         DocumentType sourceDTD = (DocumentType) source;
@@ -440,7 +442,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         if (!StringUtils.hasText(sourceDTD.getPublicId())) {
-            Assert.isNull(receivedDTD.getPublicId(),
+            diff.check(receivedDTD.getPublicId() == null,
                     ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
                     sourceDTD.getPublicId(), receivedDTD.getPublicId()));
         } else if (sourceDTD.getPublicId().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
@@ -449,14 +451,14 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         "' is ignored by placeholder '" + Citrus.IGNORE_PLACEHOLDER + "'");
             }
         } else {
-            Assert.isTrue(StringUtils.hasText(receivedDTD.getPublicId()) &&
+            diff.check(StringUtils.hasText(receivedDTD.getPublicId()) &&
                     receivedDTD.getPublicId().equals(sourceDTD.getPublicId()),
                     ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
                     sourceDTD.getPublicId(), receivedDTD.getPublicId()));
         }
 
         if (!StringUtils.hasText(sourceDTD.getSystemId())) {
-            Assert.isNull(receivedDTD.getSystemId(),
+            diff.check(receivedDTD.getSystemId() == null,
                     ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
                     sourceDTD.getSystemId(), receivedDTD.getSystemId()));
         } else if (sourceDTD.getSystemId().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
@@ -465,32 +467,33 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         "' is ignored by placeholder '" + Citrus.IGNORE_PLACEHOLDER + "'");
             }
         } else {
-            Assert.isTrue(StringUtils.hasText(receivedDTD.getSystemId()) &&
+            diff.check(StringUtils.hasText(receivedDTD.getSystemId()) &&
                     receivedDTD.getSystemId().equals(sourceDTD.getSystemId()),
                     ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
                     sourceDTD.getSystemId(), receivedDTD.getSystemId()));
         }
 
-        validateXmlTree(received.getNextSibling(),
-                source.getNextSibling(), validationContext, namespaceContext, context);
+        validateXmlTree(received.getNextSibling(), source.getNextSibling(), diff);
     }
 
     /**
-     * Handle element node.
+     * Handle element node. Bails out of the element subtree when element names or the number of child elements
+     * differ as the remaining nodes can not be compared reasonably.
      *
      * @param received
      * @param source
-     * @param validationContext
+     * @param diff
      */
-    private void doElement(Node received, Node source,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+    private void doElement(Node received, Node source, XmlTreeDiff diff) {
 
-        doElementNameValidation(received, source);
+        if (!doElementNameValidation(received, source, diff)) {
+            return;
+        }
 
-        doElementNamespaceValidation(received, source);
+        doElementNamespaceValidation(received, source, diff);
 
         //check if element is ignored either by xpath or by ignore placeholder in source message
-        if (XmlValidationUtils.isElementIgnored(source, received, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isElementIgnored(source, received, diff.ignoredNodes)) {
             return;
         }
 
@@ -501,36 +504,36 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         NamedNodeMap receivedAttr = received.getAttributes();
         NamedNodeMap sourceAttr = source.getAttributes();
 
-        Assert.isTrue(countAttributes(receivedAttr) == countAttributes(sourceAttr),
+        diff.check(countAttributes(receivedAttr) == countAttributes(sourceAttr),
                 ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
                         + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
 
         for (int i = 0; i < receivedAttr.getLength(); i++) {
-            doAttribute(received, receivedAttr.item(i), source, validationContext, namespaceContext, context);
+            doAttribute(received, receivedAttr.item(i), source, diff);
         }
 
         //check if validation matcher on element is specified
         if (isValidationMatcherExpression(source)) {
-            ValidationMatcherUtils.resolveValidationMatcher(source.getNodeName(),
+            diff.resolveValidationMatcher(source.getNodeName(),
                     received.getFirstChild().getNodeValue().trim(),
-                    source.getFirstChild().getNodeValue().trim(),
-                    context);
+                    source.getFirstChild().getNodeValue().trim());
             return;
         }
 
-        doText((Element) received, (Element) source);
+        doText((Element) received, (Element) source, diff);
 
         //work on child nodes
         List<Element> receivedChildElements = DomUtils.getChildElements((Element) received);
         List<Element> sourceChildElements = DomUtils.getChildElements((Element) source);
 
-        Assert.isTrue(receivedChildElements.size() == sourceChildElements.size(),
+        if (!diff.check(receivedChildElements.size() == sourceChildElements.size(),
                 ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
-                    + received.getLocalName() + "'", sourceChildElements.size(), receivedChildElements.size()));
+                    + received.getLocalName() + "'", sourceChildElements.size(), receivedChildElements.size()))) {
+            return;
+        }
 
         for (int i = 0; i < receivedChildElements.size(); i++) {
-            this.validateXmlTree(receivedChildElements.get(i), sourceChildElements.get(i),
-                    validationContext, namespaceContext, context);
+            this.validateXmlTree(receivedChildElements.get(i), sourceChildElements.get(i), diff);
         }
 
         if (log.isDebugEnabled()) {
@@ -544,8 +547,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      *
      * @param received
      * @param source
+     * @param diff
      */
-    private void doText(Element received, Element source) {
+    private void doText(Element received, Element source, XmlTreeDiff diff) {
         if (log.isDebugEnabled()) {
             log.debug("Validating node value for element: " + received.getLocalName());
         }
@@ -554,18 +558,23 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         String sourceText = DomUtils.getTextValue(source);
 
         if (receivedText != null) {
-            Assert.isTrue(sourceText != null,
+            if (!diff.check(sourceText != null,
                     ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
-                            + received.getLocalName() + "'", null, receivedText.trim()));
+                            + received.getLocalName() + "'", null, receivedText.trim()))) {
+                return;
+            }
 
-            Assert.isTrue(receivedText.trim().equals(sourceText.trim()),
+            if (!diff.check(receivedText.trim().equals(sourceText.trim()),
                     ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
                             + received.getLocalName() + "'", sourceText.trim(),
-                            receivedText.trim()));
+                            receivedText.trim()))) {
+                return;
+            }
         } else {
-            Assert.isTrue(sourceText == null,
+            diff.check(sourceText == null,
                     ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
-                            + received.getLocalName() + "'", sourceText.trim(), null));
+                            + received.getLocalName() + "'", sourceText != null ? sourceText.trim() : null, null));
+            return;
         }
 
         if (log.isDebugEnabled()) {
@@ -579,10 +588,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param receivedElement
      * @param receivedAttribute
      * @param sourceElement
-     * @param validationContext
+     * @param diff
      */
-    private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+    private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement, XmlTreeDiff diff) {
         if (receivedAttribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) { return; }
 
         String receivedAttributeName = receivedAttribute.getLocalName();
@@ -594,28 +602,29 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         NamedNodeMap sourceAttributes = sourceElement.getAttributes();
         Node sourceAttribute = sourceAttributes.getNamedItemNS(receivedAttribute.getNamespaceURI(), receivedAttributeName);
 
-        Assert.isTrue(sourceAttribute != null,
+        if (!diff.check(sourceAttribute != null,
                 "Attribute validation failed for element '"
                         + receivedElement.getLocalName() + "', unknown attribute "
-                        + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
+                        + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")")) {
+            return;
+        }
 
-        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isAttributeIgnored(receivedAttribute, sourceAttribute, diff.ignoredNodes)) {
             return;
         }
 
         String receivedValue = receivedAttribute.getNodeValue();
         String sourceValue = sourceAttribute.getNodeValue();
         if (isValidationMatcherExpression(sourceAttribute)) {
-            ValidationMatcherUtils.resolveValidationMatcher(sourceAttribute.getNodeName(),
+            diff.resolveValidationMatcher(sourceAttribute.getNodeName(),
                     receivedAttribute.getNodeValue().trim(),
-                    sourceAttribute.getNodeValue().trim(),
-                    context);
+                    sourceAttribute.getNodeValue().trim());
         } else if (receivedValue.contains(":") && sourceValue.contains(":")) {
-            doNamespaceQualifiedAttributeValidation(receivedElement, receivedAttribute, sourceElement, sourceAttribute);
-        } else {
-            Assert.isTrue(receivedValue.equals(sourceValue),
+            doNamespaceQualifiedAttributeValidation(receivedElement, receivedAttribute, sourceElement, sourceAttribute, diff);
+        } else if (!diff.check(receivedValue.equals(sourceValue),
                     ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
-                            + receivedAttributeName + "'", sourceValue, receivedValue));
+                            + receivedAttributeName + "'", sourceValue, receivedValue))) {
+            return;
         }
 
         if (log.isDebugEnabled()) {
@@ -630,8 +639,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param receivedAttribute
      * @param sourceElement
      * @param sourceAttribute
+     * @param diff
      */
-    private void doNamespaceQualifiedAttributeValidation(Node receivedElement, Node receivedAttribute, Node sourceElement, Node sourceAttribute) {
+    private void doNamespaceQualifiedAttributeValidation(Node receivedElement, Node receivedAttribute, Node sourceElement, Node sourceAttribute, XmlTreeDiff diff) {
         String receivedValue = receivedAttribute.getNodeValue();
         String sourceValue = sourceAttribute.getNodeValue();
 
@@ -648,21 +658,24 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 sourceNamespaces.putAll(XMLUtils.lookupNamespaces(sourceElement));
 
                 if (sourceNamespaces.containsKey(sourcePrefix)) {
-                    Assert.isTrue(sourceNamespaces.get(sourcePrefix).equals(receivedNamespaces.get(receivedPrefix)),
+                    if (!diff.check(sourceNamespaces.get(sourcePrefix).equals(receivedNamespaces.get(receivedPrefix)),
                             ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
-                                    + receivedValue + "'", sourceNamespaces.get(sourcePrefix), receivedNamespaces.get(receivedPrefix)));
+                                    + receivedValue + "'", sourceNamespaces.get(sourcePrefix), receivedNamespaces.get(receivedPrefix)))) {
+                        return;
+                    }
 
                     // remove namespace prefixes as they must not form equality
                     receivedValue = receivedValue.substring((receivedPrefix + ":").length());
                     sourceValue = sourceValue.substring((sourcePrefix + ":").length());
                 } else {
-                    throw new ValidationException("Received attribute value '" + receivedAttribute.getLocalName() + "' describes namespace qualified attribute value," +
-                            " control value '" + sourceValue + "' does not");
+                    diff.mismatch(new ValidationException("Received attribute value '" + receivedAttribute.getLocalName() + "' describes namespace qualified attribute value," +
+                            " control value '" + sourceValue + "' does not"));
+                    return;
                 }
             }
         }
 
-        Assert.isTrue(receivedValue.equals(sourceValue),
+        diff.check(receivedValue.equals(sourceValue),
                 ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
                         + receivedAttribute.getLocalName() + "'", sourceValue, receivedValue));
     }
@@ -730,8 +743,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             return false;
         }
 
-        if (StringUtils.hasText(message.getPayload(String.class)) &&
-                !message.getPayload(String.class).trim().startsWith("<")) {
+        String payload = message.getPayload(String.class);
+        if (StringUtils.hasText(payload) && !MessagePayloadUtils.isXml(payload)) {
             return false;
         }
 
@@ -756,4 +769,79 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
+
+    /**
+     * Collects mismatches while walking the XML tree. Ignore expressions are resolved once on the received document
+     * so ignored nodes are identified by identity lookup. In fail fast mode the first mismatch is raised immediately,
+     * otherwise all mismatches are collected and reported together when the walk is done.
+     */
+    private static final class XmlTreeDiff {
+        private final TestContext context;
+        private final boolean failFast;
+        private final Set<Node> ignoredNodes;
+        private final List<RuntimeException> mismatches = new ArrayList<>();
+
+        XmlTreeDiff(Document received, XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            this.context = context;
+            this.failFast = validationContext.isFailFast();
+            this.ignoredNodes = XmlValidationUtils.resolveIgnoredNodes(received, validationContext.getIgnoreExpressions(), namespaceContext);
+        }
+
+        /**
+         * Checks given condition and records a mismatch with given message if condition is not met.
+         * @param condition
+         * @param message
+         * @return the condition result
+         */
+        boolean check(boolean condition, String message) {
+            if (!condition) {
+                mismatch(new IllegalArgumentException(message));
+            }
+
+            return condition;
+        }
+
+        /**
+         * Runs validation matcher and records its validation error as mismatch.
+         * @param fieldName
+         * @param value
+         * @param control
+         */
+        void resolveValidationMatcher(String fieldName, String value, String control) {
+            try {
+                ValidationMatcherUtils.resolveValidationMatcher(fieldName, value, control, context);
+            } catch (ValidationException e) {
+                mismatch(e);
+            }
+        }
+
+        /**
+         * Records mismatch or raises it right away in fail fast mode.
+         * @param error
+         */
+        void mismatch(RuntimeException error) {
+            if (failFast) {
+                throw error;
+            }
+
+            mismatches.add(error);
+        }
+
+        /**
+         * Raises collected mismatches. A single mismatch is raised as is, multiple mismatches are combined in one error.
+         */
+        void verify() {
+            if (mismatches.size() == 1) {
+                throw mismatches.get(0);
+            } else if (mismatches.size() > 1) {
+                StringBuilder message = new StringBuilder();
+                message.append("Found ").append(mismatches.size()).append(" mismatches in XML tree:");
+                for (RuntimeException mismatch : mismatches) {
+                    message.append(System.lineSeparator()).append("  - ").append(mismatch.getMessage());
+                }
+
+                throw new IllegalArgumentException(message.toString());
+            }
+        }
+    }
 }
@@ -50,6 +50,9 @@ public class XmlMessageValidationContext extends DefaultValidationContext implem
     /** Explicit schema instance to use for this validation */
     private String schema;
 
+    /** Should XML tree validation stop on first mismatch instead of collecting all mismatches */
+    private boolean failFast = false;
+
     /**
      * Get ignored message elements.
      * @return the ignoreExpressions
@@ -162,4 +165,21 @@ public class XmlMessageValidationContext extends DefaultValidationContext implem
         this.schema = schema;
     }
 
+    /**
+     * Gets the failFast.
+     *
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Sets the failFast.
+     *
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
 }
@@ -23,11 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import org.w3c.dom.*;
 
 import javax.xml.namespace.NamespaceContext;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -72,6 +71,131 @@ public abstract class XmlValidationUtils {
         return false;
     }
 
+    /**
+     * Checks if given element node is either in the set of resolved ignored nodes or
+     * contains @ignore@ tag inside control message.
+     * @param source
+     * @param received
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isElementIgnored(Node source, Node received, Set<Node> ignoredNodes) {
+        if (ignoredNodes.contains(received)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Element: '" + received.getLocalName() + "' is on ignore list - skipped validation");
+            }
+            return true;
+        } else if (source.getFirstChild() != null &&
+                StringUtils.hasText(source.getFirstChild().getNodeValue()) &&
+                source.getFirstChild().getNodeValue().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Element: '" + received.getLocalName() + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the current attribute is either in the set of resolved ignored nodes or
+     * ignored by global ignore placeholder in source attribute value.
+     * @param receivedAttribute
+     * @param sourceAttribute
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isAttributeIgnored(Node receivedAttribute, Node sourceAttribute, Set<Node> ignoredNodes) {
+        if (ignoredNodes.contains(receivedAttribute)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attribute '" + receivedAttribute.getLocalName() + "' is on ignore list - skipped value validation");
+            }
+
+            return true;
+        } else if ((StringUtils.hasText(sourceAttribute.getNodeValue()) &&
+                sourceAttribute.getNodeValue().trim().equals(Citrus.IGNORE_PLACEHOLDER))) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attribute: '" + receivedAttribute.getLocalName() + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Resolves all ignore expressions on given document once and returns the identity set of element and attribute nodes
+     * to be ignored. Supports the same expressions as {@link #isElementIgnored(Node, Set, NamespaceContext)} so
+     * callers walking the whole document can use fast set lookups instead of evaluating each expression per node.
+     * @param document
+     * @param ignoreExpressions
+     * @param namespaceContext
+     * @return
+     */
+    public static Set<Node> resolveIgnoredNodes(Document document, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
+        Set<Node> ignoredNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return ignoredNodes;
+        }
+
+        // full path names like: Numbers.NumberItem.AreaCode
+        if (document.getDocumentElement() != null) {
+            collectIgnoredByPathName(document.getDocumentElement(), document.getDocumentElement().getLocalName(), ignoreExpressions, ignoredNodes);
+        }
+
+        for (String expression : ignoreExpressions) {
+            // short path names like: AreaCode where only the first matching node is ignored
+            Node found = XMLUtils.findNodeByName(document, expression);
+            if (found != null) {
+                ignoredNodes.add(found);
+            }
+
+            if (XPathUtils.isXPathExpression(expression)) {
+                NodeList foundNodes = XPathUtils.evaluateAsNodeList(document, expression, namespaceContext);
+                if (foundNodes.getLength() == 0 && log.isDebugEnabled()) {
+                    // ignore expressions are optional so expressions not matching any node are skipped
+                    log.debug("No nodes to ignore found for XPath expression: '" + expression + "'");
+                }
+
+                for (int i = 0; i < foundNodes.getLength(); i++) {
+                    if (foundNodes.item(i) != null) {
+                        ignoredNodes.add(foundNodes.item(i));
+                    }
+                }
+            }
+        }
+
+        return ignoredNodes;
+    }
+
+    /**
+     * Walks the element tree and adds all elements and attributes whose node path name is part of the ignore expressions.
+     * @param element
+     * @param pathName
+     * @param ignoreExpressions
+     * @param ignoredNodes
+     */
+    private static void collectIgnoredByPathName(Element element, String pathName, Set<String> ignoreExpressions, Set<Node> ignoredNodes) {
+        if (ignoreExpressions.contains(pathName)) {
+            ignoredNodes.add(element);
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (ignoreExpressions.contains(pathName + "." + attributes.item(i).getNodeName())) {
+                ignoredNodes.add(attributes.item(i));
+            }
+        }
+
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                collectIgnoredByPathName((Element) child, pathName + "." + child.getLocalName(), ignoreExpressions, ignoredNodes);
+            }
+        }
+    }
+
     /**
      * Checks whether the node is ignored by node path expression or xpath expression.
      * @param received
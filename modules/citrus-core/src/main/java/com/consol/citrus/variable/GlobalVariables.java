@@ -16,11 +16,12 @@
 
 package com.consol.citrus.variable;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
- * Global variables valid in each test case.
+ * Global variables valid in each test case. Test contexts share an unmodifiable snapshot of the global variables
+ * instead of the live variable map. The snapshot is created on first access and recreated after the variables
+ * have changed.
  * 
  * @author Christoph Deppisch
  */
@@ -29,7 +30,16 @@ public class GlobalVariables {
     public static final String BEAN_NAME = "globalVariables";
 
     /** Variables name value pair map */
-    private Map<String, Object> variables = new LinkedHashMap<String, Object>();
+    private volatile Map<String, Object> variables = new LinkedHashMap<String, Object>();
+
+    /** Modifiable view on variables tracking changes */
+    private final Map<String, Object> variablesView = new VariablesView();
+
+    /** Modification count of variables */
+    private volatile int version;
+
+    /** Unmodifiable snapshot shared with test contexts */
+    private volatile Snapshot snapshot;
 	
 	/**
 	 * Set the global variables.
@@ -37,6 +47,7 @@ public class GlobalVariables {
 	 */
 	public void setVariables(Map<String, Object> variables) {
 		this.variables = variables;
+		version++;
 	}
 
 	/**
@@ -44,6 +55,165 @@ public class GlobalVariables {
 	 * @return the variables
 	 */
 	public Map<String, Object> getVariables() {
-		return variables;
+		return variablesView;
 	}
+
+    /**
+     * Gets unmodifiable snapshot of the global variables. Layered variables loaded from property files are copied
+     * without resolving the property values, so these keep being resolved lazily on first access.
+     * @return
+     */
+    public Map<String, Object> getSnapshot() {
+        Snapshot current = snapshot;
+        int currentVersion = version;
+        if (current == null || current.version != currentVersion) {
+            Map<String, Object> source = variables;
+            if (source instanceof SnapshotVariables) {
+                current = new Snapshot(currentVersion, source);
+            } else if (source instanceof LayeredVariables) {
+                current = new Snapshot(currentVersion, new SnapshotVariables(((LayeredVariables) source).copy()));
+            } else {
+                current = new Snapshot(currentVersion, new SnapshotVariables(new LinkedHashMap<>(source)));
+            }
+
+            snapshot = current;
+        }
+
+        return current.variables;
+    }
+
+    /**
+     * Gets the layered variables holding loaded property files if any.
+     * @return layered variables or null
+     */
+    LayeredVariables getLayeredVariables() {
+        Map<String, Object> current = variables;
+        return current instanceof LayeredVariables ? (LayeredVariables) current : null;
+    }
+
+    /**
+     * Snapshot of variables at given modification count.
+     */
+    private static class Snapshot {
+        private final int version;
+        private final Map<String, Object> variables;
+
+        Snapshot(int version, Map<String, Object> variables) {
+            this.version = version;
+            this.variables = variables;
+        }
+    }
+
+    /**
+     * Unmodifiable variables snapshot.
+     */
+    private static class SnapshotVariables extends AbstractMap<String, Object> {
+        private final Map<String, Object> delegate;
+        private final Set<Entry<String, Object>> entrySet;
+
+        SnapshotVariables(Map<String, Object> delegate) {
+            this.delegate = delegate;
+            this.entrySet = Collections.unmodifiableMap(delegate).entrySet();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    /**
+     * Modifiable view on current variables increasing the modification count on each change so outdated
+     * snapshots get recreated.
+     */
+    private class VariablesView extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entrySet = new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> entries = variables.entrySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = entries.next();
+                        return new SimpleEntry<String, Object>(entry) {
+                            @Override
+                            public Object setValue(Object value) {
+                                super.setValue(value);
+                                Object previous = entry.setValue(value);
+                                version++;
+                                return previous;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                        version++;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return variables.size();
+            }
+        };
+
+        @Override
+        public Object get(Object key) {
+            return variables.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return variables.containsKey(key);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            Object previous = variables.put(key, value);
+            version++;
+            return previous;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            Object previous = variables.remove(key);
+            version++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            variables.clear();
+            version++;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+    }
 }
@@ -25,11 +25,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.util.StringUtils;
 
-import java.io.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * Loads properties from an external property file and creates global test variables.
@@ -53,82 +50,53 @@ public class GlobalVariablesPropertyLoader implements InitializingBean {
     private static Logger log = LoggerFactory.getLogger(GlobalVariablesPropertyLoader.class);
 
     /**
-     * Load the properties as variables.
+     * Load the properties as variables. Each property file is added as read only layer on top of the global variables.
+     * Property values get resolved on first access.
      * @throws CitrusRuntimeException
      */
     public void loadPropertiesAsVariables() {
-        BufferedReader reader = null;
-
-        try {
-            if (propertyFilesSet()) {
-                for (String propertyFilePath : propertyFiles) {
-                    Resource propertyFile = new PathMatchingResourcePatternResolver().getResource(propertyFilePath.trim());
-
-                    log.debug("Reading property file " + propertyFile.getFilename());
-
-                    // Use input stream as this also allows to read from resources in a JAR file
-                    reader = new BufferedReader(new InputStreamReader(propertyFile.getInputStream()));
-
-                    // local context instance handling variable replacement in property values
-                    TestContext context = new TestContext();
-                    context.setGlobalVariables(globalVariables);
-                    context.setFunctionRegistry(functionRegistry);
-
-                    String propertyExpression;
-                    while ((propertyExpression = reader.readLine()) != null) {
-
-                        log.debug("Property line [ {} ]", propertyExpression);
-
-                        propertyExpression = propertyExpression.trim();
-                        if (!isPropertyLine(propertyExpression)) {
-                            continue;
-                        }
-
-                        String key = propertyExpression.substring(0, propertyExpression.indexOf('=')).trim();
-                        String value = propertyExpression.substring(propertyExpression.indexOf('=') + 1).trim();
-
-                        log.debug("Property value replace dynamic content [ {} ]", value);
-                        value = context.replaceDynamicContentInString(value);
-
-                        if (log.isDebugEnabled()) {
-                            log.debug("Loading property: " + key + "=" + value + " into default variables");
-                        }
-
-                        if (log.isDebugEnabled() && globalVariables.getVariables().containsKey(key)) {
-                            log.debug("Overwriting property " + key + " old value:" + globalVariables.getVariables().get(key)
-                                    + " new value:" + value);
-                        }
-
-                        globalVariables.getVariables().put(key, value);
-                        // we need to keep local context up to date in case of recursive variable usage
-                        context.setVariable(key, globalVariables.getVariables().get(key));
-                    }
-
-                    log.info("Loaded property file " + propertyFile.getFilename());
-                }
-            }
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Error while loading property file", e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    log.warn("Unable to close property file reader", e);
-                }
-            }
+        if (!propertyFilesSet()) {
+            return;
         }
+
+        LayeredVariables variables = globalVariables.getLayeredVariables() != null ?
+                globalVariables.getLayeredVariables() : new LayeredVariables(globalVariables.getSnapshot());
+
+        // local context instance handling variable replacement in property values
+        TestContext context = new TestContext();
+        context.setFunctionRegistry(functionRegistry);
+
+        List<PropertyStoreVariables> layers = new ArrayList<>();
+        Set<String> loaded = new HashSet<>();
+        for (String propertyFilePath : propertyFiles) {
+            Resource propertyFile = new PathMatchingResourcePatternResolver().getResource(propertyFilePath.trim());
+
+            log.debug("Reading property file " + propertyFile.getFilename());
+
+            PropertyStore store = PropertyStore.forResource(propertyFile, PropertyStore.Format.KEY_VALUE);
+            store.reloadIfModified();
+
+            PropertyStoreVariables properties = new PropertyStoreVariables(store, context::replaceDynamicContentInString);
+            properties.verifyReferences(name -> loaded.contains(name) || variables.containsKey(name));
+            layers.add(properties);
+
+            loaded.addAll(store.keySet());
+
+            log.info("Loaded property file " + propertyFile.getFilename());
+        }
+
+        for (PropertyStoreVariables properties : layers) {
+            variables.addLayer(properties);
+        }
+
+        globalVariables.setVariables(variables);
+        context.setGlobalVariables(globalVariables);
     }
 
     private boolean propertyFilesSet() {
         return propertyFiles != null && propertyFiles.size() > 0;
     }
 
-    private boolean isPropertyLine(String line) {
-        return StringUtils.hasText(line) && !line.startsWith("#")
-                                && line.indexOf('=') > -1;
-    }
-
     /**
      * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
      */
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Layered variable map. Global variables are shared by reference and never modified through this map. Test local
+ * variables live in a concurrent overlay that shadows global variables with the same name. Read only layers such as
+ * loaded property files sit in between, the most recently added layer taking precedence. Removing or clearing
+ * variables hides the respective global and layer variables for this map only. Creating a new map on top of global
+ * variables is constant time regardless of the number of global variables.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class LayeredVariables extends AbstractMap<String, Object> {
+
+    /** Shared global variables, read only */
+    private volatile Map<String, Object> globals = Collections.emptyMap();
+
+    /** Read only layers shadowing global variables, most recent layer first */
+    private volatile List<Map<String, Object>> layers = Collections.emptyList();
+
+    /** Test local variables shadowing layer and global variables */
+    private final Map<String, Object> locals = new ConcurrentHashMap<>();
+
+    /** Names of layer and global variables that have been removed in this map */
+    private final Set<String> hidden = ConcurrentHashMap.newKeySet();
+
+    /** Lazy entry set view */
+    private Set<Entry<String, Object>> entrySet;
+
+    /**
+     * Default constructor.
+     */
+    public LayeredVariables() {
+        super();
+    }
+
+    /**
+     * Constructor using shared global variables.
+     * @param globals
+     */
+    public LayeredVariables(Map<String, Object> globals) {
+        setGlobals(globals);
+    }
+
+    /**
+     * Sets the shared global variables. Global variables replace local variables of the same name
+     * and removed global variables become visible again.
+     * @param globals
+     */
+    public void setGlobals(Map<String, Object> globals) {
+        this.globals = globals != null ? globals : Collections.emptyMap();
+
+        hidden.clear();
+        if (!locals.isEmpty()) {
+            locals.keySet().removeIf(this.globals::containsKey);
+        }
+    }
+
+    /**
+     * Gets the shared global variables.
+     * @return
+     */
+    public Map<String, Object> getGlobals() {
+        return globals;
+    }
+
+    /**
+     * Adds read only variable layer on top of global variables and previously added layers. Layer variables replace
+     * local variables of the same name and removed variables of the same name become visible again. Adding a property
+     * store that is already present in this map moves it to the top.
+     * @param layer
+     */
+    public synchronized void addLayer(Map<String, Object> layer) {
+        List<Map<String, Object>> updated = new ArrayList<>(layers.size() + 1);
+        updated.add(layer);
+        for (Map<String, Object> existing : layers) {
+            if (existing != layer && !isSameStore(existing, layer)) {
+                updated.add(existing);
+            }
+        }
+
+        layers = Collections.unmodifiableList(updated);
+
+        if (!locals.isEmpty()) {
+            locals.keySet().removeIf(layer::containsKey);
+        }
+
+        if (!hidden.isEmpty()) {
+            hidden.removeIf(layer::containsKey);
+        }
+    }
+
+    private static boolean isSameStore(Map<String, Object> existing, Map<String, Object> layer) {
+        return existing instanceof PropertyStoreVariables && layer instanceof PropertyStoreVariables &&
+                ((PropertyStoreVariables) existing).getStore() == ((PropertyStoreVariables) layer).getStore();
+    }
+
+    /**
+     * Gets the read only layers, most recent layer first.
+     * @return
+     */
+    public List<Map<String, Object>> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Creates copy of this map sharing global variables and layers. Local and removed variables are copied so
+     * changes to either map are not visible in the other map. Layer values are not resolved.
+     * @return
+     */
+    LayeredVariables copy() {
+        LayeredVariables copy = new LayeredVariables(globals);
+        copy.layers = layers;
+        copy.locals.putAll(locals);
+        copy.hidden.addAll(hidden);
+        return copy;
+    }
+
+    /**
+     * Removes all local variables and layers and makes all global variables visible again.
+     */
+    public void reset() {
+        locals.clear();
+        hidden.clear();
+        layers = Collections.emptyList();
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = locals.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        if (!hidden.isEmpty() && hidden.contains(key)) {
+            return null;
+        }
+
+        return getShared(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return locals.containsKey(key) || (isGlobalVisible(key) && containsShared(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        locals.put(key, value);
+
+        if (!hidden.isEmpty()) {
+            hidden.remove(key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        locals.remove(key);
+
+        if (containsShared(key)) {
+            hidden.add((String) key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> variables) {
+        if (variables instanceof LayeredVariables && ((LayeredVariables) variables).globals == globals
+                && isSameLayers(((LayeredVariables) variables).layers)) {
+            LayeredVariables other = (LayeredVariables) variables;
+
+            // shared variables visible in other map replace local values and become visible again
+            locals.keySet().removeIf(key -> containsShared(key) && other.isGlobalVisible(key) && !other.locals.containsKey(key));
+            hidden.removeIf(key -> other.isGlobalVisible(key) || other.locals.containsKey(key));
+
+            for (Entry<String, Object> entry : other.locals.entrySet()) {
+                locals.put(entry.getKey(), entry.getValue());
+            }
+        } else {
+            super.putAll(variables);
+        }
+    }
+
+    @Override
+    public void clear() {
+        locals.clear();
+        for (Map<String, Object> layer : layers) {
+            hidden.addAll(layer.keySet());
+        }
+        hidden.addAll(globals.keySet());
+    }
+
+    @Override
+    public int size() {
+        List<Map<String, Object>> currentLayers = layers;
+        int size = locals.size();
+        for (int i = 0; i < currentLayers.size(); i++) {
+            for (String key : currentLayers.get(i).keySet()) {
+                if (isSharedVisible(key, currentLayers, i)) {
+                    size++;
+                }
+            }
+        }
+
+        for (String key : globals.keySet()) {
+            if (isSharedVisible(key, currentLayers, currentLayers.size())) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return locals.isEmpty() && ((globals.isEmpty() && layers.isEmpty()) || size() == 0);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new LayeredIterator();
+                }
+
+                @Override
+                public int size() {
+                    return LayeredVariables.this.size();
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    /**
+     * Gets value from most recent layer holding the variable or from global variables.
+     * @param key
+     * @return
+     */
+    private Object getShared(Object key) {
+        for (Map<String, Object> layer : layers) {
+            if (layer.containsKey(key)) {
+                return layer.get(key);
+            }
+        }
+
+        return globals.get(key);
+    }
+
+    /**
+     * Checks whether any layer or global variables hold given variable.
+     * @param key
+     * @return
+     */
+    private boolean containsShared(Object key) {
+        for (Map<String, Object> layer : layers) {
+            if (layer.containsKey(key)) {
+                return true;
+            }
+        }
+
+        return globals.containsKey(key);
+    }
+
+    /**
+     * Checks whether variable from layer at given position (layer count for global variables) is visible
+     * in this map, that is not removed and not shadowed by local variables or more recent layers.
+     * @param key
+     * @param currentLayers
+     * @param position
+     * @return
+     */
+    private boolean isSharedVisible(String key, List<Map<String, Object>> currentLayers, int position) {
+        if (locals.containsKey(key) || !isGlobalVisible(key)) {
+            return false;
+        }
+
+        for (int i = 0; i < position; i++) {
+            if (currentLayers.get(i).containsKey(key)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether given layers are identical to the layers of this map.
+     * @param otherLayers
+     * @return
+     */
+    private boolean isSameLayers(List<Map<String, Object>> otherLayers) {
+        List<Map<String, Object>> currentLayers = layers;
+        if (currentLayers.size() != otherLayers.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < currentLayers.size(); i++) {
+            if (currentLayers.get(i) != otherLayers.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether global variable with given name has not been removed in this map.
+     * @param key
+     * @return
+     */
+    private boolean isGlobalVisible(Object key) {
+        return hidden.isEmpty() || !hidden.contains(key);
+    }
+
+    /**
+     * Iterates local variables first, then layers and all visible global variables not shadowed by local variables
+     * or more recent layers.
+     */
+    private class LayeredIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<Entry<String, Object>> localIterator = locals.entrySet().iterator();
+        private final List<Map<String, Object>> currentLayers = layers;
+        private int position = 0;
+        private Iterator<Entry<String, Object>> sharedIterator = sharedIterator(0);
+        private Entry<String, Object> next;
+        private Entry<String, Object> current;
+
+        private Iterator<Entry<String, Object>> sharedIterator(int index) {
+            return index < currentLayers.size() ? currentLayers.get(index).entrySet().iterator() : globals.entrySet().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+
+            if (localIterator.hasNext()) {
+                next = localIterator.next();
+                return true;
+            }
+
+            while (true) {
+                while (sharedIterator.hasNext()) {
+                    Entry<String, Object> shared = sharedIterator.next();
+                    if (isSharedVisible(shared.getKey(), currentLayers, position)) {
+                        next = new SimpleImmutableEntry<>(shared);
+                        return true;
+                    }
+                }
+
+                if (position >= currentLayers.size()) {
+                    return false;
+                }
+
+                sharedIterator = sharedIterator(++position);
+            }
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            current = next;
+            next = null;
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+
+            LayeredVariables.this.remove(current.getKey());
+            current = null;
+        }
+    }
+}
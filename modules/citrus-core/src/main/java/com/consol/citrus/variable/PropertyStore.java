@@ -0,0 +1,489 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read only property file store shared by all tests. Property files are read once into a byte array snapshot and
+ * indexed by key. Values stay in the snapshot and get decoded on access, so loading large property files does
+ * not create a string instance for each value up front. Changes to the file never affect a loaded snapshot. Stores are cached by resource and reload their index when the
+ * underlying file has changed. Modification checks run on explicit request and periodically when a reload interval is set.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class PropertyStore {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(PropertyStore.class);
+
+    /** Shared stores by format and resource */
+    private static final Map<String, PropertyStore> stores = new ConcurrentHashMap<>();
+
+    /** Global version counter incremented on each index load */
+    private static final AtomicLong versions = new AtomicLong();
+
+    /**
+     * Supported property file formats.
+     */
+    public enum Format {
+        /** Java properties file syntax as supported by {@link Properties#load(InputStream)} and XML properties */
+        PROPERTIES,
+
+        /** One key=value pair per line with '#' comments as used for global variable property files */
+        KEY_VALUE
+    }
+
+    /** Property file resource */
+    private final Resource resource;
+
+    /** Property file format */
+    private final Format format;
+
+    /** Min interval in milliseconds between modification checks, zero disables periodic checks */
+    private final long reloadInterval;
+
+    /** Current property index */
+    private volatile Index index;
+
+    /** Time of last modification check */
+    private volatile long lastChecked;
+
+    /**
+     * Constructor loading the property index from given resource.
+     * @param resource
+     * @param format
+     * @param reloadInterval
+     */
+    public PropertyStore(Resource resource, Format format, long reloadInterval) {
+        this.resource = resource;
+        this.format = format;
+        this.reloadInterval = reloadInterval;
+        this.index = load();
+        this.lastChecked = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the shared store for given property file resource.
+     * @param resource
+     * @param format
+     * @return
+     */
+    public static PropertyStore forResource(Resource resource, Format format) {
+        return stores.computeIfAbsent(format.name() + ":" + resource.getDescription(),
+                key -> new PropertyStore(resource, format, Long.parseLong(Citrus.PROPERTY_FILE_RELOAD_INTERVAL)));
+    }
+
+    /**
+     * Removes all shared stores.
+     */
+    public static void clear() {
+        stores.clear();
+    }
+
+    /**
+     * Gets the property value for given key or null if not present.
+     * @param key
+     * @return
+     */
+    public String get(String key) {
+        return current().get(key);
+    }
+
+    /**
+     * Checks if property with given key is present.
+     * @param key
+     * @return
+     */
+    public boolean containsKey(Object key) {
+        return current().entries.containsKey(key);
+    }
+
+    /**
+     * Gets all property keys in file order.
+     * @return
+     */
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(current().entries.keySet());
+    }
+
+    /**
+     * Gets the number of properties.
+     * @return
+     */
+    public int size() {
+        return current().entries.size();
+    }
+
+    /**
+     * Gets names of all variables referenced with variable expressions in property values. Names are collected once
+     * on index load so references can be verified without resolving all values.
+     * @return
+     */
+    public Set<String> getVariableReferences() {
+        return current().getVariableReferences();
+    }
+
+    /**
+     * Gets the version of the currently loaded index. Version changes on each reload.
+     * @return
+     */
+    public long getVersion() {
+        return current().version;
+    }
+
+    /**
+     * Reloads the property index in case the underlying file has changed since last load.
+     * @return true if the index has been reloaded
+     */
+    public boolean reloadIfModified() {
+        lastChecked = System.currentTimeMillis();
+
+        File file = getFile();
+        if (file == null) {
+            return false;
+        }
+
+        Index current = index;
+        if (file.lastModified() == current.lastModified && file.length() == current.length) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (index == current) {
+                log.info("Reloading modified property file " + resource.getFilename());
+                index = load();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets current index and runs periodic modification check if reload interval has elapsed.
+     * @return
+     */
+    private Index current() {
+        if (reloadInterval > 0 && System.currentTimeMillis() - lastChecked >= reloadInterval) {
+            reloadIfModified();
+        }
+
+        return index;
+    }
+
+    /**
+     * Gets property file on file system or null if resource is not a file.
+     * @return
+     */
+    private File getFile() {
+        try {
+            return resource.getFile();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads and indexes the property file.
+     * @return
+     */
+    private Index load() {
+        File file = getFile();
+        long lastModified = file != null ? file.lastModified() : 0L;
+        long length = file != null ? file.length() : 0L;
+
+        try {
+            if (format == Format.PROPERTIES && resource.getFilename() != null && resource.getFilename().endsWith(".xml")) {
+                Properties properties = PropertiesLoaderUtils.loadProperties(resource);
+                Map<String, Object> entries = new LinkedHashMap<>();
+                for (String key : properties.stringPropertyNames()) {
+                    entries.put(key, properties.getProperty(key));
+                }
+
+                return new Index(ByteBuffer.allocate(0), StandardCharsets.ISO_8859_1, entries, lastModified, length);
+            }
+
+            ByteBuffer buffer;
+            try (InputStream in = resource.getInputStream()) {
+                buffer = ByteBuffer.wrap(FileCopyUtils.copyToByteArray(in));
+            }
+
+            if (format == Format.PROPERTIES) {
+                return new Index(buffer, StandardCharsets.ISO_8859_1, indexProperties(buffer), lastModified, length);
+            } else {
+                return new Index(buffer, Charset.defaultCharset(), indexKeyValueLines(buffer, Charset.defaultCharset()), lastModified, length);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to load property file " + resource.getDescription(), e);
+        }
+    }
+
+    /**
+     * Indexes key=value lines. Keys and values are trimmed, lines starting with '#' or without '=' are skipped.
+     * @param buffer
+     * @param charset
+     * @return
+     */
+    private static Map<String, Object> indexKeyValueLines(ByteBuffer buffer, Charset charset) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        int limit = buffer.limit();
+        int position = 0;
+
+        while (position < limit) {
+            int lineEnd = lineEnd(buffer, position);
+            int start = skipWhitespace(buffer, position, lineEnd);
+            int end = trimEnd(buffer, start, lineEnd);
+
+            if (start < end && buffer.get(start) != '#') {
+                int separator = indexOf(buffer, start, end, (byte) '=');
+                if (separator > -1) {
+                    String key = decode(buffer, start, trimEnd(buffer, start, separator) - start, charset);
+                    int valueStart = skipWhitespace(buffer, separator + 1, end);
+                    entries.put(key, pack(valueStart, end - valueStart));
+                }
+            }
+
+            position = nextLine(buffer, lineEnd);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Indexes Java properties file content. Simple lines are indexed by value position, lines with escape sequences
+     * or line continuations are parsed with {@link Properties} and stored decoded.
+     * @param buffer
+     * @return
+     */
+    private static Map<String, Object> indexProperties(ByteBuffer buffer) throws IOException {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        int limit = buffer.limit();
+        int position = 0;
+
+        while (position < limit) {
+            int lineEnd = lineEnd(buffer, position);
+            int start = skipWhitespace(buffer, position, lineEnd);
+
+            if (start == lineEnd || buffer.get(start) == '#' || buffer.get(start) == '!') {
+                position = nextLine(buffer, lineEnd);
+                continue;
+            }
+
+            if (indexOf(buffer, start, lineEnd, (byte) '\\') > -1) {
+                // escape sequences and line continuations are left to the properties parser
+                int logicalEnd = lineEnd;
+                while (endsWithContinuation(buffer, start, logicalEnd) && logicalEnd < limit) {
+                    logicalEnd = lineEnd(buffer, nextLine(buffer, logicalEnd));
+                }
+
+                Properties properties = new Properties();
+                properties.load(new ByteArrayInputStream(copy(buffer, start, logicalEnd - start)));
+                for (String key : properties.stringPropertyNames()) {
+                    entries.remove(key);
+                    entries.put(key, properties.getProperty(key));
+                }
+
+                position = nextLine(buffer, logicalEnd);
+                continue;
+            }
+
+            int keyEnd = start;
+            while (keyEnd < lineEnd && !isKeyTerminator(buffer.get(keyEnd))) {
+                keyEnd++;
+            }
+
+            int valueStart = skipWhitespace(buffer, keyEnd, lineEnd);
+            if (valueStart < lineEnd && (buffer.get(valueStart) == '=' || buffer.get(valueStart) == ':')) {
+                valueStart = skipWhitespace(buffer, valueStart + 1, lineEnd);
+            }
+
+            String key = decode(buffer, start, keyEnd - start, StandardCharsets.ISO_8859_1);
+            entries.remove(key);
+            entries.put(key, pack(valueStart, lineEnd - valueStart));
+
+            position = nextLine(buffer, lineEnd);
+        }
+
+        return entries;
+    }
+
+    private static boolean isKeyTerminator(byte b) {
+        return b == '=' || b == ':' || b == ' ' || b == '\t' || b == '\f';
+    }
+
+    private static boolean endsWithContinuation(ByteBuffer buffer, int start, int end) {
+        int backslashes = 0;
+        for (int i = end - 1; i >= start && buffer.get(i) == '\\'; i--) {
+            backslashes++;
+        }
+
+        return backslashes % 2 == 1;
+    }
+
+    private static int lineEnd(ByteBuffer buffer, int position) {
+        int i = position;
+        while (i < buffer.limit() && buffer.get(i) != '\n' && buffer.get(i) != '\r') {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int nextLine(ByteBuffer buffer, int lineEnd) {
+        if (lineEnd < buffer.limit() && buffer.get(lineEnd) == '\r') {
+            lineEnd++;
+        }
+
+        if (lineEnd < buffer.limit() && buffer.get(lineEnd) == '\n') {
+            lineEnd++;
+        }
+
+        return lineEnd;
+    }
+
+    private static int skipWhitespace(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        while (i < end && (buffer.get(i) == ' ' || buffer.get(i) == '\t' || buffer.get(i) == '\f')) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        int i = end;
+        while (i > start && (buffer.get(i - 1) & 0xFF) <= ' ') {
+            i--;
+        }
+
+        return i;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int start, int end, byte b) {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static byte[] copy(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset);
+        source.get(bytes);
+        return bytes;
+    }
+
+    private static String decode(ByteBuffer buffer, int offset, int length, Charset charset) {
+        return new String(copy(buffer, offset, length), charset);
+    }
+
+    /**
+     * Collects variable names of all variable expressions in given value region.
+     * @param buffer
+     * @param offset
+     * @param length
+     * @param charset
+     * @param names
+     */
+    private static void collectVariableReferences(ByteBuffer buffer, int offset, int length, Charset charset, Set<String> names) {
+        int end = offset + length;
+        for (int i = offset; i < end - 1; i++) {
+            if (buffer.get(i) == '$' && buffer.get(i + 1) == '{') {
+                int suffix = indexOf(buffer, i + 2, end, (byte) '}');
+                if (suffix < 0) {
+                    return;
+                }
+
+                names.add(decode(buffer, i + 2, suffix - i - 2, charset));
+                i = suffix;
+            }
+        }
+    }
+
+    private static long pack(int offset, int length) {
+        return ((long) offset << 32) | (length & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Immutable property index on a loaded buffer.
+     */
+    private static final class Index {
+        private final ByteBuffer buffer;
+        private final Charset charset;
+        private final Map<String, Object> entries;
+        private final long lastModified;
+        private final long length;
+        private final long version = versions.incrementAndGet();
+        private volatile Set<String> variableReferences;
+
+        Index(ByteBuffer buffer, Charset charset, Map<String, Object> entries, long lastModified, long length) {
+            this.buffer = buffer;
+            this.charset = charset;
+            this.entries = entries;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        String get(String key) {
+            Object entry = entries.get(key);
+            if (entry instanceof Long) {
+                long position = (Long) entry;
+                return decode(buffer, (int) (position >>> 32), (int) position, charset);
+            }
+
+            return (String) entry;
+        }
+
+        Set<String> getVariableReferences() {
+            if (variableReferences == null) {
+                Set<String> names = new LinkedHashSet<>();
+                for (Object entry : entries.values()) {
+                    if (entry instanceof Long) {
+                        long position = (Long) entry;
+                        collectVariableReferences(buffer, (int) (position >>> 32), (int) position, charset, names);
+                    } else {
+                        byte[] bytes = ((String) entry).getBytes(StandardCharsets.UTF_8);
+                        collectVariableReferences(ByteBuffer.wrap(bytes), 0, bytes.length, StandardCharsets.UTF_8, names);
+                    }
+                }
+
+                variableReferences = Collections.unmodifiableSet(names);
+            }
+
+            return variableReferences;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Read only variable view on a shared {@link PropertyStore}. Property values are resolved with the given resolver
+ * on first access and cached until the store gets reloaded. Each property is resolved only once, concurrent readers
+ * of the same property wait for the pending resolution.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class PropertyStoreVariables extends AbstractMap<String, Object> {
+
+    /** Property values currently being resolved, used to detect circular references */
+    private static final ThreadLocal<Set<String>> resolving = ThreadLocal.withInitial(HashSet::new);
+
+    /** Shared property store */
+    private final PropertyStore store;
+
+    /** Resolves dynamic content in property values */
+    private final Function<String, String> resolver;
+
+    /** Resolved values, pending resolutions are shared with concurrent readers */
+    private final ConcurrentMap<String, Future<Object>> resolved = new ConcurrentHashMap<>();
+
+    /** Store version of resolved values */
+    private volatile long version;
+
+    /** Lazy entry set view */
+    private Set<Entry<String, Object>> entrySet;
+
+    /**
+     * Constructor using property store and value resolver.
+     * @param store
+     * @param resolver
+     */
+    public PropertyStoreVariables(PropertyStore store, Function<String, String> resolver) {
+        this.store = store;
+        this.resolver = resolver;
+        this.version = store.getVersion();
+    }
+
+    /**
+     * Verifies that all variables referenced in property values are known either to given variables or to the
+     * property store itself.
+     * @param variables predicate checking if variable is known
+     * @throws CitrusRuntimeException
+     */
+    public void verifyReferences(Predicate<String> variables) {
+        for (String name : store.getVariableReferences()) {
+            VariableReference reference = VariableReference.parse(name);
+
+            if (reference.isEscaped() || isKnown(reference.getName(), variables)
+                    || (reference.isPath() && isKnown(reference.getObjectName(), variables))) {
+                continue;
+            }
+
+            throw new CitrusRuntimeException("Unknown variable '" + reference.getName() + "'");
+        }
+    }
+
+    private boolean isKnown(String name, Predicate<String> variables) {
+        return store.containsKey(name) || variables.test(name);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String) || !store.containsKey(key)) {
+            return null;
+        }
+
+        if (version != store.getVersion()) {
+            resolved.clear();
+            version = store.getVersion();
+        }
+
+        String name = (String) key;
+        Future<Object> value = resolved.get(name);
+        if (value == null) {
+            // no computeIfAbsent here as resolving a value may recursively read other properties of this map
+            FutureTask<Object> task = new FutureTask<>(() -> resolve(name));
+            value = resolved.putIfAbsent(name, task);
+            if (value == null) {
+                value = task;
+                task.run();
+            }
+        } else if (!value.isDone() && resolving.get().contains(getResolvingId(name))) {
+            throw new CitrusRuntimeException("Circular variable reference in property '" + name + "'");
+        }
+
+        try {
+            return value.get();
+        } catch (ExecutionException e) {
+            resolved.remove(name, value);
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new CitrusRuntimeException("Failed to resolve property '" + name + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while resolving property '" + name + "'", e);
+        }
+    }
+
+    /**
+     * Resolves dynamic content in property value.
+     * @param key
+     * @return
+     */
+    private Object resolve(String key) {
+        Set<String> inProgress = resolving.get();
+        String id = getResolvingId(key);
+        if (!inProgress.add(id)) {
+            throw new CitrusRuntimeException("Circular variable reference in property '" + key + "'");
+        }
+
+        try {
+            return resolver.apply(store.get(key));
+        } finally {
+            inProgress.remove(id);
+        }
+    }
+
+    /**
+     * Gets id of property resolution in progress unique across property stores.
+     * @param key
+     * @return
+     */
+    private String getResolvingId(String key) {
+        return System.identityHashCode(store) + ":" + key;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return store.containsKey(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return store.keySet();
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        throw new UnsupportedOperationException("Property store variables are read only");
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException("Property store variables are read only");
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<String> keys = store.keySet().iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            String key = keys.next();
+                            return new SimpleImmutableEntry<>(key, get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return store.size();
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    /**
+     * Gets the property store.
+     * @return
+     */
+    public PropertyStore getStore() {
+        return store;
+    }
+}
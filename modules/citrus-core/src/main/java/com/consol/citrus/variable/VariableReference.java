@@ -0,0 +1,150 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.Citrus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed variable expression such as <code>${name}</code>, <code>${object.field.nested}</code> or an escaped
+ * <code>${//name//}</code> expression. Parsed references are cached by expression so repeated variable lookups
+ * do not parse the same expression again.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class VariableReference {
+
+    /** Max number of cached references, cache is reset when exceeded */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    /** Parsed references by variable expression */
+    private static final Map<String, VariableReference> references = new ConcurrentHashMap<>();
+
+    /** Variable name without prefix and suffix */
+    private final String name;
+
+    /** Resolved value for escaped variable expressions, null otherwise */
+    private final String escapedValue;
+
+    /** Object variable name in path expressions, null otherwise */
+    private final String objectName;
+
+    /** Field names in path expressions */
+    private final String[] fieldPath;
+
+    /**
+     * Constructor parsing given expression.
+     * @param expression
+     */
+    private VariableReference(String expression) {
+        this.name = VariableUtils.cutOffVariablesPrefix(expression);
+
+        if (name.startsWith(Citrus.VARIABLE_ESCAPE) && name.endsWith(Citrus.VARIABLE_ESCAPE)) {
+            this.escapedValue = Citrus.VARIABLE_PREFIX + VariableUtils.cutOffVariablesEscaping(name) + Citrus.VARIABLE_SUFFIX;
+        } else {
+            this.escapedValue = null;
+        }
+
+        int separator = name.indexOf('.');
+        if (separator > -1) {
+            this.objectName = name.substring(0, separator);
+            this.fieldPath = name.substring(separator + 1).split("\\.");
+        } else {
+            this.objectName = null;
+            this.fieldPath = new String[] {};
+        }
+    }
+
+    /**
+     * Gets parsed reference for given variable expression.
+     * @param expression
+     * @return
+     */
+    public static VariableReference parse(String expression) {
+        VariableReference reference = references.get(expression);
+        if (reference == null) {
+            if (references.size() >= MAX_CACHE_SIZE) {
+                references.clear();
+            }
+
+            reference = new VariableReference(expression);
+            references.put(expression, reference);
+        }
+
+        return reference;
+    }
+
+    /**
+     * Gets the variable name without prefix and suffix.
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if this is an escaped variable expression.
+     * @return
+     */
+    public boolean isEscaped() {
+        return escapedValue != null;
+    }
+
+    /**
+     * Gets the value of escaped variable expression.
+     * @return
+     */
+    public String getEscapedValue() {
+        return escapedValue;
+    }
+
+    /**
+     * Checks if this is an object path expression.
+     * @return
+     */
+    public boolean isPath() {
+        return objectName != null;
+    }
+
+    /**
+     * Gets the object variable name in path expressions.
+     * @return
+     */
+    public String getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Gets number of fields in path expression.
+     * @return
+     */
+    public int getFieldCount() {
+        return fieldPath.length;
+    }
+
+    /**
+     * Gets field name at given position in path expression.
+     * @param index
+     * @return
+     */
+    public String getField(int index) {
+        return fieldPath[index];
+    }
+}
@@ -52,6 +52,9 @@ public abstract class AbstractDataDictionary<T> extends AbstractMessageConstruct
     /** Kind of mapping strategy how to identify dictionary item */
     private PathMappingStrategy pathMappingStrategy = PathMappingStrategy.EXACT;
 
+    /** Compiled mapping keys cached for this dictionary instance */
+    private volatile PathMappingIndex pathMappingIndex;
+
     /**
      * Convert to original value type if necessary.
      * @param value
@@ -67,6 +70,21 @@ public abstract class AbstractDataDictionary<T> extends AbstractMessageConstruct
         return TypeConversionUtils.convertIfNecessary(value, (Class<T>) originalValue.getClass());
     }
 
+    /**
+     * Gets compiled mapping keys for current mappings and path mapping strategy. Index is compiled again
+     * when mappings or strategy have changed.
+     * @return
+     */
+    protected PathMappingIndex getPathMappingIndex() {
+        PathMappingIndex index = pathMappingIndex;
+        if (index == null || !index.isCompiledFrom(mappings, pathMappingStrategy)) {
+            index = new PathMappingIndex(mappings, pathMappingStrategy);
+            pathMappingIndex = index;
+        }
+
+        return index;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         if (mappingFile != null) {
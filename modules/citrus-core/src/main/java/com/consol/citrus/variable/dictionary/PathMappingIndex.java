@@ -0,0 +1,122 @@
+/*
+ * Copyright 2006-2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable.dictionary;
+
+import java.util.*;
+
+/**
+ * Compiled form of data dictionary mapping keys. Exact matches are resolved with hash lookup, starts with and ends with
+ * matches walk a character trie of mapping keys (reversed keys for ends with strategy) so each element path is matched
+ * in a single pass regardless of the number of mappings. When several mapping keys match the key that was first added
+ * to the mappings wins, just like with iterating over the mappings.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class PathMappingIndex {
+
+    /** Mapping strategy this index was compiled for */
+    private final DataDictionary.PathMappingStrategy strategy;
+
+    /** Mappings this index was compiled from */
+    private final Map<String, String> mappings;
+
+    /** Number of mappings when index was compiled */
+    private final int size;
+
+    /** Exact match lookup */
+    private final Set<String> keys;
+
+    /** Root of key trie */
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Constructor compiling given mappings with mapping strategy.
+     * @param mappings
+     * @param strategy
+     */
+    public PathMappingIndex(Map<String, String> mappings, DataDictionary.PathMappingStrategy strategy) {
+        this.mappings = mappings;
+        this.strategy = strategy;
+        this.size = mappings.size();
+        this.keys = new HashSet<>(mappings.keySet());
+
+        if (!DataDictionary.PathMappingStrategy.EXACT.equals(strategy)) {
+            int order = 0;
+            for (String key : mappings.keySet()) {
+                TrieNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    char c = DataDictionary.PathMappingStrategy.ENDS_WITH.equals(strategy) ? key.charAt(key.length() - 1 - i) : key.charAt(i);
+                    node = node.children.computeIfAbsent(c, k -> new TrieNode());
+                }
+
+                if (node.key == null) {
+                    node.key = key;
+                    node.order = order;
+                }
+
+                order++;
+            }
+        }
+    }
+
+    /**
+     * Finds mapping key matching given path. Returns null when no mapping matches.
+     * @param path
+     * @return
+     */
+    public String lookup(String path) {
+        if (DataDictionary.PathMappingStrategy.EXACT.equals(strategy)) {
+            return keys.contains(path) ? path : null;
+        }
+
+        boolean endsWith = DataDictionary.PathMappingStrategy.ENDS_WITH.equals(strategy);
+        TrieNode match = root.key != null ? root : null;
+        TrieNode node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.children.get(endsWith ? path.charAt(path.length() - 1 - i) : path.charAt(i));
+            if (node == null) {
+                break;
+            }
+
+            if (node.key != null && (match == null || node.order < match.order)) {
+                match = node;
+            }
+        }
+
+        return match != null ? match.key : null;
+    }
+
+    /**
+     * Checks if this index is still valid for given mappings and mapping strategy.
+     * @param mappings
+     * @param strategy
+     * @return
+     */
+    public boolean isCompiledFrom(Map<String, String> mappings, DataDictionary.PathMappingStrategy strategy) {
+        return this.mappings == mappings && this.size == mappings.size() && Objects.equals(this.strategy, strategy);
+    }
+
+    /**
+     * Trie node holding mapping key that ends at this node.
+     */
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private String key;
+        private int order;
+    }
+}
@@ -74,31 +74,13 @@ public class JsonMappingDataDictionary extends AbstractJsonDataDictionary {
 
     @Override
     public <T> T translate(String jsonPath, T value, TestContext context) {
-        if (getPathMappingStrategy().equals(PathMappingStrategy.EXACT)) {
-            if (mappings.containsKey(jsonPath)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Data dictionary setting element '%s' with value: %s", jsonPath, mappings.get(jsonPath)));
-                }
-                return convertIfNecessary(context.replaceDynamicContentInString(mappings.get(jsonPath)), value);
-            }
-        } else if (getPathMappingStrategy().equals(PathMappingStrategy.ENDS_WITH)) {
-            for (Map.Entry<String, String> entry : mappings.entrySet()) {
-                if (jsonPath.endsWith(entry.getKey())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Data dictionary setting element '%s' with value: %s", jsonPath, entry.getValue()));
-                    }
-                    return convertIfNecessary(context.replaceDynamicContentInString(entry.getValue()), value);
-                }
-            }
-        } else if (getPathMappingStrategy().equals(PathMappingStrategy.STARTS_WITH)) {
-            for (Map.Entry<String, String> entry : mappings.entrySet()) {
-                if (jsonPath.startsWith(entry.getKey())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Data dictionary setting element '%s' with value: %s", jsonPath, entry.getValue()));
-                    }
-                    return convertIfNecessary(context.replaceDynamicContentInString(entry.getValue()), value);
-                }
+        String mappingKey = getPathMappingIndex().lookup(jsonPath);
+
+        if (mappingKey != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Data dictionary setting element '%s' with value: %s", jsonPath, mappings.get(mappingKey)));
             }
+            return convertIfNecessary(context.replaceDynamicContentInString(mappings.get(mappingKey)), value);
         }
 
         return value;
@@ -113,21 +95,21 @@ public class JsonMappingDataDictionary extends AbstractJsonDataDictionary {
     private void traverseJsonData(JSONObject jsonData, String jsonPath, TestContext context) {
         for (Iterator it = jsonData.entrySet().iterator(); it.hasNext();) {
             Map.Entry jsonEntry = (Map.Entry) it.next();
+            String entryPath = StringUtils.hasText(jsonPath) ? jsonPath + "." + jsonEntry.getKey() : jsonEntry.getKey().toString();
 
             if (jsonEntry.getValue() instanceof JSONObject) {
-                traverseJsonData((JSONObject) jsonEntry.getValue(), (StringUtils.hasText(jsonPath) ? jsonPath + "." + jsonEntry.getKey() : jsonEntry.getKey().toString()), context);
+                traverseJsonData((JSONObject) jsonEntry.getValue(), entryPath, context);
             } else if (jsonEntry.getValue() instanceof JSONArray) {
                 JSONArray jsonArray = (JSONArray) jsonEntry.getValue();
                 for (int i = 0; i < jsonArray.size(); i++) {
                     if (jsonArray.get(i) instanceof JSONObject) {
-                        traverseJsonData((JSONObject) jsonArray.get(i), String.format((StringUtils.hasText(jsonPath) ? jsonPath + "." + jsonEntry.getKey() : jsonEntry.getKey().toString()) + "[%s]", i), context);
+                        traverseJsonData((JSONObject) jsonArray.get(i), entryPath + "[" + i + "]", context);
                     } else {
-                        jsonArray.set(i, translate(String.format((StringUtils.hasText(jsonPath) ? jsonPath + "." + jsonEntry.getKey() : jsonEntry.getKey().toString()) + "[%s]", i), jsonArray.get(i), context));
+                        jsonArray.set(i, translate(entryPath + "[" + i + "]", jsonArray.get(i), context));
                     }
                 }
             } else {
-                jsonEntry.setValue(translate((StringUtils.hasText(jsonPath) ? jsonPath + "." + jsonEntry.getKey() : jsonEntry.getKey().toString()),
-                        jsonEntry.getValue() != null ? jsonEntry.getValue() : null, context));
+                jsonEntry.setValue(translate(entryPath, jsonEntry.getValue(), context));
             }
         }
     }
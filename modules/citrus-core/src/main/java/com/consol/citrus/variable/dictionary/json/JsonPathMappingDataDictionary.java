@@ -17,15 +17,28 @@
 package com.consol.citrus.variable.dictionary.json;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonPathMessageConstructionInterceptor;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Json data dictionary implementation maps elements via JsonPath expressions. When element is identified by some expression
- * in dictionary value is overwritten accordingly.
+ * in dictionary value is overwritten accordingly. Definite path expressions are compiled into a path segment trie that is
+ * applied in a single pass over the Json data, all other expressions are evaluated one by one.
  *
  * @author Christoph Deppisch
  * @since 2.7
@@ -35,17 +48,184 @@ public class JsonPathMappingDataDictionary extends AbstractJsonDataDictionary {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JsonPathMappingDataDictionary.class);
 
+    /** Definite path segments like .name, ['name'] and [0] */
+    private static final Pattern PATH_SEGMENT = Pattern.compile("\\.([^.\\[\\]*@?()'\",\\s]+)|\\['([^']*)'\\]|\\[(\\d{1,9})\\]");
+
+    /** Compiled mappings cached for this dictionary instance */
+    private volatile CompiledMappings compiledMappings;
+
     @Override
     protected Message interceptMessage(Message message, String messageType, TestContext context) {
         if (message.getPayload() == null || !StringUtils.hasText(message.getPayload(String.class))) {
             return message;
         }
 
-        JsonPathMessageConstructionInterceptor delegateInterceptor = new JsonPathMessageConstructionInterceptor();
-        delegateInterceptor.setIgnoreNotFound(true);
-        delegateInterceptor.setJsonPathExpressions(mappings);
+        CompiledMappings compiled = getCompiledMappings();
+
+        try {
+            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+            Object jsonData = parser.parse(message.getPayload(String.class));
+
+            apply(jsonData, compiled.root, context);
+
+            if (!compiled.expressions.isEmpty()) {
+                DocumentContext documentContext = JsonPath.parse(jsonData);
+                for (Map.Entry<String, JsonPath> expression : compiled.expressions.entrySet()) {
+                    String valueExpression = context.replaceDynamicContentInString(mappings.get(expression.getKey()));
+
+                    try {
+                        documentContext.set(expression.getValue(), JsonPathMessageConstructionInterceptor.getJsonValue(valueExpression));
+                    } catch (PathNotFoundException e) {
+                        log.debug("Data dictionary ignores unknown element for expression: " + expression.getKey());
+                        continue;
+                    }
+
+                    if (log.isDebugEnabled()) {
+                        log.debug("Element " + expression.getKey() + " was set to value: " + valueExpression);
+                    }
+                }
+            }
+
+            message.setPayload(jsonData.toString());
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+
+        return message;
+    }
+
+    /**
+     * Walks Json data along the compiled path segments and sets values of all definite path mappings in a single pass.
+     * Only branches of the Json data that are referenced by some mapping are visited.
+     * @param jsonData
+     * @param segment
+     * @param context
+     */
+    private void apply(Object jsonData, PathSegment segment, TestContext context) {
+        for (Map.Entry<Object, PathSegment> child : segment.children.entrySet()) {
+            if (jsonData instanceof JSONObject && child.getKey() instanceof String) {
+                JSONObject jsonObject = (JSONObject) jsonData;
+                if (jsonObject.containsKey(child.getKey())) {
+                    if (child.getValue().expression != null) {
+                        jsonObject.put((String) child.getKey(), getValue(child.getValue().expression, context));
+                    } else {
+                        apply(jsonObject.get(child.getKey()), child.getValue(), context);
+                    }
+                }
+            } else if (jsonData instanceof JSONArray && child.getKey() instanceof Integer) {
+                JSONArray jsonArray = (JSONArray) jsonData;
+                int index = (Integer) child.getKey();
+                if (index < jsonArray.size()) {
+                    if (child.getValue().expression != null) {
+                        jsonArray.set(index, getValue(child.getValue().expression, context));
+                    } else {
+                        apply(jsonArray.get(index), child.getValue(), context);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves mapping value for given expression.
+     * @param expression
+     * @param context
+     * @return
+     */
+    private Object getValue(String expression, TestContext context) {
+        String valueExpression = context.replaceDynamicContentInString(mappings.get(expression));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Element " + expression + " was set to value: " + valueExpression);
+        }
+
+        return JsonPathMessageConstructionInterceptor.getJsonValue(valueExpression);
+    }
+
+    /**
+     * Gets compiled mappings. Mappings are compiled again when they have changed.
+     * @return
+     */
+    private CompiledMappings getCompiledMappings() {
+        CompiledMappings compiled = compiledMappings;
+        if (compiled == null || compiled.source != mappings || compiled.size != mappings.size()) {
+            compiled = new CompiledMappings(mappings);
+            compiledMappings = compiled;
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Mappings compiled into a trie of definite path segments and a list of remaining JsonPath expressions. Definite
+     * paths are only added to the trie as long as no other JsonPath expression precedes them in mapping order so
+     * overwrite semantics of sequential JsonPath evaluation are preserved.
+     */
+    private static final class CompiledMappings {
+        private final Map<String, String> source;
+        private final int size;
+        private final PathSegment root = new PathSegment();
+        private final Map<String, JsonPath> expressions = new LinkedHashMap<>();
+
+        CompiledMappings(Map<String, String> mappings) {
+            this.source = mappings;
+            this.size = mappings.size();
+
+            for (String expression : mappings.keySet()) {
+                List<Object> segments = expressions.isEmpty() ? parseDefinitePath(expression) : null;
+
+                if (segments != null) {
+                    PathSegment segment = root;
+                    for (Object key : segments) {
+                        segment = segment.children.computeIfAbsent(key, k -> new PathSegment());
+                    }
+                    segment.expression = expression;
+                } else {
+                    expressions.put(expression, JsonPath.compile(expression));
+                }
+            }
+        }
+
+        /**
+         * Parses definite JsonPath expression into property names and array indices. Returns null for all other
+         * expressions such as deep scans, wildcards, filters or slices.
+         * @param expression
+         * @return
+         */
+        private static List<Object> parseDefinitePath(String expression) {
+            if (!expression.startsWith("$") || expression.length() == 1) {
+                return null;
+            }
+
+            List<Object> segments = new ArrayList<>();
+            Matcher matcher = PATH_SEGMENT.matcher(expression);
+            int position = 1;
+            while (position < expression.length()) {
+                if (!matcher.find(position) || matcher.start() != position) {
+                    return null;
+                }
+
+                if (matcher.group(1) != null) {
+                    segments.add(matcher.group(1));
+                } else if (matcher.group(2) != null) {
+                    segments.add(matcher.group(2));
+                } else {
+                    segments.add(Integer.valueOf(matcher.group(3)));
+                }
+
+                position = matcher.end();
+            }
+
+            return segments;
+        }
+    }
 
-        return delegateInterceptor.interceptMessage(message, messageType, context);
+    /**
+     * Path segment trie node. Holds mapping expression in case a mapping ends at this segment.
+     */
+    private static final class PathSegment {
+        private final Map<Object, PathSegment> children = new LinkedHashMap<>();
+        private String expression;
     }
 
     @Override
@@ -17,12 +17,15 @@
 package com.consol.citrus.variable.dictionary.xml;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.util.XMLUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.w3c.dom.Attr;
 import org.w3c.dom.Node;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -37,37 +40,76 @@ public class NodeMappingDataDictionary extends AbstractXmlDataDictionary impleme
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(NodeMappingDataDictionary.class);
 
+    /** Element paths of document currently intercepted by this thread */
+    private final ThreadLocal<Map<Node, String>> elementPaths = new ThreadLocal<>();
+
+    @Override
+    protected Message interceptMessage(Message message, String messageType, TestContext context) {
+        elementPaths.set(new IdentityHashMap<>());
+
+        try {
+            return super.interceptMessage(message, messageType, context);
+        } finally {
+            elementPaths.remove();
+        }
+    }
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
-        String nodePath = XMLUtils.getNodesPathName(node);
-
-        if (getPathMappingStrategy().equals(PathMappingStrategy.EXACT)) {
-            if (mappings.containsKey(nodePath)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Data dictionary setting element '%s' with value: %s", nodePath, mappings.get(nodePath)));
-                }
-                return convertIfNecessary(context.replaceDynamicContentInString(mappings.get(nodePath)), value);
-            }
-        } else if (getPathMappingStrategy().equals(PathMappingStrategy.ENDS_WITH)) {
-            for (Map.Entry<String, String> entry : mappings.entrySet()) {
-                if (nodePath.endsWith(entry.getKey())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Data dictionary setting element '%s' with value: %s", nodePath, entry.getValue()));
-                    }
-                    return convertIfNecessary(context.replaceDynamicContentInString(entry.getValue()), value);
-                }
-            }
-        } else if (getPathMappingStrategy().equals(PathMappingStrategy.STARTS_WITH)) {
-            for (Map.Entry<String, String> entry : mappings.entrySet()) {
-                if (nodePath.startsWith(entry.getKey())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Data dictionary setting element '%s' with value: %s", nodePath, entry.getValue()));
-                    }
-                    return convertIfNecessary(context.replaceDynamicContentInString(entry.getValue()), value);
-                }
+        String nodePath = getNodePath(node);
+
+        String mappingKey = getPathMappingIndex().lookup(nodePath);
+
+        if (mappingKey != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Data dictionary setting element '%s' with value: %s", nodePath, mappings.get(mappingKey)));
             }
+            return convertIfNecessary(context.replaceDynamicContentInString(mappings.get(mappingKey)), value);
         }
 
         return value;
     }
+
+    /**
+     * Gets path name of given node. While intercepting a message the path of each element is computed once from
+     * its parent path and reused for its attributes and child elements.
+     * @param node
+     * @return
+     */
+    private String getNodePath(Node node) {
+        Map<Node, String> paths = elementPaths.get();
+        if (paths == null) {
+            return XMLUtils.getNodesPathName(node);
+        }
+
+        if (node.getNodeType() == Node.ATTRIBUTE_NODE) {
+            return getElementPath(((Attr) node).getOwnerElement(), paths) + "." + node.getLocalName();
+        }
+
+        return getElementPath(node, paths);
+    }
+
+    /**
+     * Gets path name of element from cached parent path.
+     * @param node
+     * @param paths
+     * @return
+     */
+    private String getElementPath(Node node, Map<Node, String> paths) {
+        String path = paths.get(node);
+        if (path == null) {
+            Node parent = node.getParentNode();
+            if (parent == null) {
+                path = "";
+            } else if (parent.getParentNode() == null) {
+                path = node.getLocalName();
+            } else {
+                path = getElementPath(parent, paths) + "." + node.getLocalName();
+            }
+
+            paths.put(node, path);
+        }
+
+        return path;
+    }
 }
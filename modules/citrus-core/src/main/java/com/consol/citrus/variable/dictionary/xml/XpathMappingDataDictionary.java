@@ -17,6 +17,7 @@
 package com.consol.citrus.variable.dictionary.xml;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import com.consol.citrus.xml.xpath.XPathUtils;
@@ -25,11 +26,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -48,38 +52,74 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Mapped nodes of document currently intercepted by this thread */
+    private final ThreadLocal<DocumentMappings> documentMappings = new ThreadLocal<>();
+
     @Override
-    public <T> T translate(Node node, T value, TestContext context) {
-        for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
-            String expression = expressionEntry.getKey();
+    protected Message interceptMessage(Message message, String messageType, TestContext context) {
+        documentMappings.set(new DocumentMappings());
 
-            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node), XPathConstants.NODESET);
+        try {
+            return super.interceptMessage(message, messageType, context);
+        } finally {
+            documentMappings.remove();
+        }
+    }
 
-            if (findings != null && containsNode(findings, node)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), expressionEntry.getValue()));
-                }
-                return convertIfNecessary(context.replaceDynamicContentInString(expressionEntry.getValue()), value);
+    @Override
+    public <T> T translate(Node node, T value, TestContext context) {
+        DocumentMappings mappedNodes = documentMappings.get();
+        if (mappedNodes == null) {
+            mappedNodes = new DocumentMappings();
+        }
+
+        String expression = mappedNodes.lookup(node);
+        if (expression != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mappings.get(expression)));
             }
+            return convertIfNecessary(context.replaceDynamicContentInString(mappings.get(expression)), value);
         }
 
         return value;
     }
 
     /**
-     * Checks if given node set contains node.
-     * @param findings
-     * @param node
-     * @return
+     * Nodes of a document identified by dictionary expressions. Each expression is evaluated only once per document
+     * instead of once per translated node. First expression identifying a node wins.
+     *
+     * All expressions are evaluated on first lookup, before any node of the document has been translated. Expressions
+     * therefore always match against the original message content, so expressions with predicates on element or attribute
+     * values are not affected by values set by this dictionary.
      */
-    private boolean containsNode(NodeList findings, Node node) {
-        for (int i = 0; i < findings.getLength(); i++) {
-            if (findings.item(i).equals(node)) {
-                return true;
+    private class DocumentMappings {
+        private Document document;
+        private Map<Node, String> mappedNodes = Collections.emptyMap();
+
+        /**
+         * Gets expression identifying given node. Evaluates dictionary expressions on node document on first access.
+         * @param node
+         * @return
+         */
+        String lookup(Node node) {
+            if (node.getOwnerDocument() != document) {
+                document = node.getOwnerDocument();
+                mappedNodes = new IdentityHashMap<>();
+
+                NamespaceContext namespaceContext = buildNamespaceContext(node);
+                for (String expression : mappings.keySet()) {
+                    NodeList findings = (NodeList) XPathUtils.evaluateExpression(document, expression, namespaceContext, XPathConstants.NODESET);
+
+                    if (findings != null) {
+                        for (int i = 0; i < findings.getLength(); i++) {
+                            mappedNodes.putIfAbsent(findings.item(i), expression);
+                        }
+                    }
+                }
             }
-        }
 
-        return false;
+            return mappedNodes.get(node);
+        }
     }
 
     /**
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.config;
+
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class BootstrapTimerTest extends AbstractTestNGUnitTest {
+
+    @Autowired
+    private BootstrapTimer bootstrapTimer;
+
+    @Test
+    public void testBootstrapTimes() {
+        Assert.assertTrue(bootstrapTimer.getContextRefreshTime() >= 0L);
+        Assert.assertTrue(bootstrapTimer.getBeanTimes().containsKey("testContextFactory"));
+        Assert.assertTrue(bootstrapTimer.getBeanTimes().containsKey("endpointFactory"));
+
+        List<Map.Entry<String, Long>> slowestBeans = bootstrapTimer.getSlowestBeans(3);
+        Assert.assertEquals(slowestBeans.size(), 3L);
+        Assert.assertTrue(slowestBeans.get(0).getValue() >= slowestBeans.get(1).getValue());
+        Assert.assertTrue(slowestBeans.get(1).getValue() >= slowestBeans.get(2).getValue());
+    }
+
+    @Test
+    public void testIgnoreChildContextRefresh() {
+        BootstrapTimer timer = new BootstrapTimer();
+
+        StaticApplicationContext childContext = new StaticApplicationContext(applicationContext);
+        timer.onApplicationEvent(new ContextRefreshedEvent(childContext));
+        Assert.assertEquals(timer.getContextRefreshTime(), -1L);
+
+        timer.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+        Assert.assertTrue(timer.getContextRefreshTime() >= 0L);
+    }
+}
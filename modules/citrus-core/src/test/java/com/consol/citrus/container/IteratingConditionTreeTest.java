@@ -0,0 +1,101 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.container;
+
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.BooleanExpressionParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class IteratingConditionTreeTest extends AbstractTestNGUnitTest {
+
+    @Test(dataProvider = "conditions")
+    public void testCompiledEvaluation(String condition) {
+        context.setVariable("end", "5");
+        context.setVariable("enabled", "true");
+
+        IteratingConditionTree tree = IteratingConditionTree.compile(condition, "i");
+        Assert.assertNotNull(tree, "Failed to compile condition: " + condition);
+
+        for (int index = 0; index < 8; index++) {
+            String expression = context.replaceDynamicContentInString(condition.replace("${i}", String.valueOf(index)))
+                                        .replaceAll("i", String.valueOf(index));
+            Assert.assertEquals(tree.evaluate(index, context), Boolean.valueOf(BooleanExpressionParser.evaluate(expression)),
+                    String.format("Condition '%s' with index %s", condition, index));
+        }
+    }
+
+    @DataProvider
+    public Object[][] conditions() {
+        return new Object[][] {
+            new Object[] { "i lt 5" },
+            new Object[] { "i lt= 5" },
+            new Object[] { "i gt 2" },
+            new Object[] { "i gt= 2" },
+            new Object[] { "i = 3" },
+            new Object[] { "${i} lt 4" },
+            new Object[] { "i lt ${end}" },
+            new Object[] { "(i gt 1) and (i lt ${end})" },
+            new Object[] { "((i = 1) or (i = 3)) or (i gt 6)" },
+            new Object[] { "(i lt 3) or (false = ${enabled} )" },
+            new Object[] { "i" },
+            new Object[] { "true" },
+            new Object[] { "(true = true ) and (i lt 2)" }
+        };
+    }
+
+    @Test
+    public void testUnsupportedConditions() {
+        Assert.assertNull(IteratingConditionTree.compile("@greaterThan(5)@", "i"));
+        Assert.assertNull(IteratingConditionTree.compile("i lt citrus:randomNumber(1)", "i"));
+        Assert.assertNull(IteratingConditionTree.compile("i lt ", "i"));
+        Assert.assertNull(IteratingConditionTree.compile("i foo 1", "i"));
+        Assert.assertNull(IteratingConditionTree.compile("i lt 1${end}", "i"));
+        Assert.assertNull(IteratingConditionTree.compile("t lt 5", "t"));
+        Assert.assertNull(IteratingConditionTree.compile("(i lt 3) and (1 = true)", "i"));
+    }
+
+    @Test
+    public void testUnboundVariable() {
+        context.setVariable("expression", "1 lt 5");
+
+        IteratingConditionTree tree = IteratingConditionTree.compile("i lt ${expression}", "i");
+        Assert.assertNotNull(tree);
+        Assert.assertNull(tree.evaluate(1, context));
+        Assert.assertNull(IteratingConditionTree.compile("i lt ${unknown}", "i").evaluate(1, context));
+    }
+
+    @Test
+    public void testIterateWithCompiledCondition() {
+        Iterate iterate = new Iterate();
+        iterate.setCondition("i lt ${end}");
+        iterate.setIndexName("i");
+        context.setVariable("end", "10000");
+
+        iterate.execute(context);
+        Assert.assertEquals(iterate.getIndex(), 10000);
+
+        iterate.setCondition("i lt= 3");
+        iterate.execute(context);
+        Assert.assertEquals(iterate.getIndex(), 4);
+    }
+}
@@ -80,6 +80,33 @@ public class TestContextTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(testContext.getVariables().containsKey("test1Var"));
     }
     
+    @Test
+    public void testGlobalVariablesSnapshot() {
+        globalVariables.getVariables().put("defaultVar", "123");
+
+        TestContext testContext = createTestContext();
+        TestContext otherContext = createTestContext();
+        Map<String, Object> snapshot = testContext.getGlobalVariables();
+        Assert.assertSame(snapshot, otherContext.getGlobalVariables());
+        Assert.assertEquals(snapshot.get("defaultVar"), "123");
+
+        try {
+            testContext.getGlobalVariables().put("defaultVar", "ABC");
+            fail("Missing exception due to unmodifiable global variables");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(globalVariables.getVariables().get("defaultVar"), "123");
+        }
+
+        globalVariables.getVariables().put("defaultVar", "456");
+        Assert.assertEquals(testContext.getVariables().get("defaultVar"), "123");
+        Assert.assertEquals(createTestContext().getVariables().get("defaultVar"), "456");
+        Assert.assertNotSame(createTestContext().getGlobalVariables(), snapshot);
+        Assert.assertEquals(snapshot.get("defaultVar"), "123");
+
+        globalVariables.getVariables().remove("defaultVar");
+        Assert.assertFalse(createTestContext().getVariables().containsKey("defaultVar"));
+    }
+
     @Test
     public void testDefaultVariablesChange() {
         globalVariables.getVariables().put("defaultVar", "123");
@@ -21,7 +21,10 @@ import com.consol.citrus.channel.ChannelEndpointComponent;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -127,4 +130,147 @@ public class DefaultEndpointFactoryTest {
             Assert.assertTrue(e.getMessage().startsWith("Invalid endpoint uri"));
         }
     }
+
+    @Test
+    public void testEndpointCache() throws Exception {
+        Map<String, EndpointComponent> components = new HashMap<String, EndpointComponent>();
+        components.put("custom", new ChannelEndpointComponent());
+
+        reset(applicationContext);
+        when(applicationContext.getBeansOfType(EndpointComponent.class)).thenReturn(components);
+        TestContext context = new TestContext();
+        context.setApplicationContext(applicationContext);
+        context.setVariable("channelName", "custom.channel");
+
+        DefaultEndpointFactory factory = new DefaultEndpointFactory();
+        Endpoint endpoint = factory.create("custom:${channelName}", context);
+
+        Assert.assertSame(factory.create("custom:custom.channel", context), endpoint);
+        Assert.assertSame(factory.create("custom:${channelName}", context), endpoint);
+        Assert.assertNotSame(factory.create("custom:other.channel", context), endpoint);
+
+        Assert.assertEquals(factory.getCacheHits(), 2L);
+        Assert.assertEquals(factory.getCacheMisses(), 2L);
+        Assert.assertEquals(factory.getCacheSize(), 2);
+
+        verify(applicationContext, times(1)).getBeansOfType(EndpointComponent.class);
+    }
+
+    @Test
+    public void testEndpointCacheByEndpointName() throws Exception {
+        reset(applicationContext);
+        when(applicationContext.getBeansOfType(EndpointComponent.class)).thenReturn(Collections.<String, EndpointComponent>emptyMap());
+        TestContext context = new TestContext();
+        context.setApplicationContext(applicationContext);
+
+        DefaultEndpointFactory factory = new DefaultEndpointFactory();
+        Endpoint endpoint = factory.create("channel:channel.name?endpointName=myChannel", context);
+
+        Assert.assertSame(factory.create("channel:other.name?endpointName=myChannel", context), endpoint);
+        Assert.assertEquals(factory.getCacheHits(), 1L);
+        Assert.assertEquals(factory.getCacheMisses(), 1L);
+        Assert.assertEquals(factory.getCacheSize(), 1);
+    }
+
+    @Test
+    public void testNestedEndpointCreation() throws Exception {
+        final DefaultEndpointFactory factory = new DefaultEndpointFactory();
+
+        Map<String, EndpointComponent> components = new HashMap<String, EndpointComponent>();
+        components.put("custom", new ChannelEndpointComponent());
+        components.put("nested", new ChannelEndpointComponent() {
+            @Override
+            public Endpoint createEndpoint(String endpointUri, TestContext context) {
+                factory.create("custom:nested.channel", context);
+                return super.createEndpoint(endpointUri, context);
+            }
+        });
+
+        reset(applicationContext);
+        when(applicationContext.getBeansOfType(EndpointComponent.class)).thenReturn(components);
+        TestContext context = new TestContext();
+        context.setApplicationContext(applicationContext);
+
+        Endpoint endpoint = factory.create("nested:channel.name", context);
+
+        Assert.assertSame(factory.create("nested:channel.name", context), endpoint);
+        Assert.assertEquals(factory.getCacheSize(), 2);
+    }
+
+    @Test
+    public void testApplicationContextClosed() throws Exception {
+        GenericApplicationContext genericApplicationContext = new GenericApplicationContext();
+        genericApplicationContext.getBeanFactory().registerSingleton("custom", new ChannelEndpointComponent());
+        genericApplicationContext.refresh();
+
+        TestContext context = new TestContext();
+        context.setApplicationContext(genericApplicationContext);
+
+        DefaultEndpointFactory factory = new DefaultEndpointFactory();
+        Assert.assertNotNull(factory.create("custom:channel.name", context));
+
+        Map<?, ?> componentRegistry = (Map<?, ?>) ReflectionTestUtils.getField(factory, "componentRegistry");
+        Assert.assertTrue(componentRegistry.containsKey(genericApplicationContext));
+
+        Map<?, ?> endpointUriCache = (Map<?, ?>) ReflectionTestUtils.getField(factory, "endpointUriCache");
+        Assert.assertTrue(endpointUriCache.containsKey(genericApplicationContext));
+
+        genericApplicationContext.close();
+        Assert.assertFalse(componentRegistry.containsKey(genericApplicationContext));
+        Assert.assertFalse(endpointUriCache.containsKey(genericApplicationContext));
+    }
+
+    @Test
+    public void testConcurrentEndpointCreation() throws Exception {
+        final DefaultEndpointFactory factory = new DefaultEndpointFactory();
+        final List<DisposableChannelEndpoint> created = Collections.synchronizedList(new ArrayList<>());
+
+        Map<String, EndpointComponent> components = new HashMap<String, EndpointComponent>();
+        components.put("custom", new ChannelEndpointComponent() {
+            @Override
+            public Endpoint createEndpoint(String endpointUri, TestContext context) {
+                DisposableChannelEndpoint endpoint = new DisposableChannelEndpoint();
+                created.add(endpoint);
+
+                if (created.size() == 1) {
+                    // simulate concurrent thread creating the same endpoint while this creation is in progress
+                    Thread concurrent = new Thread(() -> factory.create(endpointUri, context));
+                    concurrent.start();
+                    try {
+                        concurrent.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return endpoint;
+            }
+        });
+
+        reset(applicationContext);
+        when(applicationContext.getBeansOfType(EndpointComponent.class)).thenReturn(components);
+        TestContext context = new TestContext();
+        context.setApplicationContext(applicationContext);
+
+        Endpoint endpoint = factory.create("custom:channel.name", context);
+
+        Assert.assertEquals(created.size(), 2L);
+        Assert.assertSame(endpoint, created.get(1));
+        Assert.assertFalse(created.get(1).isDestroyed());
+        Assert.assertTrue(created.get(0).isDestroyed());
+        Assert.assertEquals(factory.getCacheSize(), 1);
+    }
+
+    private static class DisposableChannelEndpoint extends ChannelEndpoint implements DisposableBean {
+        private boolean destroyed = false;
+
+        @Override
+        public void destroy() {
+            destroyed = true;
+        }
+
+        boolean isDestroyed() {
+            return destroyed;
+        }
+    }
 }
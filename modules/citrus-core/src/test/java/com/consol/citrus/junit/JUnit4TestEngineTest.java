@@ -18,13 +18,16 @@ package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.junit.scan.SampleJUnit4Test;
+import com.consol.citrus.main.ShardingStrategy;
 import com.consol.citrus.main.TestRunConfiguration;
 import org.junit.runner.Result;
 import org.junit.runner.notification.RunListener;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.*;
 import java.util.Collections;
+import java.util.Properties;
 
 /**
  * @author Christoph Deppisch
@@ -58,6 +61,27 @@ public class JUnit4TestEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunParallel() throws IOException {
+        File durations = File.createTempFile("citrus-test-durations", ".properties");
+        durations.deleteOnExit();
+
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleJUnit4Test.class.getPackage().getName()));
+        configuration.setThreadCount(2);
+        configuration.setShardingStrategy(ShardingStrategy.DURATION);
+        configuration.setTestDurations(durations);
+
+        runTestEngine(configuration, 0L, 1L);
+
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(durations)) {
+            properties.load(in);
+        }
+        Assert.assertTrue(properties.containsKey(SampleJUnit4Test.class.getName()));
+    }
+
     private void runTestEngine(TestRunConfiguration configuration, long failure, long passed) {
         JUnit4TestEngine engine = new JUnit4TestEngine(configuration);
         engine.addRunListener(new RunListener() {
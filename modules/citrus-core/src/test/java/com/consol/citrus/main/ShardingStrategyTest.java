@@ -0,0 +1,86 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main;
+
+import com.consol.citrus.TestClass;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ShardingStrategyTest {
+
+    private List<TestClass> tests = Arrays.asList(new TestClass("com.foo.FooIT"),
+            new TestClass("com.foo.BarIT"),
+            new TestClass("com.foo.BazIT"),
+            new TestClass("com.bar.FooIT"),
+            new TestClass("com.bar.BarIT"));
+
+    @Test
+    public void testClassSharding() {
+        List<List<TestClass>> shards = ShardingStrategy.CLASS.shard(tests, 2, Collections.emptyMap());
+
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).size(), 3);
+        Assert.assertEquals(shards.get(1).size(), 2);
+        Assert.assertEquals(shards.get(0).get(1).getName(), "com.foo.BazIT");
+    }
+
+    @Test
+    public void testPackageSharding() {
+        List<List<TestClass>> shards = ShardingStrategy.PACKAGE.shard(tests, 2, Collections.emptyMap());
+
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).size(), 3);
+        Assert.assertTrue(shards.get(0).stream().allMatch(test -> test.getName().startsWith("com.foo.")));
+        Assert.assertEquals(shards.get(1).size(), 2);
+        Assert.assertTrue(shards.get(1).stream().allMatch(test -> test.getName().startsWith("com.bar.")));
+    }
+
+    @Test
+    public void testDurationSharding() {
+        Map<String, Long> durations = new HashMap<>();
+        durations.put("com.foo.FooIT", 1000L);
+        durations.put("com.foo.BarIT", 600L);
+        durations.put("com.foo.BazIT", 300L);
+        durations.put("com.bar.FooIT", 200L);
+
+        List<List<TestClass>> shards = ShardingStrategy.DURATION.shard(tests, 2, durations);
+
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).size(), 2);
+        Assert.assertEquals(shards.get(0).get(0).getName(), "com.foo.FooIT");
+        Assert.assertEquals(shards.get(0).get(1).getName(), "com.foo.BazIT");
+        Assert.assertEquals(shards.get(1).size(), 3);
+        Assert.assertEquals(shards.get(1).get(0).getName(), "com.foo.BarIT");
+        Assert.assertEquals(shards.get(1).get(1).getName(), "com.bar.BarIT");
+    }
+
+    @Test
+    public void testEmptyShards() {
+        List<List<TestClass>> shards = ShardingStrategy.CLASS.shard(tests.subList(0, 1), 3, Collections.emptyMap());
+
+        Assert.assertEquals(shards.size(), 3);
+        Assert.assertEquals(shards.get(0).size(), 1);
+        Assert.assertTrue(shards.get(1).isEmpty());
+        Assert.assertTrue(shards.get(2).isEmpty());
+    }
+}
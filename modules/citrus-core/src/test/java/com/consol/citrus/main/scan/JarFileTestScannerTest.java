@@ -0,0 +1,109 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class JarFileTestScannerTest {
+
+    @Test
+    public void testFindTestsInPackage() throws IOException {
+        File testJar = createTestJar();
+        Path indexDirectory = Files.createTempDirectory("citrus-test-index");
+
+        JarFileTestScanner scanner = new JarFileTestScanner(testJar, ".*IT");
+        scanner.setIndexDirectory(indexDirectory.toString());
+
+        List<TestClass> findings = scanner.findTestsInPackage("com.consol.citrus.samples");
+        Assert.assertEquals(findings.size(), 2L);
+        Assert.assertEquals(findings.get(0).getName(), "com.consol.citrus.samples.FooIT");
+        Assert.assertEquals(findings.get(1).getName(), "com.consol.citrus.samples.sub.BarIT");
+
+        File[] indexFiles = indexDirectory.toFile().listFiles((dir, name) -> name.endsWith(".idx"));
+        Assert.assertNotNull(indexFiles);
+        Assert.assertEquals(indexFiles.length, 1L);
+
+        // index is used instead of scanning the jar once again
+        Files.write(indexFiles[0].toPath(), "com.consol.citrus.samples.IndexedIT".getBytes(StandardCharsets.UTF_8));
+        findings = scanner.findTestsInPackage("com.consol.citrus.samples");
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), "com.consol.citrus.samples.IndexedIT");
+
+        // modified jar file gets scanned again and outdated index is removed
+        Assert.assertTrue(testJar.setLastModified(testJar.lastModified() - 60000L));
+        findings = scanner.findTestsInPackage("com.consol.citrus.samples");
+        Assert.assertEquals(findings.size(), 2L);
+
+        File[] updatedIndexFiles = indexDirectory.toFile().listFiles((dir, name) -> name.endsWith(".idx"));
+        Assert.assertNotNull(updatedIndexFiles);
+        Assert.assertEquals(updatedIndexFiles.length, 1L);
+        Assert.assertNotEquals(updatedIndexFiles[0].getName(), indexFiles[0].getName());
+
+        // index files of other jar files are kept
+        JarFileTestScanner otherScanner = new JarFileTestScanner(createTestJar(), ".*IT");
+        otherScanner.setIndexDirectory(indexDirectory.toString());
+        otherScanner.findTestsInPackage("com.consol.citrus.samples");
+        Assert.assertEquals(indexDirectory.toFile().listFiles((dir, name) -> name.endsWith(".idx")).length, 2L);
+
+        findings = new JarFileTestScanner(testJar, ".*IT").findTestsInPackage("com.consol.citrus.unknown");
+        Assert.assertEquals(findings.size(), 0L);
+    }
+
+    @Test
+    public void testIndexDisabled() throws IOException {
+        File testJar = createTestJar();
+
+        JarFileTestScanner scanner = new JarFileTestScanner(testJar);
+        scanner.setIndexDirectory("");
+
+        List<TestClass> findings = scanner.findTestsInPackage("com.consol.citrus.samples.sub");
+        Assert.assertEquals(findings.size(), 1L);
+        Assert.assertEquals(findings.get(0).getName(), "com.consol.citrus.samples.sub.BarIT");
+    }
+
+    private File createTestJar() throws IOException {
+        File testJar = File.createTempFile("citrus-tests", ".jar");
+        testJar.deleteOnExit();
+
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(testJar))) {
+            for (String entry : new String[] { "com/consol/citrus/samples/",
+                                               "com/consol/citrus/samples/FooIT.class",
+                                               "com/consol/citrus/samples/FooTest.class",
+                                               "com/consol/citrus/samples/sub/BarIT.class",
+                                               "com/consol/citrus/samples/foo-test.xml",
+                                               "com/consol/citrus/other/OtherIT.class" }) {
+                jar.putNextEntry(new JarEntry(entry));
+                jar.closeEntry();
+            }
+        }
+
+        return testJar;
+    }
+}
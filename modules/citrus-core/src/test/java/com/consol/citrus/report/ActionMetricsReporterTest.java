@@ -0,0 +1,133 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.channel.ChannelEndpoint;
+import com.consol.citrus.message.DefaultMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ActionMetricsReporterTest {
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000L);
+        Assert.assertEquals(histogram.getMin(), 1000L);
+        Assert.assertEquals(histogram.getMax(), 1000000L);
+        Assert.assertEquals(histogram.getMean(), 500500.0);
+
+        assertWithinPrecision(histogram.getValueAtPercentile(50.0), 500000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(90.0), 900000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(99.0), 990000L);
+        Assert.assertEquals(histogram.getValueAtPercentile(100.0), 1000000L);
+
+        for (long value : new long[] { 0L, 1L, 63L, 64L, 65L, 1023L, 1024L, Long.MAX_VALUE }) {
+            Assert.assertTrue(LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(value)) >= value);
+        }
+
+        Assert.assertEquals(new LatencyHistogram().getValueAtPercentile(99.0), 0L);
+
+        LatencyHistogram bounds = new LatencyHistogram();
+        bounds.record(0L);
+        bounds.record(Long.MAX_VALUE);
+        Assert.assertEquals(bounds.getValueAtPercentile(50.0), 0L);
+        Assert.assertEquals(bounds.getValueAtPercentile(100.0), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testActionMetrics() throws IOException {
+        TestCase test = new TestCase();
+        test.setName("SampleIT");
+
+        EchoAction echo = new EchoAction();
+        ChannelEndpoint endpoint = new ChannelEndpoint();
+        endpoint.setName("fooEndpoint");
+        ReceiveMessageAction receive = new ReceiveMessageAction();
+        receive.setEndpoint(endpoint);
+        SendMessageAction send = new SendMessageAction();
+        send.setEndpoint(endpoint);
+
+        ActionMetricsReporter reporter = new ActionMetricsReporter();
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestActionStart(test, receive);
+        reporter.onInboundMessage(new DefaultMessage("Hello"), null);
+        reporter.onTestActionFinish(test, receive);
+        reporter.onTestActionStart(test, send);
+        reporter.onOutboundMessage(new DefaultMessage("Hello"), null);
+        reporter.onTestActionFinish(test, send);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestFinish(test);
+        reporter.onTestSuccess(test);
+
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.ACTION_METRIC_PREFIX + echo.getName()).getCount(), 2L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.ACTION_METRIC_PREFIX + receive.getName()).getCount(), 1L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.ACTION_METRIC_PREFIX + send.getName()).getCount(), 1L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.ENDPOINT_METRIC_PREFIX + "fooEndpoint").getCount(), 2L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.RECEIVE_WAIT_METRIC_PREFIX + "fooEndpoint").getCount(), 1L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.VALIDATION_METRIC_PREFIX + "fooEndpoint").getCount(), 1L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.SEND_METRIC_PREFIX + "fooEndpoint").getCount(), 1L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.LISTENER_OVERHEAD_METRIC).getCount(), 4L);
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.TEST_METRIC_PREFIX + "SampleIT").getCount(), 1L);
+
+        JsonNode report = new ObjectMapper().readTree(reporter.getReportContent());
+        Assert.assertEquals(report.get("tests").asInt(), 1);
+        Assert.assertEquals(report.get("metrics").size(), 9);
+        Assert.assertEquals(report.get("metrics").get(ActionMetricsReporter.ACTION_METRIC_PREFIX + echo.getName()).get("count").asLong(), 2L);
+        Assert.assertTrue(report.get("metrics").get(ActionMetricsReporter.TEST_METRIC_PREFIX + "SampleIT").has("p99Ms"));
+    }
+
+    @Test
+    public void testFailedNestedAction() {
+        TestCase test = new TestCase();
+        test.setName("SampleIT");
+
+        EchoAction outer = new EchoAction();
+        EchoAction nested = new EchoAction();
+
+        ActionMetricsReporter reporter = new ActionMetricsReporter();
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, outer);
+        reporter.onTestActionStart(test, nested);
+        reporter.onTestActionFinish(test, outer);
+
+        Assert.assertEquals(reporter.getHistogram(ActionMetricsReporter.ACTION_METRIC_PREFIX + outer.getName()).getCount(), 1L);
+    }
+
+    private void assertWithinPrecision(long actual, long expected) {
+        Assert.assertTrue(actual >= expected && actual <= expected * 1.04, String.format("Expected %s to be close to %s", actual, expected));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.context.TestContext;
+import groovy.lang.GroovyObject;
+import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class GroovyScriptCacheTest {
+
+    private final ClassLoader parent = GroovyScriptCacheTest.class.getClassLoader();
+
+    @Test
+    public void testCachedScript() throws Exception {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        Class<?> scriptClass = cache.parseClass("return 'Hello'", parent);
+        Assert.assertSame(cache.parseClass("return 'Hello'", parent), scriptClass);
+        Assert.assertEquals(((GroovyObject) scriptClass.newInstance()).invokeMethod("run", new Object[] {}), "Hello");
+
+        Assert.assertEquals(cache.getCompilations(), 1L);
+        Assert.assertEquals(cache.getHits(), 1L);
+        Assert.assertEquals(cache.getSize(), 1);
+
+        Assert.assertNotSame(cache.parseClass("return 'Hello'", new ClassLoader(parent) {}), scriptClass);
+        Assert.assertEquals(cache.getCompilations(), 2L);
+    }
+
+    @Test
+    public void testEviction() {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        Class<?> first = cache.parseClass("return 1", parent);
+        cache.parseClass("return 2", parent);
+        cache.parseClass("return 1", parent);
+        cache.parseClass("return 3", parent);
+
+        Assert.assertEquals(cache.getSize(), 2);
+        Assert.assertEquals(cache.getEvictions(), 1L);
+
+        // least recently used script was evicted
+        Assert.assertSame(cache.parseClass("return 1", parent), first);
+        cache.parseClass("return 2", parent);
+        Assert.assertEquals(cache.getCompilations(), 4L);
+
+        cache.clear();
+        Assert.assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testConcurrentCompilation() throws Exception {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+        CyclicBarrier barrier = new CyclicBarrier(4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Class<?>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return cache.parseClass("return 'Concurrent'", parent);
+                }));
+            }
+
+            Class<?> scriptClass = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Class<?>> result : results) {
+                Assert.assertSame(result.get(5, TimeUnit.SECONDS), scriptClass);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(cache.getCompilations(), 1L);
+        Assert.assertEquals(cache.getHits(), 3L);
+    }
+
+    @Test
+    public void testCompilationFailure() {
+        GroovyScriptCache cache = new GroovyScriptCache(2);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parseClass("return 'Invalid", parent);
+                Assert.fail("Missing compilation error");
+            } catch (MultipleCompilationErrorsException e) {
+                Assert.assertEquals(cache.getSize(), 0);
+            }
+        }
+
+        Assert.assertEquals(cache.getHits(), 0L);
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        GroovyScriptCache cache = new GroovyScriptCache(0);
+
+        Assert.assertNotSame(cache.parseClass("return 'Hello'", parent), cache.parseClass("return 'Hello'", parent));
+        Assert.assertEquals(cache.getCompilations(), 2L);
+        Assert.assertEquals(cache.getHits(), 0L);
+        Assert.assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testGroovyActionUsesCache() {
+        GroovyScriptCache cache = GroovyScriptCache.getDefault();
+
+        GroovyAction action = new GroovyAction();
+        action.setScript("context.setVariable('cached', 'true')");
+
+        action.execute(new TestContext());
+        long compilations = cache.getCompilations();
+        action.execute(new TestContext());
+
+        Assert.assertEquals(cache.getCompilations(), compilations);
+    }
+}
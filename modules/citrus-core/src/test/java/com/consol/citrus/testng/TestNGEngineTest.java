@@ -17,12 +17,15 @@
 package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.main.ShardingStrategy;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.*;
 import org.testng.annotations.Test;
 
+import java.io.*;
 import java.util.Collections;
+import java.util.Properties;
 
 /**
  * @author Christoph Deppisch
@@ -56,6 +59,27 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 0L);
     }
 
+    @Test
+    public void testRunParallel() throws IOException {
+        File durations = File.createTempFile("citrus-test-durations", ".properties");
+        durations.deleteOnExit();
+
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setIncludes(new String[] { ".*Test" });
+        configuration.setPackages(Collections.singletonList(SampleTestNGTest.class.getPackage().getName()));
+        configuration.setThreadCount(2);
+        configuration.setShardingStrategy(ShardingStrategy.DURATION);
+        configuration.setTestDurations(durations);
+
+        runTestEngine(configuration, 0L, 1L);
+
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(durations)) {
+            properties.load(in);
+        }
+        Assert.assertTrue(properties.containsKey(SampleTestNGTest.class.getName()));
+    }
+
     private void runTestEngine(TestRunConfiguration configuration, long failure, long passed) {
         TestNGEngine engine = new TestNGEngine(configuration);
         engine.addTestListener(new ISuiteListener() {
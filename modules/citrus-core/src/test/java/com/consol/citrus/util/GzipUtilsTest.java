@@ -0,0 +1,96 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.springframework.util.StreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GzipUtilsTest {
+
+    @Test
+    public void testCompress() throws IOException {
+        byte[] compressed = GzipUtils.compress("Hello World!".getBytes());
+
+        Assert.assertEquals(StreamUtils.copyToByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed))), "Hello World!".getBytes());
+    }
+
+    @Test
+    public void testDecompress() throws IOException {
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(zipped)) {
+            gzipOutputStream.write("Hello World!".getBytes());
+        }
+
+        Assert.assertEquals(decompress(zipped.toByteArray()), "Hello World!".getBytes());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        byte[] data = new byte[64 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 31);
+        }
+
+        Assert.assertEquals(decompress(GzipUtils.compress(data)), data);
+        Assert.assertEquals(decompress(GzipUtils.compress(new byte[] {})), new byte[] {});
+        Assert.assertEquals(decompress(GzipUtils.compress(new ByteArrayInputStream(data))), data);
+    }
+
+    @Test
+    public void testDeflaterReuse() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            byte[] data = ("Hello World " + i + "!").getBytes();
+            Assert.assertEquals(decompress(GzipUtils.compress(data)), data);
+        }
+    }
+
+    @Test
+    public void testDecompressMultiMember() throws IOException {
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        zipped.write(GzipUtils.compress("Hello ".getBytes()));
+        zipped.write(GzipUtils.compress("World!".getBytes()));
+
+        Assert.assertEquals(decompress(zipped.toByteArray()), "Hello World!".getBytes());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testCorruptData() throws IOException {
+        byte[] compressed = GzipUtils.compress("Hello World!".getBytes());
+        compressed[compressed.length - 5] ^= 0xff;
+
+        decompress(compressed);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testNotCompressed() throws IOException {
+        decompress("Hello World!".getBytes());
+    }
+
+    private byte[] decompress(byte[] data) throws IOException {
+        try (InputStream gzipStream = GzipUtils.getDecompressingStream(new ByteArrayInputStream(data))) {
+            return StreamUtils.copyToByteArray(gzipStream);
+        }
+    }
+}
@@ -16,11 +16,14 @@
 
 package com.consol.citrus.util;
 
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.xml.transform.StringSource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -51,4 +54,15 @@ public class TypeConversionUtilsTest {
         Assert.assertEquals(TypeConversionUtils.convertIfNecessary(ByteBuffer.wrap(payload.getBytes()), String.class), payload);
     }
 
+    @Test
+    public void testConvertResource() throws Exception {
+        String payload = "Hello Citrus!";
+        Resource resource = new ByteArrayResource(payload.getBytes());
+
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(resource, String.class), payload);
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(resource, byte[].class), payload.getBytes());
+        Assert.assertEquals(FileUtils.readToString(TypeConversionUtils.convertIfNecessary(resource, InputStream.class)), payload);
+        Assert.assertEquals(TypeConversionUtils.convertIfNecessary(resource, Source.class).getClass(), StreamSource.class);
+    }
+
 }
\ No newline at end of file
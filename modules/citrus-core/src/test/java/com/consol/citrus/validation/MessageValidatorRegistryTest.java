@@ -18,6 +18,7 @@ package com.consol.citrus.validation;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.validation.context.DefaultValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
@@ -30,6 +31,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Christoph Deppisch
@@ -471,6 +473,51 @@ public class MessageValidatorRegistryTest {
         Assert.assertNull(((AbstractMessageValidator)matchingValidators.get(2)).findValidationContext(validationContexts));
     }
 
+    @Test
+    public void testCachedMessageValidatorSelection() throws Exception {
+        MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
+
+        AtomicInteger supportChecks = new AtomicInteger();
+        List<MessageValidator<? extends ValidationContext>> messageValidators = new ArrayList<>();
+        messageValidators.add(new DomXmlMessageValidator() {
+            @Override
+            public boolean supportsMessageType(String messageType, Message message) {
+                supportChecks.incrementAndGet();
+                return super.supportsMessageType(messageType, message);
+            }
+        });
+        messageValidators.add(new JsonTextMessageValidator());
+
+        messageValidatorRegistry.setMessageValidators(messageValidators);
+        messageValidatorRegistry.afterPropertiesSet();
+
+        for (int i = 0; i < 5; i++) {
+            List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("  <id>" + i + "</id>"));
+            Assert.assertEquals(matchingValidators.size(), 1L);
+            Assert.assertTrue(matchingValidators.get(0) instanceof DomXmlMessageValidator);
+        }
+
+        Assert.assertEquals(supportChecks.get(), 1);
+
+        //payload format changes selection
+        List<MessageValidator<? extends ValidationContext>> matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.XML.name(), new DefaultMessage("\n {\"id\": 12345}"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0).getClass(), JsonTextMessageValidator.class);
+
+        //changed list of message validators resets selection cache
+        messageValidatorRegistry.getMessageValidators().add(new PlainTextMessageValidator());
+        matchingValidators = messageValidatorRegistry.findMessageValidators(MessageType.PLAINTEXT.name(), new DefaultMessage("<id>12345</id>"));
+        Assert.assertEquals(matchingValidators.size(), 1L);
+        Assert.assertEquals(matchingValidators.get(0).getClass(), PlainTextMessageValidator.class);
+
+        try {
+            messageValidatorRegistry.findMessageValidators(MessageType.BINARY_BASE64.name(), new DefaultMessage(new byte[] {}));
+            Assert.fail("Missing exception due to no matching validator implementation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Could not find proper message validator for message type"));
+        }
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class)
     public void testEmptyListOfMessageValidators() throws Exception {
         MessageValidatorRegistry messageValidatorRegistry = new MessageValidatorRegistry();
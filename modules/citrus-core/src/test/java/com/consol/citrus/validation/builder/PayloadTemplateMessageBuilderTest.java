@@ -20,13 +20,17 @@ import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.*;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.GzipUtils;
 import com.consol.citrus.validation.interceptor.AbstractMessageConstructionInterceptor;
 import com.consol.citrus.validation.interceptor.MessageConstructionInterceptor;
 import com.consol.citrus.variable.dictionary.json.JsonMappingDataDictionary;
+import org.springframework.util.StreamUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -103,6 +107,22 @@ public class PayloadTemplateMessageBuilderTest extends AbstractTestNGUnitTest {
 
         Assert.assertEquals(resultingMessage.getPayload().getClass(), byte[].class);
     }
+
+    @Test
+    public void testMessageBuilderGzipVariableSupport() throws IOException {
+        messageBuilder.setPayloadData("Hello ${name}!");
+
+        context.setVariable("name", "Citrus");
+        byte[] first = messageBuilder.buildMessageContent(context, MessageType.GZIP.name()).getPayload(byte[].class);
+        byte[] second = messageBuilder.buildMessageContent(context, MessageType.GZIP.name()).getPayload(byte[].class);
+
+        Assert.assertEquals(StreamUtils.copyToByteArray(GzipUtils.getDecompressingStream(new ByteArrayInputStream(first))), "Hello Citrus!".getBytes());
+        Assert.assertEquals(second, first);
+        Assert.assertNotSame(second, first);
+
+        context.setVariable("name", "World");
+        Assert.assertEquals(StreamUtils.copyToByteArray(GzipUtils.getDecompressingStream(new ByteArrayInputStream(messageBuilder.buildMessageContent(context, MessageType.GZIP.name()).getPayload(byte[].class)))), "Hello World!".getBytes());
+    }
     
     @Test
     public void testMessageBuilderWithHeaders() {
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.model;
+
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.validation.context.ValidationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class ObjectGraphComparatorTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testEqualObjectGraphs() {
+        ObjectGraphComparator comparator = new ObjectGraphComparator(Collections.emptyList(), Collections.emptyMap());
+        Assert.assertTrue(comparator.compare(order("1001", "Foo", 2), order("1001", "Foo", 2), context).isEmpty());
+    }
+
+    @Test
+    public void testDifferencesReport() {
+        ObjectGraphComparator comparator = new ObjectGraphComparator(Collections.emptyList(), Collections.emptyMap());
+
+        Order actual = order("1002", "Bar", 3);
+        actual.items.add(new Item("Additional", 1));
+
+        List<String> differences = comparator.compare(order("1001", "Foo", 2), actual, context);
+        Assert.assertEquals(differences.size(), 4L);
+        Assert.assertEquals(differences.get(0), "Values not equal for element 'id', expected '1001' but was '1002'");
+        Assert.assertEquals(differences.get(1), "Number of elements not equal for element 'items', expected '1' but was '2'");
+        Assert.assertEquals(differences.get(2), "Values not equal for element 'items[0].name', expected 'Foo' but was 'Bar'");
+        Assert.assertEquals(differences.get(3), "Values not equal for element 'items[0].quantity', expected '2' but was '3'");
+
+        try {
+            comparator.validate(order("1001", "Foo", 2), actual, context);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Object graph validation failed with 4 difference(s):"));
+            Assert.assertTrue(e.getMessage().contains("  - Values not equal for element 'items[0].name', expected 'Foo' but was 'Bar'"));
+        }
+    }
+
+    @Test
+    public void testIgnorePaths() {
+        ObjectGraphComparator comparator = new ObjectGraphComparator(Arrays.asList("id", "items[*].quantity"), Collections.emptyMap());
+        Assert.assertTrue(comparator.compare(order("1001", "Foo", 2), order("1002", "Foo", 5), context).isEmpty());
+
+        comparator = new ObjectGraphComparator(Collections.singletonList("items[0].*"), Collections.emptyMap());
+        Assert.assertEquals(comparator.compare(order("1001", "Foo", 2), order("1002", "Bar", 5), context).size(), 1L);
+    }
+
+    @Test
+    public void testMatchersAndVariables() {
+        context.setVariable("orderId", "1001");
+
+        Map<String, Object> controlValues = new LinkedHashMap<>();
+        controlValues.put("items[0].quantity", greaterThan(1));
+        controlValues.put("total", "@greaterThan(10)@");
+
+        ObjectGraphComparator comparator = new ObjectGraphComparator(Collections.emptyList(), controlValues);
+        Assert.assertTrue(comparator.compare(order("${orderId}", "@startsWith('F')@", 0), order("1001", "Foo", 5), context).isEmpty());
+
+        Order actual = order("1001", "Foo", 1);
+        actual.total = new BigDecimal("5.00");
+
+        List<String> differences = comparator.compare(order("${orderId}", "@startsWith('B')@", 0), actual, context);
+        Assert.assertEquals(differences.size(), 3L);
+        Assert.assertTrue(differences.get(0).startsWith("Values not matching for element 'items[0].quantity'"));
+        Assert.assertTrue(differences.get(1).contains("total"));
+        Assert.assertTrue(differences.get(2).contains("items[0].name"));
+    }
+
+    @Test
+    public void testMapsAndSets() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "Foo");
+        expected.put("tags", new HashSet<>(Arrays.asList("a", "b")));
+
+        Map<String, Object> actual = new LinkedHashMap<>();
+        actual.put("tags", new LinkedHashSet<>(Arrays.asList("b", "a")));
+        actual.put("name", "Foo");
+
+        ObjectGraphComparator comparator = new ObjectGraphComparator(Collections.emptyList(), Collections.emptyMap());
+        Assert.assertTrue(comparator.compare(expected, actual, context).isEmpty());
+
+        actual.put("other", "unexpected");
+        actual.put("tags", new HashSet<>(Arrays.asList("a", "c")));
+        List<String> differences = comparator.compare(expected, actual, context);
+        Assert.assertEquals(differences.size(), 2L);
+        Assert.assertEquals(differences.get(0), "Missing element in collection 'tags', expected 'b'");
+        Assert.assertEquals(differences.get(1), "Unexpected element 'other' with value 'unexpected'");
+    }
+
+    @Test
+    public void testMessageValidator() {
+        ObjectGraphValidationContext validationContext = new ObjectGraphValidationContext(order("1001", "Foo", 2), new ObjectMapper());
+        List<ValidationContext> validationContexts = Collections.singletonList(validationContext);
+
+        ObjectGraphMessageValidator validator = new ObjectGraphMessageValidator();
+        validator.validateMessage(new DefaultMessage("{\"id\":\"1001\",\"total\":20.00,\"items\":[{\"name\":\"Foo\",\"quantity\":2}]}"),
+                new DefaultMessage(), context, validationContexts);
+        validator.validateMessage(new DefaultMessage(order("1001", "Foo", 2)), new DefaultMessage(), context, validationContexts);
+
+        try {
+            validator.validateMessage(new DefaultMessage("{\"id\":\"1001\",\"total\":20,\"items\":[]}"), new DefaultMessage(), context, validationContexts);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Number of elements not equal for element 'items', expected '1' but was '0'"));
+        }
+    }
+
+    private static Order order(String id, String itemName, int quantity) {
+        Order order = new Order();
+        order.id = id;
+        order.total = new BigDecimal("20");
+        order.items.add(new Item(itemName, quantity));
+        return order;
+    }
+
+    public static class Order {
+        public String id;
+        public BigDecimal total;
+        public List<Item> items = new ArrayList<>();
+    }
+
+    public static class Item {
+        public String name;
+        public int quantity;
+
+        public Item() {
+        }
+
+        Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
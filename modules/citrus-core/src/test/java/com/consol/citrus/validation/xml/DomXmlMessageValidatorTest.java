@@ -913,4 +913,115 @@ public class DomXmlMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(message, controlMessage, context, validationContext);
     }
 
+    @Test
+    public void testCollectMultipleMismatches() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value' attributeB='wrong-value'>"
+                + "<sub-elementA>wrong-text</sub-elementA>"
+                + "<sub-elementB>text-value</sub-elementB>"
+                + "<sub-elementC>wrong-text</sub-elementC>"
+                + "</element>"
+                + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                + "<sub-elementA>text-value</sub-elementA>"
+                + "<sub-elementB>text-value</sub-elementB>"
+                + "<sub-elementC>text-value</sub-elementC>"
+                + "</element>"
+                + "</root>");
+
+        try {
+            new DomXmlMessageValidator().validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Found 3 mismatches in XML tree:"));
+            Assert.assertTrue(e.getMessage().contains("  - Values not equal for attribute 'attributeB', expected 'attribute-value' but was 'wrong-value'"));
+            Assert.assertTrue(e.getMessage().contains("  - Node value not equal for element 'sub-elementA', expected 'text-value' but was 'wrong-text'"));
+            Assert.assertTrue(e.getMessage().contains("  - Node value not equal for element 'sub-elementC', expected 'text-value' but was 'wrong-text'"));
+        }
+    }
+
+    @Test
+    public void testFailFastOnFirstMismatch() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value' attributeB='wrong-value'>"
+                + "<sub-elementA>wrong-text</sub-elementA>"
+                + "</element>"
+                + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                + "<sub-elementA>text-value</sub-elementA>"
+                + "</element>"
+                + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        validationContext.setFailFast(true);
+
+        try {
+            new DomXmlMessageValidator().validateMessage(message, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed: Values not equal for attribute 'attributeB', expected 'attribute-value' but was 'wrong-value'");
+        }
+    }
+
+    @Test
+    public void testBailOutOfMismatchingSubtree() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value'>"
+                + "<sub-elementA>wrong-text</sub-elementA>"
+                + "</element>"
+                + "<other>wrong-text</other>"
+                + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value'>"
+                + "<sub-elementA>text-value</sub-elementA>"
+                + "<sub-elementB>text-value</sub-elementB>"
+                + "</element>"
+                + "<other>text-value</other>"
+                + "</root>");
+
+        try {
+            new DomXmlMessageValidator().validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("Found 2 mismatches in XML tree:"));
+            Assert.assertTrue(e.getMessage().contains("  - Number of child elements not equal for element 'element', expected '2' but was '1'"));
+            Assert.assertTrue(e.getMessage().contains("  - Node value not equal for element 'other', expected 'text-value' but was 'wrong-text'"));
+            Assert.assertFalse(e.getMessage().contains("sub-elementA"));
+        }
+    }
+
+    @Test
+    public void testResolveIgnoredNodes() {
+        Message message = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='wrong-value' attributeB='wrong-value'>"
+                + "<sub-elementA>wrong-text</sub-elementA>"
+                + "<sub-elementB>wrong-text</sub-elementB>"
+                + "<sub-elementC>wrong-text</sub-elementC>"
+                + "</element>"
+                + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root xmlns='http://citrusframework.org/default'>"
+                + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                + "<sub-elementA>text-value</sub-elementA>"
+                + "<sub-elementB>text-value</sub-elementB>"
+                + "<sub-elementC>text-value</sub-elementC>"
+                + "</element>"
+                + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("root.element.attributeA");
+        validationContext.getIgnoreExpressions().add("element.attributeB");
+        validationContext.getIgnoreExpressions().add("root.element.sub-elementA");
+        validationContext.getIgnoreExpressions().add("sub-elementB");
+        validationContext.getIgnoreExpressions().add("//ns0:sub-elementC");
+        validationContext.getNamespaces().put("ns0", "http://citrusframework.org/default");
+
+        new DomXmlMessageValidator().validateMessage(message, controlMessage, context, validationContext);
+    }
+
 }
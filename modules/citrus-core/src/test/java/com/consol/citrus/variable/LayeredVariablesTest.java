@@ -0,0 +1,154 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class LayeredVariablesTest {
+
+    @Test
+    public void testLocalVariablesShadowGlobals() {
+        Map<String, Object> globals = new LinkedHashMap<>();
+        globals.put("globalVar", "global");
+        globals.put("overwrittenVar", "global");
+
+        LayeredVariables variables = new LayeredVariables(globals);
+        variables.put("overwrittenVar", "local");
+        variables.put("localVar", "local");
+
+        Assert.assertEquals(variables.get("globalVar"), "global");
+        Assert.assertEquals(variables.get("overwrittenVar"), "local");
+        Assert.assertEquals(variables.get("localVar"), "local");
+        Assert.assertEquals(variables.size(), 3);
+        Assert.assertEquals(variables.keySet(), new HashSet<>(Arrays.asList("globalVar", "overwrittenVar", "localVar")));
+
+        Assert.assertEquals(globals.get("overwrittenVar"), "global");
+        Assert.assertEquals(globals.size(), 2);
+    }
+
+    @Test
+    public void testRemoveAndClearHideGlobals() {
+        Map<String, Object> globals = new LinkedHashMap<>();
+        globals.put("globalVar", "global");
+        globals.put("otherVar", "global");
+
+        LayeredVariables variables = new LayeredVariables(globals);
+        Assert.assertEquals(variables.remove("globalVar"), "global");
+        Assert.assertFalse(variables.containsKey("globalVar"));
+        Assert.assertNull(variables.get("globalVar"));
+        Assert.assertEquals(variables.size(), 1);
+
+        variables.put("globalVar", "local");
+        Assert.assertEquals(variables.get("globalVar"), "local");
+
+        variables.clear();
+        Assert.assertTrue(variables.isEmpty());
+        Assert.assertFalse(variables.containsKey("otherVar"));
+
+        variables.reset();
+        Assert.assertEquals(variables.get("globalVar"), "global");
+        Assert.assertEquals(variables.get("otherVar"), "global");
+        Assert.assertEquals(globals.size(), 2);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        LayeredVariables variables = new LayeredVariables(Collections.singletonMap("globalVar", "global"));
+        variables.put("localVar", "local");
+
+        Iterator<String> keys = variables.keySet().iterator();
+        while (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+
+        Assert.assertTrue(variables.isEmpty());
+    }
+
+    @Test
+    public void testPutAllFromSameGlobals() {
+        Map<String, Object> globals = new LinkedHashMap<>();
+        globals.put("globalVar", "global");
+        globals.put("hiddenVar", "global");
+        globals.put("shadowedVar", "global");
+
+        LayeredVariables source = new LayeredVariables(globals);
+        source.put("localVar", "local");
+        source.remove("hiddenVar");
+
+        LayeredVariables target = new LayeredVariables(globals);
+        target.put("shadowedVar", "local");
+        target.remove("globalVar");
+        target.put("hiddenVar", "target");
+
+        target.putAll(source);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("globalVar", "global");
+        expected.put("hiddenVar", "target");
+        expected.put("shadowedVar", "global");
+        expected.put("localVar", "local");
+
+        Assert.assertEquals(target, expected);
+    }
+
+    @Test
+    public void testLayersShadowGlobals() {
+        Map<String, Object> globals = new LinkedHashMap<>();
+        globals.put("globalVar", "global");
+        globals.put("layerVar", "global");
+
+        LayeredVariables variables = new LayeredVariables(globals);
+        variables.put("localVar", "local");
+
+        Map<String, Object> layer = new LinkedHashMap<>();
+        layer.put("layerVar", "layer");
+        layer.put("localVar", "layer");
+        variables.addLayer(layer);
+
+        Assert.assertEquals(variables.get("globalVar"), "global");
+        Assert.assertEquals(variables.get("layerVar"), "layer");
+        Assert.assertEquals(variables.get("localVar"), "layer");
+        Assert.assertEquals(variables.size(), 3);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("globalVar", "global");
+        expected.put("layerVar", "layer");
+        expected.put("localVar", "layer");
+        Assert.assertEquals(new HashMap<>(variables), expected);
+
+        variables.put("layerVar", "local");
+        Assert.assertEquals(variables.get("layerVar"), "local");
+        Assert.assertEquals(variables.size(), 3);
+
+        variables.remove("layerVar");
+        Assert.assertFalse(variables.containsKey("layerVar"));
+        Assert.assertEquals(variables.size(), 2);
+
+        variables.reset();
+        Assert.assertEquals(variables.get("layerVar"), "global");
+        Assert.assertTrue(variables.getLayers().isEmpty());
+        Assert.assertEquals(layer.size(), 2);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class PropertyStoreTest {
+
+    @Test
+    public void testPropertiesFormat() throws Exception {
+        String content = "# comment\n" +
+                "! other comment\n" +
+                "simple=value\n" +
+                "  spaced : some value \n" +
+                "blank\n" +
+                "escaped=line\\tbreak\\u0021\n" +
+                "continued=first, \\\n" +
+                "    second\r\n" +
+                "simple=overwritten";
+
+        PropertyStore store = new PropertyStore(new ByteArrayResource(content.getBytes(StandardCharsets.ISO_8859_1)), PropertyStore.Format.PROPERTIES, 0L);
+
+        Properties expected = new Properties();
+        expected.load(new java.io.StringReader(content));
+
+        Assert.assertEquals(store.size(), expected.size());
+        for (String key : expected.stringPropertyNames()) {
+            Assert.assertEquals(store.get(key), expected.getProperty(key), key);
+        }
+
+        Assert.assertEquals(store.keySet(), new LinkedHashSet<>(Arrays.asList("spaced", "blank", "escaped", "continued", "simple")));
+        Assert.assertNull(store.get("unknown"));
+    }
+
+    @Test
+    public void testKeyValueFormat() {
+        String content = "#Load these properties as global variables\n" +
+                "  user = Citrus  \n" +
+                "\n" +
+                "noValue\n" +
+                "welcomeText=Hello ${user}!\n" +
+                "equation=a=b";
+
+        PropertyStore store = new PropertyStore(new ByteArrayResource(content.getBytes()), PropertyStore.Format.KEY_VALUE, 0L);
+
+        Assert.assertEquals(store.keySet(), new LinkedHashSet<>(Arrays.asList("user", "welcomeText", "equation")));
+        Assert.assertEquals(store.get("user"), "Citrus");
+        Assert.assertEquals(store.get("welcomeText"), "Hello ${user}!");
+        Assert.assertEquals(store.get("equation"), "a=b");
+        Assert.assertEquals(store.getVariableReferences(), Collections.singleton("user"));
+    }
+
+    @Test
+    public void testReloadIfModified() throws Exception {
+        File file = File.createTempFile("citrus-property-store", ".properties");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "greeting=Hello\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        PropertyStore store = new PropertyStore(new FileSystemResource(file), PropertyStore.Format.PROPERTIES, 0L);
+        long version = store.getVersion();
+        Assert.assertEquals(store.get("greeting"), "Hello");
+        Assert.assertFalse(store.reloadIfModified());
+
+        Files.write(file.toPath(), "greeting=Hello again\nfarewell=Bye\n".getBytes(StandardCharsets.ISO_8859_1));
+        Assert.assertTrue(file.setLastModified(file.lastModified() + 2000L));
+
+        Assert.assertTrue(store.reloadIfModified());
+        Assert.assertNotEquals(store.getVersion(), version);
+        Assert.assertEquals(store.get("greeting"), "Hello again");
+        Assert.assertEquals(store.get("farewell"), "Bye");
+    }
+
+    @Test
+    public void testSnapshotIsolatedFromFileChanges() throws Exception {
+        File file = File.createTempFile("citrus-property-store", ".properties");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "alpha=first\nbeta=second\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        PropertyStore store = new PropertyStore(new FileSystemResource(file), PropertyStore.Format.PROPERTIES, 0L);
+
+        Files.write(file.toPath(), "alpha=XXXXXXXXXXXXXXXXXXXX\n".getBytes(StandardCharsets.ISO_8859_1));
+        Assert.assertEquals(store.get("beta"), "second");
+
+        Files.write(file.toPath(), new byte[0]);
+        Assert.assertEquals(store.get("alpha"), "first");
+        Assert.assertEquals(store.get("beta"), "second");
+    }
+
+    @Test
+    public void testLazyResolution() {
+        PropertyStore store = new PropertyStore(new ByteArrayResource("user=Citrus\nwelcomeText=Hello ${user}!".getBytes()),
+                PropertyStore.Format.PROPERTIES, 0L);
+
+        AtomicInteger resolved = new AtomicInteger();
+        PropertyStoreVariables variables = new PropertyStoreVariables(store, value -> {
+            resolved.incrementAndGet();
+            return value.replace("${user}", "Citrus");
+        });
+
+        Assert.assertEquals(resolved.get(), 0);
+        Assert.assertTrue(variables.containsKey("welcomeText"));
+        Assert.assertEquals(variables.size(), 2);
+        Assert.assertEquals(resolved.get(), 0);
+
+        Assert.assertEquals(variables.get("welcomeText"), "Hello Citrus!");
+        Assert.assertEquals(variables.get("welcomeText"), "Hello Citrus!");
+        Assert.assertEquals(resolved.get(), 1);
+    }
+
+    @Test
+    public void testConcurrentResolution() throws Exception {
+        PropertyStore store = new PropertyStore(new ByteArrayResource("user=Citrus\nwelcomeText=Hello ${user}!".getBytes()),
+                PropertyStore.Format.PROPERTIES, 0L);
+
+        AtomicInteger resolved = new AtomicInteger();
+        CountDownLatch resolving = new CountDownLatch(1);
+        PropertyStoreVariables variables = new PropertyStoreVariables(store, value -> {
+            resolved.incrementAndGet();
+            try {
+                resolving.await(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value.replace("${user}", "Citrus");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> variables.get("welcomeText")));
+            }
+            resolving.countDown();
+
+            for (Future<Object> result : results) {
+                Assert.assertEquals(result.get(5, TimeUnit.SECONDS), "Hello Citrus!");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(resolved.get(), 1);
+    }
+
+    @Test
+    public void testNestedResolution() {
+        PropertyStore store = new PropertyStore(new ByteArrayResource("user=Citrus\nwelcomeText=${user}".getBytes()),
+                PropertyStore.Format.PROPERTIES, 0L);
+
+        LayeredVariables context = new LayeredVariables();
+        context.addLayer(new PropertyStoreVariables(store, value -> value.startsWith("${") ? String.valueOf(context.get(value.substring(2, value.length() - 1))) : value));
+
+        Assert.assertEquals(context.get("welcomeText"), "Citrus");
+        Assert.assertEquals(context.get("user"), "Citrus");
+    }
+
+    @Test
+    public void testVerifyReferences() {
+        PropertyStore store = new PropertyStore(new ByteArrayResource("text=${known} ${other} ${//escaped//} ${unknownVar}".getBytes()),
+                PropertyStore.Format.PROPERTIES, 0L);
+        PropertyStoreVariables variables = new PropertyStoreVariables(store, value -> value);
+
+        variables.verifyReferences(name -> name.equals("known") || name.equals("other") || name.equals("unknownVar"));
+
+        try {
+            variables.verifyReferences(name -> name.equals("known") || name.equals("other"));
+            Assert.fail("Missing exception for unknown variable");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Unknown variable 'unknownVar'");
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testCircularReference() {
+        PropertyStore store = new PropertyStore(new ByteArrayResource("a=${b}\nb=${a}".getBytes()), PropertyStore.Format.PROPERTIES, 0L);
+
+        LayeredVariables context = new LayeredVariables();
+        context.addLayer(new PropertyStoreVariables(store, value -> String.valueOf(context.get(value.substring(2, 3)))));
+
+        context.get("a");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.variable.dictionary;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class PathMappingIndexTest {
+
+    @Test
+    public void testExactMatch() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("TestMessage.Text", "Hello!");
+        mappings.put("TestMessage.Text.Other", "Other");
+
+        PathMappingIndex index = new PathMappingIndex(mappings, DataDictionary.PathMappingStrategy.EXACT);
+        Assert.assertEquals(index.lookup("TestMessage.Text"), "TestMessage.Text");
+        Assert.assertNull(index.lookup("TestMessage"));
+        Assert.assertNull(index.lookup("Other.TestMessage.Text"));
+    }
+
+    @Test
+    public void testStartsWithMatch() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("TestMessage.Text", "Hello!");
+        mappings.put("TestMessage", "Message");
+        mappings.put("Other", "Other");
+
+        PathMappingIndex index = new PathMappingIndex(mappings, DataDictionary.PathMappingStrategy.STARTS_WITH);
+        Assert.assertEquals(index.lookup("TestMessage.Text.Value"), "TestMessage.Text");
+        Assert.assertEquals(index.lookup("TestMessage.Number"), "TestMessage");
+        Assert.assertEquals(index.lookup("OtherMessage"), "Other");
+        Assert.assertNull(index.lookup("Test"));
+        Assert.assertNull(index.lookup(""));
+    }
+
+    @Test
+    public void testEndsWithMatch() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("Text", "Hello!");
+        mappings.put("Message.Text", "Message");
+        mappings.put("Number", "Number");
+
+        PathMappingIndex index = new PathMappingIndex(mappings, DataDictionary.PathMappingStrategy.ENDS_WITH);
+        Assert.assertEquals(index.lookup("TestMessage.Text"), "Text");
+        Assert.assertEquals(index.lookup("TestMessage.OtherNumber"), "Number");
+        Assert.assertNull(index.lookup("TestMessage.Texts"));
+    }
+
+    @Test
+    public void testEmptyMappingKey() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("Text", "Hello!");
+        mappings.put("", "Default");
+
+        PathMappingIndex index = new PathMappingIndex(mappings, DataDictionary.PathMappingStrategy.STARTS_WITH);
+        Assert.assertEquals(index.lookup("Text"), "Text");
+        Assert.assertEquals(index.lookup("Number"), "");
+    }
+
+    @Test
+    public void testCompiledFrom() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("Text", "Hello!");
+
+        PathMappingIndex index = new PathMappingIndex(mappings, DataDictionary.PathMappingStrategy.EXACT);
+        Assert.assertTrue(index.isCompiledFrom(mappings, DataDictionary.PathMappingStrategy.EXACT));
+        Assert.assertFalse(index.isCompiledFrom(mappings, DataDictionary.PathMappingStrategy.ENDS_WITH));
+        Assert.assertFalse(index.isCompiledFrom(new LinkedHashMap<>(mappings), DataDictionary.PathMappingStrategy.EXACT));
+
+        mappings.put("Number", "10");
+        Assert.assertFalse(index.isCompiledFrom(mappings, DataDictionary.PathMappingStrategy.EXACT));
+    }
+}
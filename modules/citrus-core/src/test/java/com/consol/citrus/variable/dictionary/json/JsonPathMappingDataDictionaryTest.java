@@ -24,6 +24,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -166,4 +167,28 @@ public class JsonPathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
         Message intercepted = dictionary.interceptMessage(message, MessageType.JSON.toString(), context);
         Assert.assertEquals(intercepted.getPayload(String.class), "{\"TestMessage\":{\"Text\":\"Hello World!\",\"OtherText\":\"No changes\"}}");
     }
+
+    @Test
+    public void testTranslateDefiniteAndIndefinitePaths() {
+        Message message = new DefaultMessage("{\"TestMessage\":{\"Items\":[{\"Id\":1},{\"Id\":2}],\"Text\":\"Hello World!\",\"Other Text\":\"No changes\",\"Nested\":{\"Value\":1}}}");
+
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("$.TestMessage.Items[1].Id", "20");
+        mappings.put("$['TestMessage']['Other Text']", "Changed");
+        mappings.put("$.TestMessage.Items[5].Id", "NotFound");
+        mappings.put("$.TestMessage.Nested.Value.Unknown", "NotFound");
+        mappings.put("$..Text", "Hello!");
+        mappings.put("$.TestMessage.Text", "Overwritten");
+        mappings.put("$.TestMessage.Nested", "true");
+
+        JsonPathMappingDataDictionary dictionary = new JsonPathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+
+        Message intercepted = dictionary.interceptMessage(message, MessageType.JSON.toString(), context);
+        Assert.assertEquals(intercepted.getPayload(String.class), "{\"TestMessage\":{\"Other Text\":\"Changed\",\"Nested\":true,\"Items\":[{\"Id\":1},{\"Id\":20}],\"Text\":\"Overwritten\"}}");
+
+        dictionary.getMappings().put("$.TestMessage.Items[0].Id", "10");
+        intercepted = dictionary.interceptMessage(new DefaultMessage("{\"TestMessage\":{\"Items\":[{\"Id\":1}]}}"), MessageType.JSON.toString(), context);
+        Assert.assertEquals(intercepted.getPayload(String.class), "{\"TestMessage\":{\"Items\":[{\"Id\":10}]}}");
+    }
 }
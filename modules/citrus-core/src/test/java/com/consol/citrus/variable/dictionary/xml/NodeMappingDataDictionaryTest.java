@@ -181,6 +181,25 @@ public class NodeMappingDataDictionaryTest extends AbstractTestNGUnitTest {
                 "</TestMessage>");
     }
 
+    @Test
+    public void testTranslateNestedAttributes() {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage><Greeting lang=\"en\"><Text lang=\"en\">Hello World!</Text></Greeting></TestMessage>");
+
+        Map<String, String> mappings = new HashMap<String, String>();
+        mappings.put("TestMessage.Greeting.Text.lang", "de");
+        mappings.put("TestMessage.Greeting.Text", "Hallo!");
+
+        NodeMappingDataDictionary dictionary = new NodeMappingDataDictionary();
+        dictionary.setMappings(mappings);
+
+        Message intercepted = dictionary.interceptMessage(message, Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Greeting lang=\"en\">" + System.getProperty("line.separator") +
+                "      <Text lang=\"de\">Hallo!</Text>" + System.getProperty("line.separator") +
+                "   </Greeting>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
+
     @Test
     public void testTranslateNoResult() {
         Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage><Text>Hello World!</Text><OtherText>No changes</OtherText></TestMessage>");
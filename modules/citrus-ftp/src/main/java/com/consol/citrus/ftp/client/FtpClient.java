@@ -25,6 +25,7 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
+import com.consol.citrus.util.FileUtils;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
@@ -32,8 +33,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
 
-import java.io.IOException;
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 
 /**
  * @author Christoph Deppisch
@@ -46,6 +52,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Apache ftp client */
     private FTPClient ftpClient;
 
+    /** Pool of ftp client connections leased per operation */
+    private FtpConnectionPool connectionPool;
+
     /** Apache ftp client configuration */
     private FTPClientConfig config = new FTPClientConfig();
 
@@ -93,30 +102,142 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
 
         try {
-            connectAndLogin();
-
-            int reply = ftpClient.sendCommand(ftpMessage.getCommand(), ftpMessage.getArguments());
+            FTPClient ftpClient = connectAndLogin();
+
+            FtpMessage reply;
+            if (ftpMessage.getCommand() == FTPCmd.STOR && StringUtils.hasText(ftpMessage.getLocalPath())) {
+                reply = storeFile(ftpMessage, ftpClient);
+            } else if (ftpMessage.getCommand() == FTPCmd.RETR && StringUtils.hasText(ftpMessage.getLocalPath())) {
+                reply = retrieveFile(ftpMessage, ftpClient);
+            } else if (ftpMessage.getCommand() == FTPCmd.LIST) {
+                reply = listFiles(ftpMessage, ftpClient);
+            } else {
+                int replyCode = ftpClient.sendCommand(ftpMessage.getCommand(), ftpMessage.getArguments());
+                reply = new FtpMessage(ftpMessage.getCommand(), ftpMessage.getArguments())
+                        .replyCode(replyCode)
+                        .replyString(ftpClient.getReplyString());
+            }
 
-            if (!FTPReply.isPositiveCompletion(reply) && !FTPReply.isPositivePreliminary(reply)) {
-                throw new CitrusRuntimeException(String.format("Failed to send FTP command - reply is: %s:%s", reply, ftpClient.getReplyString()));
+            if (!FTPReply.isPositiveCompletion(reply.getReplyCode()) && !FTPReply.isPositivePreliminary(reply.getReplyCode())) {
+                throw new CitrusRuntimeException(String.format("Failed to send FTP command - reply is: %s:%s", reply.getReplyCode(), reply.getReplyString()));
             }
 
             log.info(String.format("FTP message was sent to: '%s:%s'", getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort()));
 
-            correlationManager.store(correlationKey, new FtpMessage(ftpMessage.getCommand(), ftpMessage.getArguments())
-                    .replyCode(reply)
-                    .replyString(ftpClient.getReplyString()));
+            correlationManager.store(correlationKey, reply);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
+        } finally {
+            releaseConnection();
+        }
+
+    }
+
+    /**
+     * Uploads local file or resource to the remote path given in command arguments. File content is streamed
+     * through a file channel directly to the data connection without loading the file into memory.
+     * @param command
+     * @param ftpClient
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage storeFile(FtpMessage command, FTPClient ftpClient) throws IOException {
+        Resource localFile = FileUtils.getFileResource(command.getLocalPath());
+        String remotePath = StringUtils.hasText(command.getArguments()) ? command.getArguments() : localFile.getFilename();
+
+        ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+
+        try (InputStream inputStream = openInputStream(localFile)) {
+            ftpClient.storeFile(remotePath, inputStream);
+        }
+
+        return new FtpMessage(command.getCommand(), remotePath)
+                .localPath(command.getLocalPath())
+                .replyCode(ftpClient.getReplyCode())
+                .replyString(ftpClient.getReplyString());
+    }
+
+    /**
+     * Downloads remote file given in command arguments to the local file path. File content is streamed from the
+     * data connection directly into a file channel.
+     * @param command
+     * @param ftpClient
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage retrieveFile(FtpMessage command, FTPClient ftpClient) throws IOException {
+        Path localFile = Paths.get(command.getLocalPath());
+        if (localFile.getParent() != null) {
+            Files.createDirectories(localFile.getParent());
+        }
+
+        ftpClient.setFileType(FTP.BINARY_FILE_TYPE);
+
+        try (FileChannel channel = FileChannel.open(localFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             OutputStream outputStream = Channels.newOutputStream(channel)) {
+            ftpClient.retrieveFile(command.getArguments(), outputStream);
         }
 
+        return new FtpMessage(command.getCommand(), command.getArguments())
+                .localPath(command.getLocalPath())
+                .replyCode(ftpClient.getReplyCode())
+                .replyString(ftpClient.getReplyString());
     }
 
     /**
-     * Opens a new connection and performs login with user name and password if set.
+     * Lists files in remote directory given in command arguments. The file names are added to the reply message
+     * payload, one file name per line.
+     * @param command
+     * @param ftpClient
+     * @return
+     * @throws IOException
+     */
+    protected FtpMessage listFiles(FtpMessage command, FTPClient ftpClient) throws IOException {
+        FTPFile[] files = ftpClient.listFiles(command.getArguments());
+
+        StringBuilder fileNames = new StringBuilder();
+        if (files != null) {
+            for (FTPFile file : files) {
+                if (file != null) {
+                    fileNames.append(file.getName()).append(System.lineSeparator());
+                }
+            }
+        }
+
+        FtpMessage reply = new FtpMessage(command.getCommand(), command.getArguments())
+                .replyCode(ftpClient.getReplyCode())
+                .replyString(ftpClient.getReplyString());
+        reply.setPayload(fileNames.toString().trim());
+        return reply;
+    }
+
+    /**
+     * Opens input stream on given resource. File system resources are read through a file channel.
+     * @param resource
+     * @return
      * @throws IOException
      */
-    protected void connectAndLogin() throws IOException {
+    private InputStream openInputStream(Resource resource) throws IOException {
+        File file;
+        try {
+            file = resource.getFile();
+        } catch (FileNotFoundException e) {
+            return resource.getInputStream();
+        }
+
+        return Channels.newInputStream(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+    }
+
+    /**
+     * Leases connection for the current thread from the connection pool. Opens a new connection and performs login
+     * with user name and password if set. Callers must release the connection with {@link #releaseConnection()}
+     * once the operation is done.
+     * @return the leased and connected ftp client.
+     * @throws IOException
+     */
+    protected FTPClient connectAndLogin() throws IOException {
+        FTPClient ftpClient = getConnectionPool().lease(getEndpointConfiguration().getTimeout());
+
         if (!ftpClient.isConnected()) {
             ftpClient.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
@@ -142,6 +263,21 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                     throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()));
                 }
             }
+
+            if (getEndpointConfiguration().isLocalPassiveMode()) {
+                ftpClient.enterLocalPassiveMode();
+            }
+        }
+
+        return ftpClient;
+    }
+
+    /**
+     * Releases the connection leased by the current thread so other threads can use it.
+     */
+    public void releaseConnection() {
+        if (connectionPool != null) {
+            connectionPool.release();
         }
     }
 
@@ -175,13 +311,47 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        if (ftpClient == null) {
-            ftpClient = new FTPClient();
+        getConnectionPool();
+    }
+
+    /**
+     * Gets the connection pool. Creates and initializes the pool on first access.
+     * @return
+     */
+    protected synchronized FtpConnectionPool getConnectionPool() {
+        if (connectionPool == null) {
+            connectionPool = new FtpConnectionPool(this::createConnection, getEndpointConfiguration().getMaxConnections());
+
+            if (ftpClient == null) {
+                ftpClient = createConnection();
+            } else {
+                configure(ftpClient);
+            }
+
+            connectionPool.add(ftpClient);
         }
 
-        ftpClient.configure(config);
+        return connectionPool;
+    }
+
+    /**
+     * Creates new Apache ftp client connection.
+     * @return
+     */
+    protected FTPClient createConnection() {
+        FTPClient connection = new FTPClient();
+        configure(connection);
+        return connection;
+    }
+
+    /**
+     * Applies client configuration and adds protocol logging to given connection.
+     * @param connection
+     */
+    private void configure(FTPClient connection) {
+        connection.configure(config);
 
-        ftpClient.addProtocolCommandListener(new ProtocolCommandListener() {
+        connection.addProtocolCommandListener(new ProtocolCommandListener() {
             @Override
             public void protocolCommandSent(ProtocolCommandEvent event) {
                 if (log.isDebugEnabled()) {
@@ -200,16 +370,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() throws Exception {
-        if (ftpClient.isConnected()) {
-            ftpClient.logout();
-
-            try {
-                ftpClient.disconnect();
-            } catch (IOException e) {
-                log.warn("Failed to disconnect from FTP server", e);
-            }
-
-            log.info("Closed connection to FTP server");
+        if (connectionPool != null) {
+            connectionPool.close();
         }
     }
 
@@ -102,4 +102,24 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public FtpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the local passive mode flag.
+     * @param localPassiveMode
+     * @return
+     */
+    public FtpClientBuilder localPassiveMode(boolean localPassiveMode) {
+        endpoint.getEndpointConfiguration().setLocalPassiveMode(localPassiveMode);
+        return this;
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.commons.net.ftp.FTPClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Pool of Apache ftp client connections. Threads lease a connection for the duration of an operation and release it
+ * afterwards, so the number of threads using the pool is not bound by the number of connections. Parallel threads
+ * never share a leased connection. On the next lease a thread preferably gets the connection it has released last,
+ * so stateful command sequences (e.g. CWD followed by STOR) stay on the same connection as long as that connection
+ * has not been leased by another thread in the meantime.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class FtpConnectionPool {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(FtpConnectionPool.class);
+
+    /** Factory creating new connection instances */
+    private final Callable<FTPClient> connectionFactory;
+
+    /** Maximum number of connections */
+    private final int maxConnections;
+
+    /** Idle connections ready for lease */
+    private final BlockingQueue<FTPClient> idle = new LinkedBlockingQueue<>();
+
+    /** Active leases per thread */
+    private final Map<Thread, FTPClient> leases = new ConcurrentHashMap<>();
+
+    /** Connection released last by the current thread */
+    private final ThreadLocal<FTPClient> lastConnection = new ThreadLocal<>();
+
+    /** All connections created by this pool */
+    private final Set<FTPClient> connections = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Default constructor using connection factory and max number of connections.
+     * @param connectionFactory
+     * @param maxConnections
+     */
+    public FtpConnectionPool(Callable<FTPClient> connectionFactory, int maxConnections) {
+        this.connectionFactory = connectionFactory;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Adds an existing connection to this pool. Connection is ready for lease immediately.
+     * @param connection
+     */
+    public void add(FTPClient connection) {
+        if (connections.add(connection)) {
+            idle.offer(connection);
+        }
+    }
+
+    /**
+     * Leases connection for the current thread. Subsequent calls from the same thread receive the very same connection
+     * until the lease is released. Waits for a connection to become available when the pool is exhausted.
+     * @param timeout max time to wait for an idle connection in milliseconds.
+     * @return
+     */
+    public FTPClient lease(long timeout) {
+        Thread current = Thread.currentThread();
+        FTPClient connection = leases.get(current);
+        if (connection != null) {
+            return connection;
+        }
+
+        connection = lastConnection.get();
+        if (connection == null || !idle.remove(connection)) {
+            connection = idle.poll();
+        }
+
+        if (connection == null) {
+            connection = create();
+        }
+
+        if (connection == null) {
+            reclaimOrphanedLeases();
+
+            try {
+                connection = idle.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for ftp connection", e);
+            }
+        }
+
+        if (connection == null) {
+            throw new ActionTimeoutException(String.format("Action timeout while waiting for ftp connection - all %s connections are in use", maxConnections));
+        }
+
+        leases.put(current, connection);
+        return connection;
+    }
+
+    /**
+     * Release lease for the current thread. Connection is put back to the pool and is ready to be leased by other threads.
+     */
+    public void release() {
+        FTPClient connection = leases.remove(Thread.currentThread());
+
+        if (connection != null) {
+            lastConnection.set(connection);
+            idle.offer(connection);
+        }
+    }
+
+    /**
+     * Creates new connection when pool capacity is not exhausted yet.
+     * @return the new connection or null when max number of connections is reached.
+     */
+    private FTPClient create() {
+        synchronized (connections) {
+            if (connections.size() >= maxConnections) {
+                return null;
+            }
+
+            try {
+                FTPClient connection = connectionFactory.call();
+                connections.add(connection);
+                return connection;
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to create ftp connection", e);
+            }
+        }
+    }
+
+    /**
+     * Moves connections leased by threads that have already terminated back to the pool.
+     */
+    private void reclaimOrphanedLeases() {
+        for (Map.Entry<Thread, FTPClient> lease : leases.entrySet()) {
+            if (!lease.getKey().isAlive() && leases.remove(lease.getKey(), lease.getValue())) {
+                idle.offer(lease.getValue());
+            }
+        }
+    }
+
+    /**
+     * Disconnects all connections in this pool.
+     */
+    public void close() {
+        for (FTPClient connection : connections) {
+            if (connection.isConnected()) {
+                try {
+                    connection.logout();
+                } catch (IOException e) {
+                    log.warn("Failed to logout from FTP server", e);
+                }
+
+                try {
+                    connection.disconnect();
+                } catch (IOException e) {
+                    log.warn("Failed to disconnect from FTP server", e);
+                }
+
+                log.info("Closed connection to FTP server");
+            }
+        }
+
+        leases.clear();
+        idle.clear();
+        connections.clear();
+    }
+
+    /**
+     * Gets the number of connections created by this pool.
+     * @return
+     */
+    public int getSize() {
+        return connections.size();
+    }
+
+    /**
+     * Gets the number of currently leased connections.
+     * @return
+     */
+    public int getLeased() {
+        return leases.size();
+    }
+
+    /**
+     * Gets the maximum number of connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+}
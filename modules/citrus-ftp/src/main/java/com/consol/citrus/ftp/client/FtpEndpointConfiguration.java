@@ -38,6 +38,12 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** User password used for login */
     private String password;
 
+    /** Maximum number of pooled connections */
+    private int maxConnections = 10;
+
+    /** Use local passive mode for data connections */
+    private boolean localPassiveMode = false;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -120,4 +126,36 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public String getPassword() {
         return password;
     }
+
+    /**
+     * Gets the maximum number of pooled connections.
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the local passive mode flag.
+     * @return
+     */
+    public boolean isLocalPassiveMode() {
+        return localPassiveMode;
+    }
+
+    /**
+     * Sets the local passive mode flag.
+     * @param localPassiveMode
+     */
+    public void setLocalPassiveMode(boolean localPassiveMode) {
+        this.localPassiveMode = localPassiveMode;
+    }
 }
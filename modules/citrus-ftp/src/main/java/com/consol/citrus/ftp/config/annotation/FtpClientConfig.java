@@ -53,6 +53,18 @@ public @interface FtpClientConfig {
      */
     String password() default "";
 
+    /**
+     * Maximum number of pooled connections.
+     * @return
+     */
+    int maxConnections() default 10;
+
+    /**
+     * Local passive mode.
+     * @return
+     */
+    boolean localPassiveMode() default false;
+
     /**
      * Message correlator.
      * @return
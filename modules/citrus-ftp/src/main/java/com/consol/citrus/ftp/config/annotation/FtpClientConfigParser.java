@@ -56,6 +56,9 @@ public class FtpClientConfigParser extends AbstractAnnotationConfigParser<FtpCli
             builder.password(annotation.password());
         }
 
+        builder.maxConnections(annotation.maxConnections());
+        builder.localPassiveMode(annotation.localPassiveMode());
+
         if (StringUtils.hasText(annotation.correlator())) {
             builder.correlator(getReferenceResolver().resolve(annotation.correlator(), MessageCorrelator.class));
         }
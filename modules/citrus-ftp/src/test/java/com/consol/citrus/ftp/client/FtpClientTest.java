@@ -16,6 +16,7 @@
 
 package com.consol.citrus.ftp.client;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.message.Message;
@@ -26,6 +27,12 @@ import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -180,4 +187,188 @@ public class FtpClientTest extends AbstractTestNGUnitTest {
 
         verify(apacheFtpClient).connect("localhost", 22222);
     }
+
+    @Test
+    public void testStoreFile() throws Exception {
+        FtpClient ftpClient = new FtpClient();
+        ftpClient.setFtpClient(apacheFtpClient);
+
+        reset(apacheFtpClient);
+
+        when(apacheFtpClient.isConnected()).thenReturn(false);
+        when(apacheFtpClient.getReplyString()).thenReturn("OK");
+        when(apacheFtpClient.getReplyCode()).thenReturn(200);
+        doAnswer(invocation -> {
+            InputStream inputStream = (InputStream) invocation.getArguments()[1];
+            Assert.assertEquals(new BufferedReader(new InputStreamReader(inputStream)).readLine(), "Hello Citrus!");
+            return true;
+        }).when(apacheFtpClient).storeFile(eq("upload.txt"), any(InputStream.class));
+
+        ftpClient.send(new FtpMessage(FTPCmd.STOR, "upload.txt")
+                .localPath("classpath:com/consol/citrus/ftp/client/test-file.txt"), context);
+
+        Message reply = ftpClient.receive(context);
+
+        Assert.assertTrue(reply instanceof FtpMessage);
+
+        FtpMessage ftpReply = (FtpMessage) reply;
+
+        Assert.assertEquals(ftpReply.getCommand(), FTPCmd.STOR);
+        Assert.assertEquals(ftpReply.getArguments(), "upload.txt");
+        Assert.assertEquals(ftpReply.getLocalPath(), "classpath:com/consol/citrus/ftp/client/test-file.txt");
+        Assert.assertEquals(ftpReply.getReplyCode(), new Integer(200));
+
+        verify(apacheFtpClient).setFileType(FTP.BINARY_FILE_TYPE);
+        verify(apacheFtpClient).storeFile(eq("upload.txt"), any(InputStream.class));
+    }
+
+    @Test
+    public void testRetrieveFile() throws Exception {
+        FtpClient ftpClient = new FtpClient();
+        ftpClient.setFtpClient(apacheFtpClient);
+
+        Path localFile = Files.createTempDirectory("citrus-ftp").resolve("download/test.txt");
+
+        reset(apacheFtpClient);
+
+        when(apacheFtpClient.isConnected()).thenReturn(false);
+        when(apacheFtpClient.getReplyString()).thenReturn("OK");
+        when(apacheFtpClient.getReplyCode()).thenReturn(200);
+        doAnswer(invocation -> {
+            OutputStream outputStream = (OutputStream) invocation.getArguments()[1];
+            outputStream.write("Hello Citrus!".getBytes());
+            return true;
+        }).when(apacheFtpClient).retrieveFile(eq("download.txt"), any(OutputStream.class));
+
+        ftpClient.send(new FtpMessage(FTPCmd.RETR, "download.txt")
+                .localPath(localFile.toString()), context);
+
+        Message reply = ftpClient.receive(context);
+
+        Assert.assertTrue(reply instanceof FtpMessage);
+
+        FtpMessage ftpReply = (FtpMessage) reply;
+
+        Assert.assertEquals(ftpReply.getCommand(), FTPCmd.RETR);
+        Assert.assertEquals(ftpReply.getArguments(), "download.txt");
+        Assert.assertEquals(ftpReply.getLocalPath(), localFile.toString());
+        Assert.assertEquals(ftpReply.getReplyCode(), new Integer(200));
+        Assert.assertEquals(new String(Files.readAllBytes(localFile)), "Hello Citrus!");
+    }
+
+    @Test
+    public void testListFiles() throws Exception {
+        FtpClient ftpClient = new FtpClient();
+        ftpClient.setFtpClient(apacheFtpClient);
+
+        FTPFile file1 = new FTPFile();
+        file1.setName("file1.txt");
+        FTPFile file2 = new FTPFile();
+        file2.setName("file2.txt");
+
+        reset(apacheFtpClient);
+
+        when(apacheFtpClient.isConnected()).thenReturn(false);
+        when(apacheFtpClient.getReplyString()).thenReturn("OK");
+        when(apacheFtpClient.getReplyCode()).thenReturn(226);
+        when(apacheFtpClient.listFiles("/test")).thenReturn(new FTPFile[] { file1, file2 });
+
+        ftpClient.send(new FtpMessage(FTPCmd.LIST, "/test"), context);
+
+        Message reply = ftpClient.receive(context);
+
+        Assert.assertTrue(reply instanceof FtpMessage);
+
+        FtpMessage ftpReply = (FtpMessage) reply;
+
+        Assert.assertEquals(ftpReply.getCommand(), FTPCmd.LIST);
+        Assert.assertEquals(ftpReply.getReplyCode(), new Integer(226));
+        Assert.assertEquals(ftpReply.getPayload(String.class), "file1.txt" + System.lineSeparator() + "file2.txt");
+    }
+
+    @Test
+    public void testConnectionLeasePerThread() throws Exception {
+        FtpEndpointConfiguration endpointConfiguration = new FtpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(2);
+        endpointConfiguration.setTimeout(500L);
+
+        FTPClient otherApacheFtpClient = Mockito.mock(FTPClient.class);
+        FtpClient ftpClient = new FtpClient(endpointConfiguration) {
+            @Override
+            protected FTPClient createConnection() {
+                return otherApacheFtpClient;
+            }
+        };
+        ftpClient.setFtpClient(apacheFtpClient);
+        ftpClient.afterPropertiesSet();
+
+        reset(apacheFtpClient);
+        when(apacheFtpClient.isConnected()).thenReturn(true);
+        when(otherApacheFtpClient.isConnected()).thenReturn(true);
+
+        Assert.assertSame(ftpClient.connectAndLogin(), apacheFtpClient);
+        Assert.assertSame(ftpClient.connectAndLogin(), apacheFtpClient);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertSame(executor.submit(ftpClient::connectAndLogin).get(), otherApacheFtpClient);
+            Assert.assertEquals(ftpClient.getConnectionPool().getSize(), 2);
+            Assert.assertEquals(ftpClient.getConnectionPool().getLeased(), 2);
+
+            ftpClient.releaseConnection();
+            Assert.assertEquals(ftpClient.getConnectionPool().getLeased(), 1);
+
+            Assert.assertSame(executor.submit(ftpClient::connectAndLogin).get(), otherApacheFtpClient);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMoreThreadsThanConnections() throws Exception {
+        FtpEndpointConfiguration endpointConfiguration = new FtpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(2);
+        endpointConfiguration.setTimeout(5000L);
+
+        FtpClient ftpClient = new FtpClient(endpointConfiguration) {
+            @Override
+            protected FTPClient createConnection() {
+                FTPClient connection = Mockito.mock(FTPClient.class);
+                try {
+                    when(connection.isConnected()).thenReturn(true);
+                    when(connection.getReplyString()).thenReturn("OK");
+                    when(connection.sendCommand(FTPCmd.PWD, null)).thenReturn(257);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return connection;
+            }
+        };
+        ftpClient.afterPropertiesSet();
+
+        int threads = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Message>> replies = new ArrayList<>();
+            for (int i = 0; i < threads * 5; i++) {
+                replies.add(executor.submit(() -> {
+                    start.await();
+                    TestContext threadContext = createTestContext();
+                    ftpClient.send(new FtpMessage(FTPCmd.PWD, null), threadContext);
+                    return ftpClient.receive(threadContext);
+                }));
+            }
+
+            start.countDown();
+            for (Future<Message> reply : replies) {
+                Assert.assertEquals(((FtpMessage) reply.get(10, TimeUnit.SECONDS)).getReplyCode(), new Integer(257));
+            }
+
+            Assert.assertEquals(ftpClient.getConnectionPool().getSize(), 2);
+            Assert.assertEquals(ftpClient.getConnectionPool().getLeased(), 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -43,6 +43,8 @@ public class FtpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getPort(), new Integer(22222));
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(ftpClient.getEndpointConfiguration().getMaxConnections(), 10);
+        Assert.assertFalse(ftpClient.getEndpointConfiguration().isLocalPassiveMode());
 
         // 2nd ftp client
         ftpClient = clients.get("ftpClient2");
@@ -52,6 +54,8 @@ public class FtpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getUser(), "user");
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getPassword(), "consol");
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(ftpClient.getEndpointConfiguration().getMaxConnections(), 5);
+        Assert.assertTrue(ftpClient.getEndpointConfiguration().isLocalPassiveMode());
 
         // 3rd ftp client
         ftpClient = clients.get("ftpClient3");
@@ -32,6 +32,7 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.util.CollectionUtils;
 
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 
 /**
@@ -110,7 +111,13 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
         try {
-            ResponseEntity<?> response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, String.class);
+            ResponseEntity<?> response;
+            if (CollectionUtils.isEmpty(getEndpointConfiguration().getBinaryMediaTypes())) {
+                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, String.class);
+            } else {
+                response = decodeTextBody(getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, byte[].class));
+            }
+
             log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
             correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
         } catch (HttpErrorPropagatingException e) {
@@ -122,6 +129,22 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         }
     }
 
+    /**
+     * Response bodies are received as raw bytes when binary media types are configured. Only response bodies that
+     * do not match one of the binary media types get decoded to text using the response charset.
+     * @param response
+     * @return
+     */
+    private ResponseEntity<?> decodeTextBody(ResponseEntity<byte[]> response) {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (response.getBody() == null || getEndpointConfiguration().isBinaryMediaType(contentType)) {
+            return response;
+        }
+
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : Charset.forName(getEndpointConfiguration().getCharset());
+        return new ResponseEntity<>(new String(response.getBody(), charset), response.getHeaders(), response.getStatusCode());
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
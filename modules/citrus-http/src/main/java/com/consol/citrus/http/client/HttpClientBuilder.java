@@ -22,6 +22,7 @@ import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.MessageCorrelator;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
@@ -29,6 +30,7 @@ import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -145,6 +147,65 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         return this;
     }
 
+    /**
+     * Sets the media types that are kept as binary message payload.
+     * @param mediaTypes
+     * @return
+     */
+    public HttpClientBuilder binaryMediaTypes(MediaType... mediaTypes) {
+        return binaryMediaTypes(Arrays.asList(mediaTypes));
+    }
+
+    /**
+     * Sets the media types that are kept as binary message payload.
+     * @param mediaTypes
+     * @return
+     */
+    public HttpClientBuilder binaryMediaTypes(List<MediaType> mediaTypes) {
+        endpoint.getEndpointConfiguration().setBinaryMediaTypes(mediaTypes);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxConnections
+     * @return
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive duration for idle connections in milliseconds.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(long keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the time to live for pooled connections in milliseconds.
+     * @param connectionTtl
+     * @return
+     */
+    public HttpClientBuilder connectionTtl(long connectionTtl) {
+        endpoint.getEndpointConfiguration().setConnectionTtl(connectionTtl);
+        return this;
+    }
+
     /**
      * Sets the content type.
      * @param contentType
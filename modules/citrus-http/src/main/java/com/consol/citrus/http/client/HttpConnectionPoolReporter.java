@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.client;
+
+import com.consol.citrus.report.AbstractTestSuiteListener;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+import java.util.*;
+
+/**
+ * Test suite listener reports connection pool statistics of all Http client endpoints in the application context
+ * at the end of the test suite. Only clients using the default pooling request factory are reported; custom request
+ * factories and rest templates do not provide pool statistics.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class HttpConnectionPoolReporter extends AbstractTestSuiteListener implements ApplicationContextAware {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(HttpConnectionPoolReporter.class);
+
+    /** Bean name in Spring application context */
+    public static final String BEAN_NAME = "httpConnectionPoolReporter";
+
+    /** Application context holding Http client endpoints */
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void onFinish() {
+        for (Map.Entry<String, PoolStats> entry : getConnectionPoolStats().entrySet()) {
+            log.info(String.format("HTTP client '%s' connection pool stats: %s", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Gets connection pool statistics by Http client name. Clients without pooling connection manager are skipped.
+     * @return
+     */
+    public Map<String, PoolStats> getConnectionPoolStats() {
+        Map<String, PoolStats> poolStats = new LinkedHashMap<>();
+        if (applicationContext == null) {
+            return poolStats;
+        }
+
+        for (Map.Entry<String, HttpClient> entry : applicationContext.getBeansOfType(HttpClient.class).entrySet()) {
+            PoolStats stats = entry.getValue().getEndpointConfiguration().getConnectionPoolStats();
+            if (stats != null) {
+                poolStats.put(entry.getKey(), stats);
+            }
+        }
+
+        return poolStats;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+}
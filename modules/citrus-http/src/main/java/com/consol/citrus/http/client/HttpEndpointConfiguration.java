@@ -21,8 +21,16 @@ import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.*;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
@@ -30,7 +38,9 @@ import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Christoph Deppisch
@@ -83,6 +93,24 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Should handle http attributes */
     private boolean handleAttributeHeaders = false;
 
+    /** Media types that are kept as binary message payload instead of being decoded to text */
+    private List<MediaType> binaryMediaTypes = new ArrayList<>();
+
+    /** Maximum number of pooled connections in total */
+    private int maxConnections = 20;
+
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = 10;
+
+    /** Keep alive duration in milliseconds for idle connections when server does not specify keep alive */
+    private long keepAlive = -1L;
+
+    /** Time to live in milliseconds for pooled connections */
+    private long connectionTtl = -1L;
+
+    /** Pooling connection manager used in default request factory */
+    private PoolingHttpClientConnectionManager connectionManager;
+
     /** Should handle http cookies */
     private boolean handleCookies = false;
 
@@ -268,12 +296,52 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            requestFactory = new HttpComponentsClientHttpRequestFactory(createPoolingHttpClient());
         }
 
         return requestFactory;
     }
 
+    /**
+     * Creates Apache http client with pooling connection manager. Connections are kept alive and reused
+     * for subsequent requests to the same route.
+     * @return
+     */
+    private org.apache.http.client.HttpClient createPoolingHttpClient() {
+        connectionManager = new PoolingHttpClientConnectionManager(connectionTtl, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        org.apache.http.impl.client.HttpClientBuilder clientBuilder = HttpClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager);
+
+        if (keepAlive > 0) {
+            clientBuilder.setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+                @Override
+                public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                    long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return duration > 0 ? duration : keepAlive;
+                }
+            });
+        }
+
+        return clientBuilder.build();
+    }
+
+    /**
+     * Gets the statistics of the pooling connection manager. Returns null in case custom request factory
+     * or rest template is used and no connection pool has been created yet.
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        if (connectionManager == null) {
+            return null;
+        }
+
+        return connectionManager.getTotalStats();
+    }
+
     /**
      * Sets the client request factory.
      * @param requestFactory
@@ -373,4 +441,113 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setErrorHandler(ResponseErrorHandler errorHandler) {
         this.errorHandler = errorHandler;
     }
+
+    /**
+     * Checks if given content type should be handled as binary content.
+     * @param contentType
+     * @return
+     */
+    public boolean isBinaryMediaType(MediaType contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        for (MediaType binaryMediaType : binaryMediaTypes) {
+            if (binaryMediaType.includes(contentType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the binary media types.
+     *
+     * @return
+     */
+    public List<MediaType> getBinaryMediaTypes() {
+        return binaryMediaTypes;
+    }
+
+    /**
+     * Sets the binary media types.
+     *
+     * @param binaryMediaTypes
+     */
+    public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
+        this.binaryMediaTypes = binaryMediaTypes;
+    }
+
+    /**
+     * Gets the maxConnections.
+     *
+     * @return
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maxConnections.
+     *
+     * @param maxConnections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     *
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maxConnectionsPerRoute.
+     *
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets the keepAlive.
+     *
+     * @return
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keepAlive.
+     *
+     * @param keepAlive
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the connectionTtl.
+     *
+     * @return
+     */
+    public long getConnectionTtl() {
+        return connectionTtl;
+    }
+
+    /**
+     * Sets the connectionTtl.
+     *
+     * @param connectionTtl
+     */
+    public void setConnectionTtl(long connectionTtl) {
+        this.connectionTtl = connectionTtl;
+    }
 }
@@ -91,6 +91,36 @@ public @interface HttpClientConfig {
      */
     boolean handleCookies() default false;
 
+    /**
+     * Binary media types.
+     * @return
+     */
+    String[] binaryMediaTypes() default {};
+
+    /**
+     * Max pooled connections.
+     * @return
+     */
+    int maxConnections() default 20;
+
+    /**
+     * Max pooled connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 10;
+
+    /**
+     * Keep alive duration for idle connections.
+     * @return
+     */
+    long keepAlive() default -1L;
+
+    /**
+     * Pooled connection time to live.
+     * @return
+     */
+    long connectionTtl() default -1L;
+
     /**
      * Content type.
      * @return
@@ -28,10 +28,13 @@ import com.consol.citrus.message.MessageCorrelator;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
+import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Arrays;
+
 /**
  * @author Christoph Deppisch
  * @since 2.5
@@ -85,6 +88,11 @@ public class HttpClientConfigParser extends AbstractAnnotationConfigParser<HttpC
 
         builder.defaultAcceptHeader(annotation.defaultAcceptHeader());
         builder.handleCookies(annotation.handleCookies());
+        builder.binaryMediaTypes(MediaType.parseMediaTypes(Arrays.asList(annotation.binaryMediaTypes())));
+        builder.maxConnections(annotation.maxConnections());
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.keepAlive(annotation.keepAlive());
+        builder.connectionTtl(annotation.connectionTtl());
         builder.charset(annotation.charset());
         builder.contentType(annotation.contentType());
         builder.pollingInterval(annotation.pollingInterval());
@@ -125,6 +125,66 @@ public @interface HttpServerConfig {
      */
     boolean handleCookies() default false;
 
+    /**
+     * Binary media types.
+     * @return
+     */
+    String[] binaryMediaTypes() default {};
+
+    /**
+     * Stream threshold.
+     * @return
+     */
+    long streamThreshold() default -1L;
+
+    /**
+     * Compression threshold.
+     * @return
+     */
+    long compressionThreshold() default 0L;
+
+    /**
+     * Min server threads.
+     * @return
+     */
+    int minThreads() default 8;
+
+    /**
+     * Max server threads.
+     * @return
+     */
+    int maxThreads() default 200;
+
+    /**
+     * Connector acceptor threads.
+     * @return
+     */
+    int acceptors() default -1;
+
+    /**
+     * Connector selector threads.
+     * @return
+     */
+    int selectors() default -1;
+
+    /**
+     * Async request dispatch.
+     * @return
+     */
+    boolean asyncDispatch() default false;
+
+    /**
+     * Async request threads.
+     * @return
+     */
+    int asyncThreads() default 50;
+
+    /**
+     * Max number of requests waiting for an async thread.
+     * @return
+     */
+    int asyncQueueCapacity() default 1000;
+
     /**
      * Auto start.
      * @return
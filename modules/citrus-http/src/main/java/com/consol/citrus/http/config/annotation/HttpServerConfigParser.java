@@ -27,6 +27,7 @@ import com.consol.citrus.http.server.HttpServerBuilder;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.servlet.ServletHandler;
+import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -55,6 +56,16 @@ public class HttpServerConfigParser extends AbstractAnnotationConfigParser<HttpS
         builder.timeout(annotation.timeout());
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.handleCookies(annotation.handleCookies());
+        builder.binaryMediaTypes(MediaType.parseMediaTypes(Arrays.asList(annotation.binaryMediaTypes())));
+        builder.streamThreshold(annotation.streamThreshold());
+        builder.compressionThreshold(annotation.compressionThreshold());
+        builder.minThreads(annotation.minThreads());
+        builder.maxThreads(annotation.maxThreads());
+        builder.acceptors(annotation.acceptors());
+        builder.selectors(annotation.selectors());
+        builder.asyncDispatch(annotation.asyncDispatch());
+        builder.asyncThreads(annotation.asyncThreads());
+        builder.asyncQueueCapacity(annotation.asyncQueueCapacity());
 
         builder.debugLogging(annotation.debugLogging());
 
@@ -21,12 +21,14 @@ import com.consol.citrus.config.xml.AbstractEndpointParser;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.endpoint.EndpointConfiguration;
 import com.consol.citrus.http.client.HttpClient;
+import com.consol.citrus.http.client.HttpConnectionPoolReporter;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import org.springframework.beans.factory.config.TypedStringValue;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
@@ -78,6 +80,15 @@ public class HttpClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("handle-cookies"), "handleCookies");
 
+        if (element.hasAttribute("binary-media-types")) {
+            endpointConfiguration.addPropertyValue("binaryMediaTypes", MediaType.parseMediaTypes(element.getAttribute("binary-media-types")));
+        }
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive"), "keepAlive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-ttl"), "connectionTtl");
+
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("error-handler"), "errorHandler");
         if (element.hasAttribute("error-strategy")) {
             endpointConfiguration.addPropertyValue("errorHandlingStrategy",
@@ -88,6 +99,8 @@ public class HttpClientParser extends AbstractEndpointParser {
 
         // Set outbound header mapper
         endpointConfiguration.addPropertyValue("headerMapper", DefaultHttpHeaderMapper.outboundMapper());
+
+        BeanDefinitionParserUtils.registerBean(HttpConnectionPoolReporter.BEAN_NAME, HttpConnectionPoolReporter.class, parserContext, false);
     }
 
     @Override
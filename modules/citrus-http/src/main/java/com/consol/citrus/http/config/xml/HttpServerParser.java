@@ -22,6 +22,7 @@ import com.consol.citrus.http.server.HttpServer;
 import com.consol.citrus.server.AbstractServer;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.http.MediaType;
 import org.w3c.dom.Element;
 
 /**
@@ -52,6 +53,20 @@ public class HttpServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("message-converter"), "messageConverter");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-header-attributes"), "handleAttributeHeaders");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("handle-cookies"), "handleCookies");
+
+        if (element.hasAttribute("binary-media-types")) {
+            builder.addPropertyValue("binaryMediaTypes", MediaType.parseMediaTypes(element.getAttribute("binary-media-types")));
+        }
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("stream-threshold"), "streamThreshold");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("compression-threshold"), "compressionThreshold");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("min-threads"), "minThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-threads"), "maxThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("acceptors"), "acceptors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("selectors"), "selectors");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("async-dispatch"), "asyncDispatch");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("async-threads"), "asyncThreads");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("async-queue-capacity"), "asyncQueueCapacity");
     }
 
     @Override
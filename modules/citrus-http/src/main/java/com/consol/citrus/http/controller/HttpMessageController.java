@@ -20,17 +20,27 @@ import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.endpoint.adapter.EmptyResponseEndpointAdapter;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.message.HttpMessage;
+import com.consol.citrus.http.servlet.CachingHttpServletRequestWrapper;
 import com.consol.citrus.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.util.UrlPathHelper;
 
 import javax.servlet.http.*;
+import java.io.IOException;
 import java.util.Enumeration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Message controller implementation handling all incoming requests by forwarding to a message 
@@ -42,73 +52,142 @@ import java.util.Enumeration;
 @RequestMapping("/*")
 public class HttpMessageController {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(HttpMessageController.class);
+
     /** Endpoint adapter for incoming requests, providing proper responses */
     private EndpointAdapter endpointAdapter = new EmptyResponseEndpointAdapter();
 
     /** Endpoint configuration */
     private HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
 
+    /** Request attribute holding the response entity of the current request */
+    public static final String RESPONSE_ENTITY_ATTRIBUTE = HttpMessageController.class.getName() + ".responseEntity";
+
     /** Hold the latest response message for message tracing reasons */
-    private ResponseEntity<String> responseCache;
+    private volatile ResponseEntity<?> responseCache;
+
+    /** Converter reading textual request bodies */
+    private final StringHttpMessageConverter textMessageConverter = new StringHttpMessageConverter();
+
+    /** Optional executor handling requests asynchronously, when not set requests are handled on the container thread */
+    private Executor asyncExecutor;
     
     @RequestMapping(value = "**", method = { RequestMethod.GET })
-    @ResponseBody
-    public ResponseEntity<String> handleGetRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.GET, requestEntity);
+    public Object handleGetRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.GET, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.POST })
-    @ResponseBody
-    public ResponseEntity<String> handlePostRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.POST, requestEntity);
+    public Object handlePostRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.POST, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.PUT })
-    @ResponseBody
-    public ResponseEntity<String> handlePutRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.PUT, requestEntity);
+    public Object handlePutRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.PUT, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.DELETE })
-    @ResponseBody
-    public ResponseEntity<String> handleDeleteRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.DELETE, requestEntity);
+    public Object handleDeleteRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.DELETE, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.OPTIONS })
-    @ResponseBody
-    public ResponseEntity<String> handleOptionsRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.OPTIONS, requestEntity);
+    public Object handleOptionsRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.OPTIONS, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.HEAD })
-    @ResponseBody
-    public ResponseEntity<String> handleHeadRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.HEAD, requestEntity);
+    public Object handleHeadRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.HEAD, request, response);
     }
     
     @RequestMapping(value= "**", method = { RequestMethod.TRACE })
-    @ResponseBody
-    public ResponseEntity<String> handleTraceRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.TRACE, requestEntity);
+    public Object handleTraceRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.TRACE, request, response);
     }
 
     @RequestMapping(value= "**", method = { RequestMethod.PATCH })
-    @ResponseBody
-    public ResponseEntity<String> handlePatchRequest(HttpEntity<String> requestEntity) {
-        return handleRequestInternal(HttpMethod.PATCH, requestEntity);
+    public Object handlePatchRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return dispatchRequest(HttpMethod.PATCH, request, response);
     }
     
     /**
-     * Handles requests with endpoint adapter implementation. Previously sets Http request method as header parameter.
+     * Reads request entity from servlet request. Request bodies matching one of the configured binary media types
+     * are kept as raw bytes or as resource in case the request caching filter has spilled the body to a file.
+     * All other request bodies are decoded to text.
+     * @param servletRequest
+     * @return
+     * @throws IOException
+     */
+    private HttpEntity<?> readRequestEntity(HttpServletRequest servletRequest) throws IOException {
+        ServletServerHttpRequest inputMessage = new ServletServerHttpRequest(servletRequest);
+
+        if (!endpointConfiguration.isBinaryMediaType(inputMessage.getHeaders().getContentType())) {
+            return new HttpEntity<>(textMessageConverter.read(String.class, inputMessage), inputMessage.getHeaders());
+        }
+
+        if (servletRequest instanceof CachingHttpServletRequestWrapper) {
+            Resource body = ((CachingHttpServletRequestWrapper) servletRequest).getCachedBody();
+            if (body instanceof ByteArrayResource) {
+                return new HttpEntity<>(((ByteArrayResource) body).getByteArray(), inputMessage.getHeaders());
+            }
+
+            return new HttpEntity<>(body, inputMessage.getHeaders());
+        }
+
+        return new HttpEntity<>(StreamUtils.copyToByteArray(inputMessage.getBody()), inputMessage.getHeaders());
+    }
+
+    /**
+     * Dispatches request to the endpoint adapter. When async executor is set the request is handed over to the executor
+     * and a deferred result is returned, so Spring MVC suspends the request and releases the container thread while the
+     * endpoint adapter is waiting for the response. Requests rejected by a saturated executor are answered with
+     * service unavailable. Without async executor the request is handled synchronously on the container thread.
+     * @param method
+     * @param servletRequest
+     * @param servletResponse
+     * @return the response entity or a deferred result completed with the response entity.
+     * @throws IOException
+     */
+    private Object dispatchRequest(HttpMethod method, final HttpServletRequest servletRequest, final HttpServletResponse servletResponse) throws IOException {
+        final HttpMessage request = createRequestMessage(method, readRequestEntity(servletRequest), servletRequest);
+
+        if (asyncExecutor == null) {
+            return handleRequestInternal(request, servletRequest, servletResponse);
+        }
+
+        // no async timeout as endpoint adapter takes care of timeouts while waiting for the response
+        final DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(0L);
+        try {
+            asyncExecutor.execute(() -> {
+                try {
+                    result.setResult(handleRequestInternal(request, servletRequest, servletResponse));
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejected request as async request executor is saturated");
+            ResponseEntity<?> responseEntity = new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+            servletRequest.setAttribute(RESPONSE_ENTITY_ATTRIBUTE, responseEntity);
+            result.setResult(responseEntity);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates request message from request entity. Previously sets Http request method as header parameter.
      * @param method
      * @param requestEntity
+     * @param servletRequest
      * @return
      */
-    private ResponseEntity<String> handleRequestInternal(HttpMethod method, HttpEntity<String> requestEntity) {
+    private HttpMessage createRequestMessage(HttpMethod method, HttpEntity<?> requestEntity, HttpServletRequest servletRequest) {
         HttpMessage request = endpointConfiguration.getMessageConverter().convertInbound(requestEntity, endpointConfiguration, null);
 
-        HttpServletRequest servletRequest = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
         UrlPathHelper pathHelper = new UrlPathHelper();
 
         Enumeration allHeaders = servletRequest.getHeaderNames();
@@ -147,9 +226,22 @@ public class HttpMessageController {
                 .version(servletRequest.getProtocol())
                 .method(method);
 
+        return request;
+    }
+
+    /**
+     * Handles requests with endpoint adapter implementation. The response entity is saved as request attribute for
+     * message tracing reasons.
+     * @param request
+     * @param servletRequest
+     * @param servletResponse
+     * @return
+     */
+    private ResponseEntity<?> handleRequestInternal(HttpMessage request, HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
+        ResponseEntity<?> responseEntity;
         Message response = endpointAdapter.handleMessage(request);
         if (response == null) {
-            responseCache = new ResponseEntity<>(HttpStatus.OK);
+            responseEntity = new ResponseEntity<>(HttpStatus.OK);
         } else {
             HttpMessage httpResponse;
             if (response instanceof HttpMessage) {
@@ -162,17 +254,18 @@ public class HttpMessageController {
                 httpResponse.status(HttpStatus.OK);
             }
 
-            responseCache = (ResponseEntity<String>) endpointConfiguration.getMessageConverter().convertOutbound(httpResponse, endpointConfiguration, null);
+            responseEntity = (ResponseEntity<?>) endpointConfiguration.getMessageConverter().convertOutbound(httpResponse, endpointConfiguration, null);
 
             if (endpointConfiguration.isHandleCookies() && httpResponse.getCookies() != null) {
-                HttpServletResponse servletResponse = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getResponse();
                 for (Cookie cookie : httpResponse.getCookies()) {
                     servletResponse.addCookie(cookie);
                 }
             }
         }
 
-        return responseCache;
+        servletRequest.setAttribute(RESPONSE_ENTITY_ATTRIBUTE, responseEntity);
+        responseCache = responseEntity;
+        return responseEntity;
     }
     
     /**
@@ -208,10 +301,27 @@ public class HttpMessageController {
     }
 
     /**
-     * Gets the responseCache.
+     * Gets the latest response entity handled by this controller. Use the request attribute
+     * {@link #RESPONSE_ENTITY_ATTRIBUTE} to get the response of a particular request.
      * @return the responseCache the responseCache to get.
      */
-    public ResponseEntity<String> getResponseCache() {
+    public ResponseEntity<?> getResponseCache() {
         return responseCache;
     }
+
+    /**
+     * Gets the asyncExecutor.
+     * @return
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the asyncExecutor.
+     * @param asyncExecutor
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
 }
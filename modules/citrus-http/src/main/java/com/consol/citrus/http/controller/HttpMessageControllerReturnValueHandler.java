@@ -0,0 +1,70 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.http.controller;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.support.AsyncHandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.DeferredResultMethodReturnValueHandler;
+
+/**
+ * Return value handler for message controller handler methods. Handler methods return either a response entity when
+ * requests are handled synchronously or a deferred result when async dispatch is enabled. As Spring MVC selects
+ * return value handlers by declared return type, this handler delegates to the deferred result handler or to the
+ * http entity handler according to the actual return value.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class HttpMessageControllerReturnValueHandler implements AsyncHandlerMethodReturnValueHandler {
+
+    /** Handler writing response entities */
+    private final HandlerMethodReturnValueHandler responseEntityHandler;
+
+    /** Handler starting async request processing for deferred results */
+    private final DeferredResultMethodReturnValueHandler deferredResultHandler = new DeferredResultMethodReturnValueHandler();
+
+    /**
+     * Constructor using handler for response entity return values.
+     * @param responseEntityHandler
+     */
+    public HttpMessageControllerReturnValueHandler(HandlerMethodReturnValueHandler responseEntityHandler) {
+        this.responseEntityHandler = responseEntityHandler;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return returnType.getMethod() != null && HttpMessageController.class.isAssignableFrom(returnType.getContainingClass());
+    }
+
+    @Override
+    public boolean isAsyncReturnValue(Object returnValue, MethodParameter returnType) {
+        return returnValue instanceof DeferredResult;
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        if (returnValue instanceof DeferredResult) {
+            deferredResultHandler.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+        } else {
+            responseEntityHandler.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+        }
+    }
+}
@@ -23,11 +23,13 @@ import com.consol.citrus.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -59,7 +61,10 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
      */
     public boolean preHandle(HttpServletRequest request, 
             HttpServletResponse response, Object handler) throws Exception {
-        handleRequest(getRequestContent(request));
+        // request has already been logged on initial dispatch when async dispatch is resuming
+        if (isLoggingEnabled() && !DispatcherType.ASYNC.equals(request.getDispatcherType())) {
+            handleRequest(getRequestContent(request));
+        }
         return true;
     }
 
@@ -68,7 +73,17 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
      */
     public void postHandle(HttpServletRequest request,
             HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        handleResponse(getResponseContent(response, handler));
+        if (isLoggingEnabled()) {
+            handleResponse(getResponseContent(request, response, handler));
+        }
+    }
+
+    /**
+     * Request and response content is only consumed when message listeners or debug logging need to see it.
+     * @return
+     */
+    private boolean isLoggingEnabled() {
+        return messageListener != null || log.isDebugEnabled();
     }
 
     /**
@@ -151,10 +166,11 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
     }
     
     /**
+     * @param request
      * @param response
      * @return
      */
-    private String getResponseContent(HttpServletResponse response, Object handler) {
+    private String getResponseContent(HttpServletRequest request, HttpServletResponse response, Object handler) {
         StringBuilder builder = new StringBuilder();
 
         builder.append(response);
@@ -162,11 +178,11 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
         if (handler instanceof HandlerMethod) {
             HandlerMethod handlerMethod = (HandlerMethod) handler;
             if (handlerMethod.getBean() instanceof HttpMessageController) {
-                ResponseEntity<String> responseEntity =
-                        ((HttpMessageController) handlerMethod.getBean()).getResponseCache();
+                ResponseEntity<?> responseEntity =
+                        (ResponseEntity<?>) request.getAttribute(HttpMessageController.RESPONSE_ENTITY_ATTRIBUTE);
                 if (responseEntity != null) {
                     builder.append(NEWLINE);
-                    builder.append(responseEntity.getBody());
+                    builder.append(getBodyContent(responseEntity.getBody()));
                 }
             }
         }
@@ -174,4 +190,19 @@ public class LoggingHandlerInterceptor implements HandlerInterceptor {
         return builder.toString();
     }
 
+    /**
+     * Gets printable body content. Binary body content is represented by its size only.
+     * @param body
+     * @return
+     */
+    private String getBodyContent(Object body) {
+        if (body instanceof byte[]) {
+            return String.format("<binary content: %s bytes>", ((byte[]) body).length);
+        } else if (body instanceof Resource) {
+            return String.format("<binary content: %s>", ((Resource) body).getDescription());
+        }
+
+        return String.valueOf(body);
+    }
+
 }
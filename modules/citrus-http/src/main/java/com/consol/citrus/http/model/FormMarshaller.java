@@ -16,6 +16,7 @@
 
 package com.consol.citrus.http.model;
 
+import com.consol.citrus.Citrus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -32,7 +33,9 @@ public class FormMarshaller extends Jaxb2Marshaller {
     public FormMarshaller() {
         setClassesToBeBound(FormData.class, Control.class);
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-http-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-http-message.xsd"));
+        }
 
         try {
             afterPropertiesSet();
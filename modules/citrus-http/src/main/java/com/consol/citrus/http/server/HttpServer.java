@@ -23,8 +23,10 @@ import com.consol.citrus.server.AbstractServer;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -33,6 +35,8 @@ import org.springframework.context.*;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.WebApplicationContext;
@@ -43,6 +47,7 @@ import javax.servlet.ServletContext;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Simple Http server implementation starting an embedded Jetty server instance with
@@ -109,6 +114,39 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     /** Message converter */
     private HttpMessageConverter messageConverter = new HttpMessageConverter();
 
+    /** Media types that are kept as binary message payload instead of being decoded to text */
+    private List<MediaType> binaryMediaTypes = new ArrayList<>();
+
+    /** Max number of request body bytes cached in memory before spilling to file, negative value disables spilling */
+    private long streamThreshold = -1L;
+
+    /** Min number of response content bytes required for gzip compression */
+    private long compressionThreshold = 0L;
+
+    /** Minimum number of Jetty server threads */
+    private int minThreads = 8;
+
+    /** Maximum number of Jetty server threads */
+    private int maxThreads = 200;
+
+    /** Number of connector acceptor threads, negative value uses Jetty default */
+    private int acceptors = -1;
+
+    /** Number of connector selector threads, negative value uses Jetty default */
+    private int selectors = -1;
+
+    /** Should handle requests asynchronously releasing the server thread while waiting for the response */
+    private boolean asyncDispatch = false;
+
+    /** Number of threads handling requests when async dispatch is enabled */
+    private int asyncThreads = 50;
+
+    /** Max number of requests waiting for an async thread, further requests are rejected with service unavailable */
+    private int asyncQueueCapacity = 1000;
+
+    /** Executor handling requests when async dispatch is enabled */
+    private ExecutorService asyncExecutor;
+
     @Override
     protected void shutdown() {
         if (jettyServer != null) {
@@ -120,6 +158,11 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 throw new CitrusRuntimeException(e);
             }
         }
+
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+            asyncExecutor = null;
+        }
     }
 
     @Override
@@ -132,7 +175,18 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 jettyServer = connector.getServer();
                 jettyServer.addConnector(connector);
             } else {
-                jettyServer = new Server(port);
+                jettyServer = new Server(new QueuedThreadPool(maxThreads, minThreads));
+
+                ServerConnector serverConnector = new ServerConnector(jettyServer, acceptors, selectors);
+                serverConnector.setPort(port);
+                jettyServer.addConnector(serverConnector);
+            }
+
+            if (asyncDispatch) {
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(asyncQueueCapacity), new CustomizableThreadFactory(getName() + "-async-"));
+                executor.allowCoreThreadTimeOut(true);
+                asyncExecutor = executor;
             }
             
             HandlerCollection handlers = new HandlerCollection();
@@ -163,6 +217,7 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
                 FilterHolder filterHolder = new FilterHolder();
                 filterHolder.setName(filterEntry.getKey());
                 filterHolder.setFilter(filterEntry.getValue());
+                filterHolder.setAsyncSupported(true);
 
                 servletHandler.addFilter(filterHolder, filterMapping);
             }
@@ -202,6 +257,7 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         ServletHolder servletHolder = new ServletHolder(getDispatherServlet());
         servletHolder.setName(getServletName());
         servletHolder.setInitParameter("contextConfigLocation", contextConfigLocation);
+        servletHolder.setAsyncSupported(true);
 
         servletHandler.addServlet(servletHolder);
 
@@ -229,8 +285,9 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         filterMapping.setFilterName("request-caching-filter");
         filterMapping.setPathSpec("/*");
 
-        FilterHolder filterHolder = new FilterHolder(new RequestCachingServletFilter());
+        FilterHolder filterHolder = new FilterHolder(new RequestCachingServletFilter(streamThreshold));
         filterHolder.setName("request-caching-filter");
+        filterHolder.setAsyncSupported(true);
         servletHandler.addFilter(filterHolder, filterMapping);
     }
 
@@ -242,8 +299,9 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
         filterMapping.setFilterName("gzip-filter");
         filterMapping.setPathSpec("/*");
 
-        FilterHolder filterHolder = new FilterHolder(new GzipServletFilter());
+        FilterHolder filterHolder = new FilterHolder(new GzipServletFilter(compressionThreshold));
         filterHolder.setName("gzip-filter");
+        filterHolder.setAsyncSupported(true);
         servletHandler.addFilter(filterHolder, filterMapping);
     }
 
@@ -670,4 +728,194 @@ public class HttpServer extends AbstractServer implements ApplicationContextAwar
     public void setHandleCookies(boolean handleCookies) {
         this.handleCookies = handleCookies;
     }
+
+    /**
+     * Gets the binary media types.
+     *
+     * @return
+     */
+    public List<MediaType> getBinaryMediaTypes() {
+        return binaryMediaTypes;
+    }
+
+    /**
+     * Sets the binary media types.
+     *
+     * @param binaryMediaTypes
+     */
+    public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
+        this.binaryMediaTypes = binaryMediaTypes;
+    }
+
+    /**
+     * Gets the streamThreshold.
+     *
+     * @return
+     */
+    public long getStreamThreshold() {
+        return streamThreshold;
+    }
+
+    /**
+     * Sets the streamThreshold.
+     *
+     * @param streamThreshold
+     */
+    public void setStreamThreshold(long streamThreshold) {
+        this.streamThreshold = streamThreshold;
+    }
+
+    /**
+     * Gets the compressionThreshold.
+     *
+     * @return
+     */
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Sets the compressionThreshold.
+     *
+     * @param compressionThreshold
+     */
+    public void setCompressionThreshold(long compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Gets the minThreads.
+     *
+     * @return
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    /**
+     * Sets the minThreads.
+     *
+     * @param minThreads
+     */
+    public void setMinThreads(int minThreads) {
+        this.minThreads = minThreads;
+    }
+
+    /**
+     * Gets the maxThreads.
+     *
+     * @return
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the maxThreads.
+     *
+     * @param maxThreads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Gets the acceptors.
+     *
+     * @return
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Sets the acceptors.
+     *
+     * @param acceptors
+     */
+    public void setAcceptors(int acceptors) {
+        this.acceptors = acceptors;
+    }
+
+    /**
+     * Gets the selectors.
+     *
+     * @return
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Sets the selectors.
+     *
+     * @param selectors
+     */
+    public void setSelectors(int selectors) {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Gets the asyncDispatch.
+     *
+     * @return
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    /**
+     * Sets the asyncDispatch.
+     *
+     * @param asyncDispatch
+     */
+    public void setAsyncDispatch(boolean asyncDispatch) {
+        this.asyncDispatch = asyncDispatch;
+    }
+
+    /**
+     * Gets the number of threads handling requests when async dispatch is enabled.
+     *
+     * @return
+     */
+    public int getAsyncThreads() {
+        return asyncThreads;
+    }
+
+    /**
+     * Sets the number of threads handling requests when async dispatch is enabled.
+     *
+     * @param asyncThreads
+     */
+    public void setAsyncThreads(int asyncThreads) {
+        this.asyncThreads = asyncThreads;
+    }
+
+    /**
+     * Gets the max number of requests waiting for an async thread.
+     *
+     * @return
+     */
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    /**
+     * Sets the max number of requests waiting for an async thread. When the queue is full requests are rejected
+     * with service unavailable.
+     *
+     * @param asyncQueueCapacity
+     */
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    /**
+     * Gets the executor handling requests when async dispatch is enabled.
+     *
+     * @return
+     */
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
 }
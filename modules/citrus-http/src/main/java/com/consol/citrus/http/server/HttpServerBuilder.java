@@ -22,9 +22,11 @@ import com.consol.citrus.http.message.HttpMessageConverter;
 import org.eclipse.jetty.security.SecurityHandler;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.servlet.ServletHandler;
+import org.springframework.http.MediaType;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.Filter;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -212,6 +214,115 @@ public class HttpServerBuilder extends AbstractEndpointBuilder<HttpServer> {
         return this;
     }
 
+    /**
+     * Sets the media types that are kept as binary message payload.
+     * @param mediaTypes
+     * @return
+     */
+    public HttpServerBuilder binaryMediaTypes(MediaType... mediaTypes) {
+        return binaryMediaTypes(Arrays.asList(mediaTypes));
+    }
+
+    /**
+     * Sets the media types that are kept as binary message payload.
+     * @param mediaTypes
+     * @return
+     */
+    public HttpServerBuilder binaryMediaTypes(List<MediaType> mediaTypes) {
+        endpoint.setBinaryMediaTypes(mediaTypes);
+        return this;
+    }
+
+    /**
+     * Sets the max number of request body bytes cached in memory before spilling to file.
+     * @param streamThreshold
+     * @return
+     */
+    public HttpServerBuilder streamThreshold(long streamThreshold) {
+        endpoint.setStreamThreshold(streamThreshold);
+        return this;
+    }
+
+    /**
+     * Sets the min number of response content bytes required for gzip compression.
+     * @param compressionThreshold
+     * @return
+     */
+    public HttpServerBuilder compressionThreshold(long compressionThreshold) {
+        endpoint.setCompressionThreshold(compressionThreshold);
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of server threads.
+     * @param minThreads
+     * @return
+     */
+    public HttpServerBuilder minThreads(int minThreads) {
+        endpoint.setMinThreads(minThreads);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of server threads.
+     * @param maxThreads
+     * @return
+     */
+    public HttpServerBuilder maxThreads(int maxThreads) {
+        endpoint.setMaxThreads(maxThreads);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector acceptor threads.
+     * @param acceptors
+     * @return
+     */
+    public HttpServerBuilder acceptors(int acceptors) {
+        endpoint.setAcceptors(acceptors);
+        return this;
+    }
+
+    /**
+     * Sets the number of connector selector threads.
+     * @param selectors
+     * @return
+     */
+    public HttpServerBuilder selectors(int selectors) {
+        endpoint.setSelectors(selectors);
+        return this;
+    }
+
+    /**
+     * Enables asynchronous request handling.
+     * @param asyncDispatch
+     * @return
+     */
+    public HttpServerBuilder asyncDispatch(boolean asyncDispatch) {
+        endpoint.setAsyncDispatch(asyncDispatch);
+        return this;
+    }
+
+    /**
+     * Sets the number of threads handling requests asynchronously.
+     * @param asyncThreads
+     * @return
+     */
+    public HttpServerBuilder asyncThreads(int asyncThreads) {
+        endpoint.setAsyncThreads(asyncThreads);
+        return this;
+    }
+
+    /**
+     * Sets the max number of requests waiting for an async thread.
+     * @param asyncQueueCapacity
+     * @return
+     */
+    public HttpServerBuilder asyncQueueCapacity(int asyncQueueCapacity) {
+        endpoint.setAsyncQueueCapacity(asyncQueueCapacity);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
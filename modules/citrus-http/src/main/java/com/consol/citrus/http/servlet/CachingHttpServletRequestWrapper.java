@@ -18,7 +18,11 @@ package com.consol.citrus.http.servlet;
 
 import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import org.springframework.util.FileCopyUtils;
+import com.consol.citrus.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.*;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMethod;
 
@@ -27,36 +31,67 @@ import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.*;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Caching wrapper saves request body data to cache when read.
+ * Caching wrapper saves request body data to cache when read. Request bodies exceeding the optional stream threshold
+ * are spilled to a temporary file instead of being held in memory. The file resource may be referenced by messages
+ * long after the request has completed, so the temporary file is deleted as soon as the file resource is garbage
+ * collected.
  * @author Christoph Deppisch
  */
-public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper {
+public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper implements Closeable {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(CachingHttpServletRequestWrapper.class);
+
     /** Cached request data initialized when first read from input stream */
     private byte[] body;
 
+    /** Resource on temporary file holding request data exceeding the stream threshold */
+    private FileSystemResource bodyFile;
+
+    /** Max number of bytes cached in memory, negative value disables spilling to file */
+    private final long streamThreshold;
+
     /**
      * Default constructor using initial servlet request.
      * @param request
      */
     public CachingHttpServletRequestWrapper(HttpServletRequest request) {
+        this(request, -1L);
+    }
+
+    /**
+     * Constructor using initial servlet request and stream threshold.
+     * @param request
+     * @param streamThreshold
+     */
+    public CachingHttpServletRequestWrapper(HttpServletRequest request, long streamThreshold) {
         super(request);
+        this.streamThreshold = streamThreshold;
     }
 
     @Override
     public Map<String, String[]> getParameterMap() {
-        if (body == null) {
+        if (!isCached()) {
             return super.getParameterMap();
         }
 
         Map<String, String[]> params = new HashMap<>();
         if (RequestMethod.POST.name().equals(getMethod()) || RequestMethod.PUT.name().equals(getMethod())) {
             if ("application/x-www-form-urlencoded".equals(getContentType())) {
-                fillParams(params, new String(body, Charset.forName(Citrus.CITRUS_FILE_ENCODING)));
+                try {
+                    fillParams(params, FileUtils.readToString(getCachedBody(), Charset.forName(Citrus.CITRUS_FILE_ENCODING)));
+                } catch (IOException e) {
+                    throw new CitrusRuntimeException("Failed to read cached request body", e);
+                }
             } else {
                 return super.getParameterMap();
             }
@@ -69,14 +104,85 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        if (body == null) {
-            if (super.getInputStream() != null) {
-                body = FileCopyUtils.copyToByteArray(super.getInputStream());
-            } else {
-                body = new byte[] {};
+        return new RequestCachingInputStream(getCachedBody().getInputStream());
+    }
+
+    /**
+     * Gets the cached request body as resource. Reads and caches the request body on first access. Resource is
+     * either backed by memory or by a temporary file in case request body has exceeded the stream threshold.
+     * @return
+     * @throws IOException
+     */
+    public Resource getCachedBody() throws IOException {
+        if (!isCached()) {
+            cacheBody(super.getInputStream());
+        }
+
+        if (bodyFile != null) {
+            return bodyFile;
+        }
+
+        return new ByteArrayResource(body);
+    }
+
+    /**
+     * Checks if request body has already been read and cached.
+     * @return
+     */
+    private boolean isCached() {
+        return body != null || bodyFile != null;
+    }
+
+    /**
+     * Reads request body from input stream. Spills data to temporary file as soon as the stream threshold is exceeded.
+     * @param inputStream
+     * @throws IOException
+     */
+    private void cacheBody(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            body = new byte[] {};
+            return;
+        }
+
+        if (streamThreshold < 0) {
+            body = StreamUtils.copyToByteArray(inputStream);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[StreamUtils.BUFFER_SIZE];
+        int bytesRead;
+        while ((bytesRead = inputStream.read(chunk)) != -1) {
+            buffer.write(chunk, 0, bytesRead);
+
+            if (buffer.size() > streamThreshold) {
+                File file = Files.createTempFile("citrus-http-request", ".tmp").toFile();
+
+                try (OutputStream fileStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                    buffer.writeTo(fileStream);
+                    StreamUtils.copy(inputStream, fileStream);
+                }
+
+                bodyFile = new FileSystemResource(file);
+                TemporaryFileCleaner.register(bodyFile, file);
+                return;
             }
         }
-        return new RequestCachingInputStream();
+
+        body = buffer.toByteArray();
+    }
+
+    /**
+     * Releases the reference to the temporary file holding spilled request data if any. The file itself is deleted
+     * once the file resource is no longer referenced by messages created from this request.
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (bodyFile != null) {
+            bodyFile = null;
+            body = new byte[] {};
+        }
     }
 
     /**
@@ -100,16 +206,17 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
     }
 
     /** Input stream uses cached request data */
-    private final class RequestCachingInputStream extends ServletInputStream {
-        private final ByteArrayInputStream is;
+    private static final class RequestCachingInputStream extends ServletInputStream {
+        private final InputStream is;
+        private boolean finished = false;
 
-        private RequestCachingInputStream() {
-            this.is = new ByteArrayInputStream(body);
+        private RequestCachingInputStream(InputStream is) {
+            this.is = is;
         }
 
         @Override
         public boolean isFinished() {
-            return is.available() == 0;
+            return finished;
         }
 
         @Override
@@ -124,8 +231,70 @@ public class CachingHttpServletRequestWrapper extends HttpServletRequestWrapper
 
         @Override
         public int read() throws IOException {
-            return is.read();
+            int data = is.read();
+            finished = data == -1;
+            return data;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int bytesRead = is.read(b, off, len);
+            finished = bytesRead == -1;
+            return bytesRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            is.close();
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Deletes temporary files as soon as the file resource pointing to the file has been garbage collected. Uses a
+     * daemon thread waiting on the reference queue of registered file resources.
+     */
+    private static final class TemporaryFileCleaner extends PhantomReference<Resource> {
+        private static final ReferenceQueue<Resource> queue = new ReferenceQueue<>();
+        private static final Set<TemporaryFileCleaner> cleaners = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        static {
+            Thread cleanerThread = new Thread(TemporaryFileCleaner::deleteCollected, "citrus-http-request-cleaner");
+            cleanerThread.setDaemon(true);
+            cleanerThread.start();
+        }
+
+        private final File file;
+
+        private TemporaryFileCleaner(Resource resource, File file) {
+            super(resource, queue);
+            this.file = file;
+        }
+
+        /**
+         * Registers temporary file to be deleted once given resource has been garbage collected.
+         * @param resource
+         * @param file
+         */
+        static void register(Resource resource, File file) {
+            cleaners.add(new TemporaryFileCleaner(resource, file));
+        }
+
+        /**
+         * Waits for garbage collected resources and deletes their temporary files.
+         */
+        private static void deleteCollected() {
+            while (true) {
+                try {
+                    TemporaryFileCleaner cleaner = (TemporaryFileCleaner) queue.remove();
+                    cleaners.remove(cleaner);
+                    Files.deleteIfExists(cleaner.file.toPath());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    log.warn("Failed to delete temporary request body file", e);
+                }
+            }
+        }
+    }
+}
@@ -19,16 +19,20 @@ package com.consol.citrus.http.servlet;
 import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.controller.HttpMessageController;
+import com.consol.citrus.http.controller.HttpMessageControllerReturnValueHandler;
 import com.consol.citrus.http.interceptor.*;
 import com.consol.citrus.http.server.HttpServer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.context.request.WebRequestInterceptor;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.handler.MappedInterceptor;
 import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.util.UrlPathHelper;
 
 import java.util.ArrayList;
@@ -66,6 +70,7 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
 
         configureHandlerInterceptor(context);
         configureMessageController(context);
+        configureReturnValueHandlers(context);
     }
 
     /**
@@ -93,7 +98,9 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
             endpointConfiguration.setHeaderMapper(DefaultHttpHeaderMapper.inboundMapper());
             endpointConfiguration.setHandleAttributeHeaders(httpServer.isHandleAttributeHeaders());
             endpointConfiguration.setHandleCookies(httpServer.isHandleCookies());
+            endpointConfiguration.setBinaryMediaTypes(httpServer.getBinaryMediaTypes());
             messageController.setEndpointConfiguration(endpointConfiguration);
+            messageController.setAsyncExecutor(httpServer.getAsyncExecutor());
 
             if (endpointAdapter != null) {
                 messageController.setEndpointAdapter(endpointAdapter);
@@ -101,6 +108,30 @@ public class CitrusDispatcherServlet extends DispatcherServlet {
         }
     }
 
+    /**
+     * Post process handler adapters so message controller return values are handled by message controller
+     * return value handler. Deferred results returned by the message controller start async request processing then.
+     * @param context
+     */
+    protected void configureReturnValueHandlers(ApplicationContext context) {
+        for (RequestMappingHandlerAdapter handlerAdapter : context.getBeansOfType(RequestMappingHandlerAdapter.class).values()) {
+            List<HandlerMethodReturnValueHandler> returnValueHandlers = handlerAdapter.getReturnValueHandlers();
+            if (returnValueHandlers == null) {
+                continue;
+            }
+
+            for (HandlerMethodReturnValueHandler returnValueHandler : returnValueHandlers) {
+                if (returnValueHandler instanceof HttpEntityMethodProcessor) {
+                    List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+                    handlers.add(new HttpMessageControllerReturnValueHandler(returnValueHandler));
+                    handlers.addAll(returnValueHandlers);
+                    handlerAdapter.setReturnValueHandlers(handlers);
+                    break;
+                }
+            }
+        }
+    }
+
     /**
      * Adapts object list to handler interceptors.
      * @param interceptors
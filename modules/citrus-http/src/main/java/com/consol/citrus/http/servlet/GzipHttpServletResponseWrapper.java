@@ -16,6 +16,7 @@
 
 package com.consol.citrus.http.servlet;
 
+import com.consol.citrus.util.GzipUtils;
 import org.springframework.http.HttpHeaders;
 
 import javax.servlet.ServletOutputStream;
@@ -24,11 +25,11 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 import java.io.*;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Response wrapper wraps response output stream with gzip output stream. Write operations on that stream are
- * automatically compressed with gzip encoding.
+ * automatically compressed with gzip encoding. Response content smaller than the compression threshold is written
+ * uncompressed.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
@@ -38,6 +39,9 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
     private ServletOutputStream outputStream;
     private PrintWriter printWriter;
 
+    /** Min number of response content bytes required for compression */
+    private final long compressionThreshold;
+
     /**
      * Constructs a response adaptor wrapping the given response.
      *
@@ -45,8 +49,20 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
      * @throws IllegalArgumentException if the response is null
      */
     public GzipHttpServletResponseWrapper(HttpServletResponse response) {
+        this(response, 0L);
+    }
+
+    /**
+     * Constructs a response adaptor wrapping the given response using compression threshold.
+     *
+     * @param response
+     * @param compressionThreshold
+     * @throws IllegalArgumentException if the response is null
+     */
+    public GzipHttpServletResponseWrapper(HttpServletResponse response, long compressionThreshold) {
         super(response);
         origResponse = response;
+        this.compressionThreshold = compressionThreshold;
     }
 
     /**
@@ -100,11 +116,11 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
     }
 
     /**
-     * Gzip enabled servlet output stream.
+     * Gzip enabled servlet output stream. Content is buffered uncompressed until the compression threshold is reached.
      */
     private class GzipServletOutputStream extends ServletOutputStream {
         private ByteArrayOutputStream bos;
-        private GZIPOutputStream gzipStream;
+        private OutputStream gzipStream;
         private final AtomicBoolean open;
         private HttpServletResponse response;
         private ServletOutputStream outputStream;
@@ -121,16 +137,33 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
             open = new AtomicBoolean(true);
             bos = new ByteArrayOutputStream();
             outputStream = response.getOutputStream();
-            gzipStream = new GZIPOutputStream(bos);
+        }
+
+        /**
+         * Switches to compressed content. Content buffered so far gets compressed.
+         * @throws IOException
+         */
+        private void startCompression() throws IOException {
+            byte[] uncompressed = bos.toByteArray();
+            bos = new ByteArrayOutputStream();
+            gzipStream = GzipUtils.getCompressingStream(bos);
+            gzipStream.write(uncompressed);
         }
 
         @Override
         public void close() throws IOException {
             if (open.compareAndSet(true, false)) {
-                gzipStream.finish();
+                if (gzipStream == null && bos.size() >= compressionThreshold) {
+                    startCompression();
+                }
+
+                if (gzipStream != null) {
+                    gzipStream.close();
+                    response.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                }
+
                 byte[] bytes = bos.toByteArray();
                 response.addHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(bytes.length));
-                response.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
                 outputStream.write(bytes);
                 outputStream.flush();
                 outputStream.close();
@@ -143,7 +176,9 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
                 throw new IOException("Cannot flush a closed stream!");
             }
 
-            gzipStream.flush();
+            if (gzipStream != null) {
+                gzipStream.flush();
+            }
         }
 
         @Override
@@ -157,16 +192,20 @@ public class GzipHttpServletResponseWrapper extends HttpServletResponseWrapper {
                 throw new IOException("Stream closed!");
             }
 
-            gzipStream.write(b, off, len);
+            if (gzipStream == null && bos.size() + len >= compressionThreshold) {
+                startCompression();
+            }
+
+            if (gzipStream != null) {
+                gzipStream.write(b, off, len);
+            } else {
+                bos.write(b, off, len);
+            }
         }
 
         @Override
         public void write(int b) throws IOException {
-            if (!open.get()) {
-                throw new IOException("Stream closed!");
-            }
-
-            gzipStream.write(b);
+            write(new byte[] { (byte) b }, 0, 1);
         }
 
         @Override
@@ -34,16 +34,59 @@ import java.io.IOException;
  */
 public class GzipServletFilter extends OncePerRequestFilter {
 
+    /** Min number of response content bytes required for compression */
+    private long compressionThreshold = 0L;
+
+    /**
+     * Default constructor.
+     */
+    public GzipServletFilter() {
+        super();
+    }
+
+    /**
+     * Constructor using compression threshold. Response content smaller than this threshold is not compressed.
+     * @param compressionThreshold
+     */
+    public GzipServletFilter(long compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        if (response instanceof GzipHttpServletResponseWrapper) {
+            // async dispatch is resuming with the compressing response wrapper supplied on initial dispatch
+            filterChain.doFilter(request, response);
+            finishUnlessAsyncStarted(request, (GzipHttpServletResponseWrapper) response);
+            return;
+        }
+
         String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
         if (acceptEncoding != null && acceptEncoding.indexOf("gzip") >= 0) {
-            GzipHttpServletResponseWrapper gzipResponse = new GzipHttpServletResponseWrapper(response);
+            GzipHttpServletResponseWrapper gzipResponse = new GzipHttpServletResponseWrapper(response, compressionThreshold);
             filterChain.doFilter(request, gzipResponse);
-            gzipResponse.finish();
+            finishUnlessAsyncStarted(request, gzipResponse);
         } else {
             filterChain.doFilter(request, response);
         }
     }
+
+    /**
+     * Finishes compressed response content. Response is finished later on async dispatch when request
+     * processing has been suspended.
+     * @param request
+     * @param gzipResponse
+     * @throws IOException
+     */
+    private void finishUnlessAsyncStarted(HttpServletRequest request, GzipHttpServletResponseWrapper gzipResponse) throws IOException {
+        if (!isAsyncStarted(request)) {
+            gzipResponse.finish();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
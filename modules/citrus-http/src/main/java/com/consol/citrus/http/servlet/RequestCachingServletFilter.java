@@ -35,10 +35,67 @@ import org.springframework.web.filter.OncePerRequestFilter;
  */
 public class RequestCachingServletFilter extends OncePerRequestFilter {
 
+    /** Max number of request body bytes cached in memory before spilling to file */
+    private long streamThreshold = -1L;
+
+    /**
+     * Default constructor.
+     */
+    public RequestCachingServletFilter() {
+        super();
+    }
+
+    /**
+     * Constructor using stream threshold.
+     * @param streamThreshold
+     */
+    public RequestCachingServletFilter(long streamThreshold) {
+        this.streamThreshold = streamThreshold;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
             FilterChain filterChain) throws ServletException, IOException {
-        filterChain.doFilter(new CachingHttpServletRequestWrapper(request), response);
+        CachingHttpServletRequestWrapper cachingRequest = new CachingHttpServletRequestWrapper(request, streamThreshold);
+        try {
+            filterChain.doFilter(cachingRequest, response);
+        } finally {
+            if (cachingRequest.isAsyncStarted()) {
+                cachingRequest.getAsyncContext().addListener(new CachedBodyCleanupListener(cachingRequest));
+            } else {
+                cachingRequest.close();
+            }
+        }
     }
-    
+
+    /**
+     * Async listener closes caching request wrapper when async request processing has finished.
+     */
+    private static final class CachedBodyCleanupListener implements AsyncListener {
+        private final CachingHttpServletRequestWrapper cachingRequest;
+
+        private CachedBodyCleanupListener(CachingHttpServletRequestWrapper cachingRequest) {
+            this.cachingRequest = cachingRequest;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            cachingRequest.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) throws IOException {
+            cachingRequest.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) throws IOException {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
 }
@@ -23,6 +23,7 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.HttpClientErrorException;
@@ -496,4 +497,79 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+    @Test
+    public void testBinaryMediaTypeResponse() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        final byte[] responseBody = new byte[] { 0x01, 0x02, 0x03 };
+
+        endpointConfiguration.setRequestMethod(HttpMethod.GET);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setBinaryMediaTypes(Collections.singletonList(MediaType.APPLICATION_OCTET_STREAM));
+
+        Message requestMessage = new HttpMessage();
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        doAnswer((Answer<ResponseEntity<byte[]>>) invocation -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            return new ResponseEntity<>(responseBody, headers, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+
+        httpClient.send(requestMessage, context);
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(byte[].class), responseBody);
+        Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+    }
+
+    @Test
+    public void testBinaryMediaTypeTextResponse() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        final String responseBody = "<TestResponse><Message>Hello World!</Message></TestResponse>";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.GET);
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setBinaryMediaTypes(Collections.singletonList(MediaType.APPLICATION_OCTET_STREAM));
+
+        Message requestMessage = new HttpMessage();
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        doAnswer((Answer<ResponseEntity<byte[]>>) invocation -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_XML);
+            return new ResponseEntity<>(responseBody.getBytes(), headers, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.GET), any(HttpEntity.class), eq(byte[].class));
+
+        httpClient.send(requestMessage, context);
+
+        HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(), responseBody);
+    }
+
+    @Test
+    public void testPoolingRequestFactory() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(50);
+        endpointConfiguration.setMaxConnectionsPerRoute(25);
+        endpointConfiguration.setKeepAlive(5000L);
+
+        Assert.assertNull(endpointConfiguration.getConnectionPoolStats());
+        Assert.assertTrue(endpointConfiguration.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        Assert.assertNotNull(endpointConfiguration.getConnectionPoolStats());
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getMax(), 50);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getLeased(), 0);
+    }
+
 }
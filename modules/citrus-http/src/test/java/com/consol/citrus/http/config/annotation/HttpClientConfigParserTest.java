@@ -55,6 +55,10 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
             charset="ISO-8859-1",
             defaultAcceptHeader=false,
             handleCookies=true,
+            maxConnections=50,
+            maxConnectionsPerRoute=25,
+            keepAlive=5000L,
+            connectionTtl=60000L,
             timeout=10000L,
             errorStrategy = ErrorHandlingStrategy.THROWS_EXCEPTION,
             errorHandler = "errorHandler",
@@ -129,6 +133,10 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().isHandleCookies(), false);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnections(), 20);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnectionsPerRoute(), 10);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getKeepAlive(), -1L);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getConnectionTtl(), -1L);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getErrorHandler().getClass(), HttpResponseErrorHandler.class);
 
@@ -145,6 +153,10 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient2.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertEquals(httpClient2.getEndpointConfiguration().isDefaultAcceptHeader(), false);
         Assert.assertEquals(httpClient2.getEndpointConfiguration().isHandleCookies(), true);
+        Assert.assertEquals(httpClient2.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient2.getEndpointConfiguration().getMaxConnectionsPerRoute(), 25);
+        Assert.assertEquals(httpClient2.getEndpointConfiguration().getKeepAlive(), 5000L);
+        Assert.assertEquals(httpClient2.getEndpointConfiguration().getConnectionTtl(), 60000L);
         Assert.assertEquals(httpClient2.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.THROWS_EXCEPTION);
         Assert.assertEquals(httpClient2.getEndpointConfiguration().getErrorHandler(), errorHandler);
 
@@ -56,6 +56,13 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
             messageConverter="messageConverter",
             handleAttributeHeaders=true,
             handleCookies=true,
+            minThreads=4,
+            maxThreads=50,
+            acceptors=1,
+            selectors=2,
+            asyncDispatch=true,
+            asyncThreads=10,
+            asyncQueueCapacity=20,
             connector="connector",
             resourceBase="src/it/resources",
             rootParentContext=true,
@@ -158,6 +165,13 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpServer1.getResourceBase(), "src/main/resources");
         Assert.assertFalse(httpServer1.isHandleAttributeHeaders());
         Assert.assertFalse(httpServer1.isHandleCookies());
+        Assert.assertEquals(httpServer1.getMinThreads(), 8);
+        Assert.assertEquals(httpServer1.getMaxThreads(), 200);
+        Assert.assertEquals(httpServer1.getAcceptors(), -1);
+        Assert.assertEquals(httpServer1.getSelectors(), -1);
+        Assert.assertFalse(httpServer1.isAsyncDispatch());
+        Assert.assertEquals(httpServer1.getAsyncThreads(), 50);
+        Assert.assertEquals(httpServer1.getAsyncQueueCapacity(), 1000);
         Assert.assertFalse(httpServer1.isAutoStart());
         Assert.assertFalse(httpServer1.isDebugLogging());
         Assert.assertFalse(httpServer1.isUseRootContextAsParent());
@@ -178,6 +192,13 @@ public class HttpServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpServer2.getResourceBase(), "src/it/resources");
         Assert.assertTrue(httpServer2.isHandleAttributeHeaders());
         Assert.assertTrue(httpServer2.isHandleCookies());
+        Assert.assertEquals(httpServer2.getMinThreads(), 4);
+        Assert.assertEquals(httpServer2.getMaxThreads(), 50);
+        Assert.assertEquals(httpServer2.getAcceptors(), 1);
+        Assert.assertEquals(httpServer2.getSelectors(), 2);
+        Assert.assertTrue(httpServer2.isAsyncDispatch());
+        Assert.assertEquals(httpServer2.getAsyncThreads(), 10);
+        Assert.assertEquals(httpServer2.getAsyncQueueCapacity(), 20);
         Assert.assertFalse(httpServer2.isAutoStart());
         Assert.assertTrue(httpServer2.isDebugLogging());
         Assert.assertTrue(httpServer2.isUseRootContextAsParent());
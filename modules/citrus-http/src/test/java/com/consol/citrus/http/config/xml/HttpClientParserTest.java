@@ -18,6 +18,7 @@ package com.consol.citrus.http.config.xml;
 
 import com.consol.citrus.TestActor;
 import com.consol.citrus.http.client.HttpClient;
+import com.consol.citrus.http.client.HttpConnectionPoolReporter;
 import com.consol.citrus.http.client.HttpResponseErrorHandler;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.ErrorHandlingStrategy;
@@ -55,6 +56,8 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().isHandleCookies(), false);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 20);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 10);
 
         // 2nd message sender
         httpClient = clients.get("httpClient2");
@@ -70,6 +73,10 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().isDefaultAcceptHeader(), false);
         Assert.assertEquals(httpClient.getEndpointConfiguration().isHandleCookies(), true);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnections(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 25);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getKeepAlive(), 5000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionTtl(), 60000L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.THROWS_EXCEPTION);
         Assert.assertEquals(httpClient.getEndpointConfiguration().getErrorHandler(), beanDefinitionContext.getBean("errorHandler"));
 
@@ -89,6 +96,13 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(httpClient.getEndpointConfiguration().getClientInterceptors());
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().get(0), beanDefinitionContext.getBean("clientInterceptor"));
         Assert.assertEquals(httpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+
+        // connection pool reporter
+        HttpConnectionPoolReporter poolReporter = beanDefinitionContext.getBean(HttpConnectionPoolReporter.BEAN_NAME, HttpConnectionPoolReporter.class);
+        Assert.assertTrue(poolReporter.getConnectionPoolStats().containsKey("httpClient1"));
+        Assert.assertFalse(poolReporter.getConnectionPoolStats().containsKey("httpClient2"));
+        Assert.assertFalse(poolReporter.getConnectionPoolStats().containsKey("httpClient3"));
+        poolReporter.onFinish();
     }
 
     @Test
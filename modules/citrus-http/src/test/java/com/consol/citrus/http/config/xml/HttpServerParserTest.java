@@ -64,6 +64,10 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletMappingPath(), "/*");
         Assert.assertFalse(server.isHandleAttributeHeaders());
         Assert.assertFalse(server.isHandleCookies());
+        Assert.assertEquals(server.getMaxThreads(), 200);
+        Assert.assertFalse(server.isAsyncDispatch());
+        Assert.assertEquals(server.getAsyncThreads(), 50);
+        Assert.assertEquals(server.getAsyncQueueCapacity(), 1000);
 
         // 2nd message sender
         server = servers.get("httpServer2");
@@ -83,6 +87,13 @@ public class HttpServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getServletMappingPath(), "/foo");
         Assert.assertTrue(server.isHandleAttributeHeaders());
         Assert.assertTrue(server.isHandleCookies());
+        Assert.assertEquals(server.getMinThreads(), 4);
+        Assert.assertEquals(server.getMaxThreads(), 50);
+        Assert.assertEquals(server.getAcceptors(), 1);
+        Assert.assertEquals(server.getSelectors(), 2);
+        Assert.assertTrue(server.isAsyncDispatch());
+        Assert.assertEquals(server.getAsyncThreads(), 10);
+        Assert.assertEquals(server.getAsyncQueueCapacity(), 20);
 
         // 3rd message sender
         server = servers.get("httpServer3");
@@ -18,10 +18,12 @@ package com.consol.citrus.http.server;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.endpoint.adapter.StaticResponseEndpointAdapter;
 import com.consol.citrus.http.client.HttpClient;
 import com.consol.citrus.http.client.HttpEndpointConfiguration;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
@@ -32,6 +34,10 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
 
 /**
  * Simple unit test for HttpServer
@@ -81,4 +87,117 @@ public class HttpServerTest extends AbstractTestNGUnitTest {
             Assert.assertTrue(e.getMessage().contains("Connection refused"));
         }
     }
+
+    @Test
+    public void asyncDispatchTest() throws IOException {
+        HttpServer server = new HttpServer();
+        server.setPort(port + 1);
+        server.setApplicationContext(applicationContext);
+        server.setAsyncDispatch(true);
+        server.setAsyncThreads(2);
+        server.setAsyncQueueCapacity(1);
+        server.setMinThreads(4);
+        server.setMaxThreads(20);
+        server.setAcceptors(1);
+        server.setSelectors(1);
+
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setMessagePayload("Hello async");
+        endpointAdapter.setTestContextFactory(testContextFactory);
+        server.setEndpointAdapter(endpointAdapter);
+
+        server.startup();
+
+        Assert.assertTrue(server.getAsyncExecutor() instanceof ThreadPoolExecutor);
+        Assert.assertEquals(((ThreadPoolExecutor) server.getAsyncExecutor()).getMaximumPoolSize(), 2);
+
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setRequestUrl("http://localhost:" + (port + 1) + "/test");
+        HttpClient asyncClient = new HttpClient(endpointConfiguration);
+
+        try {
+            TestContext context = testContextFactory.getObject();
+            for (int i = 0; i < 3; i++) {
+                asyncClient.send(new HttpMessage("Hello")
+                        .method(HttpMethod.POST), context);
+
+                Message response = asyncClient.receive(context);
+                Assert.assertEquals(response.getHeader(HttpMessageHeaders.HTTP_STATUS_CODE), HttpStatus.OK.value());
+                Assert.assertEquals(response.getPayload(String.class), "Hello async");
+            }
+        } finally {
+            server.shutdown();
+        }
+
+        Assert.assertNull(server.getAsyncExecutor());
+    }
+
+    @Test
+    public void asyncDispatchRejectedTest() throws Exception {
+        HttpServer server = new HttpServer();
+        server.setPort(port + 2);
+        server.setApplicationContext(applicationContext);
+        server.setAsyncDispatch(true);
+        server.setAsyncThreads(1);
+        server.setAsyncQueueCapacity(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter() {
+            @Override
+            public Message handleMessageInternal(Message request) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.handleMessageInternal(request);
+            }
+        };
+        endpointAdapter.setMessagePayload("Hello async");
+        endpointAdapter.setTestContextFactory(testContextFactory);
+        server.setEndpointAdapter(endpointAdapter);
+
+        server.startup();
+
+        final String requestUrl = "http://localhost:" + (port + 2) + "/test";
+        ThreadPoolExecutor asyncExecutor = (ThreadPoolExecutor) server.getAsyncExecutor();
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> active = clients.submit(() -> sendRequest(requestUrl));
+            waitFor(() -> asyncExecutor.getActiveCount() == 1);
+
+            Future<Integer> queued = clients.submit(() -> sendRequest(requestUrl));
+            waitFor(() -> asyncExecutor.getQueue().size() == 1);
+
+            Assert.assertEquals(sendRequest(requestUrl), HttpStatus.SERVICE_UNAVAILABLE.value());
+
+            release.countDown();
+            Assert.assertEquals(active.get(10, TimeUnit.SECONDS).intValue(), HttpStatus.OK.value());
+            Assert.assertEquals(queued.get(10, TimeUnit.SECONDS).intValue(), HttpStatus.OK.value());
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+            server.shutdown();
+        }
+    }
+
+    private int sendRequest(String requestUrl) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(requestUrl).openConnection();
+        try {
+            connection.setReadTimeout(10000);
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > timeout) {
+                Assert.fail("Timed out waiting for async executor state");
+            }
+            Thread.sleep(10L);
+        }
+    }
 }
@@ -92,4 +92,22 @@ public class GzipServletFilterTest {
         Assert.assertEquals(unzipped, "Should be compressed");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testDoFilterCompressionThreshold() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.POST.name(), "http://localhost:8080/gzip");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain(servlet, new GzipServletFilter(1024L), new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+                response.getOutputStream().write("Should not be compressed".getBytes());
+            }
+        });
+        filterChain.doFilter(request, response);
+
+        Assert.assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        Assert.assertEquals(new String(response.getContentAsByteArray()), "Should not be compressed");
+    }
+
+}
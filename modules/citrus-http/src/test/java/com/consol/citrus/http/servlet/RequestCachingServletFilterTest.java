@@ -18,6 +18,8 @@ package com.consol.citrus.http.servlet;
 
 import com.consol.citrus.http.server.HttpServer;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.mock.web.*;
 import org.springframework.util.StreamUtils;
@@ -30,7 +32,9 @@ import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.Map;
 
 /**
@@ -111,4 +115,43 @@ public class RequestCachingServletFilterTest {
         filterChain.doFilter(request, response);
     }
 
+    @Test
+    public void testDoFilterCachedStreamThreshold() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(HttpMethod.POST.name(), "http://localhost:8080/cache");
+        request.setContent("Some large content".getBytes());
+
+        final File[] bodyFile = new File[1];
+        final Resource[] body = new Resource[1];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain(servlet, new RequestCachingServletFilter(10L), new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+                Assert.assertEquals(StreamUtils.copyToString(request.getInputStream(), Charset.defaultCharset()), "Some large content");
+                Assert.assertTrue(request instanceof CachingHttpServletRequestWrapper);
+
+                CachingHttpServletRequestWrapper cachingRequest = (CachingHttpServletRequestWrapper) request;
+                Assert.assertTrue(cachingRequest.getCachedBody() instanceof FileSystemResource);
+                Assert.assertEquals(StreamUtils.copyToString(cachingRequest.getCachedBody().getInputStream(), Charset.defaultCharset()), "Some large content");
+
+                body[0] = cachingRequest.getCachedBody();
+                bodyFile[0] = body[0].getFile();
+                Assert.assertTrue(bodyFile[0].exists());
+            }
+        });
+        filterChain.doFilter(request, response);
+
+        // body resource is still referenced after request has completed
+        Assert.assertNotNull(bodyFile[0]);
+        Assert.assertTrue(bodyFile[0].exists());
+        Assert.assertEquals(StreamUtils.copyToString(body[0].getInputStream(), Charset.defaultCharset()), "Some large content");
+
+        body[0] = null;
+        for (int i = 0; i < 100 && bodyFile[0].exists(); i++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+
+        Assert.assertFalse(bodyFile[0].exists());
+    }
+
 }
\ No newline at end of file
@@ -35,6 +35,8 @@ import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.json.JsonPathMessageValidationContext;
 import com.consol.citrus.validation.json.JsonPathVariableExtractor;
+import com.consol.citrus.validation.model.ObjectGraphMessageValidator;
+import com.consol.citrus.validation.model.ObjectGraphValidationContext;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.xml.XmlMessageValidationContext;
 import com.consol.citrus.validation.xml.XpathMessageValidationContext;
@@ -47,6 +49,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.io.Resource;
 import org.springframework.oxm.Marshaller;
+import org.springframework.oxm.Unmarshaller;
 import org.springframework.oxm.XmlMappingException;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -79,6 +82,9 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
     /** JSON validation context used in this action builder */
     private JsonPathMessageValidationContext jsonPathValidationContext;
 
+    /** Object graph validation context used in this action builder */
+    private ObjectGraphValidationContext objectGraphValidationContext;
+
     /** Script validation context used in this action builder */
     private ScriptValidationContext scriptValidationContext;
 
@@ -302,6 +308,84 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
 
         throw new CitrusRuntimeException("Unable to find default object mapper or marshaller in application context");
     }
+
+    /**
+     * Validate received message payload as object graph against this model object. Received payload is unmarshalled once into the
+     * model type using the default object to xml mapper or object mapper that is available in Spring bean application context.
+     * Subsequent ignore and validate calls with model paths (e.g. order.items[0].name) apply to the object graph validation.
+     *
+     * @param model
+     * @return
+     */
+    public T validateModel(Object model) {
+        Assert.notNull(applicationContext, "Citrus application context is not initialized!");
+
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(Unmarshaller.class))) {
+            return validateModel(model, applicationContext.getBean(Unmarshaller.class));
+        } else if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(ObjectMapper.class))) {
+            return validateModel(model, applicationContext.getBean(ObjectMapper.class));
+        }
+
+        throw new CitrusRuntimeException("Unable to find default object mapper or unmarshaller in application context");
+    }
+
+    /**
+     * Validate received message payload as object graph against this model object. Received payload is unmarshalled once into the
+     * model type using the given object to xml mapper or object mapper that is accessed by its bean name in Spring bean application context.
+     *
+     * @param model
+     * @param mapperName
+     * @return
+     */
+    public T validateModel(Object model, String mapperName) {
+        Assert.notNull(applicationContext, "Citrus application context is not initialized!");
+
+        if (applicationContext.containsBean(mapperName)) {
+            Object mapper = applicationContext.getBean(mapperName);
+
+            if (Unmarshaller.class.isAssignableFrom(mapper.getClass())) {
+                return validateModel(model, (Unmarshaller) mapper);
+            } else if (ObjectMapper.class.isAssignableFrom(mapper.getClass())) {
+                return validateModel(model, (ObjectMapper) mapper);
+            } else {
+                throw new CitrusRuntimeException(String.format("Invalid bean type for mapper '%s' expected ObjectMapper or Unmarshaller but was '%s'", mapperName, mapper.getClass()));
+            }
+        }
+
+        throw new CitrusRuntimeException("Unable to find default object mapper or unmarshaller in application context");
+    }
+
+    /**
+     * Validate received message payload as object graph against this model object. Received payload is unmarshalled once into the
+     * model type using the given unmarshaller.
+     *
+     * @param model
+     * @param unmarshaller
+     * @return
+     */
+    public T validateModel(Object model, Unmarshaller unmarshaller) {
+        ObjectGraphValidationContext validationContext = getObjectGraphValidationContext();
+        validationContext.setControlModel(model);
+        validationContext.setUnmarshaller(unmarshaller);
+        validationContext.setObjectMapper(null);
+        return self;
+    }
+
+    /**
+     * Validate received message payload as object graph against this model object. Received payload is read once into the
+     * model type using the given object mapper.
+     *
+     * @param model
+     * @param objectMapper
+     * @return
+     */
+    public T validateModel(Object model, ObjectMapper objectMapper) {
+        ObjectGraphValidationContext validationContext = getObjectGraphValidationContext();
+        validationContext.setControlModel(model);
+        validationContext.setObjectMapper(objectMapper);
+        validationContext.setUnmarshaller(null);
+        return self;
+    }
     
     /**
      * Expect this message header entry in received message.
@@ -568,7 +652,9 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
      * @return
      */
     public T validate(String path, Object controlValue) {
-        if (JsonPathMessageValidationContext.isJsonPathExpression(path)) {
+        if (objectGraphValidationContext != null && !JsonPathMessageValidationContext.isJsonPathExpression(path)) {
+            objectGraphValidationContext.getControlValues().put(path, controlValue);
+        } else if (JsonPathMessageValidationContext.isJsonPathExpression(path)) {
             getJsonPathValidationContext().getJsonPathExpressions().put(path, controlValue);
         } else {
             getXPathValidationContext().getXpathExpressions().put(path, controlValue);
@@ -583,7 +669,9 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
      * @return
      */
     public T ignore(String path) {
-        if (messageType.equalsIgnoreCase(MessageType.XML.name())
+        if (objectGraphValidationContext != null) {
+            objectGraphValidationContext.getIgnoreExpressions().add(path);
+        } else if (messageType.equalsIgnoreCase(MessageType.XML.name())
                 || messageType.equalsIgnoreCase(MessageType.XHTML.name())) {
             xmlMessageValidationContext.getIgnoreExpressions().add(path);
         } else if (messageType.equalsIgnoreCase(MessageType.JSON.name())) {
@@ -884,6 +972,21 @@ public class ReceiveMessageBuilder<A extends ReceiveMessageAction, T extends Rec
         return scriptValidationContext;
     }
 
+    /**
+     * Creates new object graph validation context if not done before and gets the validation context. Object graph
+     * validation replaces payload validators of the message type, header validation is still performed.
+     */
+    private ObjectGraphValidationContext getObjectGraphValidationContext() {
+        if (objectGraphValidationContext == null) {
+            objectGraphValidationContext = new ObjectGraphValidationContext();
+
+            getAction().getValidationContexts().add(objectGraphValidationContext);
+            getAction().setValidator(new ObjectGraphMessageValidator());
+        }
+
+        return objectGraphValidationContext;
+    }
+
     /**
      * Creates new JSONPath validation context if not done before and gets the validation context.
      */
@@ -138,6 +138,24 @@ public class ZooActionBuilder extends AbstractTestActionBuilder<ZooExecuteAction
         return command;
     }
 
+    /**
+     * Adds a multi command executing batched operations in a single transaction.
+     */
+    public Multi multi() {
+        Multi command = new Multi();
+        action.setCommand(command);
+        return command;
+    }
+
+    /**
+     * Adds a wait-for command waiting for the node to be created.
+     */
+    public WaitForNode waitFor(String path) {
+        WaitForNode command = new WaitForNode();
+        command.path(path);
+        action.setCommand(command);
+        return command;
+    }
 
     /**
      * Adds expected command result.
@@ -43,6 +43,8 @@ import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.json.JsonPathMessageValidationContext;
 import com.consol.citrus.validation.json.JsonPathVariableExtractor;
 import com.consol.citrus.validation.json.report.GraciousProcessingReport;
+import com.consol.citrus.validation.model.ObjectGraphMessageValidator;
+import com.consol.citrus.validation.model.ObjectGraphValidationContext;
 import com.consol.citrus.validation.script.GroovyJsonMessageValidator;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.text.PlainTextMessageValidator;
@@ -52,6 +54,7 @@ import com.consol.citrus.validation.xml.XpathPayloadVariableExtractor;
 import com.consol.citrus.variable.MessageHeaderVariableExtractor;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import com.consol.citrus.variable.dictionary.xml.NodeMappingDataDictionary;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.main.JsonSchema;
 import org.hamcrest.core.AnyOf;
 import org.mockito.Mockito;
@@ -254,6 +257,85 @@ public class ReceiveMessageTestRunnerTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testReceiveBuilderWithModelGraphValidation() {
+        reset(messageEndpoint, messageConsumer, configuration);
+        when(messageEndpoint.createConsumer()).thenReturn(messageConsumer);
+        when(messageEndpoint.getEndpointConfiguration()).thenReturn(configuration);
+        when(configuration.getTimeout()).thenReturn(100L);
+        when(messageEndpoint.getActor()).thenReturn(null);
+        when(messageConsumer.receive(any(TestContext.class), anyLong())).thenReturn(
+                new DefaultMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>")
+                        .setHeader("operation", "foo"));
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                receive(action -> action.endpoint(messageEndpoint)
+                        .validateModel(new TestRequest("@startsWith('Hello')@"), marshaller)
+                        .header("operation", "foo"));
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        Assert.assertEquals(test.getActionCount(), 1);
+        Assert.assertEquals(test.getActions().get(0).getClass(), ReceiveMessageAction.class);
+
+        ReceiveMessageAction action = ((ReceiveMessageAction)test.getActions().get(0));
+        Assert.assertEquals(action.getValidator().getClass(), ObjectGraphMessageValidator.class);
+        Assert.assertEquals(action.getValidationContexts().size(), 4);
+        Assert.assertEquals(action.getValidationContexts().get(3).getClass(), ObjectGraphValidationContext.class);
+
+        ObjectGraphValidationContext validationContext = (ObjectGraphValidationContext) action.getValidationContexts().get(3);
+        Assert.assertEquals(validationContext.getUnmarshaller(), marshaller);
+        Assert.assertEquals(((TestRequest) validationContext.getControlModel()).getMessage(), "@startsWith('Hello')@");
+    }
+
+    @Test
+    public void testReceiveBuilderWithModelGraphValidationIgnoreAndValidate() {
+        reset(messageEndpoint, messageConsumer, configuration);
+        when(messageEndpoint.createConsumer()).thenReturn(messageConsumer);
+        when(messageEndpoint.getEndpointConfiguration()).thenReturn(configuration);
+        when(configuration.getTimeout()).thenReturn(100L);
+        when(messageEndpoint.getActor()).thenReturn(null);
+        when(messageConsumer.receive(any(TestContext.class), anyLong())).thenReturn(
+                new DefaultMessage("{\"message\":\"Hello Citrus!\"}"));
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                receive(action -> action.endpoint(messageEndpoint)
+                        .messageType(MessageType.JSON)
+                        .validateModel(Collections.singletonMap("message", "Hello World!"), new ObjectMapper())
+                        .ignore("message")
+                        .validate("message", containsString("Citrus")));
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        ReceiveMessageAction action = ((ReceiveMessageAction)test.getActions().get(0));
+        ObjectGraphValidationContext validationContext = (ObjectGraphValidationContext) action.getValidationContexts().get(3);
+        Assert.assertTrue(validationContext.getIgnoreExpressions().contains("message"));
+        Assert.assertEquals(validationContext.getControlValues().size(), 1L);
+    }
+
+    @Test(expectedExceptions = TestCaseFailedException.class, expectedExceptionsMessageRegExp = "(?s).*Object graph validation failed with 1 difference\\(s\\).*Values not equal for element 'message'.*")
+    public void testReceiveBuilderWithModelGraphValidationFailure() {
+        reset(messageEndpoint, messageConsumer, configuration);
+        when(messageEndpoint.createConsumer()).thenReturn(messageConsumer);
+        when(messageEndpoint.getEndpointConfiguration()).thenReturn(configuration);
+        when(configuration.getTimeout()).thenReturn(100L);
+        when(messageEndpoint.getActor()).thenReturn(null);
+        when(messageConsumer.receive(any(TestContext.class), anyLong())).thenReturn(
+                new DefaultMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>"));
+
+        new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                receive(action -> action.endpoint(messageEndpoint)
+                        .validateModel(new TestRequest("Hello World!"), marshaller));
+            }
+        };
+    }
+
     @Test
     public void testReceiveBuilderWithPayloadModelExplicitMarshallerName() {
         reset(applicationContextMock, messageEndpoint, messageConsumer, configuration);
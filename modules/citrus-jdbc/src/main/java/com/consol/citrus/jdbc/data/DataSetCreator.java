@@ -34,15 +34,32 @@ import java.util.Optional;
 
 public class DataSetCreator {
 
+    /** Marshaller reads operation results from message payloads */
+    private final JdbcMarshaller marshaller = new JdbcMarshaller();
+
     /**
      * Converts Citrus result set representation to db driver model result set.
      * @param response The result set to convert
      * @return A DataSet the jdbc driver can understand
      */
     public DataSet createDataSet(final Message response, final MessageType messageType) {
+        return createDataSet(response, null, messageType);
+    }
+
+    /**
+     * Converts Citrus result set representation to db driver model result set. Uses given operation result that has
+     * already been read from the response message so message payload is not unmarshalled once again.
+     * @param response The result set to convert
+     * @param operationResult The operation result read from response or null
+     * @param messageType The requested MessageType
+     * @return A DataSet the jdbc driver can understand
+     */
+    public DataSet createDataSet(final Message response, final OperationResult operationResult, final MessageType messageType) {
         try {
             if (response.getPayload() instanceof DataSet) {
                 return response.getPayload(DataSet.class);
+            } else if (operationResult != null && isKnownMessageType(messageType)) {
+                return produceDataSet(operationResult.getDataSet(), messageType);
             } else if (isReadyToMarshal(response, messageType)) {
                 return marshalResponse(response, messageType);
             } else {
@@ -67,9 +84,7 @@ public class DataSetCreator {
             dataSet = response.getPayload(OperationResult.class).getDataSet();
         } else {
             try {
-                JdbcMarshaller jdbcMarshaller = new JdbcMarshaller();
-                jdbcMarshaller.setType(messageType.name());
-                Object object = jdbcMarshaller.unmarshal(new StringSource(response.getPayload(String.class)));
+                Object object = marshaller.unmarshal(new StringSource(response.getPayload(String.class)));
                 if (object instanceof OperationResult && StringUtils.hasText(((OperationResult) object).getDataSet())) {
                     dataSet = ((OperationResult) object).getDataSet();
                 }
@@ -77,7 +92,18 @@ public class DataSetCreator {
                 dataSet = response.getPayload(String.class);
             }
         }
-        
+
+        return produceDataSet(dataSet, messageType);
+    }
+
+    /**
+     * Produces data set from given XML or JSON data set representation.
+     * @param dataSet The data set representation or null
+     * @param messageType The requested MessageType
+     * @return A DataSet representing the message
+     * @throws SQLException In case the data set could not be produced
+     */
+    private DataSet produceDataSet(final String dataSet, final MessageType messageType) throws SQLException {
         if (isJsonResponse(messageType)) {
             return new JsonDataSetProducer(Optional.ofNullable(dataSet).orElse("[]")).produce();
         } else if (isXmlResponse(messageType)) {
@@ -39,7 +39,14 @@ public class JdbcMessage extends DefaultMessage {
     private OperationResult operationResult;
     private Operation operation;
 
-    private JdbcMarshaller marshaller = new JdbcMarshaller();
+    /** Shared default marshaller, Jaxb context creation is expensive */
+    private static final JdbcMarshaller DEFAULT_MARSHALLER = new JdbcMarshaller();
+
+    /** Marshaller converts model objects to XML or JSON payload */
+    private JdbcMarshaller marshaller = DEFAULT_MARSHALLER;
+
+    /** Cached payload representation of model object */
+    private String marshalledPayload;
 
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
 
@@ -138,6 +145,7 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         setHeader(JdbcMessageHeaders.JDBC_SERVER_EXCEPTION, message);
+        marshalledPayload = null;
         return this;
     }
 
@@ -148,6 +156,7 @@ public class JdbcMessage extends DefaultMessage {
 
         operationResult.setAffectedRows(number);
         setHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED, number);
+        marshalledPayload = null;
         return this;
     }
 
@@ -157,6 +166,7 @@ public class JdbcMessage extends DefaultMessage {
         }
 
         operationResult.setDataSet(dataSet);
+        marshalledPayload = null;
         return this;
     }
 
@@ -166,6 +176,13 @@ public class JdbcMessage extends DefaultMessage {
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to read data set file", e);
         }
+        marshalledPayload = null;
+        return this;
+    }
+
+    public JdbcMessage marshaller(JdbcMarshaller jdbcMarshaller) {
+        this.marshaller = jdbcMarshaller;
+        marshalledPayload = null;
         return this;
     }
 
@@ -188,9 +205,14 @@ public class JdbcMessage extends DefaultMessage {
     @Override
     public <T> T getPayload(Class<T> type) {
         if (Operation.class.equals(type)) {
-            return (T) getOperation();
+            // model object may get modified by caller
+            Operation operation = getOperation();
+            marshalledPayload = null;
+            return (T) operation;
         } else if (OperationResult.class.equals(type)) {
-            return (T) getOperationResult();
+            OperationResult operationResult = getOperationResult();
+            marshalledPayload = null;
+            return (T) operationResult;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
         } else {
@@ -200,13 +222,19 @@ public class JdbcMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (operation != null) {
             marshaller.marshal(operation, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (operationResult != null) {
             marshaller.marshal(operationResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
@@ -235,4 +263,23 @@ public class JdbcMessage extends DefaultMessage {
 
         return operation;
     }
+
+    /**
+     * Gets the marshaller.
+     *
+     * @return
+     */
+    public JdbcMarshaller getMarshaller() {
+        return marshaller;
+    }
+
+    /**
+     * Sets the marshaller.
+     *
+     * @param marshaller
+     */
+    public void setMarshaller(JdbcMarshaller marshaller) {
+        this.marshaller = marshaller;
+        this.marshalledPayload = null;
+    }
 }
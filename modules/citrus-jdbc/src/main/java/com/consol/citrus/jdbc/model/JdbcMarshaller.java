@@ -16,12 +16,11 @@
 
 package com.consol.citrus.jdbc.model;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -32,9 +31,8 @@ import org.springframework.xml.transform.StringResult;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
-import java.io.IOException;
-import java.io.StringWriter;
-import java.util.Arrays;
+import java.io.*;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -54,13 +52,27 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     /** Message type format: XML or JSON */
     private String type;
 
+    /** JSON property names identifying an operation result */
+    private static final Set<String> OPERATION_RESULT_FIELDS = new HashSet<>(Arrays.asList("success", "exception", "dataSet", "affectedRows"));
+
+    /** Max number of leading characters inspected when detecting the content format */
+    private static final int CONTENT_PEEK_LIMIT = 1024;
+
+    /** Cached readers and writers, configuration lookup is done once */
+    private final ObjectReader jsonNodeReader;
+    private final ObjectReader operationReader;
+    private final ObjectReader operationResultReader;
+    private final ObjectWriter jsonWriter;
+
     /**
      * Default constructor
      */
     public JdbcMarshaller() {
         jaxbDelegate.setClassesToBeBound(Operation.class,
                                          OperationResult.class);
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jdbc-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jdbc-message.xsd"));
+        }
 
         type = System.getProperty(JDBC_MARSHALLER_TYPE_PROPERTY, MessageType.JSON.name());
 
@@ -71,6 +83,11 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
         }
 
         setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        jsonNodeReader = reader();
+        operationReader = readerFor(Operation.class);
+        operationResultReader = readerFor(OperationResult.class);
+        jsonWriter = writer();
     }
 
     @Override
@@ -80,45 +97,112 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
 
     @Override
     public Object unmarshal(Source source) {
-        if (type.equalsIgnoreCase(MessageType.XML.name())) {
-            try {
-                return jaxbDelegate.unmarshal(source);
-            } catch (XmlMappingException e) {
-                if (source instanceof StreamSource) {
-                    for (Class<?> type : Arrays.asList(Operation.class, OperationResult.class)) {
-                        try {
-                            return readValue(((StreamSource) source).getReader(), type);
-                        } catch (JsonParseException | JsonMappingException e2) {
-                            continue;
-                        } catch (IOException io) {
-                            log.warn("Failed to read jdbc JSON object from source: " + io.getMessage());
-                            break;
-                        }
-                    }
-                }
+        if (!type.equalsIgnoreCase(MessageType.XML.name()) && !type.equalsIgnoreCase(MessageType.JSON.name())) {
+            throw new CitrusRuntimeException("Unsupported jdbc marshaller type: " + type);
+        }
 
-                throw new CitrusRuntimeException("Failed to read jdbc XML object from source", e);
-            }
-        } else if (type.equalsIgnoreCase(MessageType.JSON.name())) {
-            for (Class<?> type : Arrays.asList(Operation.class, OperationResult.class)) {
-                try {
-                    return readValue(((StreamSource) source).getReader(), type);
-                } catch (JsonParseException | JsonMappingException e2) {
-                    continue;
-                } catch (IOException io) {
-                    throw new CitrusRuntimeException("Failed to read jdbc JSON object from source", io);
+        if (!(source instanceof StreamSource)) {
+            return unmarshalXml(source);
+        }
+
+        StreamSource streamSource = (StreamSource) source;
+        try {
+            if (streamSource.getReader() != null) {
+                Reader reader = streamSource.getReader().markSupported() ? streamSource.getReader() : new BufferedReader(streamSource.getReader());
+                if (isJson(reader)) {
+                    return unmarshalJson(jsonNodeReader.readTree(reader));
+                } else {
+                    return unmarshalXml(new StreamSource(reader, streamSource.getSystemId()));
+                }
+            } else if (streamSource.getInputStream() != null) {
+                InputStream inputStream = streamSource.getInputStream().markSupported() ? streamSource.getInputStream() : new BufferedInputStream(streamSource.getInputStream());
+                if (isJson(inputStream)) {
+                    return unmarshalJson(jsonNodeReader.readTree(inputStream));
+                } else {
+                    return unmarshalXml(new StreamSource(inputStream, streamSource.getSystemId()));
                 }
             }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read jdbc JSON object from source", e);
+        }
 
-            try {
-                return jaxbDelegate.unmarshal(source);
-            } catch (XmlMappingException me) {
-                log.warn("Failed to read jdbc XML object from source: " + me.getMessage());
+        return unmarshalXml(source);
+    }
+
+    /**
+     * Unmarshal XML source with Jaxb delegate.
+     * @param source
+     * @return
+     */
+    private Object unmarshalXml(Source source) {
+        try {
+            return jaxbDelegate.unmarshal(source);
+        } catch (XmlMappingException e) {
+            throw new CitrusRuntimeException("Failed to read jdbc XML object from source", e);
+        }
+    }
+
+    /**
+     * Binds parsed JSON object to either operation or operation result. Target type is chosen based on the JSON object
+     * property names so each JSON object is parsed exactly once.
+     * @param json
+     * @return
+     * @throws IOException
+     */
+    private Object unmarshalJson(JsonNode json) throws IOException {
+        if (json == null || !json.isObject()) {
+            throw new CitrusRuntimeException("Failed to read jdbc JSON object from source - expected JSON object but was: " + json);
+        }
+
+        Iterator<String> fieldNames = json.fieldNames();
+        while (fieldNames.hasNext()) {
+            if (OPERATION_RESULT_FIELDS.contains(fieldNames.next())) {
+                return operationResultReader.readValue(json);
             }
+        }
 
-            throw new CitrusRuntimeException("Failed to read jdbc JSON object from source" + source);
-        } else {
-            throw new CitrusRuntimeException("Unsupported jdbc marshaller type: " + type);
+        return operationReader.readValue(json);
+    }
+
+    /**
+     * Checks first non whitespace character to be JSON object start. Reader is reset to its original position afterwards.
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    private boolean isJson(Reader reader) throws IOException {
+        reader.mark(CONTENT_PEEK_LIMIT);
+        try {
+            int c;
+            int read = 0;
+            do {
+                c = reader.read();
+            } while (c != -1 && ++read < CONTENT_PEEK_LIMIT && (Character.isWhitespace(c) || c == '\uFEFF'));
+
+            return c == '{' || c == '[';
+        } finally {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Checks first non whitespace byte to be JSON object start. Stream is reset to its original position afterwards.
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+    private boolean isJson(InputStream inputStream) throws IOException {
+        inputStream.mark(CONTENT_PEEK_LIMIT);
+        try {
+            int b;
+            int read = 0;
+            do {
+                b = inputStream.read();
+            } while (b != -1 && ++read < CONTENT_PEEK_LIMIT && (Character.isWhitespace(b) || b == 0xEF || b == 0xBB || b == 0xBF));
+
+            return b == '{' || b == '[';
+        } finally {
+            inputStream.reset();
         }
     }
 
@@ -129,7 +213,7 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
                 StringWriter writer = new StringWriter();
                 ((StringResult) result).setWriter(writer);
                 try {
-                    writer().writeValue(writer, graph);
+                    jsonWriter.writeValue(writer, graph);
                 } catch (IOException e) {
                     throw new CitrusRuntimeException("Failed to write jdbc JSON object graph to result", e);
                 }
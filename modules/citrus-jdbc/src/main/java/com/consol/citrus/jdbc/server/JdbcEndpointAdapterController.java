@@ -165,8 +165,9 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
         log.info("Received execute query request: " + query);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        Message response = handleMessage(JdbcMessage.execute(query));
+        OperationResult operationResult = checkSuccess(response);
+        return dataSetCreator.createDataSet(response, operationResult, getMessageType(response));
     }
 
     /**
@@ -177,8 +178,9 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeStatement(String stmt) throws JdbcServerException {
         log.info("Received execute statement request: " + stmt);
-        Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        Message response = handleMessage(JdbcMessage.execute(stmt));
+        OperationResult operationResult = checkSuccess(response);
+        return dataSetCreator.createDataSet(response, operationResult, getMessageType(response));
     }
 
     /**
@@ -325,11 +327,13 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     }
 
     /**
-     * Check that response is not having an exception message.
+     * Check that response is not having an exception message. Operation result read from the response is returned
+     * for further processing, so the response payload is unmarshalled only once.
      * @param response The response message to check
+     * @return The operation result read from response or null if response has no payload
      * @throws JdbcServerException In case the message contains a error.
      */
-    private void checkSuccess(Message response) throws JdbcServerException {
+    private OperationResult checkSuccess(Message response) throws JdbcServerException {
         OperationResult operationResult = null;
         if (response instanceof JdbcMessage || response.getPayload() instanceof OperationResult) {
             operationResult = response.getPayload(OperationResult.class);
@@ -340,6 +344,8 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         if (!success(response, operationResult)) {
             throw new JdbcServerException(getExceptionMessage(response, operationResult));
         }
+
+        return operationResult;
     }
 
     private String getExceptionMessage(Message response, OperationResult operationResult) {
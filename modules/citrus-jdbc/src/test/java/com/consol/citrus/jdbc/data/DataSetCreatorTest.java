@@ -27,6 +27,8 @@ import org.testng.annotations.Test;
 import java.sql.SQLException;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
@@ -156,6 +158,24 @@ public class DataSetCreatorTest {
         assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
     }
 
+    @Test
+    public void testCreateDataSetFromOperationResult() throws SQLException {
+        //GIVEN
+        OperationResult operationResult = new OperationResult();
+        operationResult.setDataSet("[{ \"foo\": \"bar\" }]");
+
+        Message message = mock(Message.class);
+        when(message.getPayload()).thenReturn("{\"success\": true}");
+
+        //WHEN
+        DataSet dataSet = dataSetCreator.createDataSet(message, operationResult, MessageType.JSON);
+
+        //THEN
+        assertEquals(dataSet.getColumns().toString(), "[foo]");
+        assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
+        verify(message, never()).getPayload(String.class);
+    }
+
     @Test
     public void testCreateDataSetFromNotImplementedType() {
         //GIVEN
@@ -16,12 +16,16 @@
 
 package com.consol.citrus.jdbc.model;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
 import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -125,4 +129,36 @@ public class JdbcMarshallerTest {
         marshaller.marshal(operationResult, result);
         Assert.assertEquals(result.toString(), "{\"success\":true,\"affectedRows\":5}");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUnmarshalInputStreamSource() {
+        marshaller.setType(MessageType.JSON.name());
+        Object operationResult = marshaller.unmarshal(new StreamSource(new ByteArrayInputStream("  {\"affectedRows\": 2, \"success\": true}".getBytes())));
+
+        Assert.assertTrue(operationResult instanceof OperationResult);
+        Assert.assertEquals(((OperationResult) operationResult).getAffectedRows(), Integer.valueOf(2));
+
+        Object operation = marshaller.unmarshal(new StreamSource(new ByteArrayInputStream("<operation xmlns=\"http://www.citrusframework.org/schema/jdbc/message\"><close-connection/></operation>".getBytes())));
+
+        Assert.assertTrue(operation instanceof Operation);
+        Assert.assertNotNull(((Operation) operation).getCloseConnection());
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnmarshalUnknownJson() {
+        marshaller.setType(MessageType.JSON.name());
+        marshaller.unmarshal(new StringSource("{\"unknown\":{}}"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnmarshalJsonArray() {
+        marshaller.setType(MessageType.XML.name());
+        marshaller.unmarshal(new StringSource("[{\"id\": 1}]"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnmarshalInvalidXml() {
+        marshaller.setType(MessageType.XML.name());
+        marshaller.unmarshal(new StringSource("<dataset><row/></dataset>"));
+    }
+}
@@ -355,7 +355,7 @@ public class JdbcEndpointAdapterControllerTest {
         //GIVEN
         final DataSet expectedDataSet = mock(DataSet.class);
         final DataSetCreator dataSetCreator = mock(DataSetCreator.class);
-        when(dataSetCreator.createDataSet(any(), any())).thenReturn(expectedDataSet);
+        when(dataSetCreator.createDataSet(any(), any(), any())).thenReturn(expectedDataSet);
 
         final JdbcEndpointAdapterController jdbcEndpointAdapterController =
                 spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter, dataSetCreator));
@@ -371,7 +371,7 @@ public class JdbcEndpointAdapterControllerTest {
 
         //THEN
         verify(jdbcEndpointAdapterController).handleMessage(any());
-        verify(dataSetCreator).createDataSet(messageToMarshal, MessageType.JSON);
+        verify(dataSetCreator).createDataSet(messageToMarshal, null, MessageType.JSON);
         assertEquals(dataSet, expectedDataSet);
     }
 
@@ -400,7 +400,7 @@ public class JdbcEndpointAdapterControllerTest {
         //GIVEN
         final DataSet expectedDataSet = mock(DataSet.class);
         final DataSetCreator dataSetCreator = mock(DataSetCreator.class);
-        when(dataSetCreator.createDataSet(any(), any())).thenReturn(expectedDataSet);
+        when(dataSetCreator.createDataSet(any(), any(), any())).thenReturn(expectedDataSet);
 
         final JdbcEndpointAdapterController jdbcEndpointAdapterController =
                 spy(new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter, dataSetCreator));
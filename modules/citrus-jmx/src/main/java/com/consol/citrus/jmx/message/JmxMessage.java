@@ -31,7 +31,14 @@ public class JmxMessage extends DefaultMessage {
     private ManagedBeanInvocation mbeanInvocation;
     private ManagedBeanResult mbeanResult;
 
-    private JmxMarshaller marshaller = new JmxMarshaller();
+    /** Shared default marshaller, Jaxb context creation is expensive */
+    private static final JmxMarshaller DEFAULT_MARSHALLER = new JmxMarshaller();
+
+    /** Marshaller converts model objects to XML payload */
+    private JmxMarshaller marshaller = DEFAULT_MARSHALLER;
+
+    /** Cached XML payload representation of model object */
+    private String marshalledPayload;
 
     /**
      * Prevent traditional instantiation.
@@ -63,6 +70,15 @@ public class JmxMessage extends DefaultMessage {
         return new JmxMessage(invocation);
     }
 
+    /**
+     * Creates message for given managed bean invocation. XML payload is created lazily on demand.
+     * @param mbeanInvocation
+     * @return
+     */
+    public static JmxMessage invocation(ManagedBeanInvocation mbeanInvocation) {
+        return new JmxMessage(mbeanInvocation);
+    }
+
     public static JmxMessage invocation(String objectDomain, String objectName) {
         ManagedBeanInvocation invocation = new ManagedBeanInvocation();
         invocation.setObjectDomain(objectDomain);
@@ -119,6 +135,7 @@ public class JmxMessage extends DefaultMessage {
         }
 
         mbeanInvocation.setAttribute(attribute);
+        marshalledPayload = null;
         return this;
     }
 
@@ -135,6 +152,7 @@ public class JmxMessage extends DefaultMessage {
         ManagedBeanInvocation.Operation operation = new ManagedBeanInvocation.Operation();
         operation.setName(name);
         mbeanInvocation.setOperation(operation);
+        marshalledPayload = null;
         return this;
     }
 
@@ -170,6 +188,7 @@ public class JmxMessage extends DefaultMessage {
         operationParam.setValueObject(arg);
         operationParam.setType(argType.getName());
         mbeanInvocation.getOperation().getParameter().getParameter().add(operationParam);
+        marshalledPayload = null;
         return this;
     }
 
@@ -186,10 +205,28 @@ public class JmxMessage extends DefaultMessage {
         return new JmxMessage(new ManagedBeanResult());
     }
 
+    /**
+     * Sets the marshaller used to create the XML payload.
+     * @param marshaller
+     * @return
+     */
+    public JmxMessage marshaller(JmxMarshaller marshaller) {
+        this.marshaller = marshaller;
+        marshalledPayload = null;
+        return this;
+    }
+
     @Override
     public <T> T getPayload(Class<T> type) {
         if (String.class.equals(type)) {
             return (T) getPayload();
+        } else if (ManagedBeanInvocation.class.equals(type) && mbeanInvocation != null) {
+            // model object may get modified by caller
+            marshalledPayload = null;
+            return (T) mbeanInvocation;
+        } else if (ManagedBeanResult.class.equals(type) && mbeanResult != null) {
+            marshalledPayload = null;
+            return (T) mbeanResult;
         } else {
             return super.getPayload(type);
         }
@@ -197,13 +234,19 @@ public class JmxMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (mbeanInvocation != null) {
             marshaller.marshal(mbeanInvocation, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (mbeanResult != null) {
             marshaller.marshal(mbeanResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
@@ -22,7 +22,6 @@ import com.consol.citrus.jmx.model.ManagedBeanInvocation;
 import com.consol.citrus.jmx.model.OperationParam;
 import com.consol.citrus.message.*;
 import org.springframework.util.StringUtils;
-import org.springframework.xml.transform.StringResult;
 
 import javax.xml.transform.Source;
 
@@ -88,10 +87,8 @@ public class JmxMessageConverter implements MessageConverter<ManagedBeanInvocati
 
     @Override
     public Message convertInbound(ManagedBeanInvocation mBeanInvocation, JmxEndpointConfiguration endpointConfiguration, TestContext context) {
-        StringResult payload = new StringResult();
-        endpointConfiguration.getMarshaller().marshal(mBeanInvocation, payload);
-
-        Message inbound = new DefaultMessage(payload.toString());
+        Message inbound = JmxMessage.invocation(mBeanInvocation)
+                .marshaller(endpointConfiguration.getMarshaller());
 
         if (mBeanInvocation.getMbean() != null) {
             inbound.setHeader(JmxMessageHeaders.JMX_MBEAN, mBeanInvocation.getMbean());
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jmx.model;
 
+import com.consol.citrus.Citrus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -34,7 +35,9 @@ public class JmxMarshaller extends Jaxb2Marshaller {
         setClassesToBeBound(ManagedBeanInvocation.class,
                 ManagedBeanResult.class);
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jmx-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jmx-message.xsd"));
+        }
 
         try {
             afterPropertiesSet();
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2006-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jmx.message;
+
+import com.consol.citrus.jmx.model.ManagedBeanInvocation;
+import com.consol.citrus.jmx.model.ManagedBeanResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmxMessageTest {
+
+    @Test
+    public void testTypedInvocationPayload() {
+        ManagedBeanInvocation invocation = new ManagedBeanInvocation();
+        invocation.setMbean("com.consol.citrus.jmx.mbean:type=HelloBean");
+
+        JmxMessage message = JmxMessage.invocation(invocation).operation("hello");
+
+        Assert.assertSame(message.getPayload(ManagedBeanInvocation.class), invocation);
+
+        String payload = message.getPayload(String.class);
+        Assert.assertTrue(payload.contains("com.consol.citrus.jmx.mbean:type=HelloBean"), payload);
+        Assert.assertSame(message.getPayload(String.class), payload);
+
+        message.parameter("Citrus");
+        Assert.assertNotSame(message.getPayload(String.class), payload);
+        Assert.assertTrue(message.getPayload(String.class).contains("Citrus"));
+    }
+
+    @Test
+    public void testTypedResultPayload() {
+        JmxMessage message = JmxMessage.result("Hello");
+
+        Assert.assertEquals(message.getPayload(ManagedBeanResult.class).getObject().getValueObject(), "Hello");
+        Assert.assertTrue(message.getPayload(String.class).contains("Hello"));
+    }
+}
@@ -29,7 +29,14 @@ import java.util.Map;
  */
 public class MailMessage extends DefaultMessage {
 
-    private MailMarshaller marshaller = new MailMarshaller();
+    /** Shared default marshaller, Jaxb context creation is expensive */
+    private static final MailMarshaller DEFAULT_MARSHALLER = new MailMarshaller();
+
+    /** Marshaller converts model objects to XML or JSON payload */
+    private MailMarshaller marshaller = DEFAULT_MARSHALLER;
+
+    /** Cached payload representation of model object */
+    private String marshalledPayload;
 
     private MailRequest mailRequest;
     private MailResponse mailResponse;
@@ -177,6 +184,7 @@ public class MailMessage extends DefaultMessage {
             throw new CitrusRuntimeException("Invalid access to method 'subject' for mail message");
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -193,6 +201,7 @@ public class MailMessage extends DefaultMessage {
             acceptRequest.setFrom(from);
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -209,6 +218,7 @@ public class MailMessage extends DefaultMessage {
             acceptRequest.setTo(to);
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -219,6 +229,7 @@ public class MailMessage extends DefaultMessage {
             throw new CitrusRuntimeException("Invalid access to method 'cc' for mail message");
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -229,6 +240,7 @@ public class MailMessage extends DefaultMessage {
             throw new CitrusRuntimeException("Invalid access to method 'bcc' for mail message");
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -239,6 +251,7 @@ public class MailMessage extends DefaultMessage {
             throw new CitrusRuntimeException("Invalid access to method 'subject' for mail message");
         }
 
+        marshalledPayload = null;
         return this;
     }
 
@@ -253,11 +266,13 @@ public class MailMessage extends DefaultMessage {
             throw new CitrusRuntimeException("Invalid access to method 'subject' for mail message");
         }
 
+        marshalledPayload = null;
         return this;
     }
 
     public MailMessage marshaller(MailMarshaller mailMarshaller) {
         this.marshaller = mailMarshaller;
+        marshalledPayload = null;
         return this;
     }
 
@@ -266,12 +281,17 @@ public class MailMessage extends DefaultMessage {
         if (String.class.equals(type)) {
             return (T) getPayload();
         } else if (MailRequest.class.equals(type) && mailRequest != null) {
+            // model object may get modified by caller
+            marshalledPayload = null;
             return (T) mailRequest;
         } else if (MailResponse.class.equals(type) && mailResponse != null) {
+            marshalledPayload = null;
             return (T) mailResponse;
         } else if (AcceptRequest.class.equals(type) && acceptRequest != null) {
+            marshalledPayload = null;
             return (T) acceptRequest;
         } else if (AcceptResponse.class.equals(type) && acceptResponse != null) {
+            marshalledPayload = null;
             return (T) acceptResponse;
         }
 
@@ -280,22 +300,25 @@ public class MailMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (mailRequest != null) {
             marshaller.marshal(mailRequest, payloadResult);
-            return payloadResult.toString();
         } else if (mailResponse != null) {
             marshaller.marshal(mailResponse, payloadResult);
-            return payloadResult.toString();
         } else if (acceptRequest != null) {
             marshaller.marshal(acceptRequest, payloadResult);
-            return payloadResult.toString();
         } else if (acceptResponse != null) {
             marshaller.marshal(acceptResponse, payloadResult);
-            return payloadResult.toString();
+        } else {
+            return super.getPayload();
         }
 
-        return super.getPayload();
+        marshalledPayload = payloadResult.toString();
+        return marshalledPayload;
     }
 
     /**
@@ -314,5 +337,6 @@ public class MailMessage extends DefaultMessage {
      */
     public void setMarshaller(MailMarshaller marshaller) {
         this.marshaller = marshaller;
+        this.marshalledPayload = null;
     }
 }
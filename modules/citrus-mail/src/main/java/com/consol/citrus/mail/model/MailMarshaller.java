@@ -16,6 +16,7 @@
 
 package com.consol.citrus.mail.model;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -62,7 +63,9 @@ public class MailMarshaller extends ObjectMapper implements Marshaller, Unmarsha
                 AcceptRequest.class,
                 AcceptResponse.class);
 
-        jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            jaxbDelegate.setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-mail-message.xsd"));
+        }
 
         type = System.getProperty(MAIL_MARSHALLER_TYPE_PROPERTY, type);
 
@@ -20,24 +20,25 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
+import com.consol.citrus.rmi.message.RmiMessage;
 import com.consol.citrus.rmi.message.RmiMessageHeaders;
 import com.consol.citrus.rmi.model.RmiServiceInvocation;
 import com.consol.citrus.rmi.model.RmiServiceResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.*;
-import org.springframework.xml.transform.StringResult;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.rmi.*;
-import java.rmi.registry.Registry;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -51,6 +52,12 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Cached remote stubs by registry binding */
+    private final Map<String, Remote> remoteTargets = new ConcurrentHashMap<>();
+
+    /** Cached remote methods by remote target type, method name and argument types */
+    private final Map<String, Method> methods = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -81,40 +88,40 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         String binding = message.getHeader(RmiMessageHeaders.RMI_BINDING) != null ? message.getHeader(RmiMessageHeaders.RMI_BINDING).toString() : getEndpointConfiguration().getBinding();
         try {
             RmiServiceInvocation invocation = getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
-            Registry registry = getEndpointConfiguration().getRegistry();
-            final Remote remoteTarget = registry.lookup(binding);
-
-            final Method[] method = new Method[1];
-            if (StringUtils.hasText(invocation.getMethod())) {
-                method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
-            } else {
-                ReflectionUtils.doWithMethods(remoteTarget.getClass(), new ReflectionUtils.MethodCallback() {
-                    @Override
-                    public void doWith(Method declaredMethod) throws IllegalArgumentException, IllegalAccessException {
-                        if (method[0] == null) {
-                            method[0] = declaredMethod;
-                        }
-                    }
-                }, new ReflectionUtils.MethodFilter() {
-                    @Override
-                    public boolean matches(Method declaredMethod) {
-                        return CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
-                                declaredMethod.getDeclaringClass().equals(remoteTarget.getClass());
-                    }
-                });
-            }
 
-            if (method[0] == null) {
-                throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
+            Remote remoteTarget = remoteTargets.get(binding);
+            boolean cachedTarget = remoteTarget != null;
+            if (!cachedTarget) {
+                remoteTarget = lookupRemoteTarget(binding);
             }
 
+            Method method = getMethod(remoteTarget, invocation);
+
             if (log.isDebugEnabled()) {
                 log.debug("Sending message to RMI server: '" + binding + "'");
                 log.debug("Message to send:\n" + message.getPayload(String.class));
             }
             context.onOutboundMessage(message);
 
-            Object result = method[0].invoke(remoteTarget, invocation.getArgValues(context.getApplicationContext()));
+            Object[] args = invocation.getArgValues(context.getApplicationContext());
+            Object result;
+            try {
+                result = method.invoke(remoteTarget, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof RemoteException)) {
+                    throw e;
+                }
+
+                remoteTargets.remove(binding, remoteTarget);
+                if (!cachedTarget || !isStaleRemoteTarget((RemoteException) e.getCause())) {
+                    throw e;
+                }
+
+                log.debug("Cached remote target is stale - retry with new registry lookup");
+                remoteTarget = lookupRemoteTarget(binding);
+                result = getMethod(remoteTarget, invocation).invoke(remoteTarget, args);
+            }
+
             RmiServiceResult serviceResult = new RmiServiceResult();
 
             if (result != null) {
@@ -124,9 +131,7 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
                 serviceResult.setObject(serviceResultObject);
             }
 
-            StringResult payload = new StringResult();
-            getEndpointConfiguration().getMarshaller().marshal(serviceResult, payload);
-            Message response = new DefaultMessage(payload.toString());
+            Message response = RmiMessage.result(serviceResult).marshaller(getEndpointConfiguration().getMarshaller());
             correlationManager.store(correlationKey, response);
 
             log.info("Message was sent to RMI server: '" + binding + "'");
@@ -146,6 +151,86 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         log.info("Message was sent to RMI server: '" + binding + "'");
     }
 
+    /**
+     * Looks up remote target in registry and caches the remote stub for subsequent calls.
+     * @param binding
+     * @return
+     * @throws RemoteException
+     * @throws NotBoundException
+     */
+    private Remote lookupRemoteTarget(String binding) throws RemoteException, NotBoundException {
+        Remote remoteTarget = getEndpointConfiguration().getRegistry().lookup(binding);
+        remoteTargets.put(binding, remoteTarget);
+        return remoteTarget;
+    }
+
+    /**
+     * Checks remote exception indicating that remote call has not reached the remote object. This is the case when
+     * remote object has been unexported or remote server is not reachable anymore on the stub's endpoint.
+     * @param e
+     * @return
+     */
+    private boolean isStaleRemoteTarget(RemoteException e) {
+        return e instanceof NoSuchObjectException || e instanceof ConnectException || e instanceof ConnectIOException;
+    }
+
+    /**
+     * Gets method to invoke on remote target. Resolved methods are cached by remote target type, method name and
+     * argument types.
+     * @param remoteTarget
+     * @param invocation
+     * @return
+     */
+    private Method getMethod(final Remote remoteTarget, RmiServiceInvocation invocation) {
+        String methodName = StringUtils.hasText(invocation.getMethod()) ? invocation.getMethod() : "";
+        Class<?>[] argTypes = invocation.getArgTypes();
+        String methodKey = remoteTarget.getClass().getName() + "#" + methodName + Arrays.toString(argTypes);
+
+        Method method = methods.get(methodKey);
+        if (method == null) {
+            method = findMethod(remoteTarget, methodName, argTypes);
+            methods.put(methodKey, method);
+        }
+
+        return method;
+    }
+
+    /**
+     * Finds method on remote target either by name and argument types or when no method name is given the first
+     * remote method declared on the remote target.
+     * @param remoteTarget
+     * @param methodName
+     * @param argTypes
+     * @return
+     */
+    private Method findMethod(final Remote remoteTarget, String methodName, Class<?>[] argTypes) {
+        final Method[] method = new Method[1];
+        if (StringUtils.hasText(methodName)) {
+            method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), methodName, argTypes);
+        } else {
+            ReflectionUtils.doWithMethods(remoteTarget.getClass(), new ReflectionUtils.MethodCallback() {
+                @Override
+                public void doWith(Method declaredMethod) throws IllegalArgumentException, IllegalAccessException {
+                    if (method[0] == null) {
+                        method[0] = declaredMethod;
+                    }
+                }
+            }, new ReflectionUtils.MethodFilter() {
+                @Override
+                public boolean matches(Method declaredMethod) {
+                    return CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
+                            declaredMethod.getDeclaringClass().equals(remoteTarget.getClass());
+                }
+            });
+        }
+
+        if (method[0] == null) {
+            throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
+        }
+
+        return method[0];
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -33,7 +33,14 @@ public class RmiMessage extends DefaultMessage {
     private RmiServiceInvocation serviceInvocation;
     private RmiServiceResult serviceResult;
 
-    private RmiMarshaller marshaller = new RmiMarshaller();
+    /** Shared default marshaller, Jaxb context creation is expensive */
+    private static final RmiMarshaller DEFAULT_MARSHALLER = new RmiMarshaller();
+
+    /** Marshaller converts model objects to XML payload */
+    private RmiMarshaller marshaller = DEFAULT_MARSHALLER;
+
+    /** Cached XML payload representation of model object */
+    private String marshalledPayload;
 
     /**
      * Prevent traditional instantiation.
@@ -73,6 +80,24 @@ public class RmiMessage extends DefaultMessage {
         return new RmiMessage(invocation);
     }
 
+    /**
+     * Creates message for given service invocation. XML payload is created lazily on demand.
+     * @param serviceInvocation
+     * @return
+     */
+    public static RmiMessage invocation(RmiServiceInvocation serviceInvocation) {
+        return new RmiMessage(serviceInvocation);
+    }
+
+    /**
+     * Creates message for given service result. XML payload is created lazily on demand.
+     * @param serviceResult
+     * @return
+     */
+    public static RmiMessage result(RmiServiceResult serviceResult) {
+        return new RmiMessage(serviceResult);
+    }
+
     public static RmiMessage result(Object resultObject) {
         RmiServiceResult serviceResult = new RmiServiceResult();
         RmiServiceResult.Object serviceResultObject = new RmiServiceResult.Object();
@@ -103,6 +128,7 @@ public class RmiMessage extends DefaultMessage {
         methodArg.setValueObject(arg);
         methodArg.setType(argType.getName());
         serviceInvocation.getArgs().getArgs().add(methodArg);
+        marshalledPayload = null;
         return this;
     }
 
@@ -112,15 +138,30 @@ public class RmiMessage extends DefaultMessage {
         }
 
         serviceResult.setException(message);
+        marshalledPayload = null;
+
+        return this;
+    }
 
+    /**
+     * Sets the marshaller used to create the XML payload.
+     * @param marshaller
+     * @return
+     */
+    public RmiMessage marshaller(RmiMarshaller marshaller) {
+        this.marshaller = marshaller;
+        marshalledPayload = null;
         return this;
     }
 
     @Override
     public <T> T getPayload(Class<T> type) {
         if (RmiServiceInvocation.class.equals(type) && serviceInvocation != null) {
+            // model object may get modified by caller
+            marshalledPayload = null;
             return (T) serviceInvocation;
         } else if (RmiServiceResult.class.equals(type) && serviceResult != null) {
+            marshalledPayload = null;
             return (T) serviceResult;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
@@ -131,13 +172,19 @@ public class RmiMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
+        if (marshalledPayload != null) {
+            return marshalledPayload;
+        }
+
         StringResult payloadResult = new StringResult();
         if (serviceInvocation != null) {
             marshaller.marshal(serviceInvocation, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         } else if (serviceResult != null) {
             marshaller.marshal(serviceResult, payloadResult);
-            return payloadResult.toString();
+            marshalledPayload = payloadResult.toString();
+            return marshalledPayload;
         }
 
         return super.getPayload();
@@ -21,7 +21,6 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
 import com.consol.citrus.rmi.model.RmiServiceInvocation;
 import org.springframework.util.StringUtils;
-import org.springframework.xml.transform.StringResult;
 
 import javax.xml.transform.Source;
 
@@ -49,10 +48,8 @@ public class RmiMessageConverter implements MessageConverter<RmiServiceInvocatio
 
     @Override
     public Message convertInbound(RmiServiceInvocation serviceInvocation, RmiEndpointConfiguration endpointConfiguration, TestContext context) {
-        StringResult payload = new StringResult();
-        endpointConfiguration.getMarshaller().marshal(serviceInvocation, payload);
-
-        return new DefaultMessage(payload.toString())
+        return RmiMessage.invocation(serviceInvocation)
+                .marshaller(endpointConfiguration.getMarshaller())
                 .setHeader(RmiMessageHeaders.RMI_INTERFACE, serviceInvocation.getRemote())
                 .setHeader(RmiMessageHeaders.RMI_METHOD, serviceInvocation.getMethod());
     }
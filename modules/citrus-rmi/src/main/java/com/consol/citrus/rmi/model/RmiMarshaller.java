@@ -16,6 +16,7 @@
 
 package com.consol.citrus.rmi.model;
 
+import com.consol.citrus.Citrus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -34,7 +35,9 @@ public class RmiMarshaller extends Jaxb2Marshaller {
         setClassesToBeBound(RmiServiceInvocation.class,
                             RmiServiceResult.class);
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-rmi-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-rmi-message.xsd"));
+        }
 
         try {
             afterPropertiesSet();
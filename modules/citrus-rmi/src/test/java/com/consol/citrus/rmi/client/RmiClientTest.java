@@ -20,6 +20,7 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageCorrelator;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
 import com.consol.citrus.rmi.message.RmiMessage;
+import com.consol.citrus.rmi.model.RmiServiceResult;
 import com.consol.citrus.rmi.remote.HelloService;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
@@ -30,6 +31,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.InputStreamReader;
+import java.rmi.NoSuchObjectException;
 import java.rmi.registry.Registry;
 
 import static org.mockito.Mockito.*;
@@ -133,4 +135,57 @@ public class RmiClientTest extends AbstractTestNGUnitTest {
                 StringUtils.trimAllWhitespace(responseBody));
     }
 
+    @Test
+    public void testCachedRemoteTarget() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(100);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        rmiClient.receive(context, endpointConfiguration.getTimeout());
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        Message responseMessage = rmiClient.receive(context, endpointConfiguration.getTimeout());
+
+        RmiServiceResult serviceResult = responseMessage.getPayload(RmiServiceResult.class);
+        Assert.assertEquals(serviceResult.getObject().getValueObject(), 100);
+
+        verify(registry, times(1)).lookup(binding);
+        verify(remoteInterface, times(2)).getHelloCount();
+    }
+
+    @Test
+    public void testStaleRemoteTarget() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(99)
+                .thenThrow(new NoSuchObjectException("Remote object is not exported"))
+                .thenReturn(100);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        rmiClient.receive(context, endpointConfiguration.getTimeout());
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+        Message responseMessage = rmiClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(responseMessage.getPayload(RmiServiceResult.class).getObject().getValueObject(), 100);
+
+        verify(registry, times(2)).lookup(binding);
+    }
+
 }
@@ -59,6 +59,12 @@ public @interface SeleniumBrowserConfig {
      */
     String webDriver() default "";
 
+    /**
+     * Web driver pool reference
+     * @return
+     */
+    String webDriverPool() default "";
+
     /**
      * Browser type
      * @return
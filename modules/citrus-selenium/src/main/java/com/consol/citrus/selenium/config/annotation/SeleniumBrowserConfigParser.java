@@ -20,6 +20,7 @@ import com.consol.citrus.config.annotation.AbstractAnnotationConfigParser;
 import com.consol.citrus.context.ReferenceResolver;
 import com.consol.citrus.selenium.endpoint.SeleniumBrowser;
 import com.consol.citrus.selenium.endpoint.SeleniumBrowserBuilder;
+import com.consol.citrus.selenium.endpoint.WebDriverPool;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.firefox.FirefoxProfile;
 import org.openqa.selenium.support.events.WebDriverEventListener;
@@ -63,6 +64,10 @@ public class SeleniumBrowserConfigParser extends AbstractAnnotationConfigParser<
             builder.webDriver(getReferenceResolver().resolve(annotation.webDriver(), WebDriver.class));
         }
 
+        if (StringUtils.hasText(annotation.webDriverPool())) {
+            builder.webDriverPool(getReferenceResolver().resolve(annotation.webDriverPool(), WebDriverPool.class));
+        }
+
         if (StringUtils.hasText(annotation.firefoxProfile())) {
             builder.profile(getReferenceResolver().resolve(annotation.firefoxProfile(), FirefoxProfile.class));
         }
@@ -67,6 +67,9 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
     /** Temporary storage */
     private Path temporaryStorage;
 
+    /** Pool key when web driver has been leased from web driver pool */
+    private String leaseKey;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -99,10 +102,11 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
         if (!isStarted()) {
             if (getEndpointConfiguration().getWebDriver() != null) {
                 webDriver = getEndpointConfiguration().getWebDriver();
-            } else if (StringUtils.hasText(getEndpointConfiguration().getRemoteServerUrl())) {
-                webDriver = createRemoteWebDriver(getEndpointConfiguration().getBrowserType(), getEndpointConfiguration().getRemoteServerUrl());
+            } else if (getEndpointConfiguration().getWebDriverPool() != null) {
+                leaseKey = getWebDriverPoolKey();
+                webDriver = getEndpointConfiguration().getWebDriverPool().lease(leaseKey, this::createWebDriver);
             } else {
-                webDriver = createLocalWebDriver(getEndpointConfiguration().getBrowserType());
+                webDriver = createWebDriver();
             }
 
             if (!CollectionUtils.isEmpty(getEndpointConfiguration().getEventListeners())) {
@@ -121,7 +125,14 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
      * Stop the browser when started.
      */
     public void stop() {
-        if (isStarted()) {
+        if (isStarted() && leaseKey != null) {
+            log.info("Releasing browser " + webDriver.getCurrentUrl());
+
+            getEndpointConfiguration().getWebDriverPool().release(leaseKey, webDriver);
+
+            webDriver = null;
+            leaseKey = null;
+        } else if (isStarted()) {
             log.info("Stopping browser " + webDriver.getCurrentUrl());
 
             try {
@@ -192,6 +203,34 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
         }
     }
 
+    /**
+     * Creates local or remote web driver according to endpoint configuration.
+     * @return
+     */
+    private WebDriver createWebDriver() {
+        if (StringUtils.hasText(getEndpointConfiguration().getRemoteServerUrl())) {
+            return createRemoteWebDriver(getEndpointConfiguration().getBrowserType(), getEndpointConfiguration().getRemoteServerUrl());
+        } else {
+            return createLocalWebDriver(getEndpointConfiguration().getBrowserType());
+        }
+    }
+
+    /**
+     * Pooled web drivers are shared between browsers with same type, version, JavaScript setting and remote server.
+     * @return
+     */
+    private String getWebDriverPoolKey() {
+        StringBuilder key = new StringBuilder(getEndpointConfiguration().getBrowserType());
+        key.append(":").append(getEndpointConfiguration().getVersion());
+        key.append(":").append(getEndpointConfiguration().isJavaScript() ? "js" : "nojs");
+
+        if (StringUtils.hasText(getEndpointConfiguration().getRemoteServerUrl())) {
+            key.append("@").append(getEndpointConfiguration().getRemoteServerUrl());
+        }
+
+        return key.toString();
+    }
+
     /**
      * Creates local web driver.
      * @param browserType
@@ -87,6 +87,16 @@ public class SeleniumBrowserBuilder extends AbstractEndpointBuilder<SeleniumBrow
         return this;
     }
 
+    /**
+     * Sets the web driver pool.
+     * @param webDriverPool
+     * @return
+     */
+    public SeleniumBrowserBuilder webDriverPool(WebDriverPool webDriverPool) {
+        endpoint.getEndpointConfiguration().setWebDriverPool(webDriverPool);
+        return this;
+    }
+
     /**
      * Sets the browser event listeners.
      * @param listeners
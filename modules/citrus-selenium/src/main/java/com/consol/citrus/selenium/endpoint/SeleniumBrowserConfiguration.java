@@ -52,6 +52,9 @@ public class SeleniumBrowserConfiguration extends AbstractEndpointConfiguration
     /** Custom web driver instance */
     private WebDriver webDriver;
 
+    /** Optional pool leasing shared web driver instances */
+    private WebDriverPool webDriverPool;
+
     /** Optional firefox profile */
     private FirefoxProfile firefoxProfile;
 
@@ -167,6 +170,22 @@ public class SeleniumBrowserConfiguration extends AbstractEndpointConfiguration
         this.webDriver = webDriver;
     }
 
+    /**
+     * Gets the webDriverPool.
+     * @return
+     */
+    public WebDriverPool getWebDriverPool() {
+        return webDriverPool;
+    }
+
+    /**
+     * Sets the webDriverPool.
+     * @param webDriverPool
+     */
+    public void setWebDriverPool(WebDriverPool webDriverPool) {
+        this.webDriverPool = webDriverPool;
+    }
+
     /**
      * Gets the firefoxProfile.
      *
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.selenium.endpoint;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.report.TestSuiteListener;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool of web driver instances shared by Selenium browsers. Browsers lease a driver on start and give it back on stop, so
+ * expensive driver startup is done once per pooled instance. Between leases the driver is reset, meaning that cookies,
+ * local and session storage and additional windows get cleared. Number of concurrent drivers is limited per pool key
+ * which usually is the browser type. Lease wait times are tracked and reported at the end of the test suite.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class WebDriverPool implements TestSuiteListener, DisposableBean {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(WebDriverPool.class);
+
+    /** Max number of concurrent drivers per pool key */
+    private int maxDrivers = Runtime.getRuntime().availableProcessors();
+
+    /** Max time in milliseconds to wait for a driver to become available */
+    private long leaseTimeout = 60000L;
+
+    /** Pooled drivers per pool key */
+    private final ConcurrentMap<String, DriverPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Leases web driver for given pool key. Idle drivers are reused, new drivers are created with given factory as long as
+     * the max number of drivers is not reached. Otherwise waits for a driver to be released.
+     * @param key
+     * @param factory
+     * @return
+     */
+    public WebDriver lease(String key, Supplier<WebDriver> factory) {
+        DriverPool pool = getPool(key);
+
+        long start = System.nanoTime();
+        try {
+            if (!pool.permits.tryAcquire(leaseTimeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Timeout after %s ms while waiting for pooled web driver '%s'", leaseTimeout, key));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for pooled web driver: " + key, e);
+        }
+
+        long waitTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        pool.statistics.recordLease(waitTime);
+
+        WebDriver driver = pool.idle.poll();
+        if (driver == null) {
+            try {
+                driver = factory.get();
+                pool.statistics.created.incrementAndGet();
+            } catch (RuntimeException e) {
+                pool.permits.release();
+                throw e;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Leased web driver '%s' after waiting %s ms", key, waitTime));
+        }
+
+        return driver;
+    }
+
+    /**
+     * Gives back leased web driver to the pool. Driver is reset before it is available for the next lease. Drivers that
+     * fail to reset are quit and removed from the pool.
+     * @param key
+     * @param driver
+     */
+    public void release(String key, WebDriver driver) {
+        DriverPool pool = getPool(key);
+
+        try {
+            reset(driver);
+            pool.idle.offer(driver);
+        } catch (WebDriverException e) {
+            log.warn(String.format("Failed to reset web driver '%s' - removing driver from pool", key), e);
+            quit(driver);
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    /**
+     * Clears cookies, local and session storage and closes all windows but the first one.
+     * @param driver
+     */
+    protected void reset(WebDriver driver) {
+        Iterator<String> windowHandles = new ArrayList<>(driver.getWindowHandles()).iterator();
+        if (windowHandles.hasNext()) {
+            String mainWindow = windowHandles.next();
+            while (windowHandles.hasNext()) {
+                driver.switchTo().window(windowHandles.next()).close();
+            }
+            driver.switchTo().window(mainWindow);
+        }
+
+        driver.manage().deleteAllCookies();
+
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) driver).executeScript("if (window.localStorage) { window.localStorage.clear(); } " +
+                        "if (window.sessionStorage) { window.sessionStorage.clear(); }");
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                log.debug("Unable to clear web storage: " + e.getMessage());
+            }
+        }
+
+        driver.get("about:blank");
+    }
+
+    /**
+     * Quits all idle drivers in this pool.
+     */
+    public void close() {
+        for (DriverPool pool : pools.values()) {
+            WebDriver driver;
+            while ((driver = pool.idle.poll()) != null) {
+                quit(driver);
+            }
+        }
+    }
+
+    /**
+     * Quits given driver ignoring errors.
+     * @param driver
+     */
+    private void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            log.warn("Failed to quit web driver", e);
+        }
+    }
+
+    /**
+     * Gets or creates pool for given key.
+     * @param key
+     * @return
+     */
+    private DriverPool getPool(String key) {
+        return pools.computeIfAbsent(key, k -> new DriverPool(maxDrivers));
+    }
+
+    /**
+     * Gets the lease statistics for given pool key.
+     * @param key
+     * @return
+     */
+    public LeaseStatistics getStatistics(String key) {
+        return getPool(key).statistics;
+    }
+
+    /**
+     * Gets the number of idle drivers for given pool key.
+     * @param key
+     * @return
+     */
+    public int getIdleCount(String key) {
+        return getPool(key).idle.size();
+    }
+
+    @Override
+    public void destroy() {
+        close();
+    }
+
+    /**
+     * Reports lease statistics at the end of the test suite.
+     */
+    @Override
+    public void onFinish() {
+        for (Map.Entry<String, DriverPool> pool : pools.entrySet()) {
+            log.info(String.format("Web driver pool '%s' stats: %s", pool.getKey(), pool.getValue().statistics));
+        }
+    }
+
+    @Override
+    public void onStart() {
+    }
+
+    @Override
+    public void onStartSuccess() {
+    }
+
+    @Override
+    public void onStartFailure(Throwable cause) {
+    }
+
+    @Override
+    public void onFinishSuccess() {
+    }
+
+    @Override
+    public void onFinishFailure(Throwable cause) {
+    }
+
+    /**
+     * Gets the maxDrivers.
+     *
+     * @return
+     */
+    public int getMaxDrivers() {
+        return maxDrivers;
+    }
+
+    /**
+     * Sets the maxDrivers.
+     *
+     * @param maxDrivers
+     */
+    public void setMaxDrivers(int maxDrivers) {
+        this.maxDrivers = maxDrivers;
+    }
+
+    /**
+     * Gets the leaseTimeout.
+     *
+     * @return
+     */
+    public long getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    /**
+     * Sets the leaseTimeout.
+     *
+     * @param leaseTimeout
+     */
+    public void setLeaseTimeout(long leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Idle drivers and lease permits for a single pool key.
+     */
+    private static class DriverPool {
+        private final Semaphore permits;
+        private final Queue<WebDriver> idle = new ConcurrentLinkedQueue<>();
+        private final LeaseStatistics statistics = new LeaseStatistics();
+
+        DriverPool(int maxDrivers) {
+            this.permits = new Semaphore(maxDrivers, true);
+        }
+    }
+
+    /**
+     * Lease counts and wait times for a single pool key.
+     */
+    public static class LeaseStatistics {
+        private final AtomicLong leases = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong totalWaitTime = new AtomicLong();
+        private final AtomicLong maxWaitTime = new AtomicLong();
+
+        /**
+         * Records lease with given wait time in milliseconds.
+         * @param waitTime
+         */
+        void recordLease(long waitTime) {
+            leases.incrementAndGet();
+            totalWaitTime.addAndGet(waitTime);
+            maxWaitTime.accumulateAndGet(waitTime, Math::max);
+        }
+
+        public long getLeases() {
+            return leases.get();
+        }
+
+        public long getCreated() {
+            return created.get();
+        }
+
+        public long getTotalWaitTime() {
+            return totalWaitTime.get();
+        }
+
+        public long getMaxWaitTime() {
+            return maxWaitTime.get();
+        }
+
+        public long getAverageWaitTime() {
+            long count = leases.get();
+            return count > 0 ? totalWaitTime.get() / count : 0L;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[leases: %s; created: %s; avgWait: %s ms; maxWait: %s ms]",
+                    getLeases(), getCreated(), getAverageWaitTime(), getMaxWaitTime());
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class SeleniumBrowserParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertTrue(browser.getEndpointConfiguration().getEventListeners().isEmpty());
         Assert.assertEquals(browser.getEndpointConfiguration().isJavaScript(), true);
         Assert.assertNull(browser.getEndpointConfiguration().getWebDriver());
+        Assert.assertNull(browser.getEndpointConfiguration().getWebDriverPool());
         Assert.assertNotNull(browser.getEndpointConfiguration().getFirefoxProfile());
         Assert.assertNull(browser.getEndpointConfiguration().getRemoteServerUrl());
         Assert.assertEquals(browser.getEndpointConfiguration().getTimeout(), 5000L);
@@ -63,6 +64,8 @@ public class SeleniumBrowserParserTest extends AbstractBeanDefinitionParserTest
         browser = browsers.get("remoteBrowser");
         Assert.assertEquals(browser.getEndpointConfiguration().getBrowserType(), BrowserType.IE);
         Assert.assertEquals(browser.getEndpointConfiguration().getRemoteServerUrl(), "http://localhost:9090/selenium");
+        Assert.assertEquals(browser.getEndpointConfiguration().getWebDriverPool(), beanDefinitionContext.getBean("webDriverPool"));
+        Assert.assertEquals(browser.getEndpointConfiguration().getWebDriverPool().getMaxDrivers(), 2);
 
     }
 }
\ No newline at end of file
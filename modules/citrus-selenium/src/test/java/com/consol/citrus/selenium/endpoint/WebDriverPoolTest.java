@@ -0,0 +1,105 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.selenium.endpoint;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.remote.BrowserType;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class WebDriverPoolTest {
+
+    private WebDriverPool pool;
+
+    @BeforeMethod
+    public void setupPool() {
+        pool = new WebDriverPool();
+        pool.setMaxDrivers(1);
+        pool.setLeaseTimeout(5000L);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void closePool() {
+        pool.close();
+    }
+
+    @Test
+    public void testBrowserReusesPooledDriver() {
+        SeleniumBrowser browser = new SeleniumBrowserBuilder()
+                .type(BrowserType.HTMLUNIT)
+                .webDriverPool(pool)
+                .build();
+
+        browser.start();
+        WebDriver driver = browser.getWebDriver();
+        Assert.assertTrue(driver instanceof HtmlUnitDriver);
+        browser.stop();
+        Assert.assertFalse(browser.isStarted());
+
+        SeleniumBrowser other = new SeleniumBrowserBuilder()
+                .type(BrowserType.HTMLUNIT)
+                .webDriverPool(pool)
+                .build();
+
+        other.start();
+        Assert.assertSame(other.getWebDriver(), driver);
+        Assert.assertEquals(other.getWebDriver().getCurrentUrl(), "about:blank");
+        other.stop();
+
+        Assert.assertEquals(pool.getIdleCount("htmlunit:FIREFOX_38:js"), 1);
+        Assert.assertEquals(pool.getStatistics("htmlunit:FIREFOX_38:js").getLeases(), 2L);
+        Assert.assertEquals(pool.getStatistics("htmlunit:FIREFOX_38:js").getCreated(), 1L);
+    }
+
+    @Test
+    public void testLeaseWaitsForRelease() throws Exception {
+        WebDriver driver = pool.lease("htmlunit", HtmlUnitDriver::new);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<WebDriver> lease = executor.submit(() -> pool.lease("htmlunit", HtmlUnitDriver::new));
+
+            Thread.sleep(200L);
+            Assert.assertFalse(lease.isDone());
+
+            pool.release("htmlunit", driver);
+            Assert.assertSame(lease.get(5000L, TimeUnit.MILLISECONDS), driver);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(pool.getStatistics("htmlunit").getCreated(), 1L);
+        Assert.assertTrue(pool.getStatistics("htmlunit").getMaxWaitTime() >= 100L);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timeout after 100 ms while waiting for pooled web driver 'htmlunit'")
+    public void testLeaseTimeout() {
+        pool.setLeaseTimeout(100L);
+        pool.lease("htmlunit", HtmlUnitDriver::new);
+        pool.lease("htmlunit", HtmlUnitDriver::new);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.ssh.model;
 
+import com.consol.citrus.Citrus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -34,7 +35,9 @@ public class SshMarshaller extends Jaxb2Marshaller {
         setClassesToBeBound(SshRequest.class,
                 SshResponse.class);
 
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ssh-message.xsd"));
+        if (Citrus.MARSHALLER_SCHEMA_VALIDATION) {
+            setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ssh-message.xsd"));
+        }
 
         try {
             afterPropertiesSet();
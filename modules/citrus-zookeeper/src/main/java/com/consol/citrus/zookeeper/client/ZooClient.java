@@ -24,6 +24,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Zookeeper client used for executing zookeeper commands.
@@ -42,6 +44,9 @@ public class ZooClient {
     /** Zookeeper config */
     private ZooClientConfig zookeeperConfig;
 
+    /** Signals established session, counted down by connection watcher */
+    private CountDownLatch connected = new CountDownLatch(1);
+
     /**
      * Default constructor.
      */
@@ -71,20 +76,22 @@ public class ZooClient {
      * Constructs or gets the zookeeper client implementation.
      * @return
      */
-    public ZooKeeper getZooKeeperClient() {
+    public synchronized ZooKeeper getZooKeeperClient() {
         if (zookeeper == null) {
             try {
                 zookeeper = createZooKeeperClient();
-                int retryAttempts = 5;
-                while(!zookeeper.getState().isConnected() && retryAttempts > 0) {
-                    LOG.debug("connecting...");
-                    retryAttempts--;
-                    Thread.sleep(1000);
+
+                LOG.debug("connecting...");
+                if (!connected.await(getZookeeperClientConfig().getTimeout(), TimeUnit.MILLISECONDS)) {
+                    LOG.warn(String.format("Zookeeper client did not connect to '%s' within %s ms",
+                            getZookeeperClientConfig().getUrl(), getZookeeperClientConfig().getTimeout()));
                 }
-            } catch (IOException | InterruptedException e) {
+            } catch (IOException e) {
+                throw new CitrusRuntimeException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 throw new CitrusRuntimeException(e);
             }
-
         }
 
         return zookeeper;
@@ -110,11 +117,19 @@ public class ZooClient {
         this.zookeeperConfig = zookeeperConfig;
     }
 
+    /**
+     * Connection watcher signals waiting threads as soon as the client session is connected.
+     * @return
+     */
     private Watcher getConnectionWatcher() {
         return new Watcher() {
             @Override
             public void process(WatchedEvent event) {
                 LOG.debug(String.format("Connection Event: %s", event.toString()));
+
+                if (event.getType() == Event.EventType.None && event.getState() == Event.KeeperState.SyncConnected) {
+                    connected.countDown();
+                }
             }
         };
     }
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Martin Maher
@@ -37,6 +39,7 @@ public abstract class AbstractZooCommand<R> implements ZooCommand {
     public static final String MODE = "mode";
     public static final String ACL = "acl";
     public static final String VERSION = "version";
+    public static final String TIMEOUT = "timeout";
 
     public static final String CHILDREN = "children";
     public static final String RESPONSE_CODE = "responseCode";
@@ -70,6 +73,21 @@ public abstract class AbstractZooCommand<R> implements ZooCommand {
         return response;
     }
 
+    /**
+     * Waits for asynchronous zookeeper callback or watcher to signal completion on given latch.
+     * @param completed
+     * @param timeout
+     * @return false when timeout is reached before completion
+     */
+    protected boolean awaitCompletion(CountDownLatch completed, long timeout) {
+        try {
+            return completed.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
     /**
      * Checks existence of command parameter.
      * @param parameterName
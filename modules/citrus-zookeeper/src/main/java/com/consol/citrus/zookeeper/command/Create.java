@@ -110,11 +110,11 @@ public class Create extends AbstractZooCommand<ZooResponse> {
         return this;
     }
 
-    private CreateMode lookupCreateMode(String mode) {
+    static CreateMode lookupCreateMode(String mode) {
         return CreateMode.valueOf(mode);
     }
 
-    private List<ACL> lookupAcl(String acl) {
+    static List<ACL> lookupAcl(String acl) {
         switch (acl) {
             case ACL_ALL:
                 return ZooDefs.Ids.CREATOR_ALL_ACL;
@@ -17,12 +17,13 @@
 package com.consol.citrus.zookeeper.command;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import org.apache.zookeeper.AsyncCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CountDownLatch;
+
 /**
  * @author Martin Maher
  * @since 2.5
@@ -49,11 +50,11 @@ public class Delete extends AbstractZooCommand<ZooResponse> {
         String path = this.getParameter(PATH, context);
         int version = Integer.valueOf(this.getParameter(VERSION, context));
 
-        try {
-            zookeeperClient.getZooKeeperClient().delete(path, version, getDeleteCallback(commandResult), null);
-            waitAndRecordResponse(commandResult, 5);
-        } catch (InterruptedException e) {
-            throw new CitrusRuntimeException(e);
+        CountDownLatch completed = new CountDownLatch(1);
+        zookeeperClient.getZooKeeperClient().delete(path, version, getDeleteCallback(commandResult, completed), null);
+
+        if (!awaitCompletion(completed, zookeeperClient.getZookeeperClientConfig().getTimeout())) {
+            log.warn(String.format("Zookeeper delete command did not complete within %s ms", zookeeperClient.getZookeeperClientConfig().getTimeout()));
         }
         log.debug(getCommandResult().toString());
     }
@@ -78,21 +79,14 @@ public class Delete extends AbstractZooCommand<ZooResponse> {
         return this;
     }
 
-    private AsyncCallback.VoidCallback getDeleteCallback(final ZooResponse commandResult) {
+    private AsyncCallback.VoidCallback getDeleteCallback(final ZooResponse commandResult, final CountDownLatch completed) {
         return new AsyncCallback.VoidCallback() {
             @Override
             public void processResult(int responseCode, String path, Object ctx) {
                 commandResult.setResponseParam(RESPONSE_CODE, responseCode);
                 commandResult.setResponseParam(PATH, path);
+                completed.countDown();
             }
         };
     }
-
-    private void waitAndRecordResponse(final ZooResponse commandResult, final int seconds) throws InterruptedException {
-        int retryAttempts = seconds;
-        while (!commandResult.hasResponseData() && retryAttempts > 0) {
-            Thread.sleep(1000);
-            retryAttempts--;
-        }
-    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Executes a batch of create and delete operations as single atomic zookeeper transaction. Either all
+ * operations succeed or none of them is applied.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class Multi extends AbstractZooCommand<ZooResponse> {
+
+    /** Result parameter holding the list of operation results */
+    public static final String RESULTS = "results";
+
+    /** Operation type result parameter */
+    public static final String TYPE = "type";
+
+    /**
+     * Logger
+     */
+    private static Logger log = LoggerFactory.getLogger(Multi.class);
+
+    /** Batched operations in execution order */
+    private List<AbstractZooCommand<ZooResponse>> operations = new ArrayList<>();
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public Multi() {
+        super("zookeeper:multi");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        List<Op> ops = new ArrayList<>(operations.size());
+        List<String> paths = new ArrayList<>(operations.size());
+        for (AbstractZooCommand<ZooResponse> operation : operations) {
+            String path = operation.getParameter(PATH, context);
+            paths.add(path);
+
+            if (operation instanceof Create) {
+                ops.add(Op.create(path, operation.getParameter(DATA, context).getBytes(),
+                        Create.lookupAcl(operation.getParameter(ACL, context)),
+                        Create.lookupCreateMode(operation.getParameter(MODE, context))));
+            } else {
+                ops.add(Op.delete(path, Integer.valueOf(operation.getParameter(VERSION, context))));
+            }
+        }
+
+        List<OpResult> opResults;
+        try {
+            opResults = zookeeperClient.getZooKeeperClient().multi(ops);
+        } catch (KeeperException | InterruptedException e) {
+            throw new CitrusRuntimeException(e);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(opResults.size());
+        for (int i = 0; i < opResults.size(); i++) {
+            OpResult opResult = opResults.get(i);
+            Map<String, Object> result = new LinkedHashMap<>();
+            if (opResult instanceof OpResult.CreateResult) {
+                result.put(TYPE, "create");
+                result.put(PATH, ((OpResult.CreateResult) opResult).getPath());
+            } else {
+                result.put(TYPE, "delete");
+                result.put(PATH, paths.get(i));
+            }
+            results.add(result);
+        }
+
+        commandResult.setResponseParam(RESULTS, results);
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Adds create operation to this batch.
+     * @param path
+     * @param data
+     * @param mode
+     * @param acl
+     * @return
+     */
+    public Multi create(String path, String data, String mode, String acl) {
+        operations.add(new Create().path(path).data(data).mode(mode).acl(acl));
+        return this;
+    }
+
+    /**
+     * Adds delete operation to this batch.
+     * @param path
+     * @param version
+     * @return
+     */
+    public Multi delete(String path, int version) {
+        operations.add(new Delete().path(path).version(version));
+        return this;
+    }
+
+    /**
+     * Gets the batched operations.
+     * @return
+     */
+    public List<AbstractZooCommand<ZooResponse>> getOperations() {
+        return operations;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.zookeeper.command;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.*;
+import org.apache.zookeeper.data.Stat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Waits for a znode to be created or deleted. Instead of polling the node this command registers a zookeeper watch
+ * and gets signalled by the server on each change of the node.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class WaitForNode extends AbstractZooCommand<ZooResponse> {
+
+    public static final String EXISTS = "exists";
+
+    /**
+     * Logger
+     */
+    private static Logger log = LoggerFactory.getLogger(WaitForNode.class);
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public WaitForNode() {
+        super("zookeeper:wait-for");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        String path = this.getParameter(PATH, context);
+        boolean exists = !hasParameter(EXISTS) || Boolean.valueOf(this.getParameter(EXISTS, context));
+        long timeout = hasParameter(TIMEOUT) ? Long.valueOf(this.getParameter(TIMEOUT, context)) : zookeeperClient.getZookeeperClientConfig().getTimeout();
+        long deadline = System.currentTimeMillis() + timeout;
+
+        try {
+            while (true) {
+                final CountDownLatch changed = new CountDownLatch(1);
+                Stat stat = zookeeperClient.getZooKeeperClient().exists(path, new Watcher() {
+                    @Override
+                    public void process(WatchedEvent event) {
+                        changed.countDown();
+                    }
+                });
+
+                if ((stat != null) == exists) {
+                    commandResult.setResponseParam(PATH, path);
+                    commandResult.setResponseParam(EXISTS, exists);
+                    CommandHelper.parseStatResponse(commandResult, stat);
+                    break;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || !awaitCompletion(changed, remaining)) {
+                    throw new CitrusRuntimeException(String.format("Timeout after %s ms while waiting for znode '%s' to %s",
+                            timeout, path, exists ? "be created" : "be deleted"));
+                }
+            }
+        } catch (KeeperException | InterruptedException e) {
+            throw new CitrusRuntimeException(e);
+        }
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Sets the path parameter.
+     * @param path
+     * @return
+     */
+    public WaitForNode path(String path) {
+        getParameters().put(PATH, path);
+        return this;
+    }
+
+    /**
+     * Sets the exists parameter. When false waits for the node to be deleted.
+     * @param exists
+     * @return
+     */
+    public WaitForNode exists(boolean exists) {
+        getParameters().put(EXISTS, exists);
+        return this;
+    }
+
+    /**
+     * Sets the timeout parameter in milliseconds.
+     * @param timeout
+     * @return
+     */
+    public WaitForNode timeout(long timeout) {
+        getParameters().put(TIMEOUT, timeout);
+        return this;
+    }
+}
@@ -16,13 +16,23 @@
 
 package com.consol.citrus.zookeeper.actions;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.zookeeper.client.ZooClient;
-import com.consol.citrus.zookeeper.command.Info;
-import org.apache.zookeeper.ZooKeeper;
+import com.consol.citrus.zookeeper.client.ZooClientConfig;
+import com.consol.citrus.zookeeper.command.*;
+import com.consol.citrus.zookeeper.server.ZooServer;
+import org.apache.zookeeper.*;
 import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +40,26 @@ public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
 
     private ZooKeeper zookeeper = Mockito.mock(ZooKeeper.class);
 
+    private ZooServer zooServer = new ZooServer();
+    private ZooClient zooClient = new ZooClient();
+
+    @BeforeClass
+    public void startServer() {
+        zooServer.setPort(21183);
+        zooServer.start();
+
+        zooClient.setZookeeperClientConfig(ZooClientConfig.createDefaultConfigBuilder()
+                .withUrl("localhost:21183")
+                .withTimeout(5000)
+                .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws InterruptedException {
+        zooClient.getZooKeeperClient().close();
+        zooServer.stop();
+    }
+
     @Test
     public void testInfo() throws Exception {
         reset(zookeeper);
@@ -44,4 +74,102 @@ public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
 
         //Assert.assertEquals(action.getCommand().getCommandResult(), null);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConnect() throws Exception {
+        Assert.assertTrue(zooClient.getZooKeeperClient().getState().isConnected());
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        zooClient.getZooKeeperClient().create("/citrus-delete", new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+
+        Delete command = new Delete().path("/citrus-delete").version(0);
+        ZooExecuteAction action = new ZooExecuteAction();
+        action.setCommand(command);
+        action.setZookeeperClient(zooClient);
+        action.execute(context);
+
+        Assert.assertEquals(command.getCommandResult().getResponseData().get(AbstractZooCommand.RESPONSE_CODE), KeeperException.Code.OK.intValue());
+        Assert.assertNull(zooClient.getZooKeeperClient().exists("/citrus-delete", false));
+    }
+
+    @Test
+    public void testMulti() throws Exception {
+        Multi command = new Multi()
+                .create("/citrus-multi", "parent", "PERSISTENT", Create.ACL_OPEN)
+                .create("/citrus-multi/child", "child", "PERSISTENT", Create.ACL_OPEN);
+
+        ZooExecuteAction action = new ZooExecuteAction();
+        action.setCommand(command);
+        action.setZookeeperClient(zooClient);
+        action.execute(context);
+
+        List<Map<String, Object>> results = (List<Map<String, Object>>) command.getCommandResult().getResponseData().get(Multi.RESULTS);
+        Assert.assertEquals(results.size(), 2L);
+        Assert.assertEquals(results.get(1).get(AbstractZooCommand.PATH), "/citrus-multi/child");
+        Assert.assertNotNull(zooClient.getZooKeeperClient().exists("/citrus-multi/child", false));
+
+        command = new Multi()
+                .delete("/citrus-multi/child", 0)
+                .delete("/citrus-multi", 0);
+        action.setCommand(command);
+        action.execute(context);
+
+        Assert.assertNull(zooClient.getZooKeeperClient().exists("/citrus-multi", false));
+    }
+
+    @Test
+    public void testMultiRollback() throws Exception {
+        Multi command = new Multi()
+                .create("/citrus-rollback", "data", "PERSISTENT", Create.ACL_OPEN)
+                .delete("/citrus-unknown", 0);
+
+        ZooExecuteAction action = new ZooExecuteAction();
+        action.setCommand(command);
+        action.setZookeeperClient(zooClient);
+
+        try {
+            action.execute(context);
+            Assert.fail("Missing exception due to failed operation");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof KeeperException.NoNodeException);
+        }
+
+        Assert.assertNull(zooClient.getZooKeeperClient().exists("/citrus-rollback", false));
+    }
+
+    @Test
+    public void testWaitForNode() throws Exception {
+        ZooExecuteAction action = new ZooExecuteAction();
+        WaitForNode command = new WaitForNode().path("/citrus-wait").timeout(5000L);
+        action.setCommand(command);
+        action.setZookeeperClient(zooClient);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> zooClient.getZooKeeperClient().create("/citrus-wait", new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT), 200L, TimeUnit.MILLISECONDS);
+            action.execute(context);
+            Assert.assertEquals(command.getCommandResult().getResponseData().get(WaitForNode.EXISTS), true);
+
+            command = new WaitForNode().path("/citrus-wait").exists(false).timeout(5000L);
+            action.setCommand(command);
+            executor.schedule(() -> {
+                zooClient.getZooKeeperClient().delete("/citrus-wait", 0);
+                return null;
+            }, 200L, TimeUnit.MILLISECONDS);
+            action.execute(context);
+            Assert.assertEquals(command.getCommandResult().getResponseData().get(WaitForNode.EXISTS), false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timeout after 200 ms while waiting for znode '/citrus-never' to be created")
+    public void testWaitForNodeTimeout() throws Exception {
+        ZooExecuteAction action = new ZooExecuteAction();
+        action.setCommand(new WaitForNode().path("/citrus-never").timeout(200L));
+        action.setZookeeperClient(zooClient);
+        action.execute(context);
+    }
+}
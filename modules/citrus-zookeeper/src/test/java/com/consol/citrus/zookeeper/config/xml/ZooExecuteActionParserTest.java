@@ -21,6 +21,7 @@ import com.consol.citrus.zookeeper.actions.ZooExecuteAction;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.Create;
 import com.consol.citrus.zookeeper.command.Info;
+import com.consol.citrus.zookeeper.command.WaitForNode;
 import org.springframework.beans.factory.BeanCreationException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -31,7 +32,7 @@ public class ZooExecuteActionParserTest extends AbstractActionParserTest<ZooExec
 
     @Test
     public void testZookeeperExecuteActionParser() {
-        assertActionCount(2);
+        assertActionCount(3);
         assertActionClassAndName(ZooExecuteAction.class, "zookeeper-execute");
 
         ZooExecuteAction action = getNextTestActionFromTest();
@@ -51,6 +52,14 @@ public class ZooExecuteActionParserTest extends AbstractActionParserTest<ZooExec
         assertParametersContainValue(action.getCommand().getParameters(), "acl", "OPEN_ACL_UNSAFE");
         assertParametersContainValue(action.getCommand().getParameters(), "data", "more data");
         Assert.assertEquals(action.getExpectedCommandResult(), "{b:\"some thing\"}");
+
+        action = getNextTestActionFromTest();
+        Assert.assertNotNull(action.getCommand());
+        Assert.assertEquals(action.getCommand().getClass(), WaitForNode.class);
+        Assert.assertEquals(action.getCommand().getParameters().size(), 3);
+        assertParametersContainValue(action.getCommand().getParameters(), "path", "/some-path");
+        assertParametersContainValue(action.getCommand().getParameters(), "exists", "false");
+        assertParametersContainValue(action.getCommand().getParameters(), "timeout", "5000");
     }
 
     private void assertParametersContainValue(Map parameters, String key, String value) {
@@ -25,18 +25,20 @@ import com.consol.citrus.remote.model.RemoteResult;
 import com.consol.citrus.remote.reporter.RemoteTestResultReporter;
 import com.consol.citrus.remote.transformer.JsonRequestTransformer;
 import com.consol.citrus.remote.transformer.JsonResponseTransformer;
+import com.consol.citrus.report.TestResults;
 import com.consol.citrus.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 import spark.Filter;
+import spark.Request;
 import spark.servlet.SparkApplication;
 
 import java.io.File;
+import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -59,8 +61,8 @@ public class CitrusRemoteApplication implements SparkApplication {
     /** Application configuration */
     private final CitrusRemoteConfiguration configuration;
 
-    /** Single thread job scheduler */
-    private final ExecutorService jobs = Executors.newSingleThreadExecutor();
+    /** Job scheduler running up to max jobs concurrently */
+    private final ExecutorService jobs;
 
     /** Latest test reports */
     private RemoteTestResultReporter remoteTestResultReporter = new RemoteTestResultReporter();
@@ -78,6 +80,7 @@ public class CitrusRemoteApplication implements SparkApplication {
      */
     public CitrusRemoteApplication(CitrusRemoteConfiguration configuration) {
         this.configuration = configuration;
+        this.jobs = Executors.newFixedThreadPool(Math.max(1, configuration.getMaxJobs()));
     }
 
     @Override
@@ -127,56 +130,36 @@ public class CitrusRemoteApplication implements SparkApplication {
             throw halt(404, "Failed to find test result file: " + req.params(":name"));
         });
 
-        get("/run", (req, res) -> {
-            RunController runController = new RunController(configuration);
-
-            if (req.queryParams().contains("includes")) {
-                runController.setIncludes(StringUtils.commaDelimitedListToStringArray(URLDecoder.decode(req.queryParams("includes"), ENCODING)));
-            }
+        get("/results/job/:id", "application/json", (req, res) -> {
+            res.type("application/json");
+            TestResults jobResults = remoteTestResultReporter.getJobResults(req.params(":id"));
 
-            if (!req.queryParams().contains("package") && !req.queryParams().contains("class")) {
-                runController.runAll();
+            if (jobResults == null) {
+                throw halt(404, "Failed to find run job: " + req.params(":id"));
             }
 
-            if (req.queryParams().contains("package")) {
-                runController.runPackage(URLDecoder.decode(req.queryParams("package"), ENCODING));
-            }
+            List<RemoteResult> results = new ArrayList<>();
+            jobResults.doWithResults(result -> results.add(RemoteResult.fromTestResult(result)));
+            return results;
+        }, new JsonResponseTransformer());
 
-            if (req.queryParams().contains("class")) {
-                runController.runClass(URLDecoder.decode(req.queryParams("class"), ENCODING));
-            }
+        get("/run", (req, res) -> {
+            String jobId = UUID.randomUUID().toString();
+            createJob(jobId, req).call();
 
             res.type("application/json");
 
             List<RemoteResult> results = new ArrayList<>();
-            remoteTestResultReporter.getTestResults().doWithResults(result -> results.add(RemoteResult.fromTestResult(result)));
+            remoteTestResultReporter.getJobResults(jobId).doWithResults(result -> results.add(RemoteResult.fromTestResult(result)));
             return results;
         }, new JsonResponseTransformer());
 
         put("/run", (req, res) -> {
-            jobs.submit((RunJob) () -> {
-                RunController runController = new RunController(configuration);
-
-                if (req.queryParams().contains("includes")) {
-                    runController.setIncludes(StringUtils.commaDelimitedListToStringArray(URLDecoder.decode(req.queryParams("includes"), ENCODING)));
-                }
-
-                if (!req.queryParams().contains("package") && !req.queryParams().contains("class")) {
-                    runController.runAll();
-                }
-
-                if (req.queryParams().contains("package")) {
-                    runController.runPackage(URLDecoder.decode(req.queryParams("package"), ENCODING));
-                }
-
-                if (req.queryParams().contains("class")) {
-                    runController.runClass(URLDecoder.decode(req.queryParams("class"), ENCODING));
-                }
-
-                return "";
-            });
-
-            return "";
+            String jobId = UUID.randomUUID().toString();
+            RunJob job = createJob(jobId, req);
+            remoteTestResultReporter.queueJob(jobId);
+            jobs.submit(job);
+            return jobId;
         });
 
         get("/configuration", (req, res) -> {
@@ -195,8 +178,51 @@ public class CitrusRemoteApplication implements SparkApplication {
         });
     }
 
+    /**
+     * Creates run job for tests selected by request query parameters. Job results are isolated from other jobs running
+     * at the same time. Query parameters are read immediately as the job may be executed after the request has completed.
+     * @param jobId
+     * @param req
+     * @return
+     * @throws UnsupportedEncodingException
+     */
+    private RunJob createJob(String jobId, Request req) throws UnsupportedEncodingException {
+        String includes = req.queryParams().contains("includes") ? URLDecoder.decode(req.queryParams("includes"), ENCODING) : null;
+        String packageName = req.queryParams().contains("package") ? URLDecoder.decode(req.queryParams("package"), ENCODING) : null;
+        String className = req.queryParams().contains("class") ? URLDecoder.decode(req.queryParams("class"), ENCODING) : null;
+
+        return () -> {
+            remoteTestResultReporter.startJob(jobId);
+            try {
+                RunController runController = new RunController(configuration);
+
+                if (includes != null) {
+                    runController.setIncludes(StringUtils.commaDelimitedListToStringArray(includes));
+                }
+
+                if (packageName == null && className == null) {
+                    runController.runAll();
+                }
+
+                if (packageName != null) {
+                    runController.runPackage(packageName);
+                }
+
+                if (className != null) {
+                    runController.runClass(className);
+                }
+            } finally {
+                remoteTestResultReporter.finishJob();
+            }
+
+            return jobId;
+        };
+    }
+
     @Override
     public void destroy() {
+        jobs.shutdown();
+
         Citrus citrus = Citrus.CitrusInstanceManager.getSingleton();
         if (citrus != null) {
             log.info("Closing Citrus and its application context");
@@ -27,6 +27,9 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
     /** Server port */
     private int port = 4567;
 
+    /** Max number of asynchronous run jobs executed concurrently */
+    private int maxJobs = 1;
+
     /**
      * Gets the port.
      *
@@ -45,6 +48,24 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
         this.port = port;
     }
 
+    /**
+     * Gets the maxJobs.
+     *
+     * @return
+     */
+    public int getMaxJobs() {
+        return maxJobs;
+    }
+
+    /**
+     * Sets the maxJobs.
+     *
+     * @param maxJobs
+     */
+    public void setMaxJobs(int maxJobs) {
+        this.maxJobs = maxJobs;
+    }
+
     /**
      * Applies configuration with settable properties at runtime.
      * @param configuration
@@ -53,5 +74,8 @@ public class CitrusRemoteConfiguration extends CitrusAppConfiguration {
         setPackages(configuration.getPackages());
         setTestClasses(configuration.getTestClasses());
         setIncludes(configuration.getIncludes());
+        setThreadCount(configuration.getThreadCount());
+        setShardingStrategy(configuration.getShardingStrategy());
+        setTestDurations(configuration.getTestDurations());
     }
 }
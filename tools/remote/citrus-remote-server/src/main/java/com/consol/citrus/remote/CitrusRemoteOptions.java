@@ -41,5 +41,16 @@ public class CitrusRemoteOptions extends CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusRemoteConfiguration>("jobs", "jobs", "Max number of asynchronous run jobs executed concurrently") {
+            @Override
+            protected void doProcess(CitrusRemoteConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.setMaxJobs(Integer.valueOf(value));
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --jobs option");
+                }
+            }
+        });
     }
 }
@@ -64,6 +64,9 @@ public class RunController {
         citrusAppConfiguration.setIncludes(Optional.ofNullable(includes).orElse(configuration.getIncludes()));
         citrusAppConfiguration.getPackages().add(basePackage);
         citrusAppConfiguration.setConfigClass(configuration.getConfigClass());
+        citrusAppConfiguration.setThreadCount(configuration.getThreadCount());
+        citrusAppConfiguration.setShardingStrategy(configuration.getShardingStrategy());
+        citrusAppConfiguration.setTestDurations(configuration.getTestDurations());
         run(citrusAppConfiguration);
     }
 
@@ -90,6 +93,9 @@ public class RunController {
 
         citrusAppConfiguration.getTestClasses().add(test);
         citrusAppConfiguration.setConfigClass(configuration.getConfigClass());
+        citrusAppConfiguration.setThreadCount(configuration.getThreadCount());
+        citrusAppConfiguration.setShardingStrategy(configuration.getShardingStrategy());
+        citrusAppConfiguration.setTestDurations(configuration.getTestDurations());
 
         run(citrusAppConfiguration);
     }
@@ -16,12 +16,19 @@
 
 package com.consol.citrus.remote.reporter;
 
+import com.consol.citrus.TestCase;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.report.AbstractTestReporter;
 import com.consol.citrus.report.OutputStreamReporter;
+import com.consol.citrus.report.TestResults;
 
 import java.io.StringWriter;
+import java.util.*;
 
 /**
+ * Reporter collects test results of all runs and additionally keeps results of each run job separately. Job is bound to
+ * the thread executing the job and all threads spawned by it, so concurrently running jobs get isolated results.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -30,6 +37,83 @@ public class RemoteTestResultReporter extends AbstractTestReporter {
     /** Test report */
     private String testReport;
 
+    /** Max number of run jobs to keep test results for */
+    private static final int MAX_JOB_RESULTS = 100;
+
+    /** Test results per run job, oldest jobs get evicted first */
+    private final Map<String, TestResults> jobResults = Collections.synchronizedMap(new LinkedHashMap<String, TestResults>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TestResults> eldest) {
+            return size() > MAX_JOB_RESULTS;
+        }
+    });
+
+    /** Run job bound to current thread and its child threads */
+    private final InheritableThreadLocal<String> currentJob = new InheritableThreadLocal<>();
+
+    /**
+     * Registers run job that is waiting for execution. Job results are available with empty results right away.
+     * @param jobId
+     */
+    public void queueJob(String jobId) {
+        jobResults.putIfAbsent(jobId, new TestResults());
+    }
+
+    /**
+     * Binds given run job to current thread. All test results reported by this thread and its child threads are added
+     * to the job results.
+     * @param jobId
+     */
+    public void startJob(String jobId) {
+        queueJob(jobId);
+        currentJob.set(jobId);
+    }
+
+    /**
+     * Unbinds run job from current thread.
+     */
+    public void finishJob() {
+        currentJob.remove();
+    }
+
+    /**
+     * Gets the test results of given run job or null when job is unknown.
+     * @param jobId
+     * @return
+     */
+    public TestResults getJobResults(String jobId) {
+        return jobResults.get(jobId);
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+        super.onTestSuccess(test);
+        addJobResult(TestResult.success(test.getName(), test.getParameters()));
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+        super.onTestFailure(test, cause);
+        addJobResult(TestResult.failed(test.getName(), cause, test.getParameters()));
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+        super.onTestSkipped(test);
+        addJobResult(TestResult.skipped(test.getName(), test.getParameters()));
+    }
+
+    /**
+     * Adds result to the run job bound to current thread if any.
+     * @param result
+     */
+    private void addJobResult(TestResult result) {
+        String jobId = currentJob.get();
+        if (jobId != null) {
+            Optional.ofNullable(jobResults.get(jobId)).ifPresent(results -> results.addResult(result));
+        }
+    }
+
     @Override
     public void generateTestResults() {
         StringWriter results = new StringWriter();
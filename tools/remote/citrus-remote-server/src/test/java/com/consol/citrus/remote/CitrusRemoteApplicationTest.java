@@ -0,0 +1,104 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.remote;
+
+import org.springframework.util.StreamUtils;
+import org.testng.Assert;
+import org.testng.annotations.*;
+import spark.Spark;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class CitrusRemoteApplicationTest {
+
+    private static final int PORT = 4599;
+
+    private CitrusRemoteApplication application;
+
+    @BeforeClass
+    public void startServer() {
+        CitrusRemoteConfiguration configuration = new CitrusRemoteConfiguration();
+        configuration.setMaxJobs(2);
+
+        application = new CitrusRemoteApplication(configuration);
+        Spark.port(PORT);
+        application.init();
+        Spark.awaitInitialization();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        application.destroy();
+        Spark.stop();
+    }
+
+    @Test
+    public void testUnknownJob() throws IOException {
+        Assert.assertEquals(request("GET", "/results/job/unknown").getResponseCode(), 404);
+    }
+
+    @Test
+    public void testConcurrentJobs() throws Exception {
+        int jobCount = 4;
+        ExecutorService clients = Executors.newFixedThreadPool(jobCount);
+        try {
+            List<Future<String>> submitted = new ArrayList<>();
+            for (int i = 0; i < jobCount; i++) {
+                submitted.add(clients.submit(() -> read(request("PUT", "/run?package=com.consol.citrus.remote.empty"))));
+            }
+
+            Set<String> jobIds = new HashSet<>();
+            for (Future<String> jobId : submitted) {
+                jobIds.add(jobId.get(30, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(jobIds.size(), jobCount);
+
+            // queued and running jobs are known right after submission
+            for (String jobId : jobIds) {
+                HttpURLConnection connection = request("GET", "/results/job/" + jobId);
+                Assert.assertEquals(connection.getResponseCode(), 200);
+                Assert.assertEquals(read(connection).replaceAll("\\s", ""), "[]");
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private HttpURLConnection request(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setReadTimeout(30000);
+        return connection;
+    }
+
+    private String read(HttpURLConnection connection) throws IOException {
+        try {
+            return StreamUtils.copyToString(connection.getInputStream(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
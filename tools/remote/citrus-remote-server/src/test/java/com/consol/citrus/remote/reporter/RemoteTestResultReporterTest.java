@@ -0,0 +1,97 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.remote.reporter;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.report.TestResults;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class RemoteTestResultReporterTest {
+
+    @Test
+    public void testQueuedJob() {
+        RemoteTestResultReporter reporter = new RemoteTestResultReporter();
+        Assert.assertNull(reporter.getJobResults("job"));
+
+        reporter.queueJob("job");
+        TestResults queued = reporter.getJobResults("job");
+        Assert.assertNotNull(queued);
+        Assert.assertEquals(queued.getSize(), 0);
+
+        reporter.startJob("job");
+        try {
+            reporter.onTestSuccess(createTestCase("test"));
+        } finally {
+            reporter.finishJob();
+        }
+
+        Assert.assertSame(reporter.getJobResults("job"), queued);
+        Assert.assertEquals(queued.getSize(), 1);
+    }
+
+    @Test
+    public void testConcurrentJobs() throws Exception {
+        RemoteTestResultReporter reporter = new RemoteTestResultReporter();
+        reporter.queueJob("job1");
+        reporter.queueJob("job2");
+
+        CountDownLatch started = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> job1 = executor.submit(() -> runJob(reporter, "job1", 3, started));
+            Future<?> job2 = executor.submit(() -> runJob(reporter, "job2", 5, started));
+
+            job1.get(10, TimeUnit.SECONDS);
+            job2.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(reporter.getJobResults("job1").getSize(), 3);
+        Assert.assertEquals(reporter.getJobResults("job2").getSize(), 5);
+        Assert.assertEquals(reporter.getTestResults().getSize(), 8);
+    }
+
+    private Void runJob(RemoteTestResultReporter reporter, String jobId, int tests, CountDownLatch started) throws InterruptedException {
+        reporter.startJob(jobId);
+        try {
+            started.countDown();
+            started.await(10, TimeUnit.SECONDS);
+
+            for (int i = 0; i < tests; i++) {
+                reporter.onTestSuccess(createTestCase(jobId + "-test" + i));
+            }
+        } finally {
+            reporter.finishJob();
+        }
+
+        return null;
+    }
+
+    private TestCase createTestCase(String name) {
+        TestCase test = new TestCase();
+        test.setName(name);
+        return test;
+    }
+}
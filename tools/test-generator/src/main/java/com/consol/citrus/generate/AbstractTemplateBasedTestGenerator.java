@@ -17,7 +17,6 @@
 package com.consol.citrus.generate;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.util.PropertyUtils;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
@@ -36,7 +35,7 @@ public abstract class AbstractTemplateBasedTestGenerator<T extends TestGenerator
      * Create the test case.
      */
     public void create() {
-        FileUtils.writeToFile(createContent(getTemplateProperties()), getTargetFile());
+        writeTestFile(createContent(getTemplateProperties()), getTargetFile());
     }
 
     /**
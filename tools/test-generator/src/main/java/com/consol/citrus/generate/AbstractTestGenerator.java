@@ -17,12 +17,16 @@
 package com.consol.citrus.generate;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.GregorianCalendar;
+import java.util.regex.Pattern;
 
 /**
  * @author Christoph Deppisch
@@ -30,6 +34,9 @@ import java.util.GregorianCalendar;
  */
 public abstract class AbstractTestGenerator<T extends TestGenerator> implements TestGenerator<T> {
 
+    /** Creation and update timestamps in generated test header that change with every generator run */
+    private static final Pattern TIMESTAMP_PATTERN = Pattern.compile("(<creationdate>|<last-updated-on>|\\* @since )\\d{4}-\\d{2}-\\d{2}(T\\d{2}:\\d{2}:\\d{2})?");
+
     /** Logger */
     protected Logger log = LoggerFactory.getLogger(getClass());
 
@@ -167,6 +174,30 @@ public abstract class AbstractTestGenerator<T extends TestGenerator> implements
         return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(GregorianCalendar.getInstance().getTime());
     }
 
+    /**
+     * Writes test content to given target file. Existing files are only rewritten when the generated content has changed,
+     * creation and update timestamps in the test header are ignored when comparing the content.
+     * @param content
+     * @param targetFile
+     * @return true when the file has been written, false when the existing file was left untouched
+     */
+    protected boolean writeTestFile(String content, File targetFile) {
+        if (targetFile.exists()) {
+            try {
+                String existing = FileUtils.readToString(targetFile);
+                if (TIMESTAMP_PATTERN.matcher(existing).replaceAll("$1").equals(TIMESTAMP_PATTERN.matcher(content).replaceAll("$1"))) {
+                    log.debug("Skip unchanged test file " + targetFile.getPath());
+                    return false;
+                }
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read existing test file " + targetFile.getPath(), e);
+            }
+        }
+
+        FileUtils.writeToFile(content, targetFile);
+        return true;
+    }
+
     /**
      * Construct proper target file to save test content to.
      * @return
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.generate;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.*;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches compiled XML schema type systems keyed by a content hash of the schema input file (XSD or WSDL) and all
+ * schemas and WSDL files it imports or includes. Repeated generator invocations on unchanged input reuse the compiled
+ * type system instead of compiling the schema again, while a change in any referenced file leads to a new compilation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public final class SchemaTypeSystemCache {
+
+    /** Elements referencing other schema or WSDL files */
+    private static final Set<String> REFERENCE_ELEMENTS = new HashSet<>(Arrays.asList("import", "include", "redefine"));
+
+    /** Compiled schema type systems by content hash */
+    private static final Map<String, SchemaTypeSystem> schemaTypeSystems = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private SchemaTypeSystemCache() {
+        super();
+    }
+
+    /**
+     * Gets the compiled schema type system for given input file. Compiles the schema with given compiler
+     * when no type system has been cached for the current content of the file and its referenced schemas yet.
+     * @param inputFile
+     * @param compiler
+     * @return
+     */
+    public static SchemaTypeSystem getSchemaTypeSystem(File inputFile, Supplier<SchemaTypeSystem> compiler) {
+        return schemaTypeSystems.computeIfAbsent(getContentHash(inputFile), hash -> compiler.get());
+    }
+
+    /**
+     * Checks if a compiled schema type system is cached for the current content of given input file and its
+     * referenced schemas.
+     * @param inputFile
+     * @return
+     */
+    public static boolean contains(File inputFile) {
+        return schemaTypeSystems.containsKey(getContentHash(inputFile));
+    }
+
+    /**
+     * Removes all cached schema type systems.
+     */
+    public static void clear() {
+        schemaTypeSystems.clear();
+    }
+
+    /**
+     * Calculates MD5 hash over the content of given file and all local files it references via import, include
+     * or redefine. Remote references are hashed by their location only.
+     * @param inputFile
+     * @return
+     */
+    private static String getContentHash(File inputFile) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            DocumentBuilder documentBuilder = factory.newDocumentBuilder();
+
+            Set<File> visited = new HashSet<>();
+            Deque<File> files = new ArrayDeque<>();
+            files.add(inputFile.getCanonicalFile());
+            while (!files.isEmpty()) {
+                File file = files.poll();
+                if (!visited.add(file)) {
+                    continue;
+                }
+
+                byte[] content = Files.readAllBytes(file.toPath());
+                digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(content);
+
+                for (String location : getReferencedLocations(documentBuilder, content)) {
+                    if (location.contains("://")) {
+                        digest.update(location.getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        File referenced = new File(file.getParentFile(), location).getCanonicalFile();
+                        if (referenced.exists()) {
+                            files.add(referenced);
+                        } else {
+                            digest.update(location.getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                }
+            }
+
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+
+            return hash.toString();
+        } catch (IOException | SAXException | ParserConfigurationException | NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to read schema file " + inputFile.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Reads schema and WSDL locations referenced by import, include and redefine elements in given document.
+     * @param documentBuilder
+     * @param content
+     * @return
+     * @throws IOException
+     * @throws SAXException
+     */
+    private static List<String> getReferencedLocations(DocumentBuilder documentBuilder, byte[] content) throws IOException, SAXException {
+        List<String> locations = new ArrayList<>();
+        Document document = documentBuilder.parse(new ByteArrayInputStream(content));
+
+        NodeList elements = document.getElementsByTagNameNS("*", "*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            if (!REFERENCE_ELEMENTS.contains(element.getLocalName())) {
+                continue;
+            }
+
+            if (StringUtils.hasText(element.getAttribute("schemaLocation"))) {
+                locations.add(element.getAttribute("schemaLocation"));
+            } else if (StringUtils.hasText(element.getAttribute("location"))) {
+                locations.add(element.getAttribute("location"));
+            }
+        }
+
+        return locations;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.generate;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.ws.message.SoapMessage;
+import org.apache.xmlbeans.*;
+import org.apache.xmlbeans.impl.xsd2inst.SampleXmlUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Reads WSDL file, compiles nested XML schema definitions and creates sample request and response messages for
+ * WSDL operations. Used by Java and XML WSDL test generators.
+ *
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class WsdlOperationSampler {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(WsdlOperationSampler.class);
+
+    private static final String WSDL_NS_DECLARATION = "declare namespace wsdl='http://schemas.xmlsoap.org/wsdl/' ";
+    private static final String SOAP_NS_DECLARATION = "declare namespace soap='http://schemas.xmlsoap.org/wsdl/soap/' ";
+
+    /** Parsed WSDL */
+    private final XmlObject wsdlObject;
+
+    /** Compiled schema type system of nested XML schema definitions */
+    private final SchemaTypeSystem schemaTypeSystem;
+
+    /**
+     * Constructor parses and compiles given WSDL resource.
+     * @param wsdl
+     */
+    public WsdlOperationSampler(String wsdl) {
+        // compile wsdl and xsds right now, otherwise later input is useless:
+        File wsdlFile = getWsdlFile(wsdl);
+        this.wsdlObject = compileWsdl(wsdlFile);
+        this.schemaTypeSystem = SchemaTypeSystemCache.getSchemaTypeSystem(wsdlFile, () -> compileXsd(wsdlObject));
+    }
+
+    /**
+     * Gets the service name defined in WSDL port type.
+     * @return
+     */
+    public String getServiceName() {
+        return evaluateAsString(wsdlObject, WSDL_NS_DECLARATION + ".//wsdl:portType/@name");
+    }
+
+    /**
+     * Creates sample messages for all WSDL operations.
+     * @param operationName optional operation name filter, creates samples for all operations when empty
+     * @return
+     */
+    public List<OperationSample> createSamples(String operationName) {
+        log.info("Found service operations:");
+        XmlObject[] messages = wsdlObject.selectPath(WSDL_NS_DECLARATION + ".//wsdl:message");
+        XmlObject[] operations = wsdlObject.selectPath(WSDL_NS_DECLARATION + ".//wsdl:portType/wsdl:operation");
+        XmlObject[] bindingOperations = wsdlObject.selectPath(WSDL_NS_DECLARATION + ".//wsdl:binding/wsdl:operation");
+        for (XmlObject operation : operations) {
+            log.info(evaluateAsString(operation, WSDL_NS_DECLARATION + "./@name"));
+        }
+
+        List<OperationSample> samples = new ArrayList<>();
+        for (XmlObject operation : operations) {
+            OperationSample sample = createOperationSample(operation, operationName, messages, bindingOperations);
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+
+        return samples;
+    }
+
+    /**
+     * Creates request and response sample messages for given WSDL operation. Returns null when operation is
+     * filtered by given operation name.
+     * @param operation
+     * @param operationFilter
+     * @param messages
+     * @param bindingOperations
+     * @return
+     */
+    private OperationSample createOperationSample(XmlObject operation, String operationFilter, XmlObject[] messages, XmlObject[] bindingOperations) {
+        SoapMessage request = new SoapMessage();
+        SoapMessage response = new SoapMessage();
+
+        String operationName = evaluateAsString(operation, WSDL_NS_DECLARATION + "./@name");
+        if (StringUtils.hasText(operationFilter) && !operationName.equals(operationFilter)) {
+            return null;
+        }
+
+        for (XmlObject bindingOperation : bindingOperations) {
+            String bindingOperationName = evaluateAsString(bindingOperation, WSDL_NS_DECLARATION + "./@name");
+
+            if (bindingOperationName.equals(operationName)) {
+                String soapAction = removeNsPrefix(evaluateAsString(bindingOperation, SOAP_NS_DECLARATION + "./soap:operation/@soapAction"));
+                request.soapAction(soapAction);
+                break;
+            }
+        }
+
+        String inputMessage = removeNsPrefix(evaluateAsString(operation, WSDL_NS_DECLARATION + "./wsdl:input/@message"));
+        String outputMessage = removeNsPrefix(evaluateAsString(operation, WSDL_NS_DECLARATION + "./wsdl:output/@message"));
+
+        String inputElement = null;
+        String outputElement = null;
+        for (XmlObject message : messages) {
+            String messageName = evaluateAsString(message, WSDL_NS_DECLARATION + "./@name");
+
+            if (messageName.equals(inputMessage)) {
+                inputElement = removeNsPrefix(evaluateAsString(message, WSDL_NS_DECLARATION + "./wsdl:part/@element"));
+            }
+
+            if (messageName.equals(outputMessage)) {
+                outputElement = removeNsPrefix(evaluateAsString(message, WSDL_NS_DECLARATION + "./wsdl:part/@element"));
+            }
+        }
+
+        SchemaType requestElem = getSchemaType(operationName, inputElement);
+        request.setPayload(SampleXmlUtil.createSampleForType(requestElem));
+
+        SchemaType responseElem = getSchemaType(operationName, outputElement);
+        response.setPayload(SampleXmlUtil.createSampleForType(responseElem));
+
+        return new OperationSample(operationName, request, response);
+    }
+
+    /**
+     * Resolves WSDL file from given resource path.
+     * @param wsdl
+     * @return
+     */
+    private File getWsdlFile(String wsdl) {
+        File wsdlFile;
+        try {
+            wsdlFile = new PathMatchingResourcePatternResolver().getResource(wsdl).getFile();
+        } catch (IOException e) {
+            wsdlFile = new File(wsdl);
+        }
+
+        if (!wsdlFile.exists()) {
+            throw new CitrusRuntimeException("Unable to read WSDL - does not exist in " + wsdlFile.getAbsolutePath());
+        }
+
+        if (!wsdlFile.canRead()) {
+            throw new CitrusRuntimeException("Unable to read WSDL - could not open in read mode");
+        }
+
+        return wsdlFile;
+    }
+
+    /**
+     * Parses WSDL file to a XML object.
+     * @param wsdlFile
+     * @return
+     */
+    private XmlObject compileWsdl(File wsdlFile) {
+        try {
+            return XmlObject.Factory.parse(wsdlFile, (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
+        } catch (XmlException e) {
+            for (Object error : e.getErrors()) {
+                log.error(((XmlError)error).getLine() + "" + error.toString());
+            }
+            throw new CitrusRuntimeException("WSDL could not be parsed", e);
+        } catch (Exception e) {
+            throw new CitrusRuntimeException("WSDL could not be parsed", e);
+        }
+    }
+
+    /**
+     * Finds nested XML schema definition and compiles it to a schema type system instance.
+     * @param wsdl
+     * @return
+     */
+    private SchemaTypeSystem compileXsd(XmlObject wsdl) {
+        // extract namespaces defined on wsdl-level:
+        String[] namespacesWsdl = extractNamespacesOnWsdlLevel(wsdl);
+
+        // calc the namespace-prefix of the schema-tag, default ""
+        String schemaNsPrefix = extractSchemaNamespacePrefix(wsdl);
+
+        // extract each schema-element and add missing namespaces defined on wsdl-level
+        String[] schemas = getNestedSchemas(wsdl, namespacesWsdl, schemaNsPrefix);
+
+        XmlObject[] xsd = new XmlObject[schemas.length];
+        try {
+            for (int i=0; i < schemas.length; i++) {
+                xsd[i] = XmlObject.Factory.parse(schemas[i], (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
+            }
+        } catch (Exception e) {
+            throw new CitrusRuntimeException("Failed to parse XSD schema", e);
+        }
+
+        SchemaTypeSystem schemaTypeSystem = null;
+        try {
+            schemaTypeSystem = XmlBeans.compileXsd(xsd, XmlBeans.getContextTypeLoader(), new XmlOptions());
+        } catch (XmlException e) {
+            for (Object error : e.getErrors()) {
+                log.error("Line " + ((XmlError)error).getLine() + ": " + error.toString());
+            }
+            throw new CitrusRuntimeException("Failed to compile XSD schema", e);
+        } catch (Exception e) {
+            throw new CitrusRuntimeException("Failed to compile XSD schema", e);
+        }
+        return schemaTypeSystem;
+    }
+
+    /**
+     * @param operation
+     * @param elementName
+     * @return
+     */
+    private SchemaType getSchemaType(String operation, String elementName) {
+
+        for (SchemaType elem : schemaTypeSystem.documentTypes()) {
+            if (elem.getContentModel().getName().getLocalPart().equals(elementName)) {
+                return elem;
+            }
+        }
+
+        throw new CitrusRuntimeException("Unable to find schema type declaration '" + elementName + "'" +
+                " for WSDL operation '" + operation + "'");
+    }
+
+    /**
+     * Removes namespace prefix if present.
+     * @param elementName
+     * @return
+     */
+    private String removeNsPrefix(String elementName) {
+        return elementName.indexOf(':') != -1 ? elementName.substring(elementName.indexOf(':') + 1) : elementName;
+    }
+
+    /**
+     * Finds nested schema definitions and puts globally WSDL defined namespaces to schema level.
+     *
+     * @param wsdl
+     * @param namespacesWsdl
+     * @param schemaNsPrefix
+     */
+    private String[] getNestedSchemas(XmlObject wsdl, String[] namespacesWsdl, String schemaNsPrefix) {
+        List<String> schemas = new ArrayList<>();
+        String openedStartTag = "<" + schemaNsPrefix + "schema";
+        String endTag = "</" + schemaNsPrefix + "schema>";
+
+        int cursor = 0;
+        while (wsdl.xmlText().indexOf(openedStartTag, cursor) != -1) {
+            int begin = wsdl.xmlText().indexOf(openedStartTag, cursor);
+            int end = wsdl.xmlText().indexOf(endTag, begin) + endTag.length();
+            int insertPointNamespacesWsdl = wsdl.xmlText().indexOf(" ", begin);
+
+            StringBuilder builder = new StringBuilder();
+            builder.append(wsdl.xmlText().substring(begin, insertPointNamespacesWsdl)).append(" ");
+
+            for (String nsWsdl : namespacesWsdl) {
+                String nsPrefix = nsWsdl.substring(0, nsWsdl.indexOf("="));
+                if (!wsdl.xmlText().substring(begin, end).contains(nsPrefix)) {
+                    builder.append(nsWsdl).append(" ");
+                }
+            }
+
+            builder.append(wsdl.xmlText().substring(insertPointNamespacesWsdl, end));
+            schemas.add(builder.toString());
+            cursor = end;
+        }
+
+        return schemas.toArray(new String[] {});
+    }
+
+    /**
+     * Finds schema tag and extracts the namespace prefix.
+     * @param wsdl
+     * @return
+     */
+    private String extractSchemaNamespacePrefix(XmlObject wsdl) {
+        String schemaNsPrefix = "";
+        if (wsdl.xmlText().contains(":schema")) {
+            int cursor = wsdl.xmlText().indexOf(":schema");
+            for (int i = cursor; i > cursor - 100; i--) {
+                schemaNsPrefix = wsdl.xmlText().substring(i, cursor);
+                if (schemaNsPrefix.startsWith("<")) {
+                    return schemaNsPrefix.substring(1) + ":";
+                }
+            }
+        }
+        return schemaNsPrefix;
+    }
+
+    /**
+     * Returns an array of all namespace declarations, found on wsdl-level.
+     *
+     * @param wsdl
+     * @return
+     */
+    private String[] extractNamespacesOnWsdlLevel(XmlObject wsdl) {
+        int cursor = wsdl.xmlText().indexOf(":") + ":definitions ".length();
+        String nsWsdlOrig = wsdl.xmlText().substring(cursor, wsdl.xmlText().indexOf(">", cursor));
+        int noNs = StringUtils.countOccurrencesOf(nsWsdlOrig, "xmlns:");
+        String[] namespacesWsdl = new String[noNs];
+        cursor = 0;
+        for (int i=0; i<noNs; i++) {
+            int begin = nsWsdlOrig.indexOf("xmlns:", cursor);
+            int end = nsWsdlOrig.indexOf("\"", begin + 20);
+            namespacesWsdl[i] = nsWsdlOrig.substring(begin, end) + "\"";
+            cursor = end;
+        }
+        return namespacesWsdl;
+    }
+
+    /**
+     * Returns the value of an xml-attribute
+     *
+     * @param rootObject
+     * @param pathToAttribute
+     * @return
+     */
+    private String evaluateAsString(XmlObject rootObject, String pathToAttribute) {
+        XmlObject[] xmlObject = rootObject.selectPath(pathToAttribute);
+
+        if (xmlObject.length == 0) {
+            throw new CitrusRuntimeException("Unable to find element attribute " + pathToAttribute);
+        }
+
+        int begin = xmlObject[0].xmlText().indexOf(">") + 1;
+        int end = xmlObject[0].xmlText().lastIndexOf("</");
+        return xmlObject[0].xmlText().substring(begin, end);
+    }
+
+    /**
+     * Request and response sample messages generated for a single WSDL operation.
+     */
+    public static final class OperationSample {
+        private final String operationName;
+        private final SoapMessage request;
+        private final SoapMessage response;
+
+        OperationSample(String operationName, SoapMessage request, SoapMessage response) {
+            this.operationName = operationName;
+            this.request = request;
+            this.response = response;
+        }
+
+        /**
+         * Gets the operationName.
+         *
+         * @return
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * Gets the request.
+         *
+         * @return
+         */
+        public SoapMessage getRequest() {
+            return request;
+        }
+
+        /**
+         * Gets the response.
+         *
+         * @return
+         */
+        public SoapMessage getResponse() {
+            return response;
+        }
+    }
+}
@@ -69,11 +69,14 @@ public class JavaTestGenerator<T extends JavaTestGenerator> extends AbstractTest
                 .indent("    ")
                 .build();
 
+        StringBuilder content = new StringBuilder();
         try {
-            javaFile.writeTo(new File(getSrcDirectory()));
+            javaFile.writeTo(content);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to write java class file", e);
         }
+
+        writeTestFile(content.toString(), getTargetFile());
     }
 
     /**
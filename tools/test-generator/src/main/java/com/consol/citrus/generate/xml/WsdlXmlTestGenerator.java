@@ -18,6 +18,7 @@ package com.consol.citrus.generate.xml;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.generate.WsdlOperationSampler;
 import com.consol.citrus.generate.WsdlTestGenerator;
 import com.consol.citrus.generate.dictionary.InboundXmlDataDictionary;
 import com.consol.citrus.generate.dictionary.OutboundXmlDataDictionary;
@@ -25,15 +26,10 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.model.testcase.ws.ObjectFactory;
 import com.consol.citrus.util.XMLUtils;
-import com.consol.citrus.ws.message.SoapMessage;
 import com.consol.citrus.xml.XmlConfigurer;
-import org.apache.xmlbeans.*;
-import org.apache.xmlbeans.impl.xsd2inst.SampleXmlUtil;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.util.StringUtils;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.*;
 
 /**
@@ -54,85 +50,39 @@ public class WsdlXmlTestGenerator extends MessagingXmlTestGenerator<WsdlXmlTestG
 
     @Override
     public void create() {
-        String wsdlNsDelaration = "declare namespace wsdl='http://schemas.xmlsoap.org/wsdl/' ";
-        String soapNsDelaration = "declare namespace soap='http://schemas.xmlsoap.org/wsdl/soap/' ";
+        long started = System.currentTimeMillis();
 
-        // compile wsdl and xsds right now, otherwise later input is useless:
-        XmlObject wsdlObject = compileWsdl(wsdl);
-        SchemaTypeSystem schemaTypeSystem = compileXsd(wsdlObject);
+        WsdlOperationSampler sampler = new WsdlOperationSampler(wsdl);
+        long compiled = System.currentTimeMillis();
 
         log.info("WSDL compilation successful");
-        String serviceName = evaluateAsString(wsdlObject, wsdlNsDelaration + ".//wsdl:portType/@name");
+        String serviceName = sampler.getServiceName();
         log.info("Found service: " + serviceName);
 
         if (!StringUtils.hasText(namePrefix)) {
             withNamePrefix(serviceName + "_");
         }
 
-        log.info("Found service operations:");
-        XmlObject[] messages = wsdlObject.selectPath(wsdlNsDelaration + ".//wsdl:message");
-        XmlObject[] operations = wsdlObject.selectPath(wsdlNsDelaration + ".//wsdl:portType/wsdl:operation");
-        for (XmlObject operation : operations) {
-            log.info(evaluateAsString(operation, wsdlNsDelaration + "./@name"));
-        }
-        log.info("Generating test cases for service operations ...");
-
-        for (XmlObject operation : operations) {
-            SoapMessage request = new SoapMessage();
-            SoapMessage response = new SoapMessage();
-
-            String operationName = evaluateAsString(operation, wsdlNsDelaration + "./@name");
-            if (StringUtils.hasText(this.operation) && !operationName.equals(this.operation)) {
-                continue;
-            }
-
-            XmlObject[] bindingOperations = wsdlObject.selectPath(wsdlNsDelaration + ".//wsdl:binding/wsdl:operation");
-            for (XmlObject bindingOperation : bindingOperations) {
-                String bindingOperationName = evaluateAsString(bindingOperation, wsdlNsDelaration + "./@name");
-
-                if (bindingOperationName.equals(operationName)) {
-                    String soapAction = removeNsPrefix(evaluateAsString(bindingOperation, soapNsDelaration + "./soap:operation/@soapAction"));
-                    request.soapAction(soapAction);
-                    break;
-                }
-            }
-
-            String inputMessage = removeNsPrefix(evaluateAsString(operation, wsdlNsDelaration + "./wsdl:input/@message"));
-            String outputMessage = removeNsPrefix(evaluateAsString(operation, wsdlNsDelaration + "./wsdl:output/@message"));
-
-            String inputElement = null;
-            String outputElement = null;
-            for (XmlObject message : messages) {
-                String messageName = evaluateAsString(message, wsdlNsDelaration + "./@name");
-
-                if (messageName.equals(inputMessage)) {
-                    inputElement = removeNsPrefix(evaluateAsString(message, wsdlNsDelaration + "./wsdl:part/@element"));
-                }
-
-                if (messageName.equals(outputMessage)) {
-                    outputElement = removeNsPrefix(evaluateAsString(message, wsdlNsDelaration + "./wsdl:part/@element"));
-                }
-            }
-
-            // Now generate it
-            withName(namePrefix + operationName + nameSuffix);
-
-            SchemaType requestElem = getSchemaType(schemaTypeSystem, operationName, inputElement);
-            request.setPayload(SampleXmlUtil.createSampleForType(requestElem));
-            withRequest(request);
+        XmlConfigurer configurer = new XmlConfigurer();
+        configurer.setSerializeSettings(Collections.singletonMap(XmlConfigurer.XML_DECLARATION, false));
+        XMLUtils.initialize(configurer);
 
-            SchemaType responseElem = getSchemaType(schemaTypeSystem, operationName, outputElement);
-            response.setPayload(SampleXmlUtil.createSampleForType(responseElem));
-            withResponse(response);
+        List<WsdlOperationSampler.OperationSample> samples = sampler.createSamples(operation);
+        long sampled = System.currentTimeMillis();
 
-            XmlConfigurer configurer = new XmlConfigurer();
-            configurer.setSerializeSettings(Collections.singletonMap(XmlConfigurer.XML_DECLARATION, false));
-            XMLUtils.initialize(configurer);
+        log.info("Generating test cases for service operations ...");
+        for (WsdlOperationSampler.OperationSample sample : samples) {
+            withName(namePrefix + sample.getOperationName() + nameSuffix);
+            withRequest(sample.getRequest());
+            withResponse(sample.getResponse());
 
             super.create();
 
             log.info("Successfully created new test case " + getTargetPackage() + "." + getName());
         }
+
+        log.info(String.format("Generated %s test case(s) in %s ms (schema compilation: %s ms, sample messages: %s ms, test files: %s ms)",
+                samples.size(), System.currentTimeMillis() - started, compiled - started, sampled - compiled, System.currentTimeMillis() - sampled));
     }
 
     @Override
@@ -152,199 +102,6 @@ public class WsdlXmlTestGenerator extends MessagingXmlTestGenerator<WsdlXmlTestG
         return outboundDataDictionary.interceptMessageConstruction(message, MessageType.XML.name(), new TestContext());
     }
 
-    /**
-     * Finds nested XML schema definition and compiles it to a schema type system instance
-     * @param wsdl
-     * @return
-     */
-    private XmlObject compileWsdl(String wsdl) {
-        File wsdlFile;
-        try {
-            wsdlFile = new PathMatchingResourcePatternResolver().getResource(wsdl).getFile();
-        } catch (IOException e) {
-            wsdlFile = new File(wsdl);
-        }
-
-        if (!wsdlFile.exists()) {
-            throw new CitrusRuntimeException("Unable to read WSDL - does not exist in " + wsdlFile.getAbsolutePath());
-        }
-
-        if (!wsdlFile.canRead()) {
-            throw new CitrusRuntimeException("Unable to read WSDL - could not open in read mode");
-        }
-
-        try {
-            return XmlObject.Factory.parse(wsdlFile, (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
-        } catch (XmlException e) {
-            for (Object error : e.getErrors()) {
-                log.error(((XmlError)error).getLine() + "" + error.toString());
-            }
-            throw new CitrusRuntimeException("WSDL could not be parsed", e);
-        } catch (Exception e) {
-            throw new CitrusRuntimeException("WSDL could not be parsed", e);
-        }
-    }
-
-    /**
-     * Finds nested XML schema definition and compiles it to a schema type system instance.
-     * @param wsdl
-     * @return
-     */
-    private SchemaTypeSystem compileXsd(XmlObject wsdl) {
-        // extract namespaces defined on wsdl-level:
-        String[] namespacesWsdl = extractNamespacesOnWsdlLevel(wsdl);
-
-        // calc the namespace-prefix of the schema-tag, default ""
-        String schemaNsPrefix = extractSchemaNamespacePrefix(wsdl);
-
-        // extract each schema-element and add missing namespaces defined on wsdl-level
-        String[] schemas = getNestedSchemas(wsdl, namespacesWsdl, schemaNsPrefix);
-
-        XmlObject[] xsd = new XmlObject[schemas.length];
-        try {
-            for (int i=0; i < schemas.length; i++) {
-                xsd[i] = XmlObject.Factory.parse(schemas[i], (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
-            }
-        } catch (Exception e) {
-            throw new CitrusRuntimeException("Failed to parse XSD schema", e);
-        }
-
-        SchemaTypeSystem schemaTypeSystem = null;
-        try {
-            schemaTypeSystem = XmlBeans.compileXsd(xsd, XmlBeans.getContextTypeLoader(), new XmlOptions());
-        } catch (XmlException e) {
-            for (Object error : e.getErrors()) {
-                log.error("Line " + ((XmlError)error).getLine() + ": " + error.toString());
-            }
-            throw new CitrusRuntimeException("Failed to compile XSD schema", e);
-        } catch (Exception e) {
-            throw new CitrusRuntimeException("Failed to compile XSD schema", e);
-        }
-        return schemaTypeSystem;
-    }
-
-    /**
-     * @param schemaTypeSystem
-     * @param operation
-     * @param elementName
-     * @return
-     */
-    private SchemaType getSchemaType(SchemaTypeSystem schemaTypeSystem, String operation, String elementName) {
-
-        for (SchemaType elem : schemaTypeSystem.documentTypes()) {
-            if (elem.getContentModel().getName().getLocalPart().equals(elementName)) {
-                return elem;
-            }
-        }
-
-        throw new CitrusRuntimeException("Unable to find schema type declaration '" + elementName + "'" +
-                " for WSDL operation '" + operation + "'");
-    }
-
-    /**
-     * Removes namespace prefix if present.
-     * @param elementName
-     * @return
-     */
-    private String removeNsPrefix(String elementName) {
-        return elementName.indexOf(':') != -1 ? elementName.substring(elementName.indexOf(':') + 1) : elementName;
-    }
-
-    /**
-     * Finds nested schema definitions and puts globally WSDL defined namespaces to schema level.
-     *
-     * @param wsdl
-     * @param namespacesWsdl
-     * @param schemaNsPrefix
-     */
-    private String[] getNestedSchemas(XmlObject wsdl, String[] namespacesWsdl, String schemaNsPrefix) {
-        List<String> schemas = new ArrayList<>();
-        String openedStartTag = "<" + schemaNsPrefix + "schema";
-        String endTag = "</" + schemaNsPrefix + "schema>";
-
-        int cursor = 0;
-        while (wsdl.xmlText().indexOf(openedStartTag, cursor) != -1) {
-            int begin = wsdl.xmlText().indexOf(openedStartTag, cursor);
-            int end = wsdl.xmlText().indexOf(endTag, begin) + endTag.length();
-            int insertPointNamespacesWsdl = wsdl.xmlText().indexOf(" ", begin);
-
-            StringBuilder builder = new StringBuilder();
-            builder.append(wsdl.xmlText().substring(begin, insertPointNamespacesWsdl)).append(" ");
-
-            for (String nsWsdl : namespacesWsdl) {
-                String nsPrefix = nsWsdl.substring(0, nsWsdl.indexOf("="));
-                if (!wsdl.xmlText().substring(begin, end).contains(nsPrefix)) {
-                    builder.append(nsWsdl).append(" ");
-                }
-            }
-
-            builder.append(wsdl.xmlText().substring(insertPointNamespacesWsdl, end));
-            schemas.add(builder.toString());
-            cursor = end;
-        }
-
-        return schemas.toArray(new String[] {});
-    }
-
-    /**
-     * Finds schema tag and extracts the namespace prefix.
-     * @param wsdl
-     * @return
-     */
-    private String extractSchemaNamespacePrefix(XmlObject wsdl) {
-        String schemaNsPrefix = "";
-        if (wsdl.xmlText().contains(":schema")) {
-            int cursor = wsdl.xmlText().indexOf(":schema");
-            for (int i = cursor; i > cursor - 100; i--) {
-                schemaNsPrefix = wsdl.xmlText().substring(i, cursor);
-                if (schemaNsPrefix.startsWith("<")) {
-                    return schemaNsPrefix.substring(1) + ":";
-                }
-            }
-        }
-        return schemaNsPrefix;
-    }
-
-    /**
-     * Returns an array of all namespace declarations, found on wsdl-level.
-     *
-     * @param wsdl
-     * @return
-     */
-    private String[] extractNamespacesOnWsdlLevel(XmlObject wsdl) {
-        int cursor = wsdl.xmlText().indexOf(":") + ":definitions ".length();
-        String nsWsdlOrig = wsdl.xmlText().substring(cursor, wsdl.xmlText().indexOf(">", cursor));
-        int noNs = StringUtils.countOccurrencesOf(nsWsdlOrig, "xmlns:");
-        String[] namespacesWsdl = new String[noNs];
-        cursor = 0;
-        for (int i=0; i<noNs; i++) {
-            int begin = nsWsdlOrig.indexOf("xmlns:", cursor);
-            int end = nsWsdlOrig.indexOf("\"", begin + 20);
-            namespacesWsdl[i] = nsWsdlOrig.substring(begin, end) + "\"";
-            cursor = end;
-        }
-        return namespacesWsdl;
-    }
-
-    /**
-     * Returns the value of an xml-attribute
-     *
-     * @param rootObject
-     * @param pathToAttribute
-     * @return
-     */
-    private String evaluateAsString(XmlObject rootObject, String pathToAttribute) {
-        XmlObject[] xmlObject = rootObject.selectPath(pathToAttribute);
-
-        if (xmlObject.length == 0) {
-            throw new CitrusRuntimeException("Unable to find element attribute " + pathToAttribute);
-        }
-
-        int begin = xmlObject[0].xmlText().indexOf(">") + 1;
-        int end = xmlObject[0].xmlText().lastIndexOf("</");
-        return xmlObject[0].xmlText().substring(begin, end);
-    }
-
     /**
      * Set the wsdl schema resource to use.
      * @param wsdlResource
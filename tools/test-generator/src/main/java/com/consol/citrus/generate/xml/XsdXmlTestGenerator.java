@@ -18,6 +18,7 @@ package com.consol.citrus.generate.xml;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.generate.SchemaTypeSystemCache;
 import com.consol.citrus.generate.XsdTestGenerator;
 import com.consol.citrus.generate.dictionary.InboundXmlDataDictionary;
 import com.consol.citrus.generate.dictionary.OutboundXmlDataDictionary;
@@ -168,18 +169,21 @@ public class XsdXmlTestGenerator extends MessagingXmlTestGenerator<XsdXmlTestGen
             throw new CitrusRuntimeException("Unable to read XSD - could not open in read mode");
         }
 
-        XmlObject xsdObject;
-        try {
-            xsdObject = XmlObject.Factory.parse(xsdFile, (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
-        } catch (Exception e) {
-            throw new CitrusRuntimeException("Failed to parse XSD schema", e);
-        }
-        XmlObject[] schemas = new XmlObject[] { xsdObject };
-        try {
-            return XmlBeans.compileXsd(schemas, XmlBeans.getContextTypeLoader(), new XmlOptions());
-        } catch (Exception e) {
-            throw new CitrusRuntimeException("Failed to compile XSD schema", e);
-        }
+        final File schemaFile = xsdFile;
+        return SchemaTypeSystemCache.getSchemaTypeSystem(schemaFile, () -> {
+            XmlObject xsdObject;
+            try {
+                xsdObject = XmlObject.Factory.parse(schemaFile, (new XmlOptions()).setLoadLineNumbers().setLoadMessageDigest().setCompileDownloadUrls());
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to parse XSD schema", e);
+            }
+            XmlObject[] schemas = new XmlObject[] { xsdObject };
+            try {
+                return XmlBeans.compileXsd(schemas, XmlBeans.getContextTypeLoader(), new XmlOptions());
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to compile XSD schema", e);
+            }
+        });
     }
 
     /**
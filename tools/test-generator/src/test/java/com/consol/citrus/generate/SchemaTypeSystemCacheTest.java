@@ -0,0 +1,80 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.generate;
+
+import org.apache.xmlbeans.SchemaTypeSystem;
+import org.apache.xmlbeans.XmlBeans;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.7.5
+ */
+public class SchemaTypeSystemCacheTest {
+
+    @Test
+    public void testImportedSchemaChange() throws IOException {
+        File directory = Files.createTempDirectory("schema-cache").toFile();
+        File mainSchema = new File(directory, "main.xsd");
+        File importedSchema = new File(directory, "imported.xsd");
+
+        write(mainSchema, "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"http://citrusframework.org/main\">" +
+                "<xs:import namespace=\"http://citrusframework.org/imported\" schemaLocation=\"imported.xsd\"/>" +
+                "</xs:schema>");
+        write(importedSchema, "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"http://citrusframework.org/imported\">" +
+                "<xs:element name=\"Hello\" type=\"xs:string\"/>" +
+                "</xs:schema>");
+
+        AtomicInteger compilations = new AtomicInteger();
+        SchemaTypeSystem schemaTypeSystem = XmlBeans.getBuiltinTypeSystem();
+
+        Assert.assertFalse(SchemaTypeSystemCache.contains(mainSchema));
+        Assert.assertSame(SchemaTypeSystemCache.getSchemaTypeSystem(mainSchema, () -> {
+            compilations.incrementAndGet();
+            return schemaTypeSystem;
+        }), schemaTypeSystem);
+        Assert.assertTrue(SchemaTypeSystemCache.contains(mainSchema));
+
+        SchemaTypeSystemCache.getSchemaTypeSystem(mainSchema, () -> {
+            compilations.incrementAndGet();
+            return schemaTypeSystem;
+        });
+        Assert.assertEquals(compilations.get(), 1);
+
+        write(importedSchema, "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"http://citrusframework.org/imported\">" +
+                "<xs:element name=\"Goodbye\" type=\"xs:string\"/>" +
+                "</xs:schema>");
+        Assert.assertFalse(SchemaTypeSystemCache.contains(mainSchema));
+
+        SchemaTypeSystemCache.getSchemaTypeSystem(mainSchema, () -> {
+            compilations.incrementAndGet();
+            return schemaTypeSystem;
+        });
+        Assert.assertEquals(compilations.get(), 2);
+    }
+
+    private void write(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -17,8 +17,10 @@
 package com.consol.citrus.generate.xml;
 
 import com.consol.citrus.Citrus;
+import com.consol.citrus.generate.SchemaTypeSystemCache;
 import com.consol.citrus.generate.UnitFramework;
 import com.consol.citrus.util.FileUtils;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -50,6 +52,51 @@ public class WsdlXmlTestGeneratorTest {
         verifyTest("BookStore_deleteBook_IT", "book:deleteBook", "book:deleteBookResponse");
     }
 
+    @Test
+    public void testCreateTestIncremental() throws IOException {
+        WsdlXmlTestGenerator generator = new WsdlXmlTestGenerator();
+
+        generator.withAuthor("Christoph")
+                .withDescription("This is a sample test")
+                .usePackage("com.consol.citrus")
+                .withFramework(UnitFramework.TESTNG)
+                .withOperation("addBook");
+
+        generator.withWsdl("com/consol/citrus/wsdl/BookStore.wsdl");
+
+        generator.create();
+
+        Assert.assertTrue(SchemaTypeSystemCache.contains(new ClassPathResource("com/consol/citrus/wsdl/BookStore.wsdl").getFile()));
+
+        File xmlFile = new File(Citrus.DEFAULT_TEST_SRC_DIRECTORY + "resources/com/consol/citrus/BookStore_addBook_IT.xml");
+        File javaFile = new File(Citrus.DEFAULT_TEST_SRC_DIRECTORY + "java/com/consol/citrus/BookStore_addBook_IT.java");
+        Assert.assertTrue(xmlFile.setLastModified(1000L));
+        Assert.assertTrue(javaFile.setLastModified(1000L));
+
+        generator.create();
+
+        Assert.assertEquals(xmlFile.lastModified(), 1000L);
+        Assert.assertEquals(javaFile.lastModified(), 1000L);
+
+        generator.withDescription("This is a changed sample test");
+        generator.create();
+
+        Assert.assertNotEquals(xmlFile.lastModified(), 1000L);
+        Assert.assertNotEquals(javaFile.lastModified(), 1000L);
+        Assert.assertTrue(FileUtils.readToString(xmlFile).contains("<description>This is a changed sample test</description>"));
+
+        // dates outside of the generated header are compared
+        generator.withDescription("Sample test 2018-01-01");
+        generator.create();
+        Assert.assertTrue(xmlFile.setLastModified(1000L));
+
+        generator.withDescription("Sample test 2018-01-02");
+        generator.create();
+
+        Assert.assertNotEquals(xmlFile.lastModified(), 1000L);
+        Assert.assertTrue(FileUtils.readToString(xmlFile).contains("<description>Sample test 2018-01-02</description>"));
+    }
+
     private void verifyTest(String name, String requestName, String responseName) throws IOException {
         File javaFile = new File(Citrus.DEFAULT_TEST_SRC_DIRECTORY + "java/com/consol/citrus/" + name + ".java");
         Assert.assertTrue(javaFile.exists());